@@ -0,0 +1,13 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Receives the element reads and writes a solver makes, in program order, for
+ * example to drive a {@link CacheSimulator}. Array 0 is the solver's main
+ * array and array 1 an auxiliary buffer of the same length, where one exists.
+ */
+public interface AccessTracer {
+
+    void read(int array, int index);
+
+    void write(int array, int index);
+}
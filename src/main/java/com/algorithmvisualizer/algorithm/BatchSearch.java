@@ -0,0 +1,175 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Answers many lower_bound / upper_bound queries against one sorted int[].
+ *
+ * Every {@link Variant} returns the same answer, an index in [0, n] of the
+ * sorted array, and differs only in how it probes:
+ * <ul>
+ *   <li>CLASSIC: textbook halving with a data-dependent branch per level.</li>
+ *   <li>BRANCHLESS: halves a (base, length) window whose update the JIT can
+ *       turn into a conditional move, so there is nothing to mispredict.</li>
+ *   <li>EYTZINGER: searches a copy in BFS order (b[1] the root, children of
+ *       b[k] at 2k and 2k + 1). The first levels share a few cache lines, and
+ *       the 16 descendants four levels below b[k] sit together at 16k ..
+ *       16k + 15, so the path is far more cache-friendly than halving. Java
+ *       has no prefetch instruction; the layout does that work.</li>
+ *   <li>INTERPOLATION: guesses the position from the values at the window
+ *       ends; falls back to halving after 2 log2 n guesses so skewed data
+ *       cannot make it linear.</li>
+ *   <li>EXPONENTIAL: doubles a bound from the front, then halves inside it;
+ *       cheap when answers are near the start.</li>
+ * </ul>
+ */
+public final class BatchSearch {
+
+    public enum Variant { CLASSIC, BRANCHLESS, EYTZINGER, INTERPOLATION, EXPONENTIAL }
+
+    /** LOWER: first index with a[i] >= x; UPPER: first index with a[i] > x. */
+    public enum Bound { LOWER, UPPER }
+
+    private final int[] a;
+    private final int n;
+    private int[] eytzinger;  // b[1..n], b[0] unused
+    private int[] sortedIndex; // sortedIndex[k] = index in a of b[k]
+
+    /** {@code sorted} must be ascending; it is used as is, not copied. */
+    public BatchSearch(int[] sorted) {
+        this.a = sorted;
+        this.n = sorted.length;
+    }
+
+    public int length() { return n; }
+
+    /**
+     * Sorted-array index held at each Eytzinger position 1..n (entry 0 is
+     * unused), built on first use.
+     */
+    public int[] eytzingerOrder() {
+        if (sortedIndex == null) buildEytzinger();
+        return sortedIndex;
+    }
+
+    public int search(Variant v, Bound b, int x) {
+        boolean upper = b == Bound.UPPER;
+        switch (v) {
+            case CLASSIC: return classic(x, upper, 0, n);
+            case BRANCHLESS: return branchless(x, upper);
+            case EYTZINGER:
+                if (eytzinger == null) buildEytzinger();
+                return eytzinger(x, upper);
+            case INTERPOLATION: return interpolation(x, upper);
+            default: return exponential(x, upper);
+        }
+    }
+
+    /** Answer every query into {@code out}; returns the sum of the answers, as a checksum. */
+    public long searchAll(Variant v, Bound b, int[] queries, int[] out) {
+        if (v == Variant.EYTZINGER && eytzinger == null) buildEytzinger();
+        boolean upper = b == Bound.UPPER;
+        long sum = 0;
+        // One loop per variant so each body is compiled without the dispatch
+        switch (v) {
+            case CLASSIC:
+                for (int q = 0; q < queries.length; q++) sum += out[q] = classic(queries[q], upper, 0, n);
+                break;
+            case BRANCHLESS:
+                for (int q = 0; q < queries.length; q++) sum += out[q] = branchless(queries[q], upper);
+                break;
+            case EYTZINGER:
+                for (int q = 0; q < queries.length; q++) sum += out[q] = eytzinger(queries[q], upper);
+                break;
+            case INTERPOLATION:
+                for (int q = 0; q < queries.length; q++) sum += out[q] = interpolation(queries[q], upper);
+                break;
+            default:
+                for (int q = 0; q < queries.length; q++) sum += out[q] = exponential(queries[q], upper);
+        }
+        return sum;
+    }
+
+    // v lies before the answer: v < x for lower_bound, v <= x for upper_bound
+    private static boolean before(int v, int x, boolean upper) { return upper ? v <= x : v < x; }
+
+    // Answer within [lo, hi]
+    private int classic(int x, boolean upper, int lo, int hi) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (before(a[mid], x, upper)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int branchless(int x, boolean upper) {
+        if (n == 0) return 0;
+        int base = 0, len = n;
+        if (upper) {
+            while (len > 1) {
+                int half = len >>> 1;
+                base = a[base + half - 1] <= x ? base + half : base;
+                len -= half;
+            }
+            return base + (a[base] <= x ? 1 : 0);
+        }
+        while (len > 1) {
+            int half = len >>> 1;
+            base = a[base + half - 1] < x ? base + half : base;
+            len -= half;
+        }
+        return base + (a[base] < x ? 1 : 0);
+    }
+
+    private int eytzinger(int x, boolean upper) {
+        int[] b = eytzinger;
+        int k = 1;
+        if (upper) {
+            while (k <= n) k = 2 * k + (b[k] <= x ? 1 : 0);
+        } else {
+            while (k <= n) k = 2 * k + (b[k] < x ? 1 : 0);
+        }
+        // Undo the trailing right turns and the final left turn; 0 means past the end
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : sortedIndex[k];
+    }
+
+    private int interpolation(int x, boolean upper) {
+        int lo = 0, hi = n;
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(n));
+        while (lo < hi && budget-- > 0) {
+            int vlo = a[lo], vhi = a[hi - 1];
+            if (!before(vlo, x, upper)) return lo;
+            if (before(vhi, x, upper)) return hi;
+            // vlo < x <= vhi (lower) or vlo <= x < vhi (upper), so vhi > vlo
+            double frac = ((double) x - vlo) / ((double) vhi - vlo);
+            int pos = lo + (int) (frac * (hi - 1 - lo));
+            pos = Math.max(lo, Math.min(hi - 1, pos));
+            if (before(a[pos], x, upper)) lo = pos + 1;
+            else hi = pos;
+        }
+        return classic(x, upper, lo, hi);
+    }
+
+    private int exponential(int x, boolean upper) {
+        int i = 1;
+        while (i <= n && before(a[i - 1], x, upper)) i <<= 1;
+        return classic(x, upper, i >>> 1, Math.min(i - 1, n));
+    }
+
+    private void buildEytzinger() {
+        eytzinger = new int[n + 1];
+        sortedIndex = new int[n + 1];
+        // In-order walk of the implicit tree hands out sorted positions in order
+        int next = 0;
+        int k = 1;
+        int[] stack = new int[40];
+        int top = 0;
+        while (top > 0 || k <= n) {
+            if (k <= n) { stack[top++] = k; k = 2 * k; continue; }
+            k = stack[--top];
+            eytzinger[k] = a[next];
+            sortedIndex[k] = next++;
+            k = 2 * k + 1;
+        }
+    }
+}
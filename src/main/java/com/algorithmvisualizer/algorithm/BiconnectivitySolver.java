@@ -0,0 +1,225 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Step-wise bridges and articulation points of an undirected {@link CsrGraph}
+ * (Hopcroft-Tarjan low-link), using the same array-based frame stack and
+ * journal as {@link TarjanSCCSolver}.
+ *
+ * When child u of p finishes:
+ * <ul>
+ *   <li>low[u] > disc[p] makes p-u a bridge;</li>
+ *   <li>low[u] >= disc[p] makes p an articulation point, unless p is a DFS
+ *       root, which is one only when it has two or more tree children.</li>
+ * </ul>
+ * Every edge is stored in both directions, so the tree edge back to the parent
+ * is skipped by node id; a directed graph is replaced by its
+ * {@link CsrGraph#symmetric() underlying undirected graph}.
+ */
+public class BiconnectivitySolver implements SteppableSolver<BiconnectivitySolver.State> {
+
+    public enum StepType { INIT, DISCOVER, TREE_EDGE, BACK_EDGE, RETURN, BRIDGE, ARTICULATION, DONE }
+
+    public interface StepListener {
+        /** BRIDGE(p, u) for the edge p-u; ARTICULATION(p, -1); other types as in TarjanSCCSolver. */
+        void onStep(StepType type, int u, int v);
+    }
+
+    /** Journal position; valid for the solver run that produced it. */
+    public static class State {
+        public long position;
+        long steps;        // steps since reset, to replay to once the journal no longer reaches position
+        long journalBytes; // journal entries written since the previous snapshot
+
+        public long estimateBytes() { return StateSizes.OBJECT + 24 + journalBytes; }
+    }
+
+    private static final int TOP = 0, TIME = 1, SCAN = 2, DONE = 3, ROOT_CHILDREN = 4, BRIDGES = 5, ARTICULATIONS = 6;
+
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    private int[] reg, disc, low, callU, callIdx, articulation, bridgeFrom, bridgeTo;
+    private int rReg, rDisc, rLow, rCallU, rCallIdx, rArt, rBridgeFrom, rBridgeTo;
+    private IntJournal journal;
+
+    private StepListener listener;
+    private boolean muted;
+    private long steps;
+    private long lastSnapshot; // journal position of the newest snapshot
+
+    public BiconnectivitySolver(CsrGraph graph) { setGraph(graph); }
+
+    public void setGraph(CsrGraph graph) {
+        this.graph = graph == null ? CsrGraph.empty() : graph.symmetric();
+        this.n = this.graph.nodeCount();
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        reg = new int[7];
+        disc = new int[n];
+        low = new int[n];
+        callU = new int[n];
+        callIdx = new int[n];
+        articulation = new int[n];
+        bridgeFrom = new int[Math.max(0, n - 1)]; // bridges form a forest
+        bridgeTo = new int[Math.max(0, n - 1)];
+        journal = new IntJournal();
+        steps = lastSnapshot = 0;
+        rReg = journal.register(reg);
+        rDisc = journal.register(disc);
+        rLow = journal.register(low);
+        rCallU = journal.register(callU);
+        rCallIdx = journal.register(callIdx);
+        rArt = journal.register(articulation);
+        rBridgeFrom = journal.register(bridgeFrom);
+        rBridgeTo = journal.register(bridgeTo);
+        if (n == 0) { reg[DONE] = 1; emit(StepType.DONE, -1, -1); return; }
+        emit(StepType.INIT, -1, -1);
+    }
+
+    @Override
+    public boolean isDone() { return reg[DONE] != 0; }
+    public CsrGraph getGraph() { return graph; }
+    public int getBridgeCount() { return reg[BRIDGES]; }
+    public int getArticulationCount() { return reg[ARTICULATIONS]; }
+    public boolean isArticulation(int v) { return articulation[v] != 0; }
+    /** Endpoints of the i-th bridge found, as {parent, child}. */
+    public int[] getBridge(int i) { return new int[]{bridgeFrom[i], bridgeTo[i]}; }
+    public int getDiscoveryTime(int v) { return disc[v]; }
+    public int getLowLink(int v) { return low[v]; }
+    public int getStackDepth() { return reg[TOP]; }
+    /** Node of the DFS call frame at {@code depth} (0 = root), for depth below {@link #getStackDepth()}. */
+    public int getCallNode(int depth) { return callU[depth]; }
+
+    @Override
+    public void step() {
+        if (isDone()) return;
+        steps++;
+        int top = reg[TOP];
+        if (top == 0) {
+            int s = reg[SCAN];
+            while (s < n && disc[s] != 0) s++;
+            set(rReg, SCAN, s);
+            if (s == n) { set(rReg, DONE, 1); emit(StepType.DONE, -1, -1); return; }
+            set(rReg, ROOT_CHILDREN, 0);
+            push(s);
+            emit(StepType.DISCOVER, s, -1);
+            return;
+        }
+        int u = callU[top - 1];
+        int p = top > 1 ? callU[top - 2] : -1;
+        int deg = graph.degree(u);
+        for (int i = callIdx[top - 1]; i < deg; i++) {
+            int v = graph.neighbor(u, i);
+            if (v == p) continue;
+            if (disc[v] == 0) {
+                set(rCallIdx, top - 1, i + 1);
+                if (top == 1) set(rReg, ROOT_CHILDREN, reg[ROOT_CHILDREN] + 1);
+                push(v);
+                emit(StepType.TREE_EDGE, u, v);
+                return;
+            }
+            if (disc[v] < low[u]) {
+                set(rCallIdx, top - 1, i + 1);
+                set(rLow, u, disc[v]);
+                emit(StepType.BACK_EDGE, u, v);
+                return;
+            }
+        }
+        set(rCallIdx, top - 1, deg);
+        set(rReg, TOP, top - 1);
+        if (p < 0) {
+            if (reg[ROOT_CHILDREN] >= 2) markArticulation(u);
+            return;
+        }
+        if (low[u] < low[p]) set(rLow, p, low[u]);
+        emit(StepType.RETURN, u, p);
+        if (low[u] > disc[p]) {
+            int b = reg[BRIDGES];
+            set(rBridgeFrom, b, p);
+            set(rBridgeTo, b, u);
+            set(rReg, BRIDGES, b + 1);
+            emit(StepType.BRIDGE, p, u);
+        }
+        if (top > 2 && low[u] >= disc[p]) markArticulation(p);
+    }
+
+    private void markArticulation(int v) {
+        if (articulation[v] != 0) return;
+        set(rArt, v, 1);
+        set(rReg, ARTICULATIONS, reg[ARTICULATIONS] + 1);
+        emit(StepType.ARTICULATION, v, -1);
+    }
+
+    private void push(int v) {
+        int t = reg[TIME] + 1;
+        set(rReg, TIME, t);
+        set(rDisc, v, t);
+        set(rLow, v, t);
+        int top = reg[TOP];
+        set(rCallU, top, v);
+        set(rCallIdx, top, 0);
+        set(rReg, TOP, top + 1);
+    }
+
+    private void set(int array, int index, int value) { journal.set(array, index, value); }
+
+    /** As {@link TarjanSCCSolver#runToCompletion()}. */
+    public long runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        journal.clear(false);
+        long t0 = System.nanoTime();
+        while (!isDone()) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        return nanos;
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = journal.position();
+        s.steps = steps;
+        s.journalBytes = IntJournal.bytesBetween(lastSnapshot, s.position);
+        lastSnapshot = s.position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (journal.canMoveTo(s.position)) {
+            journal.moveTo(s.position);
+            steps = s.steps;
+        } else {
+            replay(s.steps);
+        }
+        lastSnapshot = s.position;
+    }
+
+    // The journal was trimmed past the target or cleared by runToCompletion: run again from the start, silently
+    private void replay(long target) {
+        boolean wasMuted = muted;
+        muted = true;
+        reset();
+        while (steps < target && !isDone()) step();
+        muted = wasMuted;
+    }
+
+    private void emit(StepType type, int u, int v) {
+        if (listener != null && !muted) listener.onStep(type, u, v);
+    }
+
+    public String getCurrentStepDescription() {
+        if (isDone()) return "Done: " + reg[BRIDGES] + " bridges, " + reg[ARTICULATIONS] + " articulation points";
+        if (reg[TOP] == 0) return "Ready";
+        int u = callU[reg[TOP] - 1];
+        return "At node " + u + ", disc=" + disc[u] + ", low=" + low[u] + ", depth=" + reg[TOP];
+    }
+}
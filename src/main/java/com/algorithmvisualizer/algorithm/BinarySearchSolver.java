@@ -37,6 +37,10 @@ public class BinarySearchSolver {
     }
 
     private int[] array = new int[0];
+    private final IntArrayView arrayView = new IntArrayView() {
+        @Override public int length() { return array.length; }
+        @Override public int get(int i) { return array[i]; }
+    };
     private int low = 0;
     private int mid = -1;
     private int high = -1;
@@ -45,6 +49,7 @@ public class BinarySearchSolver {
     private int foundIndex = -1;
 
     private StepListener listener;
+    private AccessTracer tracer;
 
     // Phase machine to ensure one event per step()
     private enum Phase { INIT, HIGHLIGHT, COMPARE, ELIM_LEFT, ELIM_RIGHT, MOVE_BOUNDS, FOUND, DONE }
@@ -69,6 +74,9 @@ public class BinarySearchSolver {
 
     public void setStepListener(StepListener l) { this.listener = l; }
 
+    /** Report every array read to {@code tracer}; null to stop. */
+    public void setAccessTracer(AccessTracer tracer) { this.tracer = tracer; }
+
     public void reset() {
         low = 0;
         high = Math.max(0, array.length - 1);
@@ -82,6 +90,9 @@ public class BinarySearchSolver {
 
     public boolean isDone() { return done; }
     public int[] getArray() { return Arrays.copyOf(array, array.length); }
+
+    /** Live, non-copying view of the array; reflects later steps. */
+    public IntArrayView getArrayView() { return arrayView; }
     public int getLow() { return low; }
     public int getMid() { return mid; }
     public int getHigh() { return high; }
@@ -108,10 +119,11 @@ public class BinarySearchSolver {
             case HIGHLIGHT:
                 // After highlight, compare
                 phase = Phase.COMPARE;
-                if (array[mid] == target) {
+                int probe = read(mid);
+                if (probe == target) {
                     emit(StepType.COMPARE_EQUAL);
                     phase = Phase.FOUND;
-                } else if (array[mid] < target) {
+                } else if (probe < target) {
                     emit(StepType.COMPARE_LESS);
                     phase = Phase.ELIM_LEFT; // eliminate left (including mid)
                 } else {
@@ -129,9 +141,10 @@ public class BinarySearchSolver {
                 return;
             case MOVE_BOUNDS:
                 // Adjust bounds based on last compare
-                if (array[mid] < target) {
+                int value = read(mid);
+                if (value < target) {
                     low = mid + 1;
-                } else if (array[mid] > target) {
+                } else if (value > target) {
                     high = mid - 1;
                 }
                 emit(StepType.MOVE_BOUNDS);
@@ -180,6 +193,11 @@ public class BinarySearchSolver {
         this.phase = s.phase != null ? s.phase : (done ? Phase.DONE : Phase.HIGHLIGHT);
     }
 
+    private int read(int k) {
+        if (tracer != null) tracer.read(0, k);
+        return array[k];
+    }
+
     private void emit(StepType type) {
         if (listener != null) listener.onStep(type, low, mid, high, target);
     }
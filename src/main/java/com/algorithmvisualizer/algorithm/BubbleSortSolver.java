@@ -5,7 +5,7 @@ import java.util.Arrays;
 /**
  * Bubble Sort solver with granular step events and snapshot/restore for step-back.
  */
-public class BubbleSortSolver {
+public class BubbleSortSolver implements SteppableSolver<BubbleSortSolver.State> {
 
     public enum StepType { INIT_PASS, COMPARE, SWAP, ADVANCE, MARK_SORTED, DONE }
 
@@ -18,14 +18,22 @@ public class BubbleSortSolver {
         public int i; // current pass (0..n-2)
         public int j; // current index for comparison (0..n-2-i)
         public boolean done;
+
+        public long estimateBytes() { return StateSizes.OBJECT + 16 + StateSizes.ints(array.length); }
     }
 
     private int[] array;
+    private final IntArrayView arrayView = new IntArrayView() {
+        @Override public int length() { return array.length; }
+        @Override public int get(int i) { return array[i]; }
+    };
     private int i;
     private int j;
     private boolean done;
 
     private StepListener stepListener;
+    private boolean muted;
+    private AccessTracer tracer;
 
     public BubbleSortSolver(int[] initialArray) {
         setArray(initialArray);
@@ -39,6 +47,12 @@ public class BubbleSortSolver {
 
     public void setStepListener(StepListener listener) { this.stepListener = listener; }
 
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    /** Report every array read and write to {@code tracer}; null to stop. */
+    public void setAccessTracer(AccessTracer tracer) { this.tracer = tracer; }
+
     public void reset() {
         int n = array.length;
         i = 0;
@@ -59,10 +73,10 @@ public class BubbleSortSolver {
 
         if (j < n - 1 - i) {
             emit(StepType.COMPARE);
-            if (array[j] > array[j + 1]) {
-                int tmp = array[j];
-                array[j] = array[j + 1];
-                array[j + 1] = tmp;
+            if (read(j) > read(j + 1)) {
+                int tmp = read(j);
+                write(j, read(j + 1));
+                write(j + 1, tmp);
                 emit(StepType.SWAP);
             }
             j++;
@@ -98,11 +112,24 @@ public class BubbleSortSolver {
         this.done = s.done;
     }
 
+    private int read(int k) {
+        if (tracer != null) tracer.read(0, k);
+        return array[k];
+    }
+
+    private void write(int k, int v) {
+        if (tracer != null) tracer.write(0, k);
+        array[k] = v;
+    }
+
     private void emit(StepType type) {
-        if (stepListener != null) stepListener.onStep(type, i, j);
+        if (stepListener != null && !muted) stepListener.onStep(type, i, j);
     }
 
     public int[] getArray() { return Arrays.copyOf(array, array.length); }
+
+    /** Live, non-copying view of the array; reflects later steps. */
+    public IntArrayView getArrayView() { return arrayView; }
     public int getI() { return i; }
     public int getJ() { return j; }
     public boolean isDone() { return done; }
@@ -0,0 +1,102 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Runs every {@link CacheWorkloads} workload through a {@link CacheSimulator}
+ * without a UI, one row per workload and cache level. Headless use writes the
+ * rows as CSV:
+ * {@code java -cp target/classes com.algorithmvisualizer.algorithm.CacheBenchmark [out.csv] [n] [spec]}.
+ */
+public final class CacheBenchmark {
+
+    public static final String CSV_HEADER = "workload,n,level,size_bytes,ways,line_bytes,reads,writes,hits,misses,hit_rate,ms";
+
+    /** One cache level after one workload; reads, writes and time are for the whole run. */
+    public static final class Row {
+        public final String workload;
+        public final int n;
+        public final String level;
+        public final long sizeBytes;
+        public final int ways;
+        public final int lineBytes;
+        public final long reads;
+        public final long writes;
+        public final long hits;
+        public final long misses;
+        public final double hitRate;
+        public final double millis;
+
+        Row(String workload, int n, CacheSimulator sim, int l, int lineBytes, double millis) {
+            this.workload = workload;
+            this.n = n;
+            this.level = sim.level(l).name;
+            this.sizeBytes = sim.level(l).sizeBytes;
+            this.ways = sim.level(l).ways;
+            this.lineBytes = lineBytes;
+            this.reads = sim.reads();
+            this.writes = sim.writes();
+            this.hits = sim.hits(l);
+            this.misses = sim.misses(l);
+            this.hitRate = sim.hitRate(l);
+            this.millis = millis;
+        }
+
+        public String toCsv() {
+            return String.format(Locale.ROOT, "\"%s\",%d,%s,%d,%d,%d,%d,%d,%d,%d,%.5f,%.1f",
+                    workload, n, level, sizeBytes, ways, lineBytes, reads, writes, hits, misses, hitRate, millis);
+        }
+    }
+
+    private CacheBenchmark() {}
+
+    /** Trace each workload on the seeded input of n, handing each row to {@code onRow} as soon as it is measured. */
+    public static List<Row> run(int n, String spec, Consumer<Row> onRow) {
+        List<Row> rows = new ArrayList<>();
+        int[] input = CacheWorkloads.input(n);
+        for (CacheWorkloads.Workload w : CacheWorkloads.all()) {
+            int len = w.tracedLength(n);
+            CacheSimulator sim = CacheSimulator.parse(spec, len, 64);
+            long t0 = System.nanoTime();
+            w.run(input, sim);
+            double ms = (System.nanoTime() - t0) / 1e6;
+            for (int l = 0; l < sim.levelCount(); l++) {
+                Row row = new Row(w.name(), len, sim, l, sim.lineBytes(), ms);
+                rows.add(row);
+                onRow.accept(row);
+            }
+        }
+        return rows;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(args.length > 0 ? args[0] : "cache-workloads.csv");
+        int n = args.length > 1 ? Integer.parseInt(args[1].replace("_", "")) : 1_000_000;
+        String spec = args.length > 2 ? args[2] : CacheSimulator.DEFAULT_SPEC;
+        try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER);
+            w.newLine();
+            run(n, spec, row -> {
+                try {
+                    w.write(row.toCsv());
+                    w.newLine();
+                    w.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                System.out.println(row.toCsv());
+            });
+        }
+        System.out.println("Wrote " + out.toAbsolutePath());
+    }
+}
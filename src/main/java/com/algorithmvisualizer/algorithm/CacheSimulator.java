@@ -0,0 +1,210 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Set-associative, LRU cache hierarchy fed by an {@link AccessTracer}.
+ *
+ * Elements are 4-byte ints: array 0 starts at address 0 and array 1 on the
+ * next page boundary after it. An access looks up its line level by level
+ * until one hits, and the line is filled into every level that missed
+ * (non-inclusive, write-allocate; write-backs are not modelled). Each set
+ * keeps its tags in most-recently-used order, so a lookup is a short scan
+ * of one row of a flat long[]. Misses are also counted per bucket of the
+ * array for a heat strip.
+ *
+ * Not thread-safe: feed it from one thread. Counters may be read from another
+ * thread for display while it runs.
+ */
+public final class CacheSimulator implements AccessTracer {
+
+    /** L1 32 KiB 8-way, L2 512 KiB 8-way, LLC 8 MiB 16-way, 64-byte lines. */
+    public static final String DEFAULT_SPEC = "32K/8, 512K/8, 8M/16, line=64";
+
+    private static final long EMPTY = -1L;
+    private static final int PAGE = 4096;
+
+    /** One cache level: total size and associativity. */
+    public static final class Level {
+        public final String name;
+        public final long sizeBytes;
+        public final int ways;
+
+        public Level(String name, long sizeBytes, int ways) {
+            this.name = name;
+            this.sizeBytes = sizeBytes;
+            this.ways = ways;
+        }
+    }
+
+    private final Level[] levels;
+    private final int lineShift;
+    private final int[] sets;
+    private final long[][] tags;
+    private final long[] hits, misses;
+    private final int[][] heat;
+    private final long auxBase;
+    private final int elements;
+    private long reads, writes;
+    private volatile boolean aborted;
+
+    /**
+     * @param levels      cache levels, closest first
+     * @param lineBytes   line size, a power of two
+     * @param elements    length of the traced arrays
+     * @param heatBuckets buckets of the per-level miss heat strip
+     */
+    public CacheSimulator(List<Level> levels, int lineBytes, int elements, int heatBuckets) {
+        if (levels.isEmpty()) throw new IllegalArgumentException("At least one cache level is needed");
+        if (lineBytes < 4 || Integer.bitCount(lineBytes) != 1) throw new IllegalArgumentException("Line size must be a power of two >= 4");
+        this.levels = levels.toArray(new Level[0]);
+        this.lineShift = Integer.numberOfTrailingZeros(lineBytes);
+        this.elements = Math.max(1, elements);
+        int count = this.levels.length;
+        sets = new int[count];
+        tags = new long[count][];
+        hits = new long[count];
+        misses = new long[count];
+        heat = new int[count][Math.max(1, Math.min(heatBuckets, this.elements))];
+        for (int l = 0; l < count; l++) {
+            Level level = this.levels[l];
+            long lines = level.sizeBytes / lineBytes;
+            if (level.ways < 1 || lines < level.ways || lines % level.ways != 0) {
+                throw new IllegalArgumentException(level.name + ": " + level.sizeBytes + " bytes cannot hold "
+                        + level.ways + "-way sets of " + lineBytes + "-byte lines");
+            }
+            if (lines > (1 << 26)) throw new IllegalArgumentException(level.name + " is too large to simulate");
+            sets[l] = (int) (lines / level.ways);
+            tags[l] = new long[(int) lines];
+        }
+        auxBase = (4L * this.elements + 2L * PAGE - 1) / PAGE * PAGE;
+        reset();
+    }
+
+    /**
+     * Parse a spec such as {@link #DEFAULT_SPEC}: comma-separated levels as
+     * size/ways, with K, M or G size suffixes, plus an optional line=bytes.
+     * Levels are named L1, L2, ... and the last of two or more LLC. Throws
+     * IllegalArgumentException for a malformed spec.
+     */
+    public static CacheSimulator parse(String spec, int elements, int heatBuckets) {
+        List<long[]> parsed = new ArrayList<>();
+        int line = 64;
+        for (String part : spec.split(",")) {
+            String p = part.trim().toUpperCase(Locale.ROOT);
+            if (p.isEmpty()) continue;
+            try {
+                if (p.startsWith("LINE=")) { line = Integer.parseInt(p.substring(5).trim()); continue; }
+                int slash = p.indexOf('/');
+                if (slash < 0) throw new IllegalArgumentException("Expected size/ways, got \"" + part.trim() + "\"");
+                parsed.add(new long[]{parseSize(p.substring(0, slash).trim()), Integer.parseInt(p.substring(slash + 1).trim())});
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number in \"" + part.trim() + "\"");
+            }
+        }
+        List<Level> levels = new ArrayList<>();
+        for (int l = 0; l < parsed.size(); l++) {
+            String name = l == parsed.size() - 1 && l > 0 ? "LLC" : "L" + (l + 1);
+            levels.add(new Level(name, parsed.get(l)[0], (int) parsed.get(l)[1]));
+        }
+        return new CacheSimulator(levels, line, elements, heatBuckets);
+    }
+
+    private static long parseSize(String s) {
+        long unit = 1;
+        char last = s.charAt(s.length() - 1);
+        if (last == 'K') unit = 1L << 10;
+        else if (last == 'M') unit = 1L << 20;
+        else if (last == 'G') unit = 1L << 30;
+        if (unit > 1) s = s.substring(0, s.length() - 1);
+        return Long.parseLong(s.trim()) * unit;
+    }
+
+    public void reset() {
+        for (long[] t : tags) Arrays.fill(t, EMPTY);
+        Arrays.fill(hits, 0);
+        Arrays.fill(misses, 0);
+        for (int[] h : heat) Arrays.fill(h, 0);
+        reads = writes = 0;
+        aborted = false;
+    }
+
+    /** Make the traced run throw CancellationException within its next ~million accesses. */
+    public void abort() { aborted = true; }
+
+    @Override
+    public void read(int array, int index) {
+        reads++;
+        access(array, index);
+    }
+
+    @Override
+    public void write(int array, int index) {
+        writes++;
+        access(array, index);
+    }
+
+    private void access(int array, int index) {
+        if (((reads + writes) & 0xFFFFF) == 0 && aborted) throw new CancellationException();
+        long line = ((array == 0 ? 0 : auxBase) + 4L * index) >>> lineShift;
+        for (int l = 0; l < levels.length; l++) {
+            if (lookup(l, line)) { hits[l]++; return; }
+            misses[l]++;
+            int[] h = heat[l];
+            h[(int) ((long) Math.min(index, elements - 1) * h.length / elements)]++;
+        }
+    }
+
+    // Find line in its set and move it to the front, inserting it (evicting the LRU way) on a miss
+    private boolean lookup(int l, long line) {
+        long[] t = tags[l];
+        int ways = levels[l].ways;
+        int base = (int) (line % sets[l]) * ways;
+        int end = base + ways - 1;
+        int at = base;
+        while (at < end && t[at] != line) at++;
+        boolean hit = t[at] == line;
+        System.arraycopy(t, base, t, base + 1, at - base);
+        t[base] = line;
+        return hit;
+    }
+
+    public int levelCount() { return levels.length; }
+    public Level level(int l) { return levels[l]; }
+    public int lineBytes() { return 1 << lineShift; }
+    public long hits(int l) { return hits[l]; }
+    public long misses(int l) { return misses[l]; }
+    public long reads() { return reads; }
+    public long writes() { return writes; }
+
+    /** Live per-bucket miss counts of level l; bucket b covers the b-th equal slice of the array. */
+    public int[] heat(int l) { return heat[l]; }
+
+    public double hitRate(int l) {
+        long total = hits[l] + misses[l];
+        return total == 0 ? 0 : (double) hits[l] / total;
+    }
+
+    /** One line per level with accesses, hit rate and misses per thousand accesses. */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        long accesses = reads + writes;
+        sb.append(String.format(Locale.ROOT, "%,d reads, %,d writes", reads, writes));
+        for (int l = 0; l < levels.length; l++) {
+            sb.append(String.format(Locale.ROOT, "%n%-4s %6s %2d-way: %,d lookups, %.2f%% hits, %.2f misses / 1000 accesses",
+                    levels[l].name, size(levels[l].sizeBytes), levels[l].ways, hits[l] + misses[l],
+                    100.0 * hitRate(l), accesses == 0 ? 0 : 1000.0 * misses[l] / accesses));
+        }
+        return sb.toString();
+    }
+
+    private static String size(long bytes) {
+        if (bytes % (1L << 20) == 0) return (bytes >> 20) + "M";
+        if (bytes % (1L << 10) == 0) return (bytes >> 10) + "K";
+        return String.valueOf(bytes);
+    }
+}
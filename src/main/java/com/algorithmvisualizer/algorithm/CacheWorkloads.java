@@ -0,0 +1,84 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * The solvers that can be run through a {@link CacheSimulator}: every
+ * {@link SortEngine}, Bubble and Selection Sort (capped at
+ * {@link #QUADRATIC_LIMIT} elements) and a batch of binary searches.
+ * {@link CacheBenchmark} runs them all headless.
+ */
+public final class CacheWorkloads {
+
+    /** Largest n the quadratic sorts are traced at; larger inputs are truncated. */
+    public static final int QUADRATIC_LIMIT = 10_000;
+    private static final long SEED = 42;
+
+    /** A named solver run that reports its accesses to a tracer. */
+    public interface Workload {
+        String name();
+
+        /** Elements actually traced for an input of n. */
+        default int tracedLength(int n) { return n; }
+
+        void run(int[] input, AccessTracer tracer);
+    }
+
+    private CacheWorkloads() {}
+
+    public static List<Workload> all() {
+        List<Workload> list = new ArrayList<>();
+        for (Function<int[], SortEngine> factory : SortBenchmark.ENGINES) {
+            String name = factory.apply(new int[0]).getName();
+            list.add(workload(name, Integer.MAX_VALUE, (input, tracer) -> {
+                SortEngine engine = factory.apply(input);
+                engine.setAccessTracer(tracer);
+                engine.runToCompletion();
+            }));
+        }
+        list.add(workload("Bubble Sort", QUADRATIC_LIMIT, (input, tracer) -> {
+            BubbleSortSolver solver = new BubbleSortSolver(input);
+            solver.setMuted(true);
+            solver.setAccessTracer(tracer);
+            while (!solver.isDone()) solver.step();
+        }));
+        list.add(workload("Selection Sort", QUADRATIC_LIMIT, (input, tracer) -> {
+            SelectionSortSolver solver = new SelectionSortSolver(input);
+            solver.setMuted(true);
+            solver.setAccessTracer(tracer);
+            while (!solver.isDone()) solver.step();
+        }));
+        list.add(workload("Binary Search (n queries)", Integer.MAX_VALUE, (input, tracer) -> {
+            int[] sorted = input.clone();
+            Arrays.sort(sorted);
+            BinarySearchSolver solver = new BinarySearchSolver(sorted, 0);
+            solver.setAccessTracer(tracer);
+            SplittableRandom rnd = new SplittableRandom(SEED);
+            for (int q = 0; q < sorted.length; q++) {
+                solver.setTarget(sorted[rnd.nextInt(sorted.length)]);
+                while (!solver.isDone()) solver.step();
+            }
+        }));
+        return Collections.unmodifiableList(list);
+    }
+
+    private interface Body { void run(int[] input, AccessTracer tracer); }
+
+    private static Workload workload(String name, int limit, Body body) {
+        return new Workload() {
+            @Override public String name() { return name; }
+            @Override public int tracedLength(int n) { return Math.min(n, limit); }
+            @Override public void run(int[] input, AccessTracer tracer) {
+                body.run(input.length > limit ? Arrays.copyOf(input, limit) : input, tracer);
+            }
+        };
+    }
+
+    /** The seeded uniform input the workloads are compared on. */
+    public static int[] input(int n) { return SortInputs.generate(SortInputs.Distribution.UNIFORM, n, SEED); }
+}
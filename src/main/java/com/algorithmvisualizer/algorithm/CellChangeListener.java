@@ -0,0 +1,10 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Notified when a single grid cell of a solver's state changes, so views can
+ * update just that cell instead of re-reading the whole grid. Muted solvers
+ * do not notify.
+ */
+public interface CellChangeListener {
+    void onCellChanged(int r, int c);
+}
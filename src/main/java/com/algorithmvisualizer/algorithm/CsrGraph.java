@@ -0,0 +1,182 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable graph in compressed sparse row form: the neighbours of node u are
+ * {@code targets[offsets[u] .. offsets[u + 1])}, sorted ascending and without
+ * duplicates or self-loops. Two int arrays hold the whole graph, so it can be
+ * shared freely between solvers, renderers and snapshots. An undirected graph
+ * stores every edge in both directions; a directed one need not.
+ */
+public final class CsrGraph {
+
+    private static final CsrGraph EMPTY = new CsrGraph(0, new int[1], new int[0]);
+
+    private final int n;
+    private final int[] offsets; // length n + 1
+    private final int[] targets;
+    private byte symmetric; // 0 = not yet checked, 1 = every entry has its reverse, 2 = not
+
+    private CsrGraph(int n, int[] offsets, int[] targets) {
+        this.n = n;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public static CsrGraph empty() { return EMPTY; }
+
+    /** Build from adjacency lists; missing rows are treated as empty and out-of-range targets dropped. */
+    public static CsrGraph fromAdjacency(int n, List<List<Integer>> adj) {
+        n = Math.max(0, n);
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            List<Integer> row = adj != null && u < adj.size() ? adj.get(u) : null;
+            offsets[u + 1] = offsets[u] + (row == null ? 0 : row.size());
+        }
+        int[] targets = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            List<Integer> row = adj != null && u < adj.size() ? adj.get(u) : null;
+            if (row == null) continue;
+            int k = offsets[u];
+            for (Integer v : row) targets[k++] = v == null ? -1 : v;
+        }
+        return normalize(n, offsets, targets);
+    }
+
+    /**
+     * Build from the first {@code m} edges {@code from[i] -> to[i]}. With
+     * {@code undirected} each edge is stored in both directions.
+     */
+    public static CsrGraph fromEdges(int n, int[] from, int[] to, int m, boolean undirected) {
+        n = Math.max(0, n);
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            if (!inRange(from[i], n) || !inRange(to[i], n)) continue;
+            offsets[from[i] + 1]++;
+            if (undirected) offsets[to[i] + 1]++;
+        }
+        for (int u = 0; u < n; u++) offsets[u + 1] += offsets[u];
+        int[] targets = new int[offsets[n]];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < m; i++) {
+            int u = from[i], v = to[i];
+            if (!inRange(u, n) || !inRange(v, n)) continue;
+            targets[fill[u]++] = v;
+            if (undirected) targets[fill[v]++] = u;
+        }
+        return normalize(n, offsets, targets);
+    }
+
+    // Sort each row, then squeeze out duplicates, self-loops and invalid targets in place
+    private static CsrGraph normalize(int n, int[] offsets, int[] targets) {
+        int write = 0;
+        int rowStart = 0;
+        for (int u = 0; u < n; u++) {
+            int s = rowStart, e = offsets[u + 1];
+            rowStart = e;
+            Arrays.sort(targets, s, e);
+            offsets[u] = write;
+            int last = -1;
+            for (int k = s; k < e; k++) {
+                int v = targets[k];
+                if (v == last || v == u || !inRange(v, n)) continue;
+                targets[write++] = v;
+                last = v;
+            }
+        }
+        offsets[n] = write;
+        return new CsrGraph(n, offsets, write == targets.length ? targets : Arrays.copyOf(targets, write));
+    }
+
+    /** Wrap arrays that already satisfy the row invariants, as produced by {@link GraphLoader}. */
+    static CsrGraph ofNormalized(int n, int[] offsets, int[] targets) {
+        return new CsrGraph(n, offsets, targets);
+    }
+
+    private static boolean inRange(int v, int n) { return v >= 0 && v < n; }
+
+    public int nodeCount() { return n; }
+
+    /** Number of stored (directed) adjacency entries; an undirected edge counts twice. */
+    public int entryCount() { return targets.length; }
+
+    public int degree(int u) { return offsets[u + 1] - offsets[u]; }
+
+    /** Entry index of u's first neighbour; neighbour k of u is entry {@code rowStart(u) + k}. */
+    public int rowStart(int u) { return offsets[u]; }
+
+    /** The k-th smallest neighbour of u. */
+    public int neighbor(int u, int k) { return targets[offsets[u] + k]; }
+
+    public boolean hasEdge(int u, int v) {
+        return Arrays.binarySearch(targets, offsets[u], offsets[u + 1], v) >= 0;
+    }
+
+    /** Position of v in the flat entry array (in [0, entryCount)), or -1 if u-v is not an edge. */
+    public int entryIndex(int u, int v) {
+        if (u < 0 || u >= n) return -1;
+        int k = Arrays.binarySearch(targets, offsets[u], offsets[u + 1], v);
+        return k >= 0 ? k : -1;
+    }
+
+    /** 64-bit hash of the structure, for caching data derived from equal graphs. */
+    public long contentHash() {
+        long h = 1125899906842597L + n;
+        for (int i = 1; i <= n; i++) h = 31 * h + offsets[i];
+        for (int v : targets) h = 31 * h + v;
+        return h ^ (h >>> 29);
+    }
+
+    /** Whether every entry u -> v has its reverse v -> u, i.e. the graph is undirected. Checked once. */
+    public boolean isSymmetric() {
+        if (symmetric == 0) {
+            boolean sym = true;
+            for (int u = 0; u < n && sym; u++) {
+                for (int k = offsets[u]; k < offsets[u + 1] && sym; k++) sym = hasEdge(targets[k], u);
+            }
+            symmetric = (byte) (sym ? 1 : 2);
+        }
+        return symmetric == 1;
+    }
+
+    /** The undirected graph underlying this one: every entry also stored reversed. Returns this graph if it already is. */
+    public CsrGraph symmetric() {
+        if (isSymmetric()) return this;
+        int[] from = new int[targets.length];
+        for (int u = 0; u < n; u++) Arrays.fill(from, offsets[u], offsets[u + 1], u);
+        CsrGraph g = fromEdges(n, from, targets, targets.length, true);
+        g.symmetric = 1;
+        return g;
+    }
+
+    /** Calls {@code visitor} once per undirected edge, with u < v. */
+    public void forEachUndirectedEdge(EdgeVisitor visitor) {
+        for (int u = 0; u < n; u++) {
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                if (u < targets[k]) visitor.visit(u, targets[k]);
+            }
+        }
+    }
+
+    public interface EdgeVisitor {
+        void visit(int u, int v);
+    }
+
+    /** Boxed adjacency lists, for small graphs and legacy callers. */
+    public List<List<Integer>> toAdjacencyList() {
+        List<List<Integer>> out = new ArrayList<>(n);
+        for (int u = 0; u < n; u++) {
+            List<Integer> row = new ArrayList<>(degree(u));
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) row.add(targets[k]);
+            out.add(row);
+        }
+        return out;
+    }
+
+    public long estimateBytes() {
+        return StateSizes.OBJECT + 16 + StateSizes.ints(n + 1) + StateSizes.ints(targets.length);
+    }
+}
@@ -5,8 +5,14 @@ import java.util.*;
 /**
  * Depth-First Search solver that emits fine-grained steps to drive visualization.
  * Iterative DFS using an explicit stack of frames for step-wise execution.
+ *
+ * The graph is an immutable {@link CsrGraph}. Snapshots are O(1): the frame
+ * stack is a persistent linked list whose frames are never mutated, and the
+ * visited set is derived from the discovery order, which is deterministic for
+ * a given graph and start node. A snapshot therefore only records the stack
+ * top and how far along the discovery order the run is.
  */
-public class DFSSolver {
+public class DFSSolver implements SteppableSolver<DFSSolver.State> {
 
     public enum StepType { INIT, DISCOVER, EXPLORE_EDGE, BACKTRACK, DONE }
 
@@ -14,50 +20,69 @@ public class DFSSolver {
         void onStep(StepType type, int u, int v);
     }
 
+    /** Mutable traversal state only; valid for the solver (graph and start) that produced it. */
     public static class State {
-        public int n;
-        public List<List<Integer>> adj;
-        public boolean[] visited;
-        public Deque<Frame> stack;
-        public List<Integer> traversal;
-        public int start;
+        public Frame stack;
+        public int traversalSize;
+        public int scanFrom;
         public boolean done;
+
+        /** Excludes the graph and the shared stack frames, which snapshots have in common. */
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 16 + Frame.BYTES;
+        }
     }
 
-    public static class Frame {
-        public int u;
-        public int idx; // next neighbor index to consider
-        public Frame(int u, int idx) { this.u = u; this.idx = idx; }
+    /** Immutable stack frame; advancing the neighbour index replaces the frame. */
+    public static final class Frame {
+        static final long BYTES = StateSizes.OBJECT + 16;
+
+        public final int u;
+        public final int idx; // next neighbor index to consider
+        public final int depth;
+        public final Frame next;
+
+        Frame(int u, int idx, Frame next) {
+            this.u = u;
+            this.idx = idx;
+            this.next = next;
+            this.depth = next == null ? 1 : next.depth + 1;
+        }
     }
 
+    private CsrGraph graph = CsrGraph.empty();
     private int n = 0;
-    private List<List<Integer>> adj = new ArrayList<>();
     private boolean[] visited = new boolean[0];
-    private Deque<Frame> stack = new ArrayDeque<>();
-    private List<Integer> traversal = new ArrayList<>();
+    private Frame stack;
+    // Discovery order. Entries past traversalSize are the already-computed continuation
+    // of this run, which lets restore() move the visited set forward as well as back.
+    private int[] traversal = new int[16];
+    private int traversalSize = 0;
+    private int traversalKnown = 0;
+    private int scanFrom = 0; // every node below this is visited once the stack is empty
     private int start = 0;
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
 
     public DFSSolver(int n, List<List<Integer>> adj, int start) {
-        setGraph(n, adj);
+        this(CsrGraph.fromAdjacency(n, adj), start);
+    }
+
+    public DFSSolver(CsrGraph graph, int start) {
+        setGraph(graph);
         setStart(start);
     }
 
     public void setGraph(int n, List<List<Integer>> adj) {
-        this.n = Math.max(0, n);
-        this.adj = new ArrayList<>(this.n);
-        for (int i = 0; i < this.n; i++) {
-            if (adj != null && i < adj.size() && adj.get(i) != null) {
-                // ensure deterministic neighbor order
-                List<Integer> row = new ArrayList<>(adj.get(i));
-                Collections.sort(row);
-                this.adj.add(row);
-            } else {
-                this.adj.add(new ArrayList<>());
-            }
-        }
+        setGraph(CsrGraph.fromAdjacency(n, adj));
+    }
+
+    public void setGraph(CsrGraph graph) {
+        this.graph = graph == null ? CsrGraph.empty() : graph;
+        this.n = this.graph.nodeCount();
+        if (start >= n) start = 0;
         resetInternal(false);
     }
 
@@ -68,112 +93,133 @@ public class DFSSolver {
 
     public void setStepListener(StepListener l) { this.listener = l; }
 
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
     public void reset() { resetInternal(true); }
 
     private void resetInternal(boolean emitInit) {
         visited = new boolean[n];
-        stack.clear();
-        traversal.clear();
+        traversalSize = 0;
+        traversalKnown = 0;
+        scanFrom = 0;
+        stack = null;
         done = (n == 0);
         if (done) {
             emit(StepType.DONE, -1, -1);
             return;
         }
-        stack.push(new Frame(start, 0));
+        stack = new Frame(start, 0, null);
         if (emitInit) emit(StepType.INIT, start, -1);
         else emit(StepType.INIT, start, -1);
     }
 
     public boolean isDone() { return done; }
     public int getN() { return n; }
-    public List<List<Integer>> getAdj() { return copyAdj(adj); }
+    public CsrGraph getGraph() { return graph; }
+    public List<List<Integer>> getAdj() { return graph.toAdjacencyList(); }
     public boolean[] getVisited() { return Arrays.copyOf(visited, visited.length); }
-    public List<Integer> getTraversal() { return new ArrayList<>(traversal); }
+    public boolean isVisited(int u) { return visited[u]; }
+    public List<Integer> getTraversal() {
+        List<Integer> out = new ArrayList<>(traversalSize);
+        for (int i = 0; i < traversalSize; i++) out.add(traversal[i]);
+        return out;
+    }
+    public int[] getTraversalArray() { return Arrays.copyOf(traversal, traversalSize); }
+    /** The last {@code max} discovered nodes, oldest first. */
+    public int[] getTraversalTail(int max) {
+        int from = Math.max(0, traversalSize - Math.max(0, max));
+        return Arrays.copyOfRange(traversal, from, traversalSize);
+    }
+    /** Number of nodes discovered so far (equals the visited count). */
+    public int getTraversalSize() { return traversalSize; }
     public int getStart() { return start; }
 
+    /** Nodes on the DFS stack, ordered from the root of the current tree to the active node. */
+    public List<Integer> getStackNodes() {
+        int depth = stack == null ? 0 : stack.depth;
+        Integer[] out = new Integer[depth];
+        for (Frame f = stack; f != null; f = f.next) out[f.depth - 1] = f.u;
+        return Arrays.asList(out);
+    }
+
     public void step() {
         if (done) return;
-        if (stack.isEmpty()) {
+        if (stack == null) {
             // try to find next unvisited component
-            int next = -1;
-            for (int i = 0; i < n; i++) if (!visited[i]) { next = i; break; }
-            if (next == -1) {
+            while (scanFrom < n && visited[scanFrom]) scanFrom++;
+            if (scanFrom == n) {
                 done = true;
                 emit(StepType.DONE, -1, -1);
                 return;
             }
-            stack.push(new Frame(next, 0));
-            emit(StepType.INIT, next, -1);
+            stack = new Frame(scanFrom, 0, null);
+            emit(StepType.INIT, scanFrom, -1);
             return;
         }
 
-        Frame f = stack.peek();
+        Frame f = stack;
         int u = f.u;
         if (!visited[u]) {
             visited[u] = true;
-            traversal.add(u);
+            discover(u);
             emit(StepType.DISCOVER, u, -1);
             return;
         }
 
-        // Explore neighbors
-        while (f.idx < adj.get(u).size()) {
-            int v = adj.get(u).get(f.idx++);
+        // Explore neighbors; already-visited ones are skipped quietly within this step
+        int deg = graph.degree(u);
+        for (int i = f.idx; i < deg; i++) {
+            int v = graph.neighbor(u, i);
             if (!visited[v]) {
+                stack = new Frame(v, 0, new Frame(u, i + 1, f.next));
                 emit(StepType.EXPLORE_EDGE, u, v);
-                stack.push(new Frame(v, 0));
                 return;
             }
-            // if already visited, skip quietly; allow next step to continue loop
-            // but emit an EXPLORE_EDGE with visited info could be noisy
-            // we choose not to emit in this branch
         }
 
         // Backtrack from u
-        stack.pop();
+        stack = f.next;
         emit(StepType.BACKTRACK, u, -1);
         // Next step will proceed with previous frame or finish
     }
 
+    private void discover(int u) {
+        if (traversalSize == traversal.length) traversal = Arrays.copyOf(traversal, traversal.length * 2);
+        traversal[traversalSize++] = u;
+        if (traversalSize > traversalKnown) traversalKnown = traversalSize;
+    }
+
     public State snapshot() {
         State s = new State();
-        s.n = n;
-        s.adj = copyAdj(adj);
-        s.visited = Arrays.copyOf(visited, visited.length);
-        s.stack = new ArrayDeque<>();
-        for (Frame f : stack) s.stack.addLast(new Frame(f.u, f.idx));
-        s.traversal = new ArrayList<>(traversal);
-        s.start = start;
+        s.stack = stack;
+        s.traversalSize = traversalSize;
+        s.scanFrom = scanFrom;
         s.done = done;
         return s;
     }
 
     public void restore(State s) {
         if (s == null) return;
-        n = s.n;
-        adj = copyAdj(s.adj);
-        visited = Arrays.copyOf(s.visited, s.visited.length);
-        stack = new ArrayDeque<>();
-        for (Frame f : s.stack) stack.addLast(new Frame(f.u, f.idx));
-        traversal = new ArrayList<>(s.traversal);
-        start = s.start;
+        if (s.traversalSize > traversalKnown) {
+            throw new IllegalArgumentException("State does not belong to this solver's run");
+        }
+        // Replay the visited set along the discovery order, costing O(distance moved)
+        for (int i = traversalSize - 1; i >= s.traversalSize; i--) visited[traversal[i]] = false;
+        for (int i = traversalSize; i < s.traversalSize; i++) visited[traversal[i]] = true;
+        traversalSize = s.traversalSize;
+        stack = s.stack;
+        scanFrom = s.scanFrom;
         done = s.done;
     }
 
     private void emit(StepType type, int u, int v) {
-        if (listener != null) listener.onStep(type, u, v);
-    }
-
-    private static List<List<Integer>> copyAdj(List<List<Integer>> src) {
-        List<List<Integer>> out = new ArrayList<>(src.size());
-        for (List<Integer> row : src) out.add(new ArrayList<>(row));
-        return out;
+        if (listener != null && !muted) listener.onStep(type, u, v);
     }
 
     public String getCurrentStepDescription() {
-        if (done) return "DFS complete. Traversal size=" + traversal.size();
-        if (stack.isEmpty()) return "Ready";
-        Frame f = stack.peek();
-        return "At node " + f.u + ", next neighbor index=" + f.idx + ", stack size=" + stack.size();
+        if (done) return "DFS complete. Traversal size=" + traversalSize;
+        if (stack == null) return "Ready";
+        return "At node " + stack.u + ", next neighbor index=" + stack.idx + ", stack size=" + stack.depth;
     }
 }
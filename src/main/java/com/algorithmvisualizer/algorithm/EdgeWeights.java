@@ -0,0 +1,132 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Immutable edge weights for one {@link CsrGraph}, stored as a double per CSR
+ * entry so that the weight of neighbour k of u is {@code weight(rowStart(u) + k)}.
+ * Undirected edges carry the same weight in both directions. A graph without
+ * weights uses {@link #unit}, which stores no array at all.
+ */
+public final class EdgeWeights {
+
+    private final CsrGraph graph;
+    private final double[] byEntry; // null = every edge weighs 1
+
+    private EdgeWeights(CsrGraph graph, double[] byEntry) {
+        this.graph = graph;
+        this.byEntry = byEntry;
+    }
+
+    public static EdgeWeights unit(CsrGraph graph) { return new EdgeWeights(graph == null ? CsrGraph.empty() : graph, null); }
+
+    /**
+     * Weights for a graph built from {@code edges}, read from the chunks' weight
+     * columns. Parallel edges keep the smallest weight; self-loops and edges
+     * outside the graph are ignored.
+     */
+    public static EdgeWeights fromEdges(CsrGraph graph, GraphLoader.EdgeList edges, boolean undirected) {
+        boolean any = false;
+        for (GraphLoader.EdgeChunk c : edges.chunks) any |= c.weight != null;
+        if (!any) return unit(graph);
+        double[] w = new double[graph.entryCount()];
+        Arrays.fill(w, Double.NaN);
+        for (GraphLoader.EdgeChunk c : edges.chunks) {
+            for (int i = 0; i < c.count; i++) {
+                double x = c.weight == null ? 1.0 : c.weight[i];
+                keepMin(w, graph.entryIndex(c.from[i], c.to[i]), x);
+                if (undirected) keepMin(w, graph.entryIndex(c.to[i], c.from[i]), x);
+            }
+        }
+        for (int k = 0; k < w.length; k++) if (Double.isNaN(w[k])) w[k] = 1.0;
+        return new EdgeWeights(graph, w);
+    }
+
+    private static void keepMin(double[] w, int k, double x) {
+        if (k >= 0 && (Double.isNaN(w[k]) || x < w[k])) w[k] = x;
+    }
+
+    /** Uniform random integer weights in [min, max], the same in both directions of each two-way edge. */
+    public static EdgeWeights random(CsrGraph graph, int min, int max, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        double[] w = new double[graph.entryCount()];
+        int span = Math.max(1, max - min + 1);
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            int base = graph.rowStart(u);
+            for (int i = 0; i < graph.degree(u); i++) {
+                int v = graph.neighbor(u, i);
+                int back = graph.entryIndex(v, u);
+                if (v < u && back >= 0) continue; // drawn from the v -> u side
+                w[base + i] = min + rnd.nextInt(span);
+                if (back >= 0) w[back] = w[base + i];
+            }
+        }
+        return new EdgeWeights(graph, w);
+    }
+
+    /** The same weights on another graph, e.g. after nodes were added or removed; new edges weigh 1. */
+    public EdgeWeights rebase(CsrGraph other) {
+        if (other == graph) return this;
+        if (byEntry == null) return unit(other);
+        double[] w = new double[other.entryCount()];
+        for (int u = 0; u < other.nodeCount(); u++) {
+            int base = other.rowStart(u);
+            for (int k = 0; k < other.degree(u); k++) {
+                int old = u < graph.nodeCount() ? graph.entryIndex(u, other.neighbor(u, k)) : -1;
+                w[base + k] = old >= 0 ? byEntry[old] : 1.0;
+            }
+        }
+        return new EdgeWeights(other, w);
+    }
+
+    /**
+     * These weights on the {@link CsrGraph#symmetric() underlying undirected graph}; a
+     * pair joined in both directions keeps the lighter one. Returns this if already undirected.
+     */
+    public EdgeWeights symmetric() {
+        if (graph.isSymmetric()) return this;
+        CsrGraph sym = graph.symmetric();
+        if (byEntry == null) return unit(sym);
+        double[] w = new double[sym.entryCount()];
+        for (int u = 0; u < sym.nodeCount(); u++) {
+            int base = sym.rowStart(u);
+            for (int i = 0; i < sym.degree(u); i++) {
+                int v = sym.neighbor(u, i);
+                double a = weight(u, v), b = weight(v, u);
+                w[base + i] = Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.min(a, b);
+            }
+        }
+        return new EdgeWeights(sym, w);
+    }
+
+    public CsrGraph graph() { return graph; }
+
+    /** True when every edge weighs 1. */
+    public boolean isUnit() { return byEntry == null; }
+
+    /** Weight of CSR entry {@code entry} (see {@link CsrGraph#rowStart}). */
+    public double weight(int entry) { return byEntry == null ? 1.0 : byEntry[entry]; }
+
+    /** Weight of edge u-v, or NaN if there is no such edge. */
+    public double weight(int u, int v) {
+        int k = graph.entryIndex(u, v);
+        return k < 0 ? Double.NaN : weight(k);
+    }
+
+    public boolean hasNegative() {
+        if (byEntry == null) return false;
+        for (double x : byEntry) if (x < 0) return true;
+        return false;
+    }
+
+    /** Short label: integers without a decimal point, others to 3 significant digits. */
+    public static String format(double w) {
+        if (w == Math.rint(w) && Math.abs(w) < 1e15) return String.valueOf((long) w);
+        return String.format("%.3g", w);
+    }
+
+    public long estimateBytes() {
+        return StateSizes.OBJECT + 8 + (byEntry == null ? 0 : StateSizes.doubles(byEntry.length));
+    }
+}
@@ -0,0 +1,300 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Sorts a file of big-endian 32-bit ints that need not fit in memory.
+ *
+ * Run formation maps the input one chunk of {@link #getRunElements()} ints at
+ * a time, sorts the chunk in memory and spills it to a temp file; chunks are
+ * handled in parallel, one per worker. Runs are then merged at most
+ * {@link #getFanIn()} at a time through a {@link LoserTree}, each group of a
+ * pass in parallel, until a single run is left and written to the output.
+ * All I/O goes through large buffers, and every run file is deleted as soon
+ * as it has been merged.
+ */
+public class ExternalSortEngine {
+
+    public enum EventType { RUN_CREATED, PASS_STARTED, RUN_MERGED, IO, DONE }
+
+    public interface ProgressListener {
+        /**
+         * RUN_CREATED(0, run, elements) when a sorted run is spilled;
+         * PASS_STARTED(pass, runs in, 0); RUN_MERGED(pass, output run, elements);
+         * IO(pass, -1, 0) about every {@link #IO_EVENT_BYTES}; DONE(passes, runs, elements).
+         * Byte counts are the totals so far. Called on worker threads, one call at a time.
+         */
+        void onEvent(EventType type, int pass, int run, long elements, long bytesRead, long bytesWritten);
+    }
+
+    /** Bytes transferred between two IO events. */
+    public static final long IO_EVENT_BYTES = 16L << 20;
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+    private static final long MAX_MAP_BYTES = 1L << 30;
+
+    private int runElements = 4 << 20;
+    private int fanIn = 16;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private ProgressListener listener;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong nextIoEvent = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile int currentPass;
+
+    public int getRunElements() { return runElements; }
+    /** Ints per in-memory run; each worker holds one such buffer. */
+    public void setRunElements(int runElements) { this.runElements = Math.max(1024, runElements); }
+    public int getFanIn() { return fanIn; }
+    public void setFanIn(int fanIn) { this.fanIn = Math.max(2, fanIn); }
+    public int getParallelism() { return parallelism; }
+    public void setParallelism(int parallelism) { this.parallelism = Math.max(1, parallelism); }
+    public void setProgressListener(ProgressListener l) { this.listener = l; }
+
+    /** Ask a running {@link #sort} to stop; it throws CancellationException at its next buffer. */
+    public void cancel() { cancelled = true; }
+
+    /**
+     * Sort {@code input} into {@code output}, spilling runs to a fresh directory
+     * under {@code tempDir} that is removed again afterwards.
+     */
+    public ExternalSortStats sort(Path input, Path output, Path tempDir) throws IOException {
+        cancelled = false;
+        bytesRead.set(0);
+        bytesWritten.set(0);
+        nextIoEvent.set(IO_EVENT_BYTES);
+        long t0 = System.nanoTime();
+        long size = Files.size(input);
+        if (size % 4 != 0) throw new IOException(input + " is not a whole number of 4-byte ints");
+        long n = size / 4;
+        Path dir = Files.createTempDirectory(tempDir, "extsort");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Path> runs = createRuns(input, n, dir, pool);
+            int pass = 0;
+            while (runs.size() > 1) {
+                pass++;
+                runs = mergePass(runs, pass, dir, pool);
+            }
+            if (runs.isEmpty()) Files.write(output, new byte[0]);
+            else Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            int runCount = (int) ((n + runElements - 1) / runElements);
+            emit(EventType.DONE, pass, runCount, n);
+            return new ExternalSortStats(n, runCount, pass, bytesRead.get(), bytesWritten.get(), System.nanoTime() - t0);
+        } finally {
+            pool.shutdownNow();
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) files::iterator) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    // Pass 0: sort each chunk of the input in memory and spill it as run i
+    private List<Path> createRuns(Path input, long n, Path dir, ForkJoinPool pool) throws IOException {
+        currentPass = 0;
+        int runs = (int) ((n + runElements - 1) / runElements);
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < runs; i++) paths.add(dir.resolve("run-0-" + i + ".bin"));
+        ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[runElements]);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            invoke(pool, () -> IntStream.range(0, runs).parallel().forEach(i -> {
+                long from = (long) i * runElements;
+                int len = (int) Math.min(runElements, n - from);
+                int[] buf = buffers.get();
+                try {
+                    readMapped(in, from * 4, buf, len);
+                    Arrays.sort(buf, 0, len);
+                    writeRun(paths.get(i), buf, len);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                emit(EventType.RUN_CREATED, 0, i, len);
+            }));
+        }
+        return paths;
+    }
+
+    private List<Path> mergePass(List<Path> runs, int pass, Path dir, ForkJoinPool pool) throws IOException {
+        currentPass = pass;
+        int groups = (runs.size() + fanIn - 1) / fanIn;
+        emit(EventType.PASS_STARTED, pass, runs.size(), 0);
+        List<Path> out = new ArrayList<>();
+        for (int g = 0; g < groups; g++) out.add(dir.resolve("run-" + pass + "-" + g + ".bin"));
+        invoke(pool, () -> IntStream.range(0, groups).parallel().forEach(g -> {
+            List<Path> group = runs.subList(g * fanIn, Math.min(runs.size(), (g + 1) * fanIn));
+            try {
+                long merged = merge(group, out.get(g));
+                for (Path p : group) Files.deleteIfExists(p);
+                emit(EventType.RUN_MERGED, pass, g, merged);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return out;
+    }
+
+    private long merge(List<Path> group, Path target) throws IOException {
+        int k = group.size();
+        RunReader[] readers = new RunReader[k];
+        int readBytes = Math.max(64 << 10, IO_BUFFER_BYTES / k);
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < k; i++) readers[i] = new RunReader(group.get(i), readBytes);
+            LoserTree tree = new LoserTree(k);
+            for (int i = 0; i < k; i++) tree.set(i, readers[i].next());
+            tree.build();
+            ByteBuffer bytes = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            IntBuffer ints = bytes.asIntBuffer();
+            long count = 0;
+            while (!tree.isEmpty()) {
+                int w = tree.winner();
+                ints.put((int) tree.key(w));
+                count++;
+                if (!ints.hasRemaining()) { flush(out, bytes, ints.position()); ints.clear(); }
+                tree.replaceWinner(readers[w].next());
+            }
+            flush(out, bytes, ints.position());
+            return count;
+        } finally {
+            for (RunReader r : readers) if (r != null) r.close();
+        }
+    }
+
+    private void readMapped(FileChannel in, long offset, int[] into, int len) throws IOException {
+        int done = 0;
+        while (done < len) {
+            checkCancelled();
+            int part = (int) Math.min(len - done, MAX_MAP_BYTES / 4);
+            MappedByteBuffer map = in.map(FileChannel.MapMode.READ_ONLY, offset + 4L * done, 4L * part);
+            map.asIntBuffer().get(into, done, part);
+            done += part;
+            transferred(bytesRead, 4L * part);
+        }
+    }
+
+    private void writeRun(Path path, int[] data, int len) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+        IntBuffer ints = bytes.asIntBuffer();
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < len; ) {
+                int part = Math.min(len - i, ints.capacity());
+                ints.clear();
+                ints.put(data, i, part);
+                flush(out, bytes, part);
+                i += part;
+            }
+        }
+    }
+
+    private void flush(FileChannel out, ByteBuffer bytes, int ints) throws IOException {
+        checkCancelled();
+        bytes.clear().limit(4 * ints);
+        while (bytes.hasRemaining()) out.write(bytes);
+        transferred(bytesWritten, 4L * ints);
+    }
+
+    private void transferred(AtomicLong counter, long bytes) {
+        counter.addAndGet(bytes);
+        long total = bytesRead.get() + bytesWritten.get();
+        long due = nextIoEvent.get();
+        if (total >= due && nextIoEvent.compareAndSet(due, total + IO_EVENT_BYTES)) {
+            emit(EventType.IO, currentPass, -1, 0);
+        }
+    }
+
+    private void checkCancelled() {
+        if (cancelled) throw new CancellationException();
+    }
+
+    private void emit(EventType type, int pass, int run, long elements) {
+        ProgressListener l = listener;
+        if (l == null) return;
+        synchronized (this) { l.onEvent(type, pass, run, elements, bytesRead.get(), bytesWritten.get()); }
+    }
+
+    // Run a parallel stream inside our pool, unwrapping the IOException it carried out
+    private static void invoke(ForkJoinPool pool, Runnable body) throws IOException {
+        try {
+            pool.submit(body).join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+            throw e;
+        }
+    }
+
+    /** Buffered sequential reader over one run file; {@link #next()} yields {@link LoserTree#EXHAUSTED} at the end. */
+    private final class RunReader {
+        private final FileChannel in;
+        private final ByteBuffer bytes;
+        private IntBuffer ints;
+
+        RunReader(Path path, int bufferBytes) throws IOException {
+            in = FileChannel.open(path, StandardOpenOption.READ);
+            bytes = ByteBuffer.allocateDirect(bufferBytes & ~3);
+            ints = IntBuffer.allocate(0);
+        }
+
+        long next() throws IOException {
+            if (!ints.hasRemaining() && !fill()) return LoserTree.EXHAUSTED;
+            return ints.get();
+        }
+
+        private boolean fill() throws IOException {
+            checkCancelled();
+            bytes.clear();
+            int got = 0;
+            while (bytes.hasRemaining()) {
+                int r = in.read(bytes);
+                if (r < 0) break;
+                got += r;
+            }
+            if (got == 0) return false;
+            bytes.flip();
+            ints = bytes.asIntBuffer();
+            transferred(bytesRead, got);
+            return true;
+        }
+
+        void close() throws IOException { in.close(); }
+    }
+
+    /** Write {@code n} seeded uniform random ints to {@code path}, streaming, for trying the engine out. */
+    public static void writeRandomFile(Path path, long n, long seed) throws IOException {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+        IntBuffer ints = bytes.asIntBuffer();
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long i = 0; i < n; ) {
+                int part = (int) Math.min(n - i, ints.capacity());
+                for (int j = 0; j < part; j++) ints.put(j, rnd.nextInt());
+                bytes.clear().limit(4 * part);
+                while (bytes.hasRemaining()) out.write(bytes);
+                i += part;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.algorithmvisualizer.algorithm;
+
+/** Totals of one {@link ExternalSortEngine} run. */
+public final class ExternalSortStats {
+
+    public final long elements;
+    public final int runs;
+    /** Merge passes after run formation; 0 when the input fit in one run. */
+    public final int passes;
+    public final long bytesRead;
+    public final long bytesWritten;
+    public final long nanos;
+
+    ExternalSortStats(long elements, int runs, int passes, long bytesRead, long bytesWritten, long nanos) {
+        this.elements = elements;
+        this.runs = runs;
+        this.passes = passes;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.nanos = nanos;
+    }
+
+    /** Bytes moved per second, reads and writes together. */
+    public double bytesPerSecond() { return nanos == 0 ? 0 : (bytesRead + bytesWritten) * 1e9 / nanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%d ints in %.1f ms: %d runs, %d merge passes, %.1f MB read, %.1f MB written (%.1f MB/s)",
+                elements, nanos / 1e6, runs, passes, bytesRead / 1e6, bytesWritten / 1e6, bytesPerSecond() / 1e6);
+    }
+}
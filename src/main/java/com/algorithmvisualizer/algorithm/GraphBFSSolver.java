@@ -0,0 +1,402 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Level-synchronous, direction-optimizing breadth-first search over a
+ * {@link CsrGraph}, starting from one node.
+ *
+ * Each {@link #step()} expands one whole level on a shared ForkJoinPool, using
+ * one of two directions (Beamer et al.):
+ * <ul>
+ *   <li>top-down: frontier nodes claim their unvisited neighbours with a CAS;</li>
+ *   <li>bottom-up: every unvisited node scans its neighbours for one in the
+ *       frontier bitmap and stops at the first hit.</li>
+ * </ul>
+ * It switches to bottom-up once the frontier's edges exceed 1/ALPHA of the
+ * unexplored edges, and back to top-down once the frontier holds fewer than
+ * n/BETA nodes.
+ *
+ * Results are deterministic whatever the thread timing. Each level's nodes are
+ * stored sorted, and a node's parent is its smallest neighbour in the previous
+ * level in both directions. The discovery order is grouped by level, so a
+ * snapshot only records how many levels and nodes are done, and restore()
+ * replays distances and parents in O(nodes moved), as DFSSolver does.
+ */
+public class GraphBFSSolver implements SteppableSolver<GraphBFSSolver.State> {
+
+    public enum StepType { INIT, LEVEL, DONE }
+
+    public interface StepListener {
+        /** {@code level} is the depth just discovered; {@code bottomUp} is the direction used for it. */
+        void onStep(StepType type, int level, int frontierSize, boolean bottomUp);
+    }
+
+    /** Traversal position only; valid for the solver (graph and start) that produced it. */
+    public static class State {
+        public int level;
+        public int discovered;
+        public boolean bottomUp;
+        public boolean done;
+
+        public long estimateBytes() { return StateSizes.OBJECT + 16; }
+    }
+
+    /** Totals of a {@link #runToCompletion()} call. */
+    public static class RunStats {
+        public final int levels;
+        public final int reached;
+        public final long edgesTraversed;
+        public final long edgesExamined;
+        public final long nanos;
+
+        RunStats(int levels, int reached, long edgesTraversed, long edgesExamined, long nanos) {
+            this.levels = levels;
+            this.reached = reached;
+            this.edgesTraversed = edgesTraversed;
+            this.edgesExamined = edgesExamined;
+            this.nanos = nanos;
+        }
+
+        /** Traversed edges per second: adjacency entries of the nodes expanded in the run over its time. */
+        public double teps() { return nanos == 0 ? 0 : edgesTraversed * 1e9 / nanos; }
+    }
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int PARALLEL_MIN_WORK = 4096; // frontier entries / nodes below which a level runs inline
+    private static final int BLOCK = 4096;             // bottom-up node block, a multiple of 64
+
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    private int start = 0;
+    private int[] dist = new int[0];   // -1 = undiscovered
+    private int[] parent = new int[0]; // -1 = none (start node or undiscovered)
+    // Discovery order grouped by level: level L is order[levelStart[L] .. levelStart[L + 1]).
+    // Entries past `discovered` are the computed continuation, reused by restore().
+    private int[] order = new int[0];
+    private int[] orderParent = new int[0];
+    private int[] levelStart = new int[2];
+    private boolean[] levelBottomUp = new boolean[2]; // direction that discovered each level
+    private long[] examinedAt = new long[2];          // edgesExamined once each level was discovered
+    private int level = 0;
+    private int discovered = 0;
+    private int knownLevels = 0;
+    private boolean bottomUp = false;
+    private boolean done = false;
+    private long unexploredEntries = 0; // adjacency entries of undiscovered nodes
+    private long edgesExamined = 0;
+    private long[] frontierBits = new long[0];
+
+    private StepListener listener;
+    private boolean muted;
+
+    public GraphBFSSolver(CsrGraph graph, int start) {
+        setGraph(graph);
+        setStart(start);
+    }
+
+    public void setGraph(CsrGraph graph) {
+        this.graph = graph == null ? CsrGraph.empty() : graph;
+        this.n = this.graph.nodeCount();
+        if (start >= n) start = 0;
+        dist = new int[n];
+        parent = new int[n];
+        order = new int[n];
+        orderParent = new int[n];
+        frontierBits = new long[(n + 63) >>> 6];
+        reset();
+    }
+
+    public void setStart(int s) {
+        this.start = (s >= 0 && s < n) ? s : 0;
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        Arrays.fill(dist, -1);
+        Arrays.fill(parent, -1);
+        level = 0;
+        knownLevels = 0;
+        bottomUp = false;
+        edgesExamined = 0;
+        discovered = 0;
+        levelStart = new int[16];
+        levelBottomUp = new boolean[16];
+        examinedAt = new long[16];
+        done = (n == 0);
+        if (done) {
+            emit(StepType.DONE, 0, 0);
+            return;
+        }
+        unexploredEntries = graph.entryCount();
+        dist[start] = 0;
+        order[0] = start;
+        orderParent[0] = -1;
+        discovered = 1;
+        levelStart[1] = 1;
+        unexploredEntries -= graph.degree(start);
+        emit(StepType.INIT, 0, 1);
+    }
+
+    @Override
+    public boolean isDone() { return done; }
+    public CsrGraph getGraph() { return graph; }
+    public int getStart() { return start; }
+    /** Depth of the deepest discovered level. */
+    public int getLevel() { return level; }
+    public int getDiscoveredCount() { return discovered; }
+    public int getDistance(int v) { return dist[v]; }
+    public int getParent(int v) { return parent[v]; }
+    public boolean isBottomUp() { return bottomUp; }
+    /** Neighbour checks performed so far in this run (all levels since reset). */
+    public long getEdgesExamined() { return edgesExamined; }
+
+    /** Nodes at depth {@code l}, ascending. */
+    public int[] getLevelNodes(int l) {
+        if (l < 0 || l > level) return new int[0];
+        return Arrays.copyOfRange(order, levelStart[l], levelStart[l + 1]);
+    }
+
+    public int getFrontierSize() { return levelStart[level + 1] - levelStart[level]; }
+
+    @Override
+    public void step() {
+        if (done) return;
+        if (level < knownLevels) {
+            // Already computed on an earlier pass (we were restored backwards): replay the level
+            restoreTo(level + 1, levelStart[level + 2], levelBottomUp[level + 1], false);
+            emit(StepType.LEVEL, level, getFrontierSize(), bottomUp);
+            return;
+        }
+        chooseDirection();
+        int from = levelStart[level], to = levelStart[level + 1];
+        int next = level + 1;
+        int added = bottomUp ? expandBottomUp(from, to, next) : expandTopDown(from, to, next);
+        if (added == 0) {
+            done = true;
+            emit(StepType.DONE, level, 0);
+            return;
+        }
+        level = next;
+        knownLevels = level;
+        if (levelStart.length < level + 2) {
+            levelStart = Arrays.copyOf(levelStart, levelStart.length * 2);
+            levelBottomUp = Arrays.copyOf(levelBottomUp, levelStart.length);
+            examinedAt = Arrays.copyOf(examinedAt, levelStart.length);
+        }
+        levelStart[level + 1] = discovered;
+        levelBottomUp[level] = bottomUp;
+        examinedAt[level] = edgesExamined;
+        emit(StepType.LEVEL, level, added, bottomUp);
+    }
+
+    /** Expand all remaining levels muted and report throughput. */
+    public RunStats runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        long examinedBefore = edgesExamined;
+        // Nodes expanded by this call: the frontier on entry and all discovered after it
+        int firstExpanded = done ? discovered : levelStart[level];
+        long t0 = System.nanoTime();
+        while (!done) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        long traversed = 0;
+        for (int i = firstExpanded; i < discovered; i++) traversed += graph.degree(order[i]);
+        return new RunStats(level, discovered, traversed, edgesExamined - examinedBefore, nanos);
+    }
+
+    // Beamer's heuristic: m_f vs m_u / ALPHA going down, n_f vs n / BETA coming back.
+    // Bottom-up scans a node's own entries for a parent, so a directed graph stays top-down.
+    private void chooseDirection() {
+        int from = levelStart[level], to = levelStart[level + 1];
+        if (!graph.isSymmetric()) {
+            bottomUp = false;
+        } else if (!bottomUp) {
+            long frontierEntries = 0;
+            for (int i = from; i < to; i++) frontierEntries += graph.degree(order[i]);
+            if (frontierEntries > unexploredEntries / ALPHA) bottomUp = true;
+        } else if ((long) (to - from) * BETA < n) {
+            bottomUp = false;
+        }
+    }
+
+    private int expandTopDown(int from, int to, int next) {
+        int size = to - from;
+        int chunks = parallelism(workOf(from, to), size);
+        int[][] found = new int[chunks][];
+        long[] examined = new long[chunks];
+        Runnable work = () -> IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = from + (int) ((long) size * c / chunks), hi = from + (int) ((long) size * (c + 1) / chunks);
+            int[] local = new int[16];
+            int count = 0;
+            long checks = 0;
+            for (int i = lo; i < hi; i++) {
+                int u = order[i];
+                int deg = graph.degree(u);
+                checks += deg;
+                for (int k = 0; k < deg; k++) {
+                    int v = graph.neighbor(u, k);
+                    int d = (int) INTS.getVolatile(dist, v);
+                    if (d == -1) {
+                        if (INTS.compareAndSet(dist, v, -1, next)) {
+                            if (count == local.length) local = Arrays.copyOf(local, count * 2);
+                            local[count++] = v;
+                        }
+                        d = next; // claimed by us or by a racing chunk during this level
+                    }
+                    if (d == next) minParent(v, u);
+                }
+            }
+            found[c] = Arrays.copyOf(local, count);
+            examined[c] = checks;
+        });
+        if (chunks > 1) POOL.submit(work).join(); else work.run();
+        int base = discovered;
+        for (int c = 0; c < chunks; c++) {
+            System.arraycopy(found[c], 0, order, discovered, found[c].length);
+            discovered += found[c].length;
+            edgesExamined += examined[c];
+        }
+        if (discovered - base > PARALLEL_MIN_WORK) Arrays.parallelSort(order, base, discovered);
+        else Arrays.sort(order, base, discovered);
+        return commitLevel(base);
+    }
+
+    // Keep the smallest frontier neighbour as parent; -1 means none yet
+    private void minParent(int v, int u) {
+        while (true) {
+            int p = (int) INTS.getVolatile(parent, v);
+            if (p != -1 && p <= u) return;
+            if (INTS.compareAndSet(parent, v, p, u)) return;
+        }
+    }
+
+    private int expandBottomUp(int from, int to, int next) {
+        for (int i = from; i < to; i++) { int u = order[i]; frontierBits[u >>> 6] |= 1L << u; }
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        int[][] found = new int[blocks][];
+        long[] examined = new long[blocks];
+        Runnable work = () -> IntStream.range(0, blocks).parallel().forEach(b -> {
+            int lo = b * BLOCK, hi = Math.min(n, lo + BLOCK);
+            int[] local = new int[16];
+            int count = 0;
+            long checks = 0;
+            for (int v = lo; v < hi; v++) {
+                if (dist[v] != -1) continue;
+                int deg = graph.degree(v);
+                for (int k = 0; k < deg; k++) {
+                    int u = graph.neighbor(v, k);
+                    checks++;
+                    if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                        // Only this block writes v, and frontier membership is read-only here
+                        dist[v] = next;
+                        parent[v] = u;
+                        if (count == local.length) local = Arrays.copyOf(local, count * 2);
+                        local[count++] = v;
+                        break;
+                    }
+                }
+            }
+            found[b] = Arrays.copyOf(local, count);
+            examined[b] = checks;
+        });
+        if (n > PARALLEL_MIN_WORK) POOL.submit(work).join(); else work.run();
+        for (int i = from; i < to; i++) { int u = order[i]; frontierBits[u >>> 6] = 0; }
+        int base = discovered;
+        for (int b = 0; b < blocks; b++) {
+            System.arraycopy(found[b], 0, order, discovered, found[b].length);
+            discovered += found[b].length;
+            edgesExamined += examined[b];
+        }
+        return commitLevel(base);
+    }
+
+    // Record parents alongside the new level and update the unexplored edge count
+    private int commitLevel(int base) {
+        for (int i = base; i < discovered; i++) {
+            int v = order[i];
+            orderParent[i] = parent[v];
+            unexploredEntries -= graph.degree(v);
+        }
+        return discovered - base;
+    }
+
+    private long workOf(int from, int to) {
+        long w = 0;
+        for (int i = from; i < to; i++) w += graph.degree(order[i]);
+        return w;
+    }
+
+    private static int parallelism(long work, int items) {
+        if (work < PARALLEL_MIN_WORK || items < 2) return 1;
+        return Math.min(items, POOL.getParallelism() * 4);
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.level = level;
+        s.discovered = discovered;
+        s.bottomUp = bottomUp;
+        s.done = done;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (s.level > knownLevels || s.discovered > levelStart[knownLevels + 1]) {
+            throw new IllegalArgumentException("State does not belong to this solver's run");
+        }
+        restoreTo(s.level, s.discovered, s.bottomUp, s.done);
+    }
+
+    // Move the discovered prefix of `order` to `count` nodes, fixing dist/parent in O(distance)
+    private void restoreTo(int lvl, int count, boolean bu, boolean dn) {
+        for (int i = discovered - 1; i >= count; i--) {
+            int v = order[i];
+            dist[v] = -1;
+            parent[v] = -1;
+            unexploredEntries += graph.degree(v);
+        }
+        int l = 0;
+        for (int i = discovered; i < count; i++) {
+            while (levelStart[l + 1] <= i) l++;
+            int v = order[i];
+            dist[v] = l;
+            parent[v] = orderParent[i];
+            unexploredEntries -= graph.degree(v);
+        }
+        discovered = count;
+        level = lvl;
+        bottomUp = bu;
+        done = dn;
+        edgesExamined = examinedAt[lvl];
+    }
+
+    private void emit(StepType type, int lvl, int size) {
+        emit(type, lvl, size, bottomUp);
+    }
+
+    private void emit(StepType type, int lvl, int size, boolean bu) {
+        if (listener != null && !muted) listener.onStep(type, lvl, size, bu);
+    }
+
+    public String getCurrentStepDescription() {
+        if (done) return "BFS complete: " + discovered + " nodes in " + (level + 1) + " levels";
+        return "Level " + level + ", frontier " + getFrontierSize() + " (" + (bottomUp ? "bottom-up" : "top-down") + ")";
+    }
+}
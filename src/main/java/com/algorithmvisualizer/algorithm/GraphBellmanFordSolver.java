@@ -0,0 +1,266 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Step-wise Bellman-Ford single-source shortest paths over a weighted
+ * {@link CsrGraph}; negative weights are allowed.
+ *
+ * Each pass scans every reached node's edges in CSR order, and a step runs
+ * until the next relaxation that lowers a distance or the end of the pass.
+ * The run stops early after the first pass that changes nothing. If pass n - 1
+ * still changed something, pass n only checks: an edge that would still relax
+ * proves a negative cycle reachable from the source. On an undirected graph
+ * any reachable negative edge is such a cycle (u-v-u), which would otherwise
+ * only surface after n passes; so {@link #reset()} first looks, in one sweep
+ * from the source, for an edge u-v whose round trip u-v-u is negative, and if
+ * there is one the first step reports it as the cycle.
+ *
+ * State is written through an {@link IntJournal}, as in
+ * {@link GraphDijkstraSolver}.
+ */
+public class GraphBellmanFordSolver implements SteppableSolver<GraphBellmanFordSolver.State> {
+
+    public enum StepType { INIT, RELAX, PASS, NEGATIVE_CYCLE, DONE }
+
+    public interface StepListener {
+        /**
+         * RELAX(u, v) when dist[v] drops via u, PASS(pass number, distances
+         * lowered in it), NEGATIVE_CYCLE(u, v) for an edge still relaxable
+         * after n - 1 passes, or on the first step for a reachable negative
+         * round trip u-v-u.
+         */
+        void onStep(StepType type, int u, int v);
+    }
+
+    /** Journal position; valid for the solver run that produced it. */
+    public static class State {
+        public long position;
+        long steps;        // steps since reset, to replay to once the journal no longer reaches position
+        long journalBytes; // journal entries written since the previous snapshot
+
+        public long estimateBytes() { return StateSizes.OBJECT + 24 + journalBytes; }
+    }
+
+    private static final int PASS = 0, NODE = 1, CURSOR = 2, CHANGED = 3, DONE = 4, CYCLE_U = 5, CYCLE_V = 6;
+
+    private EdgeWeights weights = EdgeWeights.unit(CsrGraph.empty());
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    private int source = 0;
+    private int[] reg, parent;
+    private double[] dist;
+    private int rReg, rParent, rDist;
+    private IntJournal journal;
+    private long relaxations, improvements;
+    private int twoCycleU = -1, twoCycleV = -1; // reachable u-v-u of negative length, found by reset()
+
+    private StepListener listener;
+    private boolean muted;
+    private long steps;
+    private long lastSnapshot; // journal position of the newest snapshot
+
+    public GraphBellmanFordSolver(EdgeWeights weights, int source) { setGraph(weights, source); }
+
+    public void setGraph(EdgeWeights weights, int source) {
+        this.weights = weights;
+        this.graph = weights.graph();
+        this.n = graph.nodeCount();
+        this.source = Math.max(0, Math.min(source, n - 1));
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        reg = new int[7];
+        reg[PASS] = 1;
+        reg[CYCLE_U] = reg[CYCLE_V] = -1;
+        parent = new int[n];
+        Arrays.fill(parent, -1);
+        dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        if (n > 0) dist[source] = 0.0;
+        journal = new IntJournal();
+        steps = lastSnapshot = 0;
+        rReg = journal.register(reg);
+        rParent = journal.register(parent);
+        rDist = journal.registerDoubles(dist);
+        relaxations = improvements = 0;
+        twoCycleU = twoCycleV = -1;
+        if (n == 0) { reg[DONE] = 1; emit(StepType.DONE, -1, -1); return; }
+        if (weights.hasNegative()) findNegativeTwoCycle();
+        emit(StepType.INIT, source, -1);
+    }
+
+    // Breadth-first sweep from the source for an edge u-v with weight(u, v) + weight(v, u) < 0
+    private void findNegativeTwoCycle() {
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        seen[source] = true;
+        while (head < tail) {
+            int u = queue[head++];
+            int base = graph.rowStart(u), deg = graph.degree(u);
+            for (int i = 0; i < deg; i++) {
+                int v = graph.neighbor(u, i);
+                double w = weights.weight(base + i);
+                if (w < 0) {
+                    int back = graph.entryIndex(v, u);
+                    if (back >= 0 && w + weights.weight(back) < 0) { twoCycleU = u; twoCycleV = v; return; }
+                }
+                if (!seen[v]) { seen[v] = true; queue[tail++] = v; }
+            }
+        }
+    }
+
+    @Override
+    public boolean isDone() { return reg[DONE] != 0; }
+    public EdgeWeights getWeights() { return weights; }
+    public int getSource() { return source; }
+    public double getDistance(int v) { return dist[v]; }
+    public int getParent(int v) { return parent[v]; }
+    /** Current pass, from 1; pass n is the negative-cycle check. */
+    public int getPass() { return reg[PASS]; }
+    /** Node whose edges the current pass is scanning; n once the run is over. */
+    public int getCurrentNode() { return reg[NODE]; }
+    public boolean hasNegativeCycle() { return reg[CYCLE_U] >= 0; }
+
+    /**
+     * Nodes of a negative cycle in edge order (cycle[i] -> cycle[i + 1], the
+     * last back to the first) once one was found; empty otherwise. Walking n
+     * parent links back from the offending edge is guaranteed to land on it.
+     */
+    public int[] getNegativeCycle() {
+        int u = reg[CYCLE_U], v = reg[CYCLE_V];
+        if (u < 0) return new int[0];
+        int x = u;
+        for (int i = 1; i < n && x >= 0; i++) x = x == v ? u : parent[x];
+        if (x < 0) return new int[]{u, v};
+        int len = 1;
+        for (int y = x == v ? u : parent[x]; y != x; y = y == v ? u : parent[y]) {
+            if (y < 0 || len > n) return new int[]{u, v};
+            len++;
+        }
+        int[] cycle = new int[len];
+        int y = x;
+        for (int i = len - 1; i >= 0; i--) { cycle[i] = y; y = y == v ? u : parent[y]; }
+        return cycle;
+    }
+
+    @Override
+    public void step() {
+        if (isDone()) return;
+        steps++;
+        if (twoCycleU >= 0) {
+            set(rReg, CYCLE_U, twoCycleU);
+            set(rReg, CYCLE_V, twoCycleV);
+            set(rReg, DONE, 1);
+            emit(StepType.NEGATIVE_CYCLE, twoCycleU, twoCycleV);
+            emit(StepType.DONE, -1, -1);
+            return;
+        }
+        int pass = reg[PASS];
+        int i = reg[CURSOR];
+        for (int u = reg[NODE]; u < n; u++, i = 0) {
+            double du = dist[u];
+            if (du == Double.POSITIVE_INFINITY) continue;
+            int base = graph.rowStart(u), deg = graph.degree(u);
+            for (; i < deg; i++) {
+                int v = graph.neighbor(u, i);
+                relaxations++;
+                double nd = du + weights.weight(base + i);
+                if (!(nd < dist[v])) continue;
+                set(rReg, NODE, u);
+                set(rReg, CURSOR, i + 1);
+                if (pass == n) {
+                    set(rReg, CYCLE_U, u);
+                    set(rReg, CYCLE_V, v);
+                    set(rReg, DONE, 1);
+                    emit(StepType.NEGATIVE_CYCLE, u, v);
+                    emit(StepType.DONE, -1, -1);
+                    return;
+                }
+                improvements++;
+                journal.setDouble(rDist, v, nd);
+                set(rParent, v, u);
+                set(rReg, CHANGED, reg[CHANGED] + 1);
+                emit(StepType.RELAX, u, v);
+                return;
+            }
+        }
+        int changed = reg[CHANGED];
+        emit(StepType.PASS, pass, changed);
+        if (changed == 0 || pass == n) {
+            set(rReg, NODE, n);
+            set(rReg, DONE, 1);
+            emit(StepType.DONE, -1, -1);
+            return;
+        }
+        set(rReg, PASS, pass + 1);
+        set(rReg, NODE, 0);
+        set(rReg, CURSOR, 0);
+        set(rReg, CHANGED, 0);
+    }
+
+    private void set(int array, int index, int value) { journal.set(array, index, value); }
+
+    /** As {@link GraphDijkstraSolver#runToCompletion()}; heap operations are always 0. */
+    public WeightedRunStats runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        journal.clear(false);
+        long r0 = relaxations, i0 = improvements;
+        long t0 = System.nanoTime();
+        while (!isDone()) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        return new WeightedRunStats(relaxations - r0, improvements - i0, 0, nanos);
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = journal.position();
+        s.steps = steps;
+        s.journalBytes = IntJournal.bytesBetween(lastSnapshot, s.position);
+        lastSnapshot = s.position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (journal.canMoveTo(s.position)) {
+            journal.moveTo(s.position);
+            steps = s.steps;
+        } else {
+            replay(s.steps);
+        }
+        lastSnapshot = s.position;
+    }
+
+    // The journal was trimmed past the target or cleared by runToCompletion: run again from the start, silently
+    private void replay(long target) {
+        boolean wasMuted = muted;
+        muted = true;
+        reset();
+        while (steps < target && !isDone()) step();
+        muted = wasMuted;
+    }
+
+    private void emit(StepType type, int u, int v) {
+        if (listener != null && !muted) listener.onStep(type, u, v);
+    }
+
+    public String getCurrentStepDescription() {
+        if (hasNegativeCycle()) return "Negative cycle through edge " + reg[CYCLE_U] + "-" + reg[CYCLE_V];
+        if (isDone()) return "Bellman-Ford complete after " + reg[PASS] + " passes";
+        return "Pass " + reg[PASS] + (reg[PASS] == n ? " (cycle check)" : "") + ", node " + reg[NODE]
+                + ", " + reg[CHANGED] + " distances lowered";
+    }
+}
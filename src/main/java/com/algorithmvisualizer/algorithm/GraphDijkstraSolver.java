@@ -0,0 +1,205 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Step-wise Dijkstra single-source shortest paths over a weighted
+ * {@link CsrGraph}, for non-negative weights.
+ *
+ * The frontier is an {@link IndexedHeap}, so each node is queued at most once
+ * and an improved distance is a decrease-key rather than a stale duplicate
+ * entry. A step settles the closest queued node, or relaxes the settled node's
+ * next improving edge; edges that improve nothing are skipped within the step.
+ * Distances, parents and the heap are written through an {@link IntJournal},
+ * so snapshots are O(1) as in {@link TarjanSCCSolver}.
+ */
+public class GraphDijkstraSolver implements SteppableSolver<GraphDijkstraSolver.State> {
+
+    public enum StepType { INIT, SETTLE, RELAX, DONE }
+
+    public interface StepListener {
+        /** SETTLE(u, parent of u or -1), RELAX(u, v) when dist[v] drops via u. */
+        void onStep(StepType type, int u, int v);
+    }
+
+    /** Journal position; valid for the solver run that produced it. */
+    public static class State {
+        public long position;
+        long steps;        // steps since reset, to replay to once the journal no longer reaches position
+        long journalBytes; // journal entries written since the previous snapshot
+
+        public long estimateBytes() { return StateSizes.OBJECT + 24 + journalBytes; }
+    }
+
+    private static final int CURRENT = 0, CURSOR = 1, SETTLED = 2, DONE = 3;
+
+    private EdgeWeights weights = EdgeWeights.unit(CsrGraph.empty());
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    private int source = 0;
+    private int[] reg, parent, settled;
+    private double[] dist;
+    private int rReg, rParent, rSettled;
+    private IntJournal journal;
+    private IndexedHeap heap;
+    private long relaxations, improvements;
+
+    private StepListener listener;
+    private boolean muted;
+    private long steps;
+    private long lastSnapshot; // journal position of the newest snapshot
+
+    public GraphDijkstraSolver(EdgeWeights weights, int source) { setGraph(weights, source); }
+
+    /** @throws IllegalArgumentException if any weight is negative */
+    public void setGraph(EdgeWeights weights, int source) {
+        if (weights.hasNegative()) throw new IllegalArgumentException("Dijkstra needs non-negative edge weights; use Bellman-Ford");
+        this.weights = weights;
+        this.graph = weights.graph();
+        this.n = graph.nodeCount();
+        this.source = Math.max(0, Math.min(source, n - 1));
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        reg = new int[4];
+        reg[CURRENT] = -1;
+        parent = new int[n];
+        Arrays.fill(parent, -1);
+        settled = new int[n];
+        dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        journal = new IntJournal();
+        steps = lastSnapshot = 0;
+        rReg = journal.register(reg);
+        rParent = journal.register(parent);
+        rSettled = journal.register(settled);
+        heap = new IndexedHeap(journal, n, dist, journal.registerDoubles(dist));
+        relaxations = improvements = 0;
+        if (n == 0) { reg[DONE] = 1; emit(StepType.DONE, -1, -1); return; }
+        heap.update(source, 0.0);
+        journal.clear(true); // the queued source is the starting point, not an undoable write
+        emit(StepType.INIT, source, -1);
+    }
+
+    @Override
+    public boolean isDone() { return reg[DONE] != 0; }
+    public EdgeWeights getWeights() { return weights; }
+    public int getSource() { return source; }
+    /** Tentative distance; final once v is settled, infinite while unreached. */
+    public double getDistance(int v) { return dist[v]; }
+    public int getParent(int v) { return parent[v]; }
+    public boolean isSettled(int v) { return settled[v] != 0; }
+    public int getSettledCount() { return reg[SETTLED]; }
+    public int getQueueSize() { return heap.size(); }
+    /** Settled node whose edges are being relaxed, or -1 between nodes. */
+    public int getCurrentNode() { return reg[CURRENT]; }
+
+    /** Nodes from the source to {@code target} along parent links, or an empty array if unreached. */
+    public int[] getPath(int target) {
+        if (target < 0 || target >= n || dist[target] == Double.POSITIVE_INFINITY) return new int[0];
+        int len = 1;
+        for (int v = target; parent[v] >= 0; v = parent[v]) len++;
+        int[] path = new int[len];
+        for (int v = target, i = len - 1; i >= 0; v = parent[v], i--) path[i] = v;
+        return path;
+    }
+
+    @Override
+    public void step() {
+        if (isDone()) return;
+        steps++;
+        int u = reg[CURRENT];
+        if (u >= 0) {
+            int base = graph.rowStart(u), deg = graph.degree(u);
+            double du = dist[u];
+            for (int i = reg[CURSOR]; i < deg; i++) {
+                int v = graph.neighbor(u, i);
+                if (settled[v] != 0) continue;
+                relaxations++;
+                double nd = du + weights.weight(base + i);
+                if (nd < dist[v]) {
+                    improvements++;
+                    set(rReg, CURSOR, i + 1);
+                    set(rParent, v, u);
+                    heap.update(v, nd);
+                    emit(StepType.RELAX, u, v);
+                    return;
+                }
+            }
+            set(rReg, CURRENT, -1);
+        }
+        if (heap.isEmpty()) { set(rReg, DONE, 1); emit(StepType.DONE, -1, -1); return; }
+        int v = heap.poll();
+        set(rSettled, v, 1);
+        set(rReg, SETTLED, reg[SETTLED] + 1);
+        set(rReg, CURRENT, v);
+        set(rReg, CURSOR, 0);
+        emit(StepType.SETTLE, v, parent[v]);
+    }
+
+    private void set(int array, int index, int value) { journal.set(array, index, value); }
+
+    /**
+     * Finish the run muted and without journaling. Snapshots taken earlier in
+     * the run are then restored by replaying from the start.
+     */
+    public WeightedRunStats runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        journal.clear(false);
+        long r0 = relaxations, i0 = improvements, h0 = heap.ops;
+        long t0 = System.nanoTime();
+        while (!isDone()) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        return new WeightedRunStats(relaxations - r0, improvements - i0, heap.ops - h0, nanos);
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = journal.position();
+        s.steps = steps;
+        s.journalBytes = IntJournal.bytesBetween(lastSnapshot, s.position);
+        lastSnapshot = s.position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (journal.canMoveTo(s.position)) {
+            journal.moveTo(s.position);
+            steps = s.steps;
+        } else {
+            replay(s.steps);
+        }
+        lastSnapshot = s.position;
+    }
+
+    // The journal was trimmed past the target or cleared by runToCompletion: run again from the start, silently
+    private void replay(long target) {
+        boolean wasMuted = muted;
+        muted = true;
+        reset();
+        while (steps < target && !isDone()) step();
+        muted = wasMuted;
+    }
+
+    private void emit(StepType type, int u, int v) {
+        if (listener != null && !muted) listener.onStep(type, u, v);
+    }
+
+    public String getCurrentStepDescription() {
+        if (isDone()) return "Dijkstra complete: " + reg[SETTLED] + " nodes reached from " + source;
+        int u = reg[CURRENT];
+        if (u < 0) return "Queue: " + heap.size() + " nodes";
+        return "Relaxing edges of " + u + ", dist=" + EdgeWeights.format(dist[u]) + ", queue=" + heap.size();
+    }
+}
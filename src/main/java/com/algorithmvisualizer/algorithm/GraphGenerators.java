@@ -0,0 +1,221 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded random and structured graph generators producing undirected
+ * {@link CsrGraph}s for stress-testing the traversal engines.
+ *
+ * Generators emit edges into independent chunks, one per block of nodes. Each
+ * block has its own {@link SplittableRandom}, split in block order from the
+ * seeded root, so the result depends only on the seed and not on thread
+ * scheduling. The chunks go straight into {@link GraphLoader#build}, whose
+ * per-row radix sort also removes duplicate edges, so no generator needs a
+ * hash set or {@code contains} check.
+ */
+public final class GraphGenerators {
+
+    private static final int BLOCKS = 256;
+
+    private GraphGenerators() {}
+
+    /**
+     * Erdős–Rényi G(n, p). Each row u skips over candidates v > u by geometric
+     * gaps (Batagelj-Brandes), so the cost is proportional to the number of
+     * edges, not n^2.
+     */
+    public static CsrGraph erdosRenyi(int n, double p, long seed) {
+        if (n <= 1 || p <= 0) return CsrGraph.fromEdges(Math.max(0, n), new int[0], new int[0], 0, true);
+        double logQ = p >= 1 ? 0 : Math.log(1 - p);
+        return build(n, seed, (lo, hi, rnd, out) -> {
+            for (int u = lo; u < hi; u++) {
+                long v = u;
+                while (true) {
+                    long skip = logQ == 0 ? 0 : (long) Math.floor(Math.log(1 - rnd.nextDouble()) / logQ);
+                    v += 1 + skip;
+                    if (v >= n) break;
+                    out.add(u, (int) v);
+                }
+            }
+        });
+    }
+
+    /**
+     * Barabási–Albert preferential attachment: each new node links to
+     * {@code m} earlier nodes chosen proportionally to degree, by sampling
+     * from the list of all edge endpoints so far. Each node's choice depends on
+     * all earlier ones, so sampling is sequential; the CSR build is parallel.
+     */
+    public static CsrGraph barabasiAlbert(int n, int m, long seed) {
+        m = Math.max(1, m);
+        if (n <= m) return complete(Math.max(0, n));
+        SplittableRandom rnd = new SplittableRandom(seed);
+        GraphLoader.EdgeChunk out = new GraphLoader.EdgeChunk();
+        long slots = 2L * ((long) m * (m + 1) / 2 + (long) (n - m - 1) * m);
+        int[] endpoints = new int[(int) Math.min(Integer.MAX_VALUE - 8, slots)];
+        int size = 0;
+        // Seed with a clique on m + 1 nodes
+        for (int u = 0; u <= m; u++) {
+            for (int v = u + 1; v <= m; v++) { out.add(u, v); endpoints[size++] = u; endpoints[size++] = v; }
+        }
+        int[] picked = new int[m];
+        for (int u = m + 1; u < n; u++) {
+            int base = size;
+            for (int k = 0; k < m; k++) {
+                int v;
+                boolean dup;
+                do {
+                    v = endpoints[rnd.nextInt(base)];
+                    dup = false;
+                    for (int j = 0; j < k; j++) if (picked[j] == v) { dup = true; break; }
+                } while (dup);
+                picked[k] = v;
+                out.add(u, v);
+                endpoints[size++] = u;
+                endpoints[size++] = v;
+            }
+        }
+        GraphLoader.EdgeList edges = new GraphLoader.EdgeList();
+        edges.chunks.add(out);
+        return GraphLoader.build(n, edges, true);
+    }
+
+    /**
+     * Random geometric graph: n points uniform in the unit square, joined when
+     * closer than {@code radius}. Points are bucketed into a grid of
+     * radius-sized cells, and each cell is only compared with itself and its
+     * forward neighbours.
+     */
+    public static CsrGraph randomGeometric(int n, double radius, long seed) {
+        if (n <= 0) return CsrGraph.empty();
+        double[] xs = new double[n], ys = new double[n];
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] rnds = splits(root, BLOCKS);
+        IntStream.range(0, BLOCKS).parallel().forEach(b -> {
+            for (int i = lo(b, n); i < lo(b + 1, n); i++) { xs[i] = rnds[b].nextDouble(); ys[i] = rnds[b].nextDouble(); }
+        });
+        int g = (int) Math.max(1, Math.min(Math.floor(1 / Math.max(radius, 1e-9)), Math.sqrt(n) * 4));
+        int cells = g * g;
+        // Counting sort of points by cell
+        int[] cellOf = new int[n];
+        int[] start = new int[cells + 1];
+        for (int i = 0; i < n; i++) {
+            int c = Math.min(g - 1, (int) (ys[i] * g)) * g + Math.min(g - 1, (int) (xs[i] * g));
+            cellOf[i] = c;
+            start[c + 1]++;
+        }
+        for (int c = 0; c < cells; c++) start[c + 1] += start[c];
+        int[] fill = Arrays.copyOf(start, cells);
+        int[] members = new int[n];
+        for (int i = 0; i < n; i++) members[fill[cellOf[i]]++] = i;
+        double r2 = radius * radius;
+        return buildOver(n, cells, (lo, hi, rnd, out) -> {
+            for (int c = lo; c < hi; c++) {
+                int cy = c / g, cx = c % g;
+                // Self, right, and the three cells below
+                for (int d = 0; d < 5; d++) {
+                    int nx = cx + (d == 0 ? 0 : d == 1 ? 1 : d - 3), ny = cy + (d <= 1 ? 0 : 1);
+                    if (nx < 0 || nx >= g || ny >= g) continue;
+                    int o = ny * g + nx;
+                    for (int a = start[c]; a < start[c + 1]; a++) {
+                        int i = members[a];
+                        for (int b = (o == c ? a + 1 : start[o]); b < start[o + 1]; b++) {
+                            int j = members[b];
+                            double dx = xs[i] - xs[j], dy = ys[i] - ys[j];
+                            if (dx * dx + dy * dy <= r2) out.add(i, j);
+                        }
+                    }
+                }
+            }
+        }, seed);
+    }
+
+    /** rows x cols grid with 4-neighbour edges; {@code torus} wraps both dimensions. */
+    public static CsrGraph grid(int rows, int cols, boolean torus) {
+        rows = Math.max(1, rows);
+        cols = Math.max(1, cols);
+        final int rs = rows, cs = cols;
+        return buildOver(rows * cols, rows, (lo, hi, rnd, out) -> {
+            for (int r = lo; r < hi; r++) {
+                for (int c = 0; c < cs; c++) {
+                    int u = r * cs + c;
+                    if (c + 1 < cs) out.add(u, u + 1); else if (torus && cs > 1) out.add(u, r * cs);
+                    if (r + 1 < rs) out.add(u, u + cs); else if (torus && rs > 1) out.add(u, c);
+                }
+            }
+        }, 0);
+    }
+
+    /** Connected random graph: a random spanning tree plus {@code extra} uniform edges. */
+    public static CsrGraph randomConnected(int n, int extra, long seed) {
+        if (n <= 0) return CsrGraph.empty();
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        for (int i = n - 1; i > 0; i--) { int j = rnd.nextInt(i + 1); int t = order[i]; order[i] = order[j]; order[j] = t; }
+        GraphLoader.EdgeChunk out = new GraphLoader.EdgeChunk();
+        for (int i = 1; i < n; i++) out.add(order[i], order[rnd.nextInt(i)]);
+        for (int k = 0; k < extra; k++) out.add(rnd.nextInt(n), rnd.nextInt(n)); // self-loops are dropped by build
+        GraphLoader.EdgeList edges = new GraphLoader.EdgeList();
+        edges.chunks.add(out);
+        return GraphLoader.build(n, edges, true);
+    }
+
+    /** A directed graph keeping one random direction of every edge of the undirected {@code graph}. */
+    public static CsrGraph randomOrientation(CsrGraph graph, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        GraphLoader.EdgeChunk out = new GraphLoader.EdgeChunk();
+        graph.forEachUndirectedEdge((u, v) -> {
+            if (rnd.nextBoolean()) out.add(u, v); else out.add(v, u);
+        });
+        GraphLoader.EdgeList edges = new GraphLoader.EdgeList();
+        edges.chunks.add(out);
+        return GraphLoader.build(graph.nodeCount(), edges, false);
+    }
+
+    private static CsrGraph complete(int n) {
+        GraphLoader.EdgeChunk out = new GraphLoader.EdgeChunk();
+        for (int u = 0; u < n; u++) for (int v = u + 1; v < n; v++) out.add(u, v);
+        GraphLoader.EdgeList edges = new GraphLoader.EdgeList();
+        edges.chunks.add(out);
+        return GraphLoader.build(n, edges, true);
+    }
+
+    // ---- Parallel scaffolding ----
+
+    private interface BlockGenerator {
+        /** Emit the edges owned by items [lo, hi) into {@code out}. */
+        void generate(int lo, int hi, SplittableRandom rnd, GraphLoader.EdgeChunk out);
+    }
+
+    private static CsrGraph build(int n, long seed, BlockGenerator gen) {
+        return buildOver(n, n, gen, seed);
+    }
+
+    // Split `items` into blocks generated in parallel, each with its own RNG, then build the CSR graph
+    private static CsrGraph buildOver(int n, int items, BlockGenerator gen, long seed) {
+        int blocks = Math.max(1, Math.min(BLOCKS, items));
+        SplittableRandom[] rnds = splits(new SplittableRandom(seed), blocks);
+        GraphLoader.EdgeChunk[] chunks = new GraphLoader.EdgeChunk[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            GraphLoader.EdgeChunk out = new GraphLoader.EdgeChunk();
+            gen.generate(lo(b, items, blocks), lo(b + 1, items, blocks), rnds[b], out);
+            chunks[b] = out;
+        });
+        GraphLoader.EdgeList edges = new GraphLoader.EdgeList();
+        edges.chunks.addAll(Arrays.asList(chunks));
+        return GraphLoader.build(n, edges, true);
+    }
+
+    private static SplittableRandom[] splits(SplittableRandom root, int count) {
+        SplittableRandom[] out = new SplittableRandom[count];
+        for (int i = 0; i < count; i++) out[i] = root.split();
+        return out;
+    }
+
+    private static int lo(int block, int items) { return lo(block, items, BLOCKS); }
+
+    private static int lo(int block, int items, int blocks) { return (int) ((long) items * block / blocks); }
+}
@@ -0,0 +1,509 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Loads large graphs into {@link CsrGraph}.
+ *
+ * Two formats are read:
+ * <ul>
+ *   <li>Edge lists (SNAP style): one edge per line as two 0-based node ids, any
+ *       non-digit separators, an optional numeric weight as the third column,
+ *       further columns ignored, lines starting with # or % skipped.</li>
+ *   <li>Matrix Market coordinate files: 1-based "i j [value]" entries after the
+ *       banner and size line, the value read as the weight; "symmetric" files
+ *       are loaded as undirected.</li>
+ * </ul>
+ * The file is memory-mapped and split at line boundaries into one segment per
+ * core. Each segment is parsed straight from the mapped bytes, with no Strings
+ * per number. The CSR arrays are then built in parallel: a counting sort by
+ * source with per-lane cursors, a radix sort of each row, and in-place removal
+ * of duplicates and self-loops.
+ */
+public final class GraphLoader {
+
+    private static final long MIN_SEGMENT_BYTES = 4L << 20;
+    private static final long MAX_MAP_BYTES = 1L << 30;
+    private static final int INSERTION_SORT_MAX = 48;
+    private static final int RADIX_BITS = 11;
+    private static final long HISTOGRAM_BUDGET_BYTES = Math.min(32L << 20, Runtime.getRuntime().maxMemory() / 32);
+
+    private GraphLoader() {}
+
+    /** Parsed edges, kept in the per-segment chunks they were read into. */
+    public static final class EdgeList {
+        public final List<EdgeChunk> chunks = new ArrayList<>();
+        /** Largest node id seen, -1 if there are no edges. */
+        public int maxId = -1;
+        /** Node count from a Matrix Market size line, -1 for edge lists. */
+        public int declaredNodes = -1;
+        /** True for Matrix Market files declared symmetric. */
+        public boolean symmetric;
+
+        public long count() {
+            long m = 0;
+            for (EdgeChunk c : chunks) m += c.count;
+            return m;
+        }
+
+        /** Node count implied by the data: the declared size or the largest id + 1. */
+        public int nodeCount() { return Math.max(declaredNodes, maxId + 1); }
+    }
+
+    /** Edges {@code from[i] -> to[i]} for {@code i < count}. */
+    public static final class EdgeChunk {
+        public int[] from = new int[1024];
+        public int[] to = new int[1024];
+        /** Edge weights, or null while every edge so far has weight 1. */
+        public double[] weight;
+        public int count;
+        int maxId = -1;
+
+        void add(int u, int v) {
+            if (count == from.length) {
+                from = Arrays.copyOf(from, count * 2);
+                to = Arrays.copyOf(to, count * 2);
+            }
+            if (weight != null) {
+                if (weight.length < from.length) weight = Arrays.copyOf(weight, from.length);
+                weight[count] = 1.0;
+            }
+            from[count] = u;
+            to[count] = v;
+            count++;
+            if (u > maxId) maxId = u;
+            if (v > maxId) maxId = v;
+        }
+
+        void add(int u, int v, double w) {
+            add(u, v);
+            if (weight == null) {
+                if (w == 1.0) return;
+                weight = new double[from.length];
+                Arrays.fill(weight, 0, count, 1.0);
+            }
+            weight[count - 1] = w;
+        }
+    }
+
+    /** Load a file; edge lists are treated as undirected when {@code undirected} is set. */
+    public static CsrGraph load(Path file, boolean undirected) throws IOException {
+        EdgeList edges = read(file);
+        return build(edges.nodeCount(), edges, undirected || edges.symmetric);
+    }
+
+    /** As {@link #load}, keeping the weight column (weight 1 where the file has none). */
+    public static EdgeWeights loadWeighted(Path file, boolean undirected) throws IOException {
+        EdgeList edges = read(file);
+        boolean und = undirected || edges.symmetric;
+        return EdgeWeights.fromEdges(build(edges.nodeCount(), edges, und), edges, und);
+    }
+
+    public static EdgeList read(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            EdgeList out = new EdgeList();
+            long dataStart = 0;
+            boolean oneBased = false;
+            if (startsWith(ch, "%%MatrixMarket")) {
+                dataStart = readMatrixMarketHeader(ch, out);
+                oneBased = true;
+            }
+            long[] bounds = segmentBounds(ch, dataStart, size);
+            int segments = bounds.length - 1;
+            EdgeChunk[] chunks = new EdgeChunk[segments];
+            final boolean base1 = oneBased;
+            try {
+                IntStream.range(0, segments).parallel().forEach(k -> {
+                    try {
+                        chunks[k] = parseSegment(ch, bounds[k], bounds[k + 1], base1);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            for (EdgeChunk c : chunks) {
+                out.chunks.add(c);
+                if (c.maxId > out.maxId) out.maxId = c.maxId;
+            }
+            return out;
+        }
+    }
+
+    /**
+     * Parse edges from in-memory text such as "0-1, 1-2:2.5; 2 3 -1". Commas,
+     * semicolons and newlines separate edges; any other non-digit separates the
+     * two ids of an edge and the optional weight after them.
+     */
+    public static EdgeList parse(CharSequence text) throws IOException {
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        Parser p = new Parser(false, true);
+        p.feed(ByteBuffer.wrap(bytes), 0);
+        p.finish();
+        EdgeList out = new EdgeList();
+        out.chunks.add(p.chunk);
+        out.maxId = p.chunk.maxId;
+        return out;
+    }
+
+    /**
+     * Build a CSR graph on {@code n} nodes. Edges with an endpoint outside
+     * [0, n) are dropped; rows come out sorted and free of duplicates and
+     * self-loops.
+     */
+    public static CsrGraph build(int n, EdgeList edges, boolean undirected) {
+        n = Math.max(0, n);
+        final int nodes = n;
+        List<EdgeChunk> chunks = edges.chunks;
+
+        // Counting sort by source. Each lane counts and scatters its own chunks with
+        // private per-node cursors, so no atomics are needed. Lanes are capped by the core
+        // count and so that their cursor arrays fit HISTOGRAM_BUDGET_BYTES; one lane always runs.
+        long laneBytes = 4L * Math.max(1, n);
+        int lanes = (int) Math.max(1, Math.min(Math.min(chunks.size(), Runtime.getRuntime().availableProcessors()),
+                HISTOGRAM_BUDGET_BYTES / laneBytes));
+        int[][] cursor = new int[lanes][];
+        IntStream.range(0, lanes).parallel().forEach(l -> {
+            int[] hist = new int[nodes];
+            for (int c = l; c < chunks.size(); c += lanes) {
+                EdgeChunk ch = chunks.get(c);
+                for (int i = 0; i < ch.count; i++) {
+                    int u = ch.from[i], v = ch.to[i];
+                    if (u < 0 || v < 0 || u >= nodes || v >= nodes) continue;
+                    hist[u]++;
+                    if (undirected) hist[v]++;
+                }
+            }
+            cursor[l] = hist;
+        });
+        int[] offsets = new int[n + 1];
+        for (int[] hist : cursor) {
+            for (int u = 0; u < n; u++) offsets[u + 1] += hist[u];
+        }
+        Arrays.parallelPrefix(offsets, Math::addExact);
+        // Turn the lane histograms into write positions: lane l starts after lanes 0..l-1 in each row
+        IntStream.range(0, n).parallel().forEach(u -> {
+            int pos = offsets[u];
+            for (int[] hist : cursor) { int c = hist[u]; hist[u] = pos; pos += c; }
+        });
+        int[] targets = new int[offsets[n]];
+        IntStream.range(0, lanes).parallel().forEach(l -> {
+            int[] at = cursor[l];
+            for (int c = l; c < chunks.size(); c += lanes) {
+                EdgeChunk ch = chunks.get(c);
+                for (int i = 0; i < ch.count; i++) {
+                    int u = ch.from[i], v = ch.to[i];
+                    if (u < 0 || v < 0 || u >= nodes || v >= nodes) continue;
+                    targets[at[u]++] = v;
+                    if (undirected) targets[at[v]++] = u;
+                }
+            }
+        });
+
+        // Sort and deduplicate every row in place, recording the surviving length
+        int[] kept = new int[n + 1];
+        int[][] blocks = rowBlocks(offsets, n);
+        IntStream.range(0, blocks.length).parallel().forEach(b -> {
+            int[] scratch = new int[0];
+            for (int u = blocks[b][0]; u < blocks[b][1]; u++) {
+                int s = offsets[u], e = offsets[u + 1];
+                if (e - s > scratch.length && e - s > INSERTION_SORT_MAX) scratch = new int[e - s];
+                sortRow(targets, s, e, scratch, nodes);
+                int w = s, last = -1;
+                for (int k = s; k < e; k++) {
+                    int v = targets[k];
+                    if (v == last || v == u) continue;
+                    targets[w++] = v;
+                    last = v;
+                }
+                kept[u + 1] = w - s;
+            }
+        });
+
+        // Compact rows into the final arrays
+        Arrays.parallelPrefix(kept, Integer::sum);
+        int[] compact = new int[kept[n]];
+        IntStream.range(0, blocks.length).parallel().forEach(b -> {
+            for (int u = blocks[b][0]; u < blocks[b][1]; u++) {
+                System.arraycopy(targets, offsets[u], compact, kept[u], kept[u + 1] - kept[u]);
+            }
+        });
+        return CsrGraph.ofNormalized(n, kept, compact);
+    }
+
+    // ---- File layout ----
+
+    private static boolean startsWith(FileChannel ch, String prefix) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(prefix.length());
+        ch.read(buf, 0);
+        return new String(buf.array(), 0, buf.position(), StandardCharsets.US_ASCII).equalsIgnoreCase(prefix);
+    }
+
+    /** Parse the banner, comments and size line; returns the offset of the first entry. */
+    private static long readMatrixMarketHeader(FileChannel ch, EdgeList out) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        long pos = 0;
+        StringBuilder line = new StringBuilder();
+        boolean first = true;
+        while (true) {
+            buf.clear();
+            int r = ch.read(buf, pos);
+            if (r <= 0) throw new IOException("Matrix Market file has no size line");
+            buf.flip();
+            while (buf.hasRemaining()) {
+                char c = (char) (buf.get() & 0xff);
+                pos++;
+                if (c != '\n') { line.append(c); continue; }
+                String l = line.toString().trim();
+                line.setLength(0);
+                if (first) {
+                    first = false;
+                    String banner = l.toLowerCase();
+                    if (!banner.contains("coordinate")) throw new IOException("Only coordinate Matrix Market files are supported");
+                    out.symmetric = banner.contains("symmetric") || banner.contains("hermitian");
+                    continue;
+                }
+                if (l.isEmpty() || l.startsWith("%")) continue;
+                String[] dims = l.split("\\s+");
+                if (dims.length < 2) throw new IOException("Bad Matrix Market size line: " + l);
+                try {
+                    out.declaredNodes = Math.max(Integer.parseInt(dims[0]), Integer.parseInt(dims[1]));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Bad Matrix Market size line: " + l, e);
+                }
+                return pos;
+            }
+        }
+    }
+
+    // Split [start, end) into per-core segments that begin at line starts
+    private static long[] segmentBounds(FileChannel ch, long start, long end) throws IOException {
+        long len = end - start;
+        int parts = (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), len / MIN_SEGMENT_BYTES));
+        long[] bounds = new long[parts + 1];
+        bounds[0] = start;
+        bounds[parts] = end;
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        for (int k = 1; k < parts; k++) {
+            long pos = Math.max(bounds[k - 1], start + len * k / parts);
+            bounds[k] = end;
+            search:
+            while (pos < end) {
+                buf.clear();
+                int r = ch.read(buf, pos);
+                if (r <= 0) break;
+                for (int i = 0; i < r; i++) {
+                    if (buf.get(i) == '\n') { bounds[k] = pos + i + 1; break search; }
+                }
+                pos += r;
+            }
+        }
+        return bounds;
+    }
+
+    private static EdgeChunk parseSegment(FileChannel ch, long from, long to, boolean oneBased) throws IOException {
+        Parser p = new Parser(oneBased, false);
+        if (to - from > MIN_SEGMENT_BYTES) {
+            int guess = (int) Math.min(Integer.MAX_VALUE - 8, (to - from) / 12);
+            p.chunk.from = new int[guess];
+            p.chunk.to = new int[guess];
+        }
+        for (long pos = from; pos < to; pos += MAX_MAP_BYTES) {
+            long len = Math.min(MAX_MAP_BYTES, to - pos);
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            p.feed(map, pos);
+        }
+        p.finish();
+        return p.chunk;
+    }
+
+    /**
+     * Byte-level state machine: numbers are accumulated digit by digit, the
+     * first two numbers of a record form the edge, the third (which may be
+     * signed, fractional or in exponent form) is its weight and the rest of the
+     * record is ignored. State carries across buffers, so records may span
+     * mapped regions.
+     */
+    private static final class Parser {
+        final EdgeChunk chunk = new EdgeChunk();
+        private final boolean oneBased;
+        private final boolean commaSeparatesRecords;
+        private long number;
+        private boolean inNumber;
+        private boolean comment;
+        private int fields;
+        private long a, b;
+        private long line = 1;
+        // Weight column: mantissa digits, digits after the point, exponent
+        private long mantissa;
+        private int fractionDigits, exponent, weightPart; // weightPart: 0 integer, 1 fraction, 2 exponent
+        private boolean negative, negativeExponent;
+        private double weight = 1.0;
+
+        Parser(boolean oneBased, boolean commaSeparatesRecords) {
+            this.oneBased = oneBased;
+            this.commaSeparatesRecords = commaSeparatesRecords;
+        }
+
+        void feed(ByteBuffer buf, long basePos) throws IOException {
+            int limit = buf.limit();
+            for (int i = buf.position(); i < limit; i++) {
+                int c = buf.get(i);
+                if (comment) {
+                    if (c == '\n') { comment = false; line++; }
+                    continue;
+                }
+                if (c >= '0' && c <= '9') {
+                    if (fields < 2) {
+                        number = number * 10 + (c - '0');
+                        if (number > Integer.MAX_VALUE) throw new IOException("Node id too large on line " + line);
+                    } else if (fields == 2) {
+                        weightDigit(c - '0');
+                    }
+                    inNumber = true;
+                    continue;
+                }
+                if (fields == 2 && weightSyntax(c)) continue;
+                if (inNumber) endNumber();
+                if (c == '\n') {
+                    endRecord();
+                    line++;
+                } else if (commaSeparatesRecords && (c == ',' || c == ';')) {
+                    endRecord();
+                } else if ((c == '#' || c == '%') && fields == 0) {
+                    comment = true;
+                } else if (c == '.' || c == 'e' || c == 'E') {
+                    // Fractional or exponent part of a value column: skip to the end of the record
+                    if (fields < 2) throw new IOException("Non-integer node id on line " + line);
+                    fields = 3;
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            if (inNumber) endNumber();
+            endRecord();
+        }
+
+        private void weightDigit(int d) {
+            if (weightPart == 2) {
+                exponent = Math.min(exponent * 10 + d, 999);
+            } else if (mantissa < 100_000_000_000_000_000L) {
+                mantissa = mantissa * 10 + d;
+                if (weightPart == 1) fractionDigits++;
+            } else if (weightPart == 0) {
+                fractionDigits--; // beyond 18 significant digits, keep the magnitude only
+            }
+        }
+
+        // Sign, decimal point and exponent marker inside the weight column
+        private boolean weightSyntax(int c) {
+            if (c == '.' && weightPart == 0) { weightPart = 1; inNumber = true; return true; }
+            if ((c == 'e' || c == 'E') && inNumber && weightPart < 2) { weightPart = 2; return true; }
+            if (c == '-' || c == '+') {
+                if (!inNumber && weightPart == 0) { negative = c == '-'; return true; }
+                if (weightPart == 2 && exponent == 0) { negativeExponent = c == '-'; return true; }
+            }
+            return false;
+        }
+
+        private void endNumber() {
+            if (fields == 0) a = number;
+            else if (fields == 1) b = number;
+            else if (fields == 2) endWeight();
+            fields++;
+            number = 0;
+            inNumber = false;
+        }
+
+        private void endWeight() {
+            int scale = (negativeExponent ? -exponent : exponent) - fractionDigits;
+            double w = scale >= 0 ? mantissa * Math.pow(10, scale) : mantissa / Math.pow(10, -scale);
+            weight = negative ? -w : w;
+            mantissa = 0;
+            fractionDigits = 0;
+            exponent = 0;
+            weightPart = 0;
+            negative = false;
+            negativeExponent = false;
+        }
+
+        private void endRecord() throws IOException {
+            if (fields == 1) throw new IOException("Edge with a single node id on line " + line);
+            if (fields >= 2) {
+                int u = (int) a, v = (int) b;
+                if (oneBased) {
+                    if (u == 0 || v == 0) throw new IOException("Zero index in 1-based file on line " + line);
+                    u--;
+                    v--;
+                }
+                if (fields >= 3) chunk.add(u, v, weight);
+                else chunk.add(u, v);
+            }
+            fields = 0;
+            weight = 1.0;
+            negative = false;
+        }
+    }
+
+    // ---- Row sorting ----
+
+    // Contiguous row ranges with roughly equal numbers of entries, several per core
+    private static int[][] rowBlocks(int[] offsets, int n) {
+        int want = Math.max(1, Math.min(n, Runtime.getRuntime().availableProcessors() * 8));
+        long per = Math.max(1, (long) offsets[n] / want);
+        List<int[]> out = new ArrayList<>();
+        int from = 0;
+        for (int u = 0; u < n; u++) {
+            if (offsets[u + 1] - offsets[from] >= per || u - from >= 65536) {
+                out.add(new int[]{from, u + 1});
+                from = u + 1;
+            }
+        }
+        if (from < n) out.add(new int[]{from, n});
+        return out.toArray(new int[0][]);
+    }
+
+    private static void sortRow(int[] a, int from, int to, int[] scratch, int n) {
+        int len = to - from;
+        if (len <= INSERTION_SORT_MAX) {
+            for (int i = from + 1; i < to; i++) {
+                int x = a[i], j = i - 1;
+                while (j >= from && a[j] > x) { a[j + 1] = a[j]; j--; }
+                a[j + 1] = x;
+            }
+            return;
+        }
+        // LSD radix sort on non-negative ids below n
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1));
+        int mask = (1 << RADIX_BITS) - 1;
+        int[] count = new int[1 << RADIX_BITS];
+        int[] src = a, dst = scratch;
+        int srcOff = from, dstOff = 0;
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < len; i++) count[(src[srcOff + i] >>> shift) & mask]++;
+            for (int d = 0, sum = 0; d < count.length; d++) { int c = count[d]; count[d] = sum; sum += c; }
+            for (int i = 0; i < len; i++) {
+                int x = src[srcOff + i];
+                dst[dstOff + count[(x >>> shift) & mask]++] = x;
+            }
+            int[] t = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) System.arraycopy(src, srcOff, a, from, len);
+    }
+}
@@ -0,0 +1,300 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Step-wise minimum spanning forest of a weighted undirected {@link CsrGraph},
+ * by Prim or Kruskal.
+ * <ul>
+ *   <li>Prim grows one tree at a time from the lowest node not yet in a tree,
+ *       keeping the cheapest known connection of every outside node in an
+ *       {@link IndexedHeap} (decrease-key, no stale entries).</li>
+ *   <li>Kruskal takes the edges in ascending weight order and joins the two
+ *       trees of each edge whose endpoints are still apart, using union-find
+ *       with union by size and path halving.</li>
+ * </ul>
+ * Kruskal's edge order is sorted once per graph without boxing: the weights
+ * are sorted, each edge gets its weight's rank, and (rank, edge id) pairs
+ * packed into longs are sorted, so equal weights keep CSR order.
+ *
+ * All mutable state goes through an {@link IntJournal}, as in
+ * {@link GraphDijkstraSolver}. Directed weights are replaced by
+ * {@link EdgeWeights#symmetric() their undirected form}.
+ */
+public class GraphMSTSolver implements SteppableSolver<GraphMSTSolver.State> {
+
+    public enum Method { PRIM, KRUSKAL }
+
+    public enum StepType { INIT, ROOT, CANDIDATE, ADD, REJECT, DONE }
+
+    public interface StepListener {
+        /**
+         * ROOT(u, -1) when Prim starts a new tree, CANDIDATE(u, v) when Prim
+         * lowers v's connection cost via u, ADD(u, v) for a new tree edge,
+         * REJECT(u, v) when Kruskal skips an edge inside one tree.
+         */
+        void onStep(StepType type, int u, int v);
+    }
+
+    /** Journal position; valid for the solver run that produced it. */
+    public static class State {
+        public long position;
+        long steps;        // steps since reset, to replay to once the journal no longer reaches position
+        long journalBytes; // journal entries written since the previous snapshot
+
+        public long estimateBytes() { return StateSizes.OBJECT + 24 + journalBytes; }
+    }
+
+    private static final int CURRENT = 0, CURSOR = 1, SCAN = 2, TREE = 3, DONE = 4;
+
+    private final Method method;
+    private EdgeWeights weights = EdgeWeights.unit(CsrGraph.empty());
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    // Kruskal: undirected edges (u < v) and their ascending-weight order, fixed per graph
+    private int[] edgeU = new int[0], edgeV = new int[0], edgeEntry = new int[0], order = new int[0];
+
+    private int[] reg, treeFrom, treeTo;
+    private int[] parent, inTree; // Prim
+    private double[] key;         // Prim
+    private int[] uf, ufSize;     // Kruskal
+    private int rReg, rTreeFrom, rTreeTo, rParent, rInTree, rUf, rUfSize;
+    private IntJournal journal;
+    private IndexedHeap heap;
+    private long relaxations, improvements;
+
+    private StepListener listener;
+    private boolean muted;
+    private long steps;
+    private long lastSnapshot; // journal position of the newest snapshot
+
+    public GraphMSTSolver(EdgeWeights weights, Method method) {
+        this.method = method;
+        setGraph(weights);
+    }
+
+    public void setGraph(EdgeWeights weights) {
+        this.weights = weights.symmetric();
+        this.graph = this.weights.graph();
+        this.n = graph.nodeCount();
+        if (method == Method.KRUSKAL) sortEdges();
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        reg = new int[5];
+        reg[CURRENT] = -1;
+        treeFrom = new int[Math.max(0, n - 1)];
+        treeTo = new int[Math.max(0, n - 1)];
+        journal = new IntJournal();
+        steps = lastSnapshot = 0;
+        rReg = journal.register(reg);
+        rTreeFrom = journal.register(treeFrom);
+        rTreeTo = journal.register(treeTo);
+        if (method == Method.PRIM) {
+            parent = new int[n];
+            Arrays.fill(parent, -1);
+            inTree = new int[n];
+            key = new double[n];
+            Arrays.fill(key, Double.POSITIVE_INFINITY);
+            rParent = journal.register(parent);
+            rInTree = journal.register(inTree);
+            heap = new IndexedHeap(journal, n, key, journal.registerDoubles(key));
+        } else {
+            uf = new int[n];
+            for (int i = 0; i < n; i++) uf[i] = i;
+            ufSize = new int[n];
+            Arrays.fill(ufSize, 1);
+            rUf = journal.register(uf);
+            rUfSize = journal.register(ufSize);
+        }
+        relaxations = improvements = 0;
+        if (n == 0) { reg[DONE] = 1; emit(StepType.DONE, -1, -1); return; }
+        emit(StepType.INIT, -1, -1);
+    }
+
+    private void sortEdges() {
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            for (int k = 0; k < graph.degree(u); k++) if (graph.neighbor(u, k) > u) m++;
+        }
+        edgeU = new int[m];
+        edgeV = new int[m];
+        edgeEntry = new int[m];
+        double[] w = new double[m];
+        int e = 0;
+        for (int u = 0; u < n; u++) {
+            int base = graph.rowStart(u);
+            for (int k = 0; k < graph.degree(u); k++) {
+                int v = graph.neighbor(u, k);
+                if (v <= u) continue;
+                edgeU[e] = u;
+                edgeV[e] = v;
+                edgeEntry[e] = base + k;
+                w[e++] = weights.weight(base + k);
+            }
+        }
+        double[] sorted = w.clone();
+        Arrays.parallelSort(sorted);
+        long[] keys = new long[m];
+        for (int i = 0; i < m; i++) keys[i] = ((long) Arrays.binarySearch(sorted, w[i]) << 32) | i;
+        Arrays.parallelSort(keys);
+        order = new int[m];
+        for (int i = 0; i < m; i++) order[i] = (int) keys[i];
+    }
+
+    @Override
+    public boolean isDone() { return reg[DONE] != 0; }
+    public Method getMethod() { return method; }
+    public EdgeWeights getWeights() { return weights; }
+    public int getTreeEdgeCount() { return reg[TREE]; }
+    /** Endpoints of the i-th tree edge found, as {u, v}. */
+    public int[] getTreeEdge(int i) { return new int[]{treeFrom[i], treeTo[i]}; }
+
+    public double getTotalWeight() {
+        double sum = 0;
+        for (int i = 0; i < reg[TREE]; i++) sum += weights.weight(treeFrom[i], treeTo[i]);
+        return sum;
+    }
+
+    @Override
+    public void step() {
+        if (isDone()) return;
+        steps++;
+        if (method == Method.PRIM) stepPrim(); else stepKruskal();
+    }
+
+    private void stepPrim() {
+        int u = reg[CURRENT];
+        if (u >= 0) {
+            int base = graph.rowStart(u), deg = graph.degree(u);
+            for (int i = reg[CURSOR]; i < deg; i++) {
+                int v = graph.neighbor(u, i);
+                if (inTree[v] != 0) continue;
+                relaxations++;
+                double w = weights.weight(base + i);
+                if (w < key[v]) {
+                    improvements++;
+                    set(rReg, CURSOR, i + 1);
+                    set(rParent, v, u);
+                    heap.update(v, w);
+                    emit(StepType.CANDIDATE, u, v);
+                    return;
+                }
+            }
+            set(rReg, CURRENT, -1);
+        }
+        if (heap.isEmpty()) {
+            // Current tree is complete: start the next one at the lowest node outside every tree
+            int s = reg[SCAN];
+            while (s < n && inTree[s] != 0) s++;
+            set(rReg, SCAN, s);
+            if (s == n) { set(rReg, DONE, 1); emit(StepType.DONE, -1, -1); return; }
+            enter(s);
+            emit(StepType.ROOT, s, -1);
+            return;
+        }
+        int v = heap.poll();
+        enter(v);
+        addTreeEdge(parent[v], v);
+    }
+
+    private void enter(int v) {
+        set(rInTree, v, 1);
+        set(rReg, CURRENT, v);
+        set(rReg, CURSOR, 0);
+    }
+
+    private void stepKruskal() {
+        int c = reg[CURSOR];
+        if (c == order.length || reg[TREE] == n - 1) { set(rReg, DONE, 1); emit(StepType.DONE, -1, -1); return; }
+        set(rReg, CURSOR, c + 1);
+        int e = order[c], u = edgeU[e], v = edgeV[e];
+        relaxations++;
+        int ru = find(u), rv = find(v);
+        if (ru == rv) { emit(StepType.REJECT, u, v); return; }
+        if (ufSize[ru] < ufSize[rv]) { int t = ru; ru = rv; rv = t; }
+        set(rUf, rv, ru);
+        set(rUfSize, ru, ufSize[ru] + ufSize[rv]);
+        improvements++;
+        addTreeEdge(u, v);
+    }
+
+    private int find(int x) {
+        while (uf[x] != x) {
+            set(rUf, x, uf[uf[x]]);
+            x = uf[x];
+        }
+        return x;
+    }
+
+    private void addTreeEdge(int u, int v) {
+        int t = reg[TREE];
+        set(rTreeFrom, t, u);
+        set(rTreeTo, t, v);
+        set(rReg, TREE, t + 1);
+        emit(StepType.ADD, u, v);
+    }
+
+    private void set(int array, int index, int value) { journal.set(array, index, value); }
+
+    /** As {@link GraphDijkstraSolver#runToCompletion()}; Kruskal's edge sort happens in setGraph and is not timed. */
+    public WeightedRunStats runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        journal.clear(false);
+        long r0 = relaxations, i0 = improvements, h0 = heap != null ? heap.ops : 0;
+        long t0 = System.nanoTime();
+        while (!isDone()) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        return new WeightedRunStats(relaxations - r0, improvements - i0, heap != null ? heap.ops - h0 : 0, nanos);
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = journal.position();
+        s.steps = steps;
+        s.journalBytes = IntJournal.bytesBetween(lastSnapshot, s.position);
+        lastSnapshot = s.position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (journal.canMoveTo(s.position)) {
+            journal.moveTo(s.position);
+            steps = s.steps;
+        } else {
+            replay(s.steps);
+        }
+        lastSnapshot = s.position;
+    }
+
+    // The journal was trimmed past the target or cleared by runToCompletion: run again from the start, silently
+    private void replay(long target) {
+        boolean wasMuted = muted;
+        muted = true;
+        reset();
+        while (steps < target && !isDone()) step();
+        muted = wasMuted;
+    }
+
+    private void emit(StepType type, int u, int v) {
+        if (listener != null && !muted) listener.onStep(type, u, v);
+    }
+
+    public String getCurrentStepDescription() {
+        String total = EdgeWeights.format(getTotalWeight());
+        if (isDone()) return (method == Method.PRIM ? "Prim" : "Kruskal") + " complete: " + reg[TREE] + " edges, weight " + total;
+        if (method == Method.KRUSKAL) return "Edge " + reg[CURSOR] + " of " + order.length + ", " + reg[TREE] + " tree edges, weight " + total;
+        return (reg[CURRENT] < 0 ? "Ready" : "Scanning " + reg[CURRENT]) + ", " + reg[TREE] + " tree edges, weight " + total;
+    }
+}
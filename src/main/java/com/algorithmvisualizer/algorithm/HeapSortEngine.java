@@ -0,0 +1,40 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Heap sort: build a max-heap bottom-up, then repeatedly swap the root to the
+ * end of the shrinking heap and sift the new root down. Sifting holds the
+ * moving value aside and shifts larger children up, one write per level
+ * instead of a swap.
+ */
+public class HeapSortEngine extends SortEngine {
+
+    public HeapSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Heap Sort"; }
+
+    @Override
+    void sort(Tape t) {
+        int n = t.length();
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(t, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            t.swap(0, end);
+            siftDown(t, 0, end);
+        }
+    }
+
+    private static void siftDown(Tape t, int start, int n) {
+        if (2 * start + 1 >= n) return;
+        int v = t.get(start), i = start;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= n) break;
+            if (c + 1 < n && t.less(c, c + 1)) c++;
+            int cv = t.get(c);
+            if (!t.lessValues(v, cv, i, c)) break;
+            t.set(i, cv);
+            i = c;
+        }
+        if (i != start) t.set(i, v);
+    }
+}
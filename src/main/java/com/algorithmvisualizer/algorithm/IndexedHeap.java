@@ -0,0 +1,90 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of node ids keyed by a double array, with a position index so
+ * a queued node's key is lowered in place instead of queueing a stale
+ * duplicate as with {@link java.util.PriorityQueue}. Heap, positions, size and
+ * keys are all written through the owner's {@link IntJournal}, so the heap
+ * rewinds with the rest of the solver state. Equal keys pop in node id order.
+ */
+final class IndexedHeap {
+
+    private final IntJournal journal;
+    private final double[] key;
+    private final int[] heap, pos, size; // pos = -1 when not queued
+    private final int rKey, rHeap, rPos, rSize;
+    /** insert, decrease-key and extract-min calls, not rewound by the journal. */
+    long ops;
+
+    /** {@code key} must already be registered with {@code journal} as {@code keyId}. */
+    IndexedHeap(IntJournal journal, int n, double[] key, int keyId) {
+        this.journal = journal;
+        this.key = key;
+        this.rKey = keyId;
+        heap = new int[n];
+        pos = new int[n];
+        Arrays.fill(pos, -1);
+        size = new int[1];
+        rHeap = journal.register(heap);
+        rPos = journal.register(pos);
+        rSize = journal.register(size);
+    }
+
+    boolean isEmpty() { return size[0] == 0; }
+
+    int size() { return size[0]; }
+
+    boolean contains(int v) { return pos[v] >= 0; }
+
+    /** Queue v with key k, or lower its key to k if it is already queued. */
+    void update(int v, double k) {
+        ops++;
+        journal.setDouble(rKey, v, k);
+        int i = pos[v];
+        if (i < 0) {
+            i = size[0];
+            journal.set(rSize, 0, i + 1);
+        }
+        siftUp(v, i);
+    }
+
+    int poll() {
+        ops++;
+        int top = heap[0], last = size[0] - 1;
+        journal.set(rSize, 0, last);
+        journal.set(rPos, top, -1);
+        if (last > 0) siftDown(heap[last], 0, last);
+        return top;
+    }
+
+    private void siftUp(int v, int i) {
+        while (i > 0) {
+            int p = (i - 1) >>> 1, pv = heap[p];
+            if (!less(v, pv)) break;
+            place(pv, i);
+            i = p;
+        }
+        place(v, i);
+    }
+
+    private void siftDown(int v, int i, int n) {
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= n) break;
+            if (c + 1 < n && less(heap[c + 1], heap[c])) c++;
+            if (!less(heap[c], v)) break;
+            place(heap[c], i);
+            i = c;
+        }
+        place(v, i);
+    }
+
+    private void place(int v, int i) {
+        journal.set(rHeap, i, v);
+        journal.set(rPos, v, i);
+    }
+
+    private boolean less(int a, int b) { return key[a] < key[b] || (key[a] == key[b] && a < b); }
+}
@@ -0,0 +1,10 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Read-only live view of a solver's int array, for callers that only need a
+ * few elements and should not pay for a full copy.
+ */
+public interface IntArrayView {
+    int length();
+    int get(int i);
+}
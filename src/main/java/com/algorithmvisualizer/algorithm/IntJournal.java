@@ -0,0 +1,137 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Undo/redo log of writes to a fixed set of int (and double) arrays, used by
+ * the solvers whose per-node state changes a few slots per step.
+ *
+ * Every write goes through {@link #set} or {@link #setDouble}, which logs
+ * (array, index, old, new). A snapshot is just the log position, and
+ * {@link #moveTo} undoes or redoes entries to get back to it. Entries past the
+ * current position are kept as the continuation of the run: stepping again
+ * after moving back rewrites the same entries, and the continuation is only
+ * dropped when a write differs.
+ *
+ * The log holds at most {@link #MAX_ENTRIES} entries ({@link #BUDGET_BYTES});
+ * past that its oldest half is dropped, positions before the kept window can
+ * no longer be reached ({@link #canMoveTo}), and the solver rebuilds such a
+ * state by replaying its run from the start.
+ */
+final class IntJournal {
+
+    private int[][] arrays = new int[0][];
+    private double[][] doubleArrays = new double[0][];
+    /** Same bound as the step-back history's default budget. */
+    static final long BUDGET_BYTES = Math.min(32L << 20, Runtime.getRuntime().maxMemory() / 16);
+    static final long ENTRY_BYTES = 2 * 4 + 2 * 8;
+    static final int MAX_ENTRIES = (int) Math.max(2, BUDGET_BYTES / ENTRY_BYTES);
+
+    private int[] log = new int[256];       // 2 ints per entry: array id (~id for double arrays), index
+    private long[] values = new long[256];  // 2 longs per entry: old value, new value (doubles as raw bits)
+    private long base = 0;                  // position of the oldest kept entry, log[0]
+    private long size = 0;                  // entries applied
+    private long known = 0;                 // entries recorded, >= size
+    private boolean recording = true;
+
+    /** Register an array and return its id for {@link #set}. */
+    int register(int[] array) {
+        arrays = Arrays.copyOf(arrays, arrays.length + 1);
+        arrays[arrays.length - 1] = array;
+        return arrays.length - 1;
+    }
+
+    /** Register a double array and return its id for {@link #setDouble}. */
+    int registerDoubles(double[] array) {
+        doubleArrays = Arrays.copyOf(doubleArrays, doubleArrays.length + 1);
+        doubleArrays[doubleArrays.length - 1] = array;
+        return doubleArrays.length - 1;
+    }
+
+    void set(int id, int index, int value) {
+        int[] a = arrays[id];
+        int old = a[index];
+        if (old == value) return;
+        a[index] = value;
+        if (recording) record(id, index, old, value);
+    }
+
+    void setDouble(int id, int index, double value) {
+        double[] a = doubleArrays[id];
+        long old = Double.doubleToRawLongBits(a[index]), bits = Double.doubleToRawLongBits(value);
+        if (old == bits) return;
+        a[index] = value;
+        if (recording) record(~id, index, old, bits);
+    }
+
+    private void record(int id, int index, long old, long value) {
+        int at = slot(size);
+        if (size < known && (log[at] != id || log[at + 1] != index || values[at + 1] != value)) known = size;
+        if (size - base == MAX_ENTRIES) {
+            dropOldest();
+            at = slot(size);
+        }
+        if (at + 2 > log.length) {
+            int cap = (int) Math.min(2L * log.length, 2L * MAX_ENTRIES);
+            log = Arrays.copyOf(log, cap);
+            values = Arrays.copyOf(values, cap);
+        }
+        log[at] = id;
+        log[at + 1] = index;
+        values[at] = old;
+        values[at + 1] = value;
+        size++;
+        if (size > known) known = size;
+    }
+
+    // Keep the newer half; the window always holds the current position
+    private void dropOldest() {
+        int drop = MAX_ENTRIES / 2, keep = (int) (known - base) - drop;
+        System.arraycopy(log, 2 * drop, log, 0, 2 * keep);
+        System.arraycopy(values, 2 * drop, values, 0, 2 * keep);
+        base += drop;
+    }
+
+    private int slot(long pos) { return 2 * (int) (pos - base); }
+
+    long position() { return size; }
+
+    /** Whether {@link #moveTo} can reach {@code pos}: it is in the kept window of a recording journal. */
+    boolean canMoveTo(long pos) { return recording && pos >= base && pos <= known; }
+
+    /** Estimated log memory for the entries between two positions, for charging snapshots. */
+    static long bytesBetween(long from, long to) { return to > from ? ENTRY_BYTES * (to - from) : 0; }
+
+    /** Undo or redo to a position returned by {@link #position()}. */
+    void moveTo(long pos) {
+        if (!canMoveTo(pos)) throw new IllegalArgumentException("Position is not in this run's journal");
+        while (size > pos) {
+            size--;
+            apply(size, values[slot(size)]);
+        }
+        while (size < pos) {
+            apply(size, values[slot(size) + 1]);
+            size++;
+        }
+    }
+
+    private void apply(long entry, long value) {
+        int id = log[slot(entry)], index = log[slot(entry) + 1];
+        if (id >= 0) arrays[id][index] = (int) value;
+        else doubleArrays[~id][index] = Double.longBitsToDouble(value);
+    }
+
+    /** Forget all entries; with {@code recording} false later writes are not logged (full-speed runs). */
+    void clear(boolean recording) {
+        base = 0;
+        size = 0;
+        known = 0;
+        this.recording = recording;
+        if (!recording) {
+            log = new int[2];
+            values = new long[2];
+        }
+    }
+
+    long estimateBytes() { return StateSizes.ints(log.length) + StateSizes.align(StateSizes.ARRAY + 8L * values.length); }
+}
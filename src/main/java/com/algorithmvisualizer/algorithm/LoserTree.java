@@ -0,0 +1,53 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Tournament tree of losers over k sorted sources, with int keys widened to
+ * long so that {@link #EXHAUSTED} sorts after every int. Each internal node
+ * holds the source that lost the match there and the overall winner is kept
+ * at the root, so replacing the winner replays only its path to the root:
+ * log2 k comparisons against a single known loser per level.
+ */
+final class LoserTree {
+
+    /** Key of a source with nothing left. */
+    static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final int k;
+    private final long[] keys; // keys[k] is a -infinity sentinel used while building
+    private final int[] tree; // tree[0] winner, tree[1 .. k-1] losers
+
+    LoserTree(int k) {
+        this.k = k;
+        this.keys = new long[k + 1];
+        this.tree = new int[Math.max(1, k)];
+    }
+
+    /** Set the first key of {@code source}; call for every source before {@link #build()}. */
+    void set(int source, long key) { keys[source] = key; }
+
+    void build() {
+        keys[k] = Long.MIN_VALUE;
+        Arrays.fill(tree, k);
+        for (int i = k - 1; i >= 0; i--) replay(i);
+    }
+
+    int winner() { return tree[0]; }
+    long key(int source) { return keys[source]; }
+    boolean isEmpty() { return k == 0 || keys[tree[0]] == EXHAUSTED; }
+
+    /** Give the current winner its next key and find the new winner. */
+    void replaceWinner(long key) {
+        int w = tree[0];
+        keys[w] = key;
+        replay(w);
+    }
+
+    private void replay(int s) {
+        for (int t = (s + k) >> 1; t > 0; t >>= 1) {
+            if (keys[s] > keys[tree[t]]) { int loser = s; s = tree[t]; tree[t] = loser; }
+        }
+        tree[0] = s;
+    }
+}
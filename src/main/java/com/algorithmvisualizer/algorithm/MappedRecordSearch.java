@@ -0,0 +1,251 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Binary search over a file of fixed-width records sorted by a big-endian
+ * 32-bit key, read through {@link MappedByteBuffer}s so the file need not fit
+ * in the heap. The output of {@link ExternalSortEngine} is such a file with
+ * 4-byte records.
+ *
+ * An optional sparse fence index keeps the key of every k-th record in
+ * memory; a lookup then searches the fence first and only probes the file
+ * inside one fence gap. Every probe is counted by the 4 KiB file page it
+ * lands on: distinct pages per query, and pages this searcher had never
+ * touched before (an estimate of the page faults on a cold page cache).
+ * Pages touched are also counted per bucket of the file for a heat strip.
+ *
+ * Not thread-safe: query from one thread. Counters may be read from another
+ * thread for display while it runs.
+ */
+public final class MappedRecordSearch implements Closeable {
+
+    public static final int PAGE_BYTES = 4096;
+    private static final long MAX_MAP_BYTES = 1L << 30;
+    private static final int MAX_PROBES = 64;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int recordBytes;
+    private final int keyOffset;
+    private final long records;
+    private final long segmentRecords;
+    private final long pages;
+
+    private int[] fenceKeys;
+    private long fenceStride;
+    private long fenceBuildPages;
+
+    private final BitSet touched;
+    private final int[] heat;
+    private final long[] probePages = new long[MAX_PROBES];
+    private final long[] lastProbes = new long[MAX_PROBES];
+    private volatile int lastProbeCount;
+    private long queries, probes, pageTouches, coldPages;
+    private volatile boolean aborted;
+
+    /**
+     * Map {@code file} read-only.
+     *
+     * @param recordBytes width of one record
+     * @param keyOffset   offset of the 4-byte key inside a record
+     * @param heatBuckets buckets of the page-touch heat strip
+     */
+    public MappedRecordSearch(Path file, int recordBytes, int keyOffset, int heatBuckets) throws IOException {
+        if (recordBytes < 4) throw new IllegalArgumentException("Records must be at least 4 bytes");
+        if (keyOffset < 0 || keyOffset > recordBytes - 4) {
+            throw new IllegalArgumentException("Key offset must be between 0 and " + (recordBytes - 4));
+        }
+        this.recordBytes = recordBytes;
+        this.keyOffset = keyOffset;
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size % recordBytes != 0) {
+            channel.close();
+            throw new IllegalArgumentException(size + " bytes is not a whole number of " + recordBytes + "-byte records");
+        }
+        records = size / recordBytes;
+        pages = (size + PAGE_BYTES - 1) / PAGE_BYTES;
+        if (pages > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IllegalArgumentException("File is too large to track page by page");
+        }
+        // Whole records per mapping, so no key straddles two buffers
+        segmentRecords = MAX_MAP_BYTES / recordBytes;
+        int count = (int) ((records + segmentRecords - 1) / segmentRecords);
+        segments = new MappedByteBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long from = s * segmentRecords * recordBytes;
+            segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(segmentRecords * recordBytes, size - from));
+        }
+        touched = new BitSet((int) pages);
+        heat = new int[(int) Math.max(1, Math.min(heatBuckets, pages))];
+    }
+
+    public long records() { return records; }
+    public long pages() { return pages; }
+    public int recordBytes() { return recordBytes; }
+
+    /** Key of record {@code i}, read without counting it as a probe. */
+    public int key(long i) {
+        return segments[(int) (i / segmentRecords)].getInt((int) (i % segmentRecords) * recordBytes + keyOffset);
+    }
+
+    /**
+     * Keep the key of every record that starts a run of {@code pagesPerFence}
+     * pages in memory; 0 drops the index. Building reads one record per fence
+     * and those pages are counted as touched.
+     */
+    public void buildFence(int pagesPerFence) {
+        fenceKeys = null;
+        fenceStride = 0;
+        fenceBuildPages = 0;
+        if (pagesPerFence <= 0 || records == 0) return;
+        fenceStride = Math.max(1, (long) pagesPerFence * PAGE_BYTES / recordBytes);
+        long count = (records + fenceStride - 1) / fenceStride;
+        if (count > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Fence index would be too large; space the fences wider");
+        int[] keys = new int[(int) count];
+        for (int f = 0; f < keys.length; f++) {
+            long r = f * fenceStride;
+            keys[f] = key(r);
+            long page = offset(r) / PAGE_BYTES;
+            if (!touched.get((int) page)) { touched.set((int) page); fenceBuildPages++; }
+        }
+        fenceKeys = keys;
+    }
+
+    public boolean hasFence() { return fenceKeys != null; }
+    public int fenceEntries() { return fenceKeys == null ? 0 : fenceKeys.length; }
+    public long fenceStride() { return fenceStride; }
+    /** Pages first touched while building the fence. */
+    public long fenceBuildPages() { return fenceBuildPages; }
+
+    /** First record whose key is >= x, or {@link #records()} if none. */
+    public long lowerBound(int x) {
+        if (aborted) throw new CancellationException();
+        long lo = 0, hi = records;
+        if (fenceKeys != null) {
+            int[] f = fenceKeys;
+            int a = 0, b = f.length;
+            while (a < b) {
+                int m = (a + b) >>> 1;
+                if (f[m] < x) a = m + 1;
+                else b = m;
+            }
+            // Key at fence a - 1 is < x and key at fence a is >= x
+            lo = a == 0 ? 0 : (a - 1) * fenceStride + 1;
+            hi = a == f.length ? records : a * fenceStride;
+        }
+        int count = 0, distinct = 0;
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            long page = offset(mid) / PAGE_BYTES;
+            if (count < MAX_PROBES) lastProbes[count] = mid;
+            count++;
+            int p = 0;
+            while (p < distinct && probePages[p] != page) p++;
+            if (p == distinct) {
+                probePages[distinct++] = page;
+                heat[(int) (page * heat.length / pages)]++;
+                if (!touched.get((int) page)) { touched.set((int) page); coldPages++; }
+            }
+            if (key(mid) < x) lo = mid + 1;
+            else hi = mid;
+        }
+        lastProbeCount = count;
+        queries++;
+        probes += count;
+        pageTouches += distinct;
+        return lo;
+    }
+
+    private long offset(long record) { return record * recordBytes + keyOffset; }
+
+    /** Make the query loop throw CancellationException at its next lookup. */
+    public void abort() { aborted = true; }
+
+    /** Zero the counters and forget which pages were touched; the fence is kept. */
+    public void resetStats() {
+        touched.clear();
+        Arrays.fill(heat, 0);
+        queries = probes = pageTouches = coldPages = 0;
+        lastProbeCount = 0;
+        aborted = false;
+    }
+
+    public long queries() { return queries; }
+    public double probesPerQuery() { return queries == 0 ? 0 : (double) probes / queries; }
+    public double pagesPerQuery() { return queries == 0 ? 0 : (double) pageTouches / queries; }
+    public double coldPagesPerQuery() { return queries == 0 ? 0 : (double) coldPages / queries; }
+    /** Distinct pages touched so far, fence build included. */
+    public long pagesTouched() { return touched.cardinality(); }
+
+    /** Live per-bucket page-touch counts; bucket b covers the b-th equal slice of the file. */
+    public int[] heat() { return heat; }
+
+    /** Records probed by the last lookup, in probe order. */
+    public long[] lastProbes() {
+        return Arrays.copyOf(lastProbes, Math.min(lastProbeCount, MAX_PROBES));
+    }
+
+    /** Queries, probes and pages per query, and the fence if any, on a few lines. */
+    public String describe() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%,d records of %d bytes, %,d pages; ",
+                records, recordBytes, pages));
+        if (fenceKeys == null) sb.append("no fence index");
+        else sb.append(String.format(Locale.ROOT, "fence every %,d records (%,d entries, %,d KiB, %,d pages read to build)",
+                fenceStride, fenceKeys.length, 4L * fenceKeys.length >> 10, fenceBuildPages));
+        sb.append(String.format(Locale.ROOT, "%n%,d queries: %.2f probes, %.2f pages, %.3f first-touch pages per query",
+                queries, probesPerQuery(), pagesPerQuery(), coldPagesPerQuery()));
+        sb.append(String.format(Locale.ROOT, "%n%,d of %,d pages touched", pagesTouched(), pages));
+        return sb.toString();
+    }
+
+    @Override
+    public void close() throws IOException { channel.close(); }
+
+    /**
+     * Write {@code records} records of {@code recordBytes} with ascending
+     * random keys at offset 0 spread over the int range and the record index
+     * in the remaining bytes, streaming, for trying the search out.
+     */
+    public static void writeSortedFile(Path path, long records, int recordBytes, long seed) throws IOException {
+        if (recordBytes < 4) throw new IllegalArgumentException("Records must be at least 4 bytes");
+        SplittableRandom rnd = new SplittableRandom(seed);
+        long maxGap = Math.max(0, 2 * ((1L << 32) / Math.max(1, records)) - 1);
+        long key = Integer.MIN_VALUE;
+        ByteBuffer buf = ByteBuffer.allocateDirect(Math.max(recordBytes, (1 << 20) / recordBytes * recordBytes));
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long i = 0; i < records; i++) {
+                if (buf.remaining() < recordBytes) { buf.flip(); while (buf.hasRemaining()) out.write(buf); buf.clear(); }
+                key = Math.min(Integer.MAX_VALUE, key + (maxGap == 0 ? 0 : rnd.nextLong(maxGap + 1)));
+                buf.putInt((int) key);
+                for (int b = 4; b < recordBytes; b++) buf.put((byte) (i >>> (8 * ((b - 4) % 8))));
+            }
+            buf.flip();
+            while (buf.hasRemaining()) out.write(buf);
+        }
+    }
+
+    /** {@code count} seeded uniform keys between the first and last key of the file. */
+    public int[] randomQueries(int count, long seed) {
+        int[] q = new int[count];
+        if (records == 0) return q;
+        long lo = key(0), hi = key(records - 1);
+        SplittableRandom rnd = new SplittableRandom(seed);
+        for (int i = 0; i < count; i++) q[i] = (int) (lo + rnd.nextLong(hi - lo + 1));
+        return q;
+    }
+}
@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class MazeGeneratorDFS {
+public class MazeGeneratorDFS implements SteppableSolver<MazeGeneratorDFS.State> {
     public enum StepType { INIT, CARVE, BACKTRACK, DONE }
     public interface StepListener { void onStep(StepType type, int r, int c, int nr, int nc); }
 
@@ -10,10 +10,18 @@ public class MazeGeneratorDFS {
     private boolean[][][] walls; // [r][c][4] => N,E,S,W
     private boolean[][] visited;
     private Deque<int[]> stack = new ArrayDeque<>();
-    private Random rnd = new Random();
+    private long rngState = new Random().nextLong(); // carried in State so replays carve the same maze
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
+    private CellChangeListener cellListener;
+
+    private final WallGridView wallView = new WallGridView() {
+        @Override public int getRows() { return rows; }
+        @Override public int getCols() { return cols; }
+        @Override public boolean hasWall(int r, int c, int dir) { return walls[r][c][dir]; }
+    };
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -23,7 +31,13 @@ public class MazeGeneratorDFS {
         public boolean[][][] walls;
         public boolean[][] visited;
         public Deque<int[]> stack;
+        public long rngState;
         public boolean done;
+
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 32 + wallBytes(rows, cols) + StateSizes.booleanGrid(rows, cols)
+                    + StateSizes.intArrays(stack.size(), 2);
+        }
     }
 
     public MazeGeneratorDFS(int rows, int cols) {
@@ -31,6 +45,8 @@ public class MazeGeneratorDFS {
     }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    public void setCellChangeListener(CellChangeListener l) { this.cellListener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public void setSize(int r, int c) {
         this.rows = Math.max(1, r);
@@ -49,6 +65,9 @@ public class MazeGeneratorDFS {
 
     public boolean[][][] getWalls() { return copyWalls(walls); }
 
+    /** Live, non-copying view of the walls; see {@link #setCellChangeListener} for changes. */
+    public WallGridView getWallView() { return wallView; }
+
     public int getRows() { return rows; }
     public int getCols() { return cols; }
 
@@ -64,6 +83,8 @@ public class MazeGeneratorDFS {
         int[] cur = stack.peek();
         int r = cur[0], c = cur[1];
         List<Integer> dirs = new ArrayList<>(Arrays.asList(0,1,2,3));
+        Random rnd = new Random(rngState);
+        rngState = rnd.nextLong();
         Collections.shuffle(dirs, rnd);
         for (int dir : dirs) {
             int nr = r + DR[dir];
@@ -88,9 +109,11 @@ public class MazeGeneratorDFS {
         }
     }
 
-    private void removeWall(int r, int c, int dir) { walls[r][c][dir] = false; }
+    private void removeWall(int r, int c, int dir) { walls[r][c][dir] = false; cellChanged(r, c); }
 
-    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener != null) listener.onStep(t, r, c, nr, nc); }
+    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener != null && !muted) listener.onStep(t, r, c, nr, nc); }
+
+    private void cellChanged(int r, int c) { if (cellListener != null && !muted) cellListener.onCellChanged(r, c); }
 
     public State snapshot() {
         State s = new State();
@@ -99,6 +122,7 @@ public class MazeGeneratorDFS {
         for (int i=0;i<rows;i++) System.arraycopy(visited[i], 0, s.visited[i], 0, cols);
         s.stack = new ArrayDeque<>();
         for (int[] p : stack) s.stack.addLast(new int[]{p[0],p[1]});
+        s.rngState = rngState;
         s.done = done;
         return s;
     }
@@ -110,9 +134,15 @@ public class MazeGeneratorDFS {
         for (int i=0;i<rows;i++) System.arraycopy(s.visited[i], 0, visited[i], 0, cols);
         stack = new ArrayDeque<>();
         for (int[] p : s.stack) stack.addLast(new int[]{p[0],p[1]});
+        rngState = s.rngState;
         done = s.done;
     }
 
+    static long wallBytes(int rows, int cols) {
+        return StateSizes.align(StateSizes.ARRAY + StateSizes.REF * rows)
+                + rows * (StateSizes.align(StateSizes.ARRAY + StateSizes.REF * cols) + cols * StateSizes.booleans(4));
+    }
+
     private static boolean[][][] copyWalls(boolean[][][] src) {
         int r = src.length, c = src[0].length;
         boolean[][][] w = new boolean[r][c][4];
@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class MazeGeneratorKruskal {
+public class MazeGeneratorKruskal implements SteppableSolver<MazeGeneratorKruskal.State> {
     public enum StepType { INIT, CARVE, DONE }
     public interface StepListener { void onStep(StepType type, int r, int c, int nr, int nc); }
 
@@ -16,6 +16,14 @@ public class MazeGeneratorKruskal {
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
+    private CellChangeListener cellListener;
+
+    private final WallGridView wallView = new WallGridView() {
+        @Override public int getRows() { return rows; }
+        @Override public int getCols() { return cols; }
+        @Override public boolean hasWall(int r, int c, int dir) { return walls[r][c][dir]; }
+    };
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -28,11 +36,19 @@ public class MazeGeneratorKruskal {
         public List<int[]> edges;
         public int edgeIdx;
         public boolean done;
+
+        /** Excludes the edge order, which is shared between snapshots. */
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 32 + MazeGeneratorDFS.wallBytes(rows, cols)
+                    + StateSizes.ints(parent.length) + StateSizes.ints(rank.length);
+        }
     }
 
     public MazeGeneratorKruskal(int rows, int cols) { setSize(rows, cols); }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    public void setCellChangeListener(CellChangeListener l) { this.cellListener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public void setSize(int r, int c) {
         rows = Math.max(1, r); cols = Math.max(1, c);
@@ -57,6 +73,9 @@ public class MazeGeneratorKruskal {
 
     public boolean[][][] getWalls() { return copyWalls(walls); }
 
+    /** Live, non-copying view of the walls; see {@link #setCellChangeListener} for changes. */
+    public WallGridView getWallView() { return wallView; }
+
     public int getRows() { return rows; }
     public int getCols() { return cols; }
 
@@ -72,6 +91,8 @@ public class MazeGeneratorKruskal {
             // carve wall
             walls[r][c][dir] = false;
             walls[nr][nc][(dir+2)%4] = false;
+            cellChanged(r, c);
+            cellChanged(nr, nc);
             emit(StepType.CARVE, r, c, nr, nc);
         }
     }
@@ -80,14 +101,16 @@ public class MazeGeneratorKruskal {
     private int find(int x) { if (parent[x]==x) return x; parent[x]=find(parent[x]); return parent[x]; }
     private void unite(int a, int b) { a=find(a); b=find(b); if (a==b) return; if (rank[a]<rank[b]) parent[a]=b; else if(rank[a]>rank[b]) parent[b]=a; else { parent[b]=a; rank[a]++; } }
 
-    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener!=null) listener.onStep(t, r, c, nr, nc); }
+    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener!=null && !muted) listener.onStep(t, r, c, nr, nc); }
+
+    private void cellChanged(int r, int c) { if (cellListener != null && !muted) cellListener.onCellChanged(r, c); }
 
     public State snapshot() {
         State s = new State();
         s.rows=rows; s.cols=cols; s.walls=copyWalls(walls);
         s.parent = Arrays.copyOf(parent, parent.length);
         s.rank = Arrays.copyOf(rank, rank.length);
-        s.edges = new ArrayList<>(); for (int[] e : edges) s.edges.add(new int[]{e[0],e[1],e[2]});
+        s.edges = edges; // shuffled once in setSize and never mutated, so snapshots share it
         s.edgeIdx = edgeIdx; s.done = done; return s;
     }
 
@@ -96,7 +119,7 @@ public class MazeGeneratorKruskal {
         rows=s.rows; cols=s.cols; walls=copyWalls(s.walls);
         parent = Arrays.copyOf(s.parent, s.parent.length);
         rank = Arrays.copyOf(s.rank, s.rank.length);
-        edges = new ArrayList<>(); for (int[] e : s.edges) edges.add(new int[]{e[0],e[1],e[2]});
+        edges = s.edges;
         edgeIdx = s.edgeIdx; done = s.done;
     }
 
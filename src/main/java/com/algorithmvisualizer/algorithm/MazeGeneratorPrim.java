@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class MazeGeneratorPrim {
+public class MazeGeneratorPrim implements SteppableSolver<MazeGeneratorPrim.State> {
     public enum StepType { INIT, CARVE, DONE }
     public interface StepListener { void onStep(StepType type, int r, int c, int nr, int nc); }
 
@@ -14,7 +14,15 @@ public class MazeGeneratorPrim {
     private boolean done = false;
 
     private StepListener listener;
-    private Random rnd = new Random();
+    private boolean muted;
+    private CellChangeListener cellListener;
+
+    private final WallGridView wallView = new WallGridView() {
+        @Override public int getRows() { return rows; }
+        @Override public int getCols() { return cols; }
+        @Override public boolean hasWall(int r, int c, int dir) { return walls[r][c][dir]; }
+    };
+    private long rngState = new Random().nextLong(); // carried in State so replays carve the same maze
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -25,12 +33,20 @@ public class MazeGeneratorPrim {
         public boolean[][] inMaze;
         public List<int[]> frontier;
         public boolean started;
+        public long rngState;
         public boolean done;
+
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 32 + MazeGeneratorDFS.wallBytes(rows, cols) + StateSizes.booleanGrid(rows, cols)
+                    + StateSizes.intArrays(frontier.size(), 3);
+        }
     }
 
     public MazeGeneratorPrim(int rows, int cols) { setSize(rows, cols); }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    public void setCellChangeListener(CellChangeListener l) { this.cellListener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public void setSize(int r, int c) {
         rows = Math.max(1, r); cols = Math.max(1, c);
@@ -48,6 +64,9 @@ public class MazeGeneratorPrim {
 
     public boolean[][][] getWalls() { return copyWalls(walls); }
 
+    /** Live, non-copying view of the walls; see {@link #setCellChangeListener} for changes. */
+    public WallGridView getWallView() { return wallView; }
+
     public void step() {
         if (done) return;
         if (!started) {
@@ -59,6 +78,8 @@ public class MazeGeneratorPrim {
         if (frontier.isEmpty()) {
             done = true; emit(StepType.DONE, -1, -1, -1, -1); return;
         }
+        Random rnd = new Random(rngState);
+        rngState = rnd.nextLong();
         int idx = rnd.nextInt(frontier.size());
         int[] e = frontier.remove(idx);
         int r = e[0], c = e[1], dir = e[2];
@@ -69,6 +90,8 @@ public class MazeGeneratorPrim {
             // carve
             walls[r][c][dir] = false;
             walls[nr][nc][(dir + 2) % 4] = false;
+            cellChanged(r, c);
+            cellChanged(nr, nc);
             addCell(nr, nc);
             emit(StepType.CARVE, r, c, nr, nc);
         }
@@ -83,14 +106,16 @@ public class MazeGeneratorPrim {
         }
     }
 
-    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener != null) listener.onStep(t, r, c, nr, nc); }
+    private void emit(StepType t, int r, int c, int nr, int nc) { if (listener != null && !muted) listener.onStep(t, r, c, nr, nc); }
+
+    private void cellChanged(int r, int c) { if (cellListener != null && !muted) cellListener.onCellChanged(r, c); }
 
     public State snapshot() {
         State s = new State();
         s.rows = rows; s.cols = cols; s.walls = copyWalls(walls);
         s.inMaze = new boolean[rows][cols]; for (int i=0;i<rows;i++) System.arraycopy(inMaze[i],0,s.inMaze[i],0,cols);
         s.frontier = new ArrayList<>(); for (int[] f : frontier) s.frontier.add(new int[]{f[0],f[1],f[2]});
-        s.started = started; s.done = done;
+        s.started = started; s.rngState = rngState; s.done = done;
         return s;
     }
 
@@ -99,7 +124,7 @@ public class MazeGeneratorPrim {
         rows = s.rows; cols = s.cols; walls = copyWalls(s.walls);
         inMaze = new boolean[rows][cols]; for (int i=0;i<rows;i++) System.arraycopy(s.inMaze[i],0,inMaze[i],0,cols);
         frontier = new ArrayList<>(); for (int[] f : s.frontier) frontier.add(new int[]{f[0],f[1],f[2]});
-        started = s.started; done = s.done;
+        started = s.started; rngState = s.rngState; done = s.done;
     }
 
     private static boolean[][][] copyWalls(boolean[][][] src) { int r=src.length,c=src[0].length; boolean[][][] w=new boolean[r][c][4]; for(int i=0;i<r;i++) for(int j=0;j<c;j++) System.arraycopy(src[i][j],0,w[i][j],0,4); return w; }
@@ -0,0 +1,52 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Bottom-up merge sort: runs of width 1, 2, 4, ... are merged pairwise. Only
+ * the left run is copied to the auxiliary buffer; the merge fills the array
+ * from the left, so the right run is read in place and its tail never moves.
+ * A pair whose boundary is already in order is skipped with one comparison,
+ * which makes sorted input linear. Stable.
+ */
+public class MergeSortEngine extends SortEngine {
+
+    public MergeSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Merge Sort"; }
+
+    @Override
+    void sort(Tape t) {
+        if (t.length() < 2) return;
+        t.allocateAux();
+        sortRange(t, 0, t.length());
+    }
+
+    /** Sort a[from, to) bottom-up; the tape's auxiliary buffer must be allocated. */
+    static void sortRange(Tape t, int from, int to) {
+        for (int width = 1; width < to - from; width <<= 1) {
+            for (int lo = from; lo < to - width; lo += width << 1) {
+                int mid = lo + width, hi = Math.min(mid + width, to);
+                if (t.less(mid, mid - 1)) merge(t, lo, mid, hi);
+            }
+        }
+    }
+
+    private static void merge(Tape t, int lo, int mid, int hi) {
+        for (int k = lo; k < mid; k++) t.auxSet(k, t.get(k));
+        int i = lo, j = mid, k = lo;
+        int x = t.auxGet(i), y = t.get(j);
+        while (true) {
+            if (t.lessValues(y, x, j, k)) {
+                t.set(k++, y);
+                if (++j == hi) break;
+                y = t.get(j);
+            } else {
+                t.set(k++, x);
+                if (++i == mid) return; // the rest of the right run is already in place
+                x = t.auxGet(i);
+            }
+        }
+        t.set(k++, x);
+        while (++i < mid) t.set(k++, t.auxGet(i));
+    }
+}
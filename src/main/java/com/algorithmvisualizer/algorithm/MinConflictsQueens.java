@@ -0,0 +1,228 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Min-conflicts local search for N-Queens, for boards far beyond what
+ * backtracking can reach (N = 1,000,000 in seconds).
+ *
+ * One queen per row; queens per column, diagonal (row - col) and
+ * anti-diagonal (row + col) are counted in int[]s, so the conflicts of any
+ * square are three lookups. Each line also keeps the sum of its queens'
+ * rows, so when a line holds exactly two queens the other one is known in
+ * O(1). The start is a near-solution: each row takes a
+ * random still-free column, retried a few times for free diagonals. Each
+ * {@link #step()} then picks a random conflicted queen and moves it, within
+ * its row, to the least conflicted of a sample of columns (ties broken at
+ * random, sideways moves allowed): the empty columns, which are tracked in a
+ * list and are the only ones a queen can move to without a column conflict,
+ * topped up with random ones. Conflicted rows are kept in a lazy
+ * worklist: a queen still in conflict after its move re-enters it, with the
+ * queen it now shares each two-queen line with; rows that stopped being
+ * conflicted are skipped when drawn, and a full scan refills the list if it
+ * runs dry (a queen that met two others on one line). After
+ * {@link #getMaxMovesPerRestart()} moves without a solution the search
+ * restarts from a fresh random start.
+ *
+ * Not thread-safe: step from one thread. Counters and the board may be read
+ * from another thread for display while it runs.
+ */
+public class MinConflictsQueens {
+
+    private static final int INIT_TRIES = 20;
+    private static final int SAMPLE = 64;
+
+    private final int n;
+    private final int[] queens;
+    private final int[] cols, diag, anti;
+    private final int[] colRows, diagRows, antiRows; // sum of the rows of each line's queens
+    private final int[] worklist;
+    private int worklistSize;
+    private final int[] emptyCols, emptyAt; // list of columns without a queen, and each column's index in it (-1 if taken)
+    private int emptyCount;
+    private final SplittableRandom rnd;
+
+    private long collisions; // sum over lines of (queens on it - 1)
+    private long moves;
+    private long totalMoves;
+    private int restarts;
+    private long maxMovesPerRestart;
+    private int lastRow = -1, lastFrom = -1, lastTo = -1;
+    private volatile boolean cancelled;
+
+    public MinConflictsQueens(int n, long seed) {
+        if (n < 1) throw new IllegalArgumentException("N must be at least 1");
+        if (n == 2 || n == 3) throw new IllegalArgumentException("No solution exists for N = " + n);
+        this.n = n;
+        queens = new int[n];
+        cols = new int[n];
+        diag = new int[2 * n - 1];
+        anti = new int[2 * n - 1];
+        colRows = new int[n];
+        diagRows = new int[2 * n - 1];
+        antiRows = new int[2 * n - 1];
+        worklist = new int[n + 3];
+        emptyCols = new int[n];
+        emptyAt = new int[n];
+        rnd = new SplittableRandom(seed);
+        maxMovesPerRestart = Math.max(10_000L, 20L * n);
+        restart();
+    }
+
+    public int size() { return n; }
+    public long getMaxMovesPerRestart() { return maxMovesPerRestart; }
+    public void setMaxMovesPerRestart(long moves) { this.maxMovesPerRestart = Math.max(1, moves); }
+
+    /** Throw away the board and place the queens again from a fresh random start. */
+    public void restart() {
+        Arrays.fill(cols, 0);
+        Arrays.fill(diag, 0);
+        Arrays.fill(anti, 0);
+        Arrays.fill(colRows, 0);
+        Arrays.fill(diagRows, 0);
+        Arrays.fill(antiRows, 0);
+        for (int c = 0; c < n; c++) { emptyCols[c] = c; emptyAt[c] = c; }
+        emptyCount = n;
+        collisions = 0;
+        int[] free = new int[n];
+        for (int c = 0; c < n; c++) free[c] = c;
+        int freeCount = n;
+        for (int r = 0; r < n; r++) {
+            int pick = rnd.nextInt(freeCount);
+            for (int t = 0; t < INIT_TRIES && diag[r - free[pick] + n - 1] + anti[r + free[pick]] > 0; t++) {
+                pick = rnd.nextInt(freeCount);
+            }
+            int c = free[pick];
+            free[pick] = free[--freeCount];
+            queens[r] = c;
+            add(r, c, 1);
+        }
+        moves = 0;
+        lastRow = lastFrom = lastTo = -1;
+        refillWorklist();
+    }
+
+    /** Queens sharing a line with the queen of {@code row}. */
+    public int conflicts(int row) {
+        int c = queens[row];
+        return cols[c] + diag[row - c + n - 1] + anti[row + c] - 3;
+    }
+
+    /**
+     * Make one repair move; restarts first if the move budget is spent.
+     * Returns false once the board is a solution.
+     */
+    public boolean step() {
+        if (collisions == 0) return false;
+        if (moves >= maxMovesPerRestart) {
+            restarts++;
+            restart();
+            if (collisions == 0) return false;
+        }
+        int row = nextConflictedRow();
+        int from = queens[row];
+        add(row, from, -1);
+        // Conflicts of each candidate with the queen lifted off the board
+        int best = from, bestConflicts = cols[from] + diag[row - from + n - 1] + anti[row + from], ties = 1;
+        int fromEmpty = Math.min(emptyCount, SAMPLE / 2), offset = rnd.nextInt(emptyCount);
+        for (int s = 0; s < SAMPLE && s < n; s++) {
+            int c = s < fromEmpty ? emptyCols[(offset + s) % emptyCount] : n <= SAMPLE ? s : rnd.nextInt(n);
+            if (c == from) continue;
+            int k = cols[c] + diag[row - c + n - 1] + anti[row + c];
+            if (k < bestConflicts) { best = c; bestConflicts = k; ties = 1; }
+            else if (k == bestConflicts && rnd.nextInt(++ties) == 0) best = c;
+        }
+        queens[row] = best;
+        add(row, best, 1);
+        if (bestConflicts > 0) {
+            // The worklist has room: row was taken out of it, and it never holds a row twice from a scan
+            if (worklistSize + 4 > worklist.length) worklistSize = 0;
+            worklist[worklistSize++] = row;
+            if (cols[best] == 2) worklist[worklistSize++] = colRows[best] - row;
+            if (diag[row - best + n - 1] == 2) worklist[worklistSize++] = diagRows[row - best + n - 1] - row;
+            if (anti[row + best] == 2) worklist[worklistSize++] = antiRows[row + best] - row;
+        }
+        lastRow = row;
+        lastFrom = from;
+        lastTo = best;
+        moves++;
+        totalMoves++;
+        return collisions != 0;
+    }
+
+    /** Step until solved; throws CancellationException after {@link #cancel()}. */
+    public void solve() {
+        while (step()) {
+            if ((totalMoves & 0xFFF) == 0 && cancelled) throw new CancellationException();
+        }
+    }
+
+    /** Make a running {@link #solve()} stop within a few thousand moves. */
+    public void cancel() { cancelled = true; }
+
+    // A random row from the worklist that is still conflicted; rescans the board when it runs dry
+    private int nextConflictedRow() {
+        while (true) {
+            if (worklistSize == 0) refillWorklist();
+            int i = rnd.nextInt(worklistSize);
+            int row = worklist[i];
+            worklist[i] = worklist[--worklistSize];
+            if (conflicts(row) > 0) return row;
+        }
+    }
+
+    private void refillWorklist() {
+        worklistSize = 0;
+        for (int r = 0; r < n; r++) if (conflicts(r) > 0) worklist[worklistSize++] = r;
+    }
+
+    private void add(int row, int c, int delta) {
+        colRows[c] += delta * row;
+        if (delta > 0 && cols[c] == 0) {
+            int at = emptyAt[c], last = emptyCols[--emptyCount];
+            emptyCols[at] = last;
+            emptyAt[last] = at;
+            emptyAt[c] = -1;
+        } else if (delta < 0 && cols[c] == 1) {
+            emptyAt[c] = emptyCount;
+            emptyCols[emptyCount++] = c;
+        }
+        diagRows[row - c + n - 1] += delta * row;
+        antiRows[row + c] += delta * row;
+        collisions += line(cols, c, delta) + line(diag, row - c + n - 1, delta) + line(anti, row + c, delta);
+    }
+
+    // Change one line's count; returns the change in its collisions
+    private static int line(int[] counts, int i, int delta) {
+        int before = counts[i];
+        counts[i] = before + delta;
+        return Math.max(0, before + delta - 1) - Math.max(0, before - 1);
+    }
+
+    public boolean isSolved() { return collisions == 0; }
+    public long getCollisions() { return collisions; }
+    public long getMoves() { return moves; }
+    public long getTotalMoves() { return totalMoves; }
+    public int getRestarts() { return restarts; }
+    public int getLastRow() { return lastRow; }
+    public int getLastFrom() { return lastFrom; }
+    public int getLastTo() { return lastTo; }
+    /** Conflicted queens waiting in the worklist (some may have been resolved since). */
+    public int getWorklistSize() { return worklistSize; }
+
+    /** Live board: queens[row] = column. */
+    public int[] queens() { return queens; }
+
+    /** Whether no two queens share a column or diagonal, checked from scratch. */
+    public boolean verify() {
+        boolean[] c = new boolean[n], d = new boolean[2 * n - 1], a = new boolean[2 * n - 1];
+        for (int r = 0; r < n; r++) {
+            int q = queens[r];
+            if (c[q] || d[r - q + n - 1] || a[r + q]) return false;
+            c[q] = d[r - q + n - 1] = a[r + q] = true;
+        }
+        return true;
+    }
+}
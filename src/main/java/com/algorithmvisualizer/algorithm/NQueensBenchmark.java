@@ -0,0 +1,86 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Times the full and the symmetry-reduced {@link NQueensSolver} search for
+ * each board size, at full speed and without a UI, and checks that the
+ * orbit sizes of the fundamental solutions add up to the full count.
+ * Headless use writes one CSV row per N:
+ * {@code java -cp target/classes com.algorithmvisualizer.algorithm.NQueensBenchmark [out.csv] [max N]}.
+ */
+public final class NQueensBenchmark {
+
+    public static final String CSV_HEADER = "n,solutions,full_ms,fundamental,from_orbits,reduced_ms";
+
+    /** One board size; times are for a single muted solveAll. */
+    public static final class Row {
+        public final int n;
+        public final int solutions;
+        public final double fullMillis;
+        public final int fundamental;
+        public final long fromOrbits;
+        public final double reducedMillis;
+
+        Row(int n, int solutions, double fullMillis, int fundamental, long fromOrbits, double reducedMillis) {
+            this.n = n;
+            this.solutions = solutions;
+            this.fullMillis = fullMillis;
+            this.fundamental = fundamental;
+            this.fromOrbits = fromOrbits;
+            this.reducedMillis = reducedMillis;
+        }
+
+        public String toCsv() {
+            return String.format(Locale.ROOT, "%d,%d,%.3f,%d,%d,%.3f",
+                    n, solutions, fullMillis, fundamental, fromOrbits, reducedMillis);
+        }
+    }
+
+    private NQueensBenchmark() {}
+
+    /** Measure board size n. Throws IllegalStateException if the reduced search reconstructs a different count. */
+    public static Row measure(int n) {
+        NQueensSolver full = new NQueensSolver(n);
+        full.setMuted(true);
+        long t0 = System.nanoTime();
+        full.solveAll();
+        double fullMillis = (System.nanoTime() - t0) / 1e6;
+        NQueensSolver reduced = new NQueensSolver(n);
+        reduced.setMuted(true);
+        reduced.setSymmetryReduced(true);
+        t0 = System.nanoTime();
+        reduced.solveAll();
+        double reducedMillis = (System.nanoTime() - t0) / 1e6;
+        if (reduced.getTotalSolutions() != full.getSolutionsFound()) {
+            throw new IllegalStateException("N=" + n + ": orbits give " + reduced.getTotalSolutions()
+                    + " solutions, full search found " + full.getSolutionsFound());
+        }
+        return new Row(n, full.getSolutionsFound(), fullMillis, reduced.getSolutionsFound(),
+                reduced.getTotalSolutions(), reducedMillis);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(args.length > 0 ? args[0] : "nqueens-symmetry.csv");
+        int maxN = args.length > 1 ? Integer.parseInt(args[1]) : 12;
+        for (int k = 0; k < 3; k++) measure(Math.min(maxN, 10)); // warm up both searches before timing
+        try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER);
+            w.newLine();
+            for (int n = 1; n <= maxN; n++) {
+                Row row = measure(n);
+                w.write(row.toCsv());
+                w.newLine();
+                w.flush();
+                System.out.println(row.toCsv());
+            }
+        }
+        System.out.println("Wrote " + out.toAbsolutePath());
+    }
+}
@@ -1,12 +1,20 @@
 package com.algorithmvisualizer.algorithm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * N-Queens solver with granular step events for visualization.
+ *
+ * In symmetry-reduced mode only canonical boards are reported (see
+ * {@link NQueensSymmetry}): the first queen is tried in the left half of row
+ * 0 only, centre column included for odd N, in which case the second queen
+ * must go left of centre; other boards are found but skipped unless
+ * canonical. Each fundamental solution stands for its whole orbit, so the
+ * full count is the sum of the orbit sizes.
  */
-public class NQueensSolver {
+public class NQueensSolver implements SteppableSolver<NQueensSolver.State> {
 
     public enum StepType { CHECK, PLACE, BACKTRACK, SOLUTION, DONE }
 
@@ -26,6 +34,12 @@ public class NQueensSolver {
         public boolean[] usedDiagonals1;
         public boolean[] usedDiagonals2;
         public int solutionsSize;
+        public long totalSolutions;
+
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 48 + StateSizes.ints(queens.length) + StateSizes.booleans(usedColumns.length)
+                    + StateSizes.booleans(usedDiagonals1.length) + StateSizes.booleans(usedDiagonals2.length);
+        }
     }
 
     public State snapshot() {
@@ -43,7 +57,8 @@ public class NQueensSolver {
         System.arraycopy(usedDiagonals1, 0, s.usedDiagonals1, 0, usedDiagonals1.length);
         s.usedDiagonals2 = new boolean[usedDiagonals2.length];
         System.arraycopy(usedDiagonals2, 0, s.usedDiagonals2, 0, usedDiagonals2.length);
-        s.solutionsSize = solutions.size();
+        s.solutionsSize = solutionsFound;
+        s.totalSolutions = totalSolutions;
         return s;
     }
 
@@ -53,15 +68,14 @@ public class NQueensSolver {
         currentColumn = s.currentColumn;
         queensPlaced = s.queensPlaced;
         solutionsFound = s.solutionsFound;
+        totalSolutions = s.totalSolutions;
         isCompleted = s.isCompleted;
         System.arraycopy(s.queens, 0, queens, 0, queens.length);
         System.arraycopy(s.usedColumns, 0, usedColumns, 0, usedColumns.length);
         System.arraycopy(s.usedDiagonals1, 0, usedDiagonals1, 0, usedDiagonals1.length);
         System.arraycopy(s.usedDiagonals2, 0, usedDiagonals2, 0, usedDiagonals2.length);
-        // Truncate recorded solutions to match restored state
-        while (solutions.size() > s.solutionsSize) {
-            solutions.remove(solutions.size() - 1);
-        }
+        // Recorded solutions are kept as a cache rather than truncated: the search is
+        // deterministic, so solutions beyond the restored count are re-found identically.
     }
 
     private int boardSize;
@@ -74,12 +88,16 @@ public class NQueensSolver {
     private int currentColumn = 0; // next column to try in current row
     private int queensPlaced = 0;
     private int solutionsFound = 0;
+    private long totalSolutions = 0; // sum of orbit sizes in symmetry-reduced mode
     private boolean isCompleted = false;
+    private boolean symmetryReduced;
 
     private VisualizationCallback callback; // legacy, still supported for place/backtrack
     private StepListener stepListener;
+    private boolean muted;
 
-    private final List<int[]> solutions = new ArrayList<>();
+    private PackedBoards solutions;
+    private byte[] orbitSizes = new byte[16]; // parallel to solutions
 
     public interface VisualizationCallback {
         void onStep(int row, int col, boolean isPlacing, boolean isBacktracking);
@@ -96,7 +114,7 @@ public class NQueensSolver {
         usedDiagonals1 = new boolean[2 * boardSize - 1];
         usedDiagonals2 = new boolean[2 * boardSize - 1];
         for (int i = 0; i < boardSize; i++) queens[i] = -1;
-        solutions.clear();
+        solutions = new PackedBoards(boardSize);
     }
 
     public void setVisualizationCallback(VisualizationCallback callback) {
@@ -107,9 +125,23 @@ public class NQueensSolver {
         this.stepListener = listener;
     }
 
+    @Override
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
+    /** Report only canonical boards from now on (or all boards again); resets the search. */
+    public void setSymmetryReduced(boolean symmetryReduced) {
+        this.symmetryReduced = symmetryReduced;
+        reset();
+    }
+
+    public boolean isSymmetryReduced() { return symmetryReduced; }
+
     public void solveAll() { // still available for full-run
         isCompleted = false;
         solutionsFound = 0;
+        totalSolutions = 0;
         solutions.clear();
         solve(0);
         isCompleted = true;
@@ -120,9 +152,10 @@ public class NQueensSolver {
         if (isCompleted) return;
 
         if (currentRow == boardSize) {
-            solutionsFound++;
-            recordCurrentSolution();
-            emit(StepType.SOLUTION, currentRow - 1, queens[currentRow - 1]);
+            if (!symmetryReduced || NQueensSymmetry.isCanonical(queens)) {
+                countCurrentSolution();
+                emit(StepType.SOLUTION, currentRow - 1, queens[currentRow - 1]);
+            }
             // backtrack one step to look for more solutions
             currentRow--;
             int lastCol = queens[currentRow];
@@ -132,7 +165,7 @@ public class NQueensSolver {
             return;
         }
 
-        if (currentColumn < boardSize) {
+        if (currentColumn < columnLimit(currentRow)) {
             int col = currentColumn;
             emit(StepType.CHECK, currentRow, col);
             if (isSafe(currentRow, col)) {
@@ -162,11 +195,11 @@ public class NQueensSolver {
 
     private void solve(int row) {
         if (row == boardSize) {
-            solutionsFound++;
-            recordCurrentSolution();
+            if (!symmetryReduced || NQueensSymmetry.isCanonical(queens)) countCurrentSolution();
             return;
         }
-        for (int col = 0; col < boardSize; col++) {
+        int limit = columnLimit(row);
+        for (int col = 0; col < limit; col++) {
             if (isSafe(row, col)) {
                 placeQueen(row, col);
                 solve(row + 1);
@@ -175,10 +208,23 @@ public class NQueensSolver {
         }
     }
 
-    private void recordCurrentSolution() {
-        int[] copy = new int[boardSize];
-        System.arraycopy(queens, 0, copy, 0, boardSize);
-        solutions.add(copy);
+    // Columns tried in a row: a canonical board has its first queen in the left half, and
+    // with the first queen on the centre column of an odd board the second one left of it
+    private int columnLimit(int row) {
+        if (!symmetryReduced) return boardSize;
+        if (row == 0) return (boardSize + 1) / 2;
+        if (row == 1 && boardSize % 2 == 1 && queens[0] == boardSize / 2) return boardSize / 2;
+        return boardSize;
+    }
+
+    private void countCurrentSolution() {
+        int orbit = symmetryReduced ? NQueensSymmetry.orbitSize(queens) : 1;
+        solutionsFound++;
+        totalSolutions += orbit;
+        if (solutionsFound <= solutions.size()) return; // already cached from an earlier pass
+        solutions.add(queens);
+        if (orbitSizes.length < solutions.size()) orbitSizes = Arrays.copyOf(orbitSizes, 2 * orbitSizes.length);
+        orbitSizes[solutions.size() - 1] = (byte) orbit;
     }
 
     private void placeQueen(int row, int col) {
@@ -208,27 +254,35 @@ public class NQueensSolver {
         currentColumn = 0;
         queensPlaced = 0;
         solutionsFound = 0;
+        totalSolutions = 0;
         isCompleted = false;
         initialize();
     }
 
     private void emit(StepType type, int row, int col) {
-        if (stepListener != null) stepListener.onStep(type, row, col);
+        if (stepListener != null && !muted) stepListener.onStep(type, row, col);
     }
 
     private void emitPlaceBacktrack(boolean placing, int row, int col) {
-        if (callback != null) callback.onStep(row, col, placing, !placing);
+        if (callback != null && !muted) callback.onStep(row, col, placing, !placing);
     }
 
     // Getters
     public int getCurrentRow() { return currentRow; }
     public int getCurrentColumn() { return currentColumn; }
     public int getQueensPlaced() { return queensPlaced; }
+    /** Solutions found so far; fundamental ones only in symmetry-reduced mode. */
     public int getSolutionsFound() { return solutionsFound; }
+    /** All solutions represented so far, counting each fundamental one's whole orbit. */
+    public long getTotalSolutions() { return totalSolutions; }
     public boolean isCompleted() { return isCompleted; }
+    @Override public boolean isDone() { return isCompleted; }
 
     public String getCurrentStepDescription() {
-        if (isCompleted) return "Done. Solutions: " + solutionsFound;
+        if (isCompleted) {
+            return symmetryReduced ? "Done. Fundamental solutions: " + solutionsFound + ", all solutions: " + totalSolutions
+                    : "Done. Solutions: " + solutionsFound;
+        }
         return "Row " + currentRow + ", next col: " + currentColumn + ", placed: " + queensPlaced;
     }
 
@@ -238,7 +292,23 @@ public class NQueensSolver {
         return copy;
     }
 
+    /** Copies every solution found so far; prefer {@link #getSolution} for large N. */
     public List<int[]> getSolutions() {
-        return new ArrayList<>(solutions);
+        int count = Math.min(solutionsFound, solutions.size());
+        List<int[]> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) list.add(solutions.get(i));
+        return list;
+    }
+
+    /** Solution {@code i} (0-based) of those found so far. */
+    public int[] getSolution(int i) {
+        if (i >= solutionsFound) throw new IndexOutOfBoundsException("Solution " + i + " of " + solutionsFound);
+        return solutions.get(i);
+    }
+
+    /** Size of the symmetry orbit of solution {@code i}: 8, 4 or 2 (1 for N = 1); always 1 unless symmetry-reduced. */
+    public int getOrbitSize(int i) {
+        if (i >= solutionsFound) throw new IndexOutOfBoundsException("Solution " + i + " of " + solutionsFound);
+        return orbitSizes[i];
     }
 }
@@ -0,0 +1,95 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * The eight symmetries of the square acting on N-Queens boards, given as
+ * queens[row] = column. A solution's orbit is the set of its distinct images;
+ * its canonical form is the lexicographically smallest of them. Reflections
+ * never map a solution (N > 1) to itself, so an orbit has 8 boards, 4 when
+ * the solution is symmetric under a half turn, or 2 under a quarter turn.
+ */
+public final class NQueensSymmetry {
+
+    private NQueensSymmetry() {}
+
+    /** All eight images of {@code q}: the four rotations of q, then of its mirror image. */
+    public static int[][] images(int[] q) {
+        int n = q.length;
+        int[][] out = new int[8][];
+        int[] mirror = new int[n];
+        for (int r = 0; r < n; r++) mirror[r] = n - 1 - q[r];
+        out[0] = q.clone();
+        out[4] = mirror;
+        for (int k = 1; k < 4; k++) {
+            out[k] = rotate(out[k - 1]);
+            out[k + 4] = rotate(out[k + 3]);
+        }
+        return out;
+    }
+
+    // Quarter turn clockwise: the queen at (r, c) moves to (c, n - 1 - r)
+    private static int[] rotate(int[] q) {
+        int n = q.length;
+        int[] t = new int[n];
+        for (int r = 0; r < n; r++) t[q[r]] = n - 1 - r;
+        return t;
+    }
+
+    /** Number of distinct boards among the eight images of {@code q}. */
+    public static int orbitSize(int[] q) {
+        int[][] images = images(q);
+        int distinct = 0;
+        for (int i = 0; i < 8; i++) {
+            boolean seen = false;
+            for (int j = 0; j < i && !seen; j++) seen = Arrays.equals(images[i], images[j]);
+            if (!seen) distinct++;
+        }
+        return distinct;
+    }
+
+    /**
+     * Whether {@code q} is the lexicographically smallest of its images. Each
+     * image is compared row by row as it is computed, from q and its inverse,
+     * so most boards are rejected after a row or two.
+     */
+    public static boolean isCanonical(int[] q) {
+        int n = q.length;
+        int[] inv = new int[n];
+        for (int r = 0; r < n; r++) inv[q[r]] = r;
+        for (int k = 1; k < 8; k++) {
+            for (int i = 0; i < n; i++) {
+                int v = image(k, q, inv, i);
+                if (v != q[i]) {
+                    if (v < q[i]) return false;
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Row i of image k, in the order of images(): rotations of q, then of its mirror
+    private static int image(int k, int[] q, int[] inv, int i) {
+        int n = q.length;
+        switch (k) {
+            case 1: return n - 1 - inv[i];
+            case 2: return n - 1 - q[n - 1 - i];
+            case 3: return inv[n - 1 - i];
+            case 4: return n - 1 - q[i];
+            case 5: return n - 1 - inv[n - 1 - i];
+            case 6: return q[n - 1 - i];
+            default: return inv[i];
+        }
+    }
+
+    /** Short name of the symmetry class with the given orbit size. */
+    public static String className(int orbitSize) {
+        switch (orbitSize) {
+            case 8: return "no symmetry";
+            case 4: return "half-turn symmetric";
+            case 2: return "quarter-turn symmetric";
+            default: return "fully symmetric";
+        }
+    }
+}
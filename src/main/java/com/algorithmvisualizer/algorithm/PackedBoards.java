@@ -0,0 +1,50 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of N-Queens boards packed one byte per row (the queen's
+ * column, N at most 256), so hundreds of thousands of solutions cost N bytes
+ * each instead of an int[] object apiece. Boards are unpacked on demand.
+ */
+public final class PackedBoards {
+
+    private final int boardSize;
+    private byte[] data;
+    private int size;
+
+    public PackedBoards(int boardSize) {
+        if (boardSize < 1 || boardSize > 256) throw new IllegalArgumentException("Board size must be between 1 and 256");
+        this.boardSize = boardSize;
+        this.data = new byte[boardSize * 16];
+    }
+
+    public int boardSize() { return boardSize; }
+    public int size() { return size; }
+
+    /** Append {@code queens}, the queen's column in each row. */
+    public void add(int[] queens) {
+        if ((long) (size + 1) * boardSize > data.length) {
+            long grown = Math.max((long) data.length * 2, (long) (size + 1) * boardSize);
+            if (grown > Integer.MAX_VALUE - 8) throw new IllegalStateException("Too many boards to store");
+            data = Arrays.copyOf(data, (int) grown);
+        }
+        int at = size * boardSize;
+        for (int r = 0; r < boardSize; r++) data[at + r] = (byte) queens[r];
+        size++;
+    }
+
+    /** Board {@code i} unpacked into {@code into}, which is returned. */
+    public int[] get(int i, int[] into) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Board " + i + " of " + size);
+        int at = i * boardSize;
+        for (int r = 0; r < boardSize; r++) into[r] = data[at + r] & 0xFF;
+        return into;
+    }
+
+    public int[] get(int i) { return get(i, new int[boardSize]); }
+
+    public void clear() { size = 0; }
+
+    public long estimateBytes() { return StateSizes.OBJECT + 16 + data.length; }
+}
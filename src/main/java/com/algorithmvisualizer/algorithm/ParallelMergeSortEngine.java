@@ -0,0 +1,71 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Fork/join merge sort: the halves are sorted in parallel, down to chunks
+ * sorted by {@link MergeSortEngine}'s bottom-up loop, and two sorted halves
+ * are merged in parallel too. The parallel merge copies the range to the
+ * auxiliary buffer, places the median of the longer run at its final index,
+ * binary-searches the split of the other run and merges both sides as
+ * independent tasks, so no merge level is a sequential O(n) bottleneck.
+ */
+public class ParallelMergeSortEngine extends ParallelSortEngine {
+
+    public ParallelMergeSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Parallel Merge Sort"; }
+
+    @Override
+    void sortParallel(Tape t) {
+        int n = t.length();
+        if (n < 2) return;
+        t.allocateAux();
+        sortRange(t, 0, n, grain(t, n));
+    }
+
+    private void sortRange(Tape t, int lo, int hi, int grain) {
+        if (hi - lo <= grain) { MergeSortEngine.sortRange(t, lo, hi); return; }
+        int mid = (lo + hi) >>> 1, n = t.length();
+        t.invokeAll(lane(lo, n), s -> sortRange(s, lo, mid, grain), lane(mid, n), s -> sortRange(s, mid, hi, grain));
+        if (!t.less(mid, mid - 1)) return;
+        copyToAux(t, lo, hi, grain);
+        merge(t, lo, mid, mid, hi, lo, grain);
+    }
+
+    private void copyToAux(Tape t, int lo, int hi, int grain) {
+        if (hi - lo <= grain) {
+            for (int k = lo; k < hi; k++) t.auxSet(k, t.get(k));
+            return;
+        }
+        int mid = (lo + hi) >>> 1, n = t.length();
+        t.invokeAll(lane(lo, n), s -> copyToAux(s, lo, mid, grain), lane(mid, n), s -> copyToAux(s, mid, hi, grain));
+    }
+
+    /** Merge aux[lo1, hi1) and aux[lo2, hi2) into a from {@code out}. */
+    private void merge(Tape t, int lo1, int hi1, int lo2, int hi2, int out, int grain) {
+        int len1 = hi1 - lo1, len2 = hi2 - lo2;
+        if (len1 < len2) { merge(t, lo2, hi2, lo1, hi1, out, grain); return; }
+        if (len1 == 0) return;
+        if (len1 + len2 <= grain) { mergeSequential(t, lo1, hi1, lo2, hi2, out); return; }
+        int m1 = (lo1 + hi1) >>> 1, x = t.auxGet(m1);
+        // First index of run 2 not below x
+        int l = lo2, h = hi2;
+        while (l < h) {
+            int m = (l + h) >>> 1;
+            if (t.lessValues(t.auxGet(m), x, m, m1)) l = m + 1; else h = m;
+        }
+        int m2 = l, at = out + (m1 - lo1) + (m2 - lo2), n = t.length();
+        t.set(at, x);
+        t.invokeAll(lane(out, n), s -> merge(s, lo1, m1, lo2, m2, out, grain),
+                lane(at + 1, n), s -> merge(s, m1 + 1, hi1, m2, hi2, at + 1, grain));
+    }
+
+    private static void mergeSequential(Tape t, int i, int hi1, int j, int hi2, int k) {
+        while (i < hi1 && j < hi2) {
+            int x = t.auxGet(i), y = t.auxGet(j);
+            if (t.lessValues(y, x, j, i)) { t.set(k++, y); j++; } else { t.set(k++, x); i++; }
+        }
+        while (i < hi1) t.set(k++, t.auxGet(i++));
+        while (j < hi2) t.set(k++, t.auxGet(j++));
+    }
+}
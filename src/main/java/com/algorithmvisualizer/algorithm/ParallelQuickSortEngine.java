@@ -0,0 +1,31 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Fork/join quicksort: each range is partitioned as in {@link QuickSortEngine}
+ * and the two sides are sorted as parallel tasks, down to chunks sorted by
+ * the sequential engine. The first partitions run on one thread, which is
+ * what limits its speed-up compared to merge sort. Beyond a fork depth of
+ * 2 log2(n) ranges are sorted sequentially, so bad pivots cannot exhaust the
+ * worker stacks.
+ */
+public class ParallelQuickSortEngine extends ParallelSortEngine {
+
+    public ParallelQuickSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Parallel Quick Sort"; }
+
+    @Override
+    void sortParallel(Tape t) {
+        int n = t.length();
+        if (n < 2) return;
+        sortRange(t, 0, n - 1, grain(t, n), 2 * (32 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    private void sortRange(Tape t, int lo, int hi, int grain, int depth) {
+        if (hi - lo < Math.max(grain, 4) || depth == 0) { QuickSortEngine.sortRange(t, lo, hi); return; }
+        int p = QuickSortEngine.partition(t, lo, hi), n = t.length();
+        t.invokeAll(lane(lo, n), s -> sortRange(s, lo, p - 1, grain, depth - 1),
+                lane(p + 1, n), s -> sortRange(s, p + 1, hi, grain, depth - 1));
+    }
+}
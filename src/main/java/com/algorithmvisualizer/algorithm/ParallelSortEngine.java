@@ -0,0 +1,60 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Base of the fork/join sort engines. {@link #runToCompletion()} runs the
+ * sort on a ForkJoinPool of {@link #getParallelism()} threads, splitting work
+ * down to chunks of at least {@link #MIN_GRAIN} elements.
+ *
+ * Work stealing makes the real thread of an operation nondeterministic, so
+ * stepping uses a fixed schedule instead: the sort splits into one chunk per
+ * worker, a chunk belongs to the worker owning its first index (worker w owns
+ * the w-th of {@code parallelism} equal blocks), and the operations of
+ * subtasks running side by side are interleaved one at a time. Every event
+ * carries that worker id.
+ */
+public abstract class ParallelSortEngine extends SortEngine {
+
+    /** Smallest chunk worth forking in a full-speed run. */
+    public static final int MIN_GRAIN = 8192;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    protected ParallelSortEngine(int[] initialArray) { super(initialArray); }
+
+    public int getParallelism() { return parallelism; }
+
+    /** Threads for full-speed runs and worker lanes for stepping; resets the engine. */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        reset();
+    }
+
+    /** Sort {@code t}; subtasks go through {@link Tape#invokeAll}. */
+    abstract void sortParallel(Tape t);
+
+    @Override
+    final void sort(Tape t) {
+        if (t.isRecording() || t.isTraced()) { sortParallel(t); return; }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> sortParallel(t)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    boolean tagsWorkers() { return true; }
+
+    /** Largest range left to one task: one chunk per worker when stepping, several per thread otherwise. */
+    int grain(Tape t, int size) {
+        if (t.isRecording()) return Math.max(1, (size + parallelism - 1) / parallelism);
+        return Math.max(MIN_GRAIN, size / (4 * parallelism));
+    }
+
+    /** Worker owning index {@code i} of {@code size}. */
+    int lane(int i, int size) { return (int) ((long) i * parallelism / Math.max(1, size)); }
+}
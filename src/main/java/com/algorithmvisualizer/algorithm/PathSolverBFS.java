@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class PathSolverBFS {
+public class PathSolverBFS implements SteppableSolver<PathSolverBFS.State> {
     public enum StepType { INIT, VISIT, FRONTIER, FOUND, RECON_PATH, BACKTRACK, NO_PATH, DONE }
     public interface StepListener { void onStep(StepType type, int r, int c); }
 
@@ -25,6 +25,7 @@ public class PathSolverBFS {
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -39,9 +40,16 @@ public class PathSolverBFS {
         public boolean hasCur; public int curR, curC, curDirIdx;
         public boolean found; public boolean reconstructing; public List<int[]> path; public int pathIdx;
         public boolean done;
+
+        /** Excludes the walls, which are shared between snapshots. */
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 64 + StateSizes.booleanGrid(rows, cols) + 2 * StateSizes.intGrid(rows, cols)
+                    + StateSizes.intArrays(queue.size(), 2) + StateSizes.intArrays(path.size(), 2);
+        }
     }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public PathSolverBFS(int rows, int cols, boolean[][][] walls, int sR, int sC, int gR, int gC) {
         setMaze(rows, cols, walls);
@@ -73,7 +81,7 @@ public class PathSolverBFS {
         done = (rows <= 0 || cols <= 0);
         if (!done) {
             queue.add(new int[]{startR, startC});
-            if (emitInit && listener != null) listener.onStep(StepType.INIT, startR, startC);
+            if (emitInit && listener != null && !muted) listener.onStep(StepType.INIT, startR, startC);
             else emit(StepType.INIT, startR, startC);
         } else emit(StepType.DONE, -1, -1);
     }
@@ -148,7 +156,7 @@ public class PathSolverBFS {
 
     public State snapshot() {
         State s = new State();
-        s.rows = rows; s.cols = cols; s.walls = copyWalls(walls);
+        s.rows = rows; s.cols = cols; s.walls = walls; // copied once in setMaze and read-only afterwards
         s.startR = startR; s.startC = startC; s.goalR = goalR; s.goalC = goalC;
         s.visited = copyVisited(visited);
         s.queue = new ArrayDeque<>(); for (int[] p : queue) s.queue.addLast(new int[]{p[0], p[1]});
@@ -161,7 +169,7 @@ public class PathSolverBFS {
 
     public void restore(State s) {
         if (s == null) return;
-        rows = s.rows; cols = s.cols; walls = copyWalls(s.walls);
+        rows = s.rows; cols = s.cols; walls = s.walls;
         startR = s.startR; startC = s.startC; goalR = s.goalR; goalC = s.goalC;
         visited = copyVisited(s.visited);
         queue = new ArrayDeque<>(); for (int[] p : s.queue) queue.addLast(new int[]{p[0],p[1]});
@@ -171,7 +179,7 @@ public class PathSolverBFS {
         done = s.done;
     }
 
-    private void emit(StepType type, int r, int c) { if (listener != null) listener.onStep(type, r, c); }
+    private void emit(StepType type, int r, int c) { if (listener != null && !muted) listener.onStep(type, r, c); }
 
     private static boolean[][][] copyWalls(boolean[][][] src) { int r=src.length, c=src[0].length; boolean[][][] w=new boolean[r][c][4]; for(int i=0;i<r;i++) for(int j=0;j<c;j++) System.arraycopy(src[i][j],0,w[i][j],0,4); return w; }
     private static boolean[][] copyVisited(boolean[][] src){ int r=src.length,c=src[0].length; boolean[][] v=new boolean[r][c]; for(int i=0;i<r;i++) System.arraycopy(src[i],0,v[i],0,c); return v; }
@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class PathSolverDFS {
+public class PathSolverDFS implements SteppableSolver<PathSolverDFS.State> {
     public interface StepListener { void onStep(PathSolverBFS.StepType type, int r, int c); }
 
     private int rows, cols;
@@ -19,6 +19,7 @@ public class PathSolverDFS {
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -34,9 +35,16 @@ public class PathSolverDFS {
         public Deque<Node> stack;
         public boolean reconstructing; public List<int[]> path; public int pathIdx;
         public boolean done;
+
+        /** Excludes the walls, which are shared between snapshots. */
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 56 + StateSizes.booleanGrid(rows, cols) + 2 * StateSizes.intGrid(rows, cols)
+                    + StateSizes.objects(stack.size(), 24) + StateSizes.intArrays(path.size(), 2);
+        }
     }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public PathSolverDFS(int rows, int cols, boolean[][][] walls, int sR, int sC, int gR, int gC) {
         setMaze(rows, cols, walls);
@@ -73,7 +81,7 @@ public class PathSolverDFS {
 
     public State snapshot() {
         State s = new State();
-        s.rows = rows; s.cols = cols; s.walls = copyWalls(walls);
+        s.rows = rows; s.cols = cols; s.walls = walls; // copied once in setMaze and read-only afterwards
         s.startR=startR; s.startC=startC; s.goalR=goalR; s.goalC=goalC;
         s.visited = copyVisited(visited);
         s.parentR = copy2D(parentR); s.parentC = copy2D(parentC);
@@ -86,7 +94,7 @@ public class PathSolverDFS {
 
     public void restore(State s) {
         if (s == null) return;
-        rows = s.rows; cols = s.cols; walls = copyWalls(s.walls);
+        rows = s.rows; cols = s.cols; walls = s.walls;
         startR = s.startR; startC = s.startC; goalR = s.goalR; goalC = s.goalC;
         visited = copyVisited(s.visited);
         parentR = copy2D(s.parentR); parentC = copy2D(s.parentC);
@@ -132,7 +140,7 @@ public class PathSolverDFS {
         pathIdx = path.size() - 1;
     }
 
-    private void emit(PathSolverBFS.StepType t, int r, int c) { if (listener != null) listener.onStep(t, r, c); }
+    private void emit(PathSolverBFS.StepType t, int r, int c) { if (listener != null && !muted) listener.onStep(t, r, c); }
 
     private static boolean[][][] copyWalls(boolean[][][] src) { int r=src.length,c=src[0].length; boolean[][][] w=new boolean[r][c][4]; for(int i=0;i<r;i++) for(int j=0;j<c;j++) System.arraycopy(src[i][j],0,w[i][j],0,4); return w; }
     private static boolean[][] copyVisited(boolean[][] src){ int r=src.length,c=src[0].length; boolean[][] v=new boolean[r][c]; for(int i=0;i<r;i++) System.arraycopy(src[i],0,v[i],0,c); return v; }
@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class PathSolverDijkstra {
+public class PathSolverDijkstra implements SteppableSolver<PathSolverDijkstra.State> {
     public interface StepListener { void onStep(PathSolverBFS.StepType type, int r, int c); }
 
     private int rows, cols;
@@ -20,6 +20,7 @@ public class PathSolverDijkstra {
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
 
     private static final int[] DR = {-1, 0, 1, 0};
     private static final int[] DC = {0, 1, 0, -1};
@@ -36,6 +37,12 @@ public class PathSolverDijkstra {
         public PriorityQueue<Node> pq;
         public boolean reconstructing; public List<int[]> path; public int pathIdx;
         public boolean done;
+
+        /** Excludes the walls, which are shared between snapshots. */
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 56 + StateSizes.booleanGrid(rows, cols) + 2 * StateSizes.intGrid(rows, cols)
+                    + StateSizes.doubleGrid(rows, cols) + StateSizes.objects(pq.size(), 32) + StateSizes.intArrays(path.size(), 2);
+        }
     }
 
     public PathSolverDijkstra(int rows, int cols, boolean[][][] walls, int sR, int sC, int gR, int gC) {
@@ -44,6 +51,7 @@ public class PathSolverDijkstra {
     }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public void setMaze(int r, int c, boolean[][][] w) {
         this.rows = r; this.cols = c; this.walls = copyWalls(w);
@@ -74,7 +82,7 @@ public class PathSolverDijkstra {
 
     public State snapshot() {
         State s = new State();
-        s.rows=rows; s.cols=cols; s.walls=copyWalls(walls);
+        s.rows=rows; s.cols=cols; s.walls=walls; // copied once in setMaze and read-only afterwards
         s.startR=startR; s.startC=startC; s.goalR=goalR; s.goalC=goalC;
         s.visited=copyVisited(visited); s.parentR=copy2D(parentR); s.parentC=copy2D(parentC);
         s.dist=copy2D(dist);
@@ -85,7 +93,7 @@ public class PathSolverDijkstra {
 
     public void restore(State s) {
         if (s==null) return;
-        rows=s.rows; cols=s.cols; walls=copyWalls(s.walls);
+        rows=s.rows; cols=s.cols; walls=s.walls;
         startR=s.startR; startC=s.startC; goalR=s.goalR; goalC=s.goalC;
         visited=copyVisited(s.visited); parentR=copy2D(s.parentR); parentC=copy2D(s.parentC);
         dist=copy2D(s.dist);
@@ -127,7 +135,7 @@ public class PathSolverDijkstra {
         pathIdx = path.size() - 1;
     }
 
-    private void emit(PathSolverBFS.StepType t, int r, int c) { if (listener != null) listener.onStep(t, r, c); }
+    private void emit(PathSolverBFS.StepType t, int r, int c) { if (listener != null && !muted) listener.onStep(t, r, c); }
 
     private static boolean[][][] copyWalls(boolean[][][] src) { int r=src.length,c=src[0].length; boolean[][][] w=new boolean[r][c][4]; for(int i=0;i<r;i++) for(int j=0;j<c;j++) System.arraycopy(src[i][j],0,w[i][j],0,4); return w; }
     private static boolean[][] copyVisited(boolean[][] src){ int r=src.length,c=src[0].length; boolean[][] v=new boolean[r][c]; for(int i=0;i<r;i++) System.arraycopy(src[i],0,v[i],0,c); return v; }
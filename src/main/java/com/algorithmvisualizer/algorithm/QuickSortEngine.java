@@ -0,0 +1,74 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Quicksort with median-of-three pivots and an explicit stack instead of
+ * recursion. The three samples are ordered in place, so a[lo] and a[hi] bound
+ * both partition scans and no index checks are needed; the pivot is parked at
+ * hi - 1. The larger part is pushed first and the smaller one popped next,
+ * which keeps the stack at O(log n) ranges. Ranges of up to three elements
+ * are sorted directly.
+ */
+public class QuickSortEngine extends SortEngine {
+
+    public QuickSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Quick Sort"; }
+
+    @Override
+    void sort(Tape t) { sortRange(t, 0, t.length() - 1); }
+
+    /** Sort a[lo..hi] with an explicit stack. */
+    static void sortRange(Tape t, int lo, int hi) {
+        int[] stack = new int[128];
+        int sp = 0;
+        stack[sp++] = lo;
+        stack[sp++] = hi;
+        while (sp > 0) {
+            hi = stack[--sp];
+            lo = stack[--sp];
+            if (hi - lo < 3) { sortSmall(t, lo, hi); continue; }
+            int i = partition(t, lo, hi);
+            if (sp + 4 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+            if (i - lo > hi - i) {
+                stack[sp++] = lo; stack[sp++] = i - 1;
+                stack[sp++] = i + 1; stack[sp++] = hi;
+            } else {
+                stack[sp++] = i + 1; stack[sp++] = hi;
+                stack[sp++] = lo; stack[sp++] = i - 1;
+            }
+        }
+    }
+
+    /** Partition a[lo..hi] (at least four elements) around a median-of-three pivot; returns its final index. */
+    static int partition(Tape t, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (t.less(mid, lo)) t.swap(lo, mid);
+        if (t.less(hi, lo)) t.swap(lo, hi);
+        if (t.less(hi, mid)) t.swap(mid, hi);
+        t.swap(mid, hi - 1);
+        int p = hi - 1, pivot = t.get(p);
+        int i = lo, j = p;
+        while (true) {
+            do i++; while (t.lessValues(t.get(i), pivot, i, p));
+            do j--; while (t.lessValues(pivot, t.get(j), p, j));
+            if (i >= j) break;
+            t.swap(i, j);
+        }
+        if (i != p) t.swap(i, p);
+        return i;
+    }
+
+    /** Sort a[lo..hi] of at most three elements. */
+    private static void sortSmall(Tape t, int lo, int hi) {
+        if (hi <= lo) return;
+        if (t.less(lo + 1, lo)) t.swap(lo, lo + 1);
+        if (hi - lo == 1) return;
+        if (t.less(hi, lo + 1)) {
+            t.swap(lo + 1, hi);
+            if (t.less(lo + 1, lo)) t.swap(lo, lo + 1);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * LSD radix sort on 8-bit digits, no comparisons. Keys have their sign bit
+ * flipped so negative values order before positive ones. All four digit
+ * histograms come from a single read pass, and a pass whose digit is the same
+ * for every element is skipped, so small values take one or two passes. Each
+ * pass scatters into the auxiliary buffer and writes back, so every pass is
+ * visible on the array.
+ */
+public class RadixSortEngine extends SortEngine {
+
+    public RadixSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Radix Sort (LSD)"; }
+
+    @Override
+    void sort(Tape t) {
+        int n = t.length();
+        if (n < 2) return;
+        int[][] count = new int[4][257];
+        for (int i = 0; i < n; i++) {
+            int key = t.get(i) ^ Integer.MIN_VALUE;
+            for (int d = 0; d < 4; d++) count[d][((key >>> (8 * d)) & 0xFF) + 1]++;
+        }
+        t.allocateAux();
+        for (int d = 0; d < 4; d++) {
+            int[] c = count[d];
+            boolean trivial = false;
+            for (int b = 1; b <= 256; b++) {
+                if (c[b] == n) trivial = true;
+                c[b] += c[b - 1];
+            }
+            if (trivial) continue;
+            int shift = 8 * d;
+            for (int i = 0; i < n; i++) {
+                int v = t.get(i);
+                t.auxSet(c[((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++, v);
+            }
+            for (int i = 0; i < n; i++) t.set(i, t.auxGet(i));
+        }
+    }
+}
@@ -5,7 +5,7 @@ import java.util.Arrays;
 /**
  * Selection Sort solver with granular step events and snapshot/restore for step-back.
  */
-public class SelectionSortSolver {
+public class SelectionSortSolver implements SteppableSolver<SelectionSortSolver.State> {
 
     public enum StepType { INIT_OUTER, INIT_MIN, COMPARE, SET_MIN, END_SCAN, SWAP, MARK_SORTED, DONE }
 
@@ -19,15 +19,23 @@ public class SelectionSortSolver {
         public int j;
         public int minIndex;
         public boolean done;
+
+        public long estimateBytes() { return StateSizes.OBJECT + 16 + StateSizes.ints(array.length); }
     }
 
     private int[] array;
+    private final IntArrayView arrayView = new IntArrayView() {
+        @Override public int length() { return array.length; }
+        @Override public int get(int i) { return array[i]; }
+    };
     private int i;
     private int j;
     private int minIndex;
     private boolean done;
 
     private StepListener stepListener;
+    private boolean muted;
+    private AccessTracer tracer;
 
     public SelectionSortSolver(int[] initialArray) {
         setArray(initialArray);
@@ -43,6 +51,14 @@ public class SelectionSortSolver {
         this.stepListener = listener;
     }
 
+    @Override
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
+    /** Report every array read and write to {@code tracer}; null to stop. */
+    public void setAccessTracer(AccessTracer tracer) { this.tracer = tracer; }
+
     public void reset() {
         i = 0;
         j = (array.length > 0 ? 1 : 0);
@@ -64,7 +80,7 @@ public class SelectionSortSolver {
 
         if (j < n) {
             emit(StepType.COMPARE);
-            if (array[j] < array[minIndex]) {
+            if (read(j) < read(minIndex)) {
                 minIndex = j;
                 emit(StepType.SET_MIN);
             }
@@ -75,9 +91,9 @@ public class SelectionSortSolver {
 
         // Finished scanning j..n for this i; perform swap if needed
         if (minIndex != i) {
-            int tmp = array[i];
-            array[i] = array[minIndex];
-            array[minIndex] = tmp;
+            int tmp = read(i);
+            write(i, read(minIndex));
+            write(minIndex, tmp);
             emit(StepType.SWAP);
         }
 
@@ -112,12 +128,25 @@ public class SelectionSortSolver {
         this.done = s.done;
     }
 
+    private int read(int k) {
+        if (tracer != null) tracer.read(0, k);
+        return array[k];
+    }
+
+    private void write(int k, int v) {
+        if (tracer != null) tracer.write(0, k);
+        array[k] = v;
+    }
+
     private void emit(StepType type) {
-        if (stepListener != null) stepListener.onStep(type, i, j, minIndex);
+        if (stepListener != null && !muted) stepListener.onStep(type, i, j, minIndex);
     }
 
     // Getters
     public int[] getArray() { return Arrays.copyOf(array, array.length); }
+
+    /** Live, non-copying view of the array; reflects later steps. */
+    public IntArrayView getArrayView() { return arrayView; }
     public int getI() { return i; }
     public int getJ() { return j; }
     public int getMinIndex() { return minIndex; }
@@ -0,0 +1,38 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Shell sort with Ciura's gap sequence, extended by a factor of 2.25 beyond
+ * 1750 for large arrays. Each gapped insertion holds the inserted value aside
+ * and shifts larger elements up by one write each.
+ */
+public class ShellSortEngine extends SortEngine {
+
+    private static final int[] CIURA = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+    public ShellSortEngine(int[] initialArray) { super(initialArray); }
+
+    @Override
+    public String getName() { return "Shell Sort"; }
+
+    @Override
+    void sort(Tape t) {
+        int n = t.length();
+        int[] gaps = new int[CIURA.length + 32];
+        int count = 0;
+        for (int g : CIURA) if (g < n) gaps[count++] = g;
+        for (long g = (long) (CIURA[CIURA.length - 1] * 2.25); g < n; g = (long) (g * 2.25)) gaps[count++] = (int) g;
+        while (count > 0) {
+            int gap = gaps[--count];
+            for (int i = gap; i < n; i++) {
+                int v = t.get(i), j = i;
+                while (j >= gap) {
+                    int prev = t.get(j - gap);
+                    if (!t.lessValues(v, prev, i, j - gap)) break;
+                    t.set(j, prev);
+                    j -= gap;
+                }
+                if (j != i) t.set(j, v);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs every {@link SortEngine} over every {@link SortInputs.Distribution} at
+ * a range of sizes, at full speed and without a UI.
+ *
+ * Small inputs are sorted repeatedly, on fresh copies, until about a million
+ * elements have gone through, and the time is averaged. Headless use writes
+ * the matrix as CSV:
+ * {@code java -cp target/classes com.algorithmvisualizer.algorithm.SortBenchmark [out.csv] [max size]}.
+ */
+public final class SortBenchmark {
+
+    /** The engines in the order the sort view lists them. */
+    public static final List<Function<int[], SortEngine>> ENGINES = List.of(
+            MergeSortEngine::new, QuickSortEngine::new, HeapSortEngine::new, ShellSortEngine::new, RadixSortEngine::new,
+            ParallelMergeSortEngine::new, ParallelQuickSortEngine::new, BitonicSortEngine::new);
+
+    public static final String CSV_HEADER = "engine,distribution,n,compares,reads,writes,ns_per_element";
+
+    private static final long SEED = 42;
+    private static final int ELEMENTS_PER_CELL = 1_000_000;
+
+    /** One engine on one input shape and size; counts are for a single sort. */
+    public static final class Row {
+        public final String engine;
+        public final SortInputs.Distribution distribution;
+        public final int n;
+        public final long compares;
+        public final long reads;
+        /** A swap counts as two writes. */
+        public final long writes;
+        public final double nanosPerElement;
+
+        Row(String engine, SortInputs.Distribution distribution, int n, SortRunStats stats, double nanosPerElement) {
+            this.engine = engine;
+            this.distribution = distribution;
+            this.n = n;
+            this.compares = stats.compares;
+            this.reads = stats.reads;
+            this.writes = stats.writes;
+            this.nanosPerElement = nanosPerElement;
+        }
+
+        public String toCsv() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.3f",
+                    engine, distribution.name(), n, compares, reads, writes, nanosPerElement);
+        }
+    }
+
+    private SortBenchmark() {}
+
+    /** 10^3, 10^4, ... up to {@code max}. */
+    public static int[] decadeSizes(int max) {
+        List<Integer> sizes = new ArrayList<>();
+        for (long n = 1000; n <= max; n *= 10) sizes.add((int) n);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Run the matrix size by size, handing each row to {@code onRow} as soon as
+     * it is measured. Stops early, returning what was measured, once
+     * {@code cancelled} turns true. Throws IllegalStateException if an engine
+     * leaves its input unsorted.
+     */
+    public static List<Row> run(int[] sizes, List<SortInputs.Distribution> distributions,
+                                Consumer<Row> onRow, BooleanSupplier cancelled) {
+        List<Row> rows = new ArrayList<>();
+        for (int n : sizes) {
+            for (SortInputs.Distribution d : distributions) {
+                int[] input = SortInputs.generate(d, n, SEED);
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+                for (Function<int[], SortEngine> factory : ENGINES) {
+                    if (cancelled.getAsBoolean()) return rows;
+                    Row row = measure(factory, d, input, expected);
+                    rows.add(row);
+                    onRow.accept(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Row measure(Function<int[], SortEngine> factory, SortInputs.Distribution d, int[] input, int[] expected) {
+        int n = input.length;
+        int reps = Math.max(1, ELEMENTS_PER_CELL / Math.max(1, n));
+        long nanos = 0;
+        SortEngine engine = null;
+        SortRunStats stats = null;
+        for (int r = 0; r < reps; r++) {
+            engine = factory.apply(input);
+            stats = engine.runToCompletion();
+            nanos += stats.nanos;
+        }
+        if (!Arrays.equals(engine.getArray(), expected)) {
+            throw new IllegalStateException(engine.getName() + " left " + d + " n=" + n + " unsorted");
+        }
+        return new Row(engine.getName(), d, n, stats, (double) nanos / reps / Math.max(1, n));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Paths.get(args.length > 0 ? args[0] : "sort-matrix.csv");
+        int max = args.length > 1 ? Integer.parseInt(args[1].replace("_", "")) : 10_000_000;
+        try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            w.write(CSV_HEADER);
+            w.newLine();
+            run(decadeSizes(max), List.of(SortInputs.Distribution.values()), row -> {
+                try {
+                    w.write(row.toCsv());
+                    w.newLine();
+                    w.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                System.out.println(row.toCsv());
+            }, () -> false);
+        }
+        System.out.println("Wrote " + out.toAbsolutePath());
+    }
+}
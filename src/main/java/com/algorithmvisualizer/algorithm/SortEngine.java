@@ -0,0 +1,448 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Base of the step-wise O(n log n) sort engines ({@link MergeSortEngine},
+ * {@link QuickSortEngine}, {@link HeapSortEngine}, {@link ShellSortEngine},
+ * {@link RadixSortEngine}) and of the fork/join {@link ParallelSortEngine}s.
+ *
+ * A subclass writes its sort once, as a plain loop over a {@link Tape} that
+ * counts element reads, writes and comparisons. Stepping runs that sort on a
+ * copy the first time it is needed and records every COMPARE, SWAP and WRITE
+ * on the array into a trace; a step then applies one traced operation, and a
+ * snapshot is just the trace position, so step-back and seeking undo or redo
+ * operations as {@link IntJournal} does. Stepping is limited to
+ * {@link #MAX_STEP_ELEMENTS}; {@link #runToCompletion()} sorts in place with
+ * counting only and scales to millions of elements, and {@link #runLive}
+ * does the same while reporting written indices so a view can follow it.
+ */
+public abstract class SortEngine implements SteppableSolver<SortEngine.State> {
+
+    public enum StepType { COMPARE, SWAP, WRITE, DONE }
+
+    public interface StepListener {
+        /**
+         * COMPARE(i, j) and SWAP(i, j) on array indices, WRITE(i, new value).
+         * A compared value held aside (pivot, merge buffer) is reported at the
+         * index it is being placed against. {@code worker} is the lane that did
+         * the operation; always 0 for the sequential engines.
+         */
+        void onStep(StepType type, int i, int j, int worker);
+    }
+
+    /** Receives the indices a live run writes; see {@link #runLive}. */
+    public interface LiveSink {
+        /**
+         * Called on a sorting thread with the array indices written since the
+         * previous call, in a buffer that is reused afterwards. May block to
+         * pace the run; return false to abandon it.
+         */
+        boolean written(int[] indices, int count);
+    }
+
+    /** Trace position; valid for the array the engine was last given. */
+    public static class State {
+        public long position;
+
+        public long estimateBytes() { return StateSizes.OBJECT + 8; }
+    }
+
+    /** Largest array that can be stepped; the trace grows with n log n operations. */
+    public static final int MAX_STEP_ELEMENTS = 1 << 16;
+
+    private static final int OP = 7; // type, i, j (WRITE: new value), old value, reads, writes, worker
+
+    private int[] array = new int[0];
+    private int[] initial = new int[0];
+    private final IntArrayView arrayView = new IntArrayView() {
+        @Override public int length() { return array.length; }
+        @Override public int get(int i) { return array[i]; }
+    };
+    private int[] trace;     // null until first needed
+    private int ops;         // operations in the trace
+    private int position;    // operations applied
+    private boolean done;
+    private boolean direct;  // sorted in place by runToCompletion; no trace to move in
+    private long reads, writes, compares;
+
+    private StepListener listener;
+    private boolean muted;
+    private AccessTracer tracer;
+
+    protected SortEngine(int[] initialArray) { setArray(initialArray); }
+
+    /** Display name, e.g. "Merge Sort". */
+    public abstract String getName();
+
+    /** Sort {@code t} using only its accessors, so that every access is counted and traced. */
+    abstract void sort(Tape t);
+
+    public void setArray(int[] initialArray) {
+        if (initialArray == null) initialArray = new int[0];
+        this.initial = Arrays.copyOf(initialArray, initialArray.length);
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    /**
+     * Report the element accesses of the next in-place {@link #runToCompletion()}
+     * or {@link #runLive} to {@code tracer}; null to stop. Parallel engines then
+     * run their subtasks one after another on the calling thread. Replaying a
+     * recorded trace is not traced.
+     */
+    public void setAccessTracer(AccessTracer tracer) { this.tracer = tracer; }
+
+    public void reset() {
+        array = initial.clone();
+        trace = null;
+        ops = position = 0;
+        direct = false;
+        reads = writes = compares = 0;
+        done = array.length <= 1;
+    }
+
+    @Override
+    public boolean isDone() { return done; }
+    public int[] getArray() { return array.clone(); }
+    public IntArrayView getArrayView() { return arrayView; }
+    public long getReads() { return reads; }
+    public long getWrites() { return writes; }
+    public long getCompares() { return compares; }
+    /** Operations applied so far and in the whole run (the latter known once stepping started). */
+    public int getPosition() { return position; }
+    public int getOperationCount() { return trace == null ? -1 : ops; }
+
+    @Override
+    public void step() {
+        if (done) return;
+        ensureTrace();
+        if (position < ops) {
+            int at = OP * position;
+            forward(position++);
+            emit(StepType.values()[trace[at]], trace[at + 1], trace[at + 2], trace[at + 6]);
+        }
+        if (position == ops) { done = true; emit(StepType.DONE, -1, -1, 0); }
+    }
+
+    /**
+     * Finish the sort muted and return its counts from the current position.
+     * Without a trace this sorts the array in place without recording, after
+     * which earlier snapshots can no longer be restored.
+     */
+    public SortRunStats runToCompletion() {
+        long r0 = reads, w0 = writes, c0 = compares;
+        long t0 = System.nanoTime();
+        if (trace != null) {
+            while (position < ops) forward(position++);
+        } else if (!done) {
+            Tape t = new Tape(array, false, 0);
+            t.tracer = tracer;
+            sort(t);
+            reads += t.reads;
+            writes += t.writes;
+            compares += t.compares;
+            direct = true;
+        }
+        long nanos = System.nanoTime() - t0;
+        done = true;
+        return new SortRunStats(array.length, compares - c0, reads - r0, writes - w0, nanos);
+    }
+
+    /**
+     * As {@link #runToCompletion()}, but hands the indices of every array write
+     * to {@code sink} in batches of {@code batch}, so a view can follow the live
+     * array through {@link #getArrayView()} from another thread. Returns null if
+     * the sink abandoned the run, leaving the array partly sorted.
+     */
+    public SortRunStats runLive(LiveSink sink, int batch) {
+        long r0 = reads, w0 = writes, c0 = compares;
+        long t0 = System.nanoTime();
+        Live live = new Live(sink, Math.max(1, batch));
+        try {
+            if (trace != null) {
+                while (position < ops) {
+                    int at = OP * position;
+                    forward(position++);
+                    if (trace[at] == 1) { live.add(trace[at + 1]); live.add(trace[at + 2]); }
+                    else if (trace[at] == 2) live.add(trace[at + 1]);
+                }
+            } else if (!done) {
+                Tape t = new Tape(array, false, 0);
+                t.live = live;
+                t.tracer = tracer;
+                direct = true;
+                try {
+                    sort(t);
+                } finally {
+                    reads += t.reads;
+                    writes += t.writes;
+                    compares += t.compares;
+                }
+            }
+            live.flush();
+        } catch (CancellationException e) {
+            return null;
+        }
+        long nanos = System.nanoTime() - t0;
+        done = true;
+        return new SortRunStats(array.length, compares - c0, reads - r0, writes - w0, nanos);
+    }
+
+    /** Batches written indices for a {@link LiveSink}; shared by the tapes of a parallel run. */
+    private static final class Live {
+        private final LiveSink sink;
+        private final int[] buf;
+        private int count;
+
+        Live(LiveSink sink, int batch) {
+            this.sink = sink;
+            this.buf = new int[batch];
+        }
+
+        synchronized void add(int i) {
+            buf[count++] = i;
+            if (count == buf.length) flush();
+        }
+
+        synchronized void flush() {
+            if (count > 0 && !sink.written(buf, count)) throw new CancellationException();
+            count = 0;
+        }
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null || s.position == position) return;
+        if (direct) throw new IllegalArgumentException("Position is not in this run's trace");
+        ensureTrace();
+        if (s.position < 0 || s.position > ops) throw new IllegalArgumentException("Position is not in this run's trace");
+        while (position > s.position) backward(--position);
+        while (position < s.position) forward(position++);
+        done = array.length <= 1 || position == ops;
+    }
+
+    private void ensureTrace() {
+        if (trace != null) return;
+        if (array.length > MAX_STEP_ELEMENTS) {
+            throw new IllegalStateException("Stepping is limited to " + MAX_STEP_ELEMENTS + " elements; use runToCompletion");
+        }
+        Tape t = new Tape(array.clone(), true, 0);
+        sort(t);
+        t.settle();
+        trace = t.buf;
+        ops = t.count;
+    }
+
+    private void forward(int p) {
+        int at = OP * p, i = trace[at + 1], j = trace[at + 2];
+        reads += trace[at + 4];
+        writes += trace[at + 5];
+        switch (trace[at]) {
+            case 0: compares++; break;
+            case 1: int x = array[i]; array[i] = array[j]; array[j] = x; break;
+            default: array[i] = j;
+        }
+    }
+
+    private void backward(int p) {
+        int at = OP * p, i = trace[at + 1], j = trace[at + 2];
+        reads -= trace[at + 4];
+        writes -= trace[at + 5];
+        switch (trace[at]) {
+            case 0: compares--; break;
+            case 1: int x = array[i]; array[i] = array[j]; array[j] = x; break;
+            default: array[i] = trace[at + 3];
+        }
+    }
+
+    private void emit(StepType type, int i, int j, int worker) {
+        if (listener != null && !muted) listener.onStep(type, i, j, worker);
+    }
+
+    public String getCurrentStepDescription() {
+        if (done) return getName() + " complete: " + compares + " compares, " + reads + " reads, " + writes + " writes";
+        if (position == 0) return getName() + ": ready, n = " + array.length;
+        int at = OP * (position - 1), i = trace[at + 1], j = trace[at + 2];
+        String who = tagsWorkers() ? "Worker " + trace[at + 6] + ": " : "";
+        switch (trace[at]) {
+            case 0: return who + "Compare a[" + i + "] and a[" + j + "]";
+            case 1: return who + "Swap a[" + i + "] and a[" + j + "]";
+            default: return who + "Write a[" + i + "] = " + j;
+        }
+    }
+
+    /** Whether operations come from more than one worker lane. */
+    boolean tagsWorkers() { return false; }
+
+    /**
+     * Counted access to the array being sorted and to an optional auxiliary
+     * buffer of the same length. A recording tape also appends every
+     * operation on the array to its trace, with the reads and writes made
+     * since the previous one and its worker lane.
+     *
+     * {@link #invokeAll} runs two subtasks on disjoint ranges on child tapes:
+     * forked when already inside a ForkJoinPool and not recording, one after
+     * the other otherwise. Recorded child traces are then interleaved one
+     * operation at a time, which replays as the two lanes running side by
+     * side; since the ranges are disjoint the interleaving sorts the same.
+     */
+    static final class Tape {
+
+        /** A subtask of a parallel sort, run on its own tape. */
+        interface Sub { void run(Tape t); }
+
+        private final int[] a;
+        private final int lane;
+        private int[] aux;
+        private Live live;   // set for a live run
+        private AccessTracer tracer; // set for a traced full-speed run
+        private int[] buf;   // trace, null unless recording
+        private int count;   // operations in buf
+        long reads, writes, compares;
+        private long markReads, markWrites;
+
+        Tape(int[] a, boolean recording, int lane) {
+            this.a = a;
+            this.lane = lane;
+            if (recording) buf = new int[OP * 256];
+        }
+
+        int length() { return a.length; }
+
+        boolean isRecording() { return buf != null; }
+
+        /** True when accesses go to an {@link AccessTracer}, which needs them in one thread. */
+        boolean isTraced() { return tracer != null; }
+
+        int get(int i) {
+            reads++;
+            if (tracer != null) tracer.read(0, i);
+            return a[i];
+        }
+
+        void set(int i, int v) {
+            writes++;
+            if (tracer != null) tracer.write(0, i);
+            if (buf != null) mark(StepType.WRITE, i, v, a[i]);
+            a[i] = v;
+            if (live != null) live.add(i);
+        }
+
+        boolean less(int i, int j) {
+            reads += 2;
+            compares++;
+            if (buf != null) mark(StepType.COMPARE, i, j, 0);
+            if (tracer != null) { tracer.read(0, i); tracer.read(0, j); }
+            return a[i] < a[j];
+        }
+
+        /** Compare values already read, shown as a comparison of indices i and j. */
+        boolean lessValues(int x, int y, int i, int j) {
+            compares++;
+            if (buf != null) mark(StepType.COMPARE, i, j, 0);
+            return x < y;
+        }
+
+        void swap(int i, int j) {
+            reads += 2;
+            writes += 2;
+            if (buf != null) mark(StepType.SWAP, i, j, 0);
+            if (tracer != null) { tracer.read(0, i); tracer.read(0, j); tracer.write(0, i); tracer.write(0, j); }
+            int x = a[i];
+            a[i] = a[j];
+            a[j] = x;
+            if (live != null) { live.add(i); live.add(j); }
+        }
+
+        int auxGet(int k) {
+            reads++;
+            if (tracer != null) tracer.read(1, k);
+            return aux[k];
+        }
+
+        void auxSet(int k, int v) {
+            writes++;
+            if (tracer != null) tracer.write(1, k);
+            aux[k] = v;
+        }
+
+        /** Allocate the auxiliary buffer; its size is not charged as reads or writes. Call before forking. */
+        void allocateAux() { if (aux == null) aux = new int[a.length]; }
+
+        void invokeAll(int laneA, Sub subA, int laneB, Sub subB) {
+            Tape ta = child(laneA), tb = child(laneB);
+            if (buf == null && ForkJoinTask.inForkJoinPool()) {
+                ForkJoinTask.invokeAll(ForkJoinTask.adapt(() -> subA.run(ta)), ForkJoinTask.adapt(() -> subB.run(tb)));
+            } else {
+                subA.run(ta);
+                subB.run(tb);
+            }
+            join(ta, tb);
+        }
+
+        private Tape child(int childLane) {
+            Tape c = new Tape(a, buf != null, childLane);
+            c.aux = aux;
+            c.live = live;
+            c.tracer = tracer;
+            return c;
+        }
+
+        private void join(Tape x, Tape y) {
+            reads += x.reads + y.reads;
+            writes += x.writes + y.writes;
+            compares += x.compares + y.compares;
+            if (buf == null) return;
+            // Child accesses that ended up in a child operation are not part of this tape's next delta
+            if (x.settle()) { markReads += x.reads; markWrites += x.writes; }
+            if (y.settle()) { markReads += y.reads; markWrites += y.writes; }
+            ensure(count + x.count + y.count);
+            for (int k = 0; k < Math.max(x.count, y.count); k++) {
+                if (k < x.count) System.arraycopy(x.buf, OP * k, buf, OP * count++, OP);
+                if (k < y.count) System.arraycopy(y.buf, OP * k, buf, OP * count++, OP);
+            }
+        }
+
+        /** Fold reads and writes after the last operation into it; false if there is no operation. */
+        boolean settle() {
+            if (count == 0) return false;
+            buf[OP * (count - 1) + 4] += (int) (reads - markReads);
+            buf[OP * (count - 1) + 5] += (int) (writes - markWrites);
+            markReads = reads;
+            markWrites = writes;
+            return true;
+        }
+
+        private void mark(StepType type, int i, int j, int old) {
+            ensure(count + 1);
+            int at = OP * count++;
+            buf[at] = type.ordinal();
+            buf[at + 1] = i;
+            buf[at + 2] = j;
+            buf[at + 3] = old;
+            buf[at + 4] = (int) (reads - markReads);
+            buf[at + 5] = (int) (writes - markWrites);
+            buf[at + 6] = lane;
+            markReads = reads;
+            markWrites = writes;
+        }
+
+        private void ensure(int ops) {
+            if (OP * ops > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, OP * ops));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded input shapes for the sort engines. Every distribution draws its
+ * values from [0, n), so shapes of the same size differ only in order and
+ * duplication, not in value range.
+ */
+public final class SortInputs {
+
+    public enum Distribution {
+        UNIFORM("Uniform random"),
+        SORTED("Sorted"),
+        REVERSED("Reversed"),
+        NEARLY_SORTED("Nearly sorted"),
+        FEW_UNIQUE("Few unique"),
+        SAWTOOTH("Sawtooth"),
+        ORGAN_PIPE("Organ pipe"),
+        ZIPF("Zipf");
+
+        private final String label;
+
+        Distribution(String label) { this.label = label; }
+
+        @Override
+        public String toString() { return label; }
+    }
+
+    /** Distinct values in {@link Distribution#FEW_UNIQUE}. */
+    public static final int FEW_UNIQUE_VALUES = 8;
+    /** Ascending runs in {@link Distribution#SAWTOOTH}. */
+    public static final int SAWTOOTH_TEETH = 8;
+
+    private SortInputs() {}
+
+    /** {@code n} values of the given shape; nearly sorted inputs get n / 100 swaps (at least one). */
+    public static int[] generate(Distribution d, int n, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] a = new int[Math.max(0, n)];
+        switch (d) {
+            case UNIFORM:
+                for (int i = 0; i < n; i++) a[i] = rnd.nextInt(n);
+                break;
+            case SORTED:
+                for (int i = 0; i < n; i++) a[i] = i;
+                break;
+            case REVERSED:
+                for (int i = 0; i < n; i++) a[i] = n - 1 - i;
+                break;
+            case NEARLY_SORTED:
+                return nearlySorted(n, Math.max(1, n / 100), seed);
+            case FEW_UNIQUE:
+                for (int i = 0; i < n; i++) a[i] = (int) ((long) rnd.nextInt(FEW_UNIQUE_VALUES) * n / FEW_UNIQUE_VALUES);
+                break;
+            case SAWTOOTH: {
+                int tooth = Math.max(1, (n + SAWTOOTH_TEETH - 1) / SAWTOOTH_TEETH);
+                for (int i = 0; i < n; i++) a[i] = (int) ((long) (i % tooth) * n / tooth);
+                break;
+            }
+            case ORGAN_PIPE:
+                // Evens ascending, then odds descending
+                for (int i = 0; i < n; i++) a[i] = i < (n + 1) / 2 ? 2 * i : 2 * (n - 1 - i) + 1;
+                break;
+            case ZIPF:
+                // Continuous inverse of the s = 1 harmonic CDF: value v has weight ~ 1 / (v + 1)
+                double logN = Math.log(n + 1.0);
+                for (int i = 0; i < n; i++) a[i] = Math.min(n - 1, (int) Math.exp(rnd.nextDouble() * logN) - 1);
+                break;
+        }
+        return a;
+    }
+
+    /** 0 .. n - 1 in order with {@code swaps} random pairs exchanged. */
+    public static int[] nearlySorted(int n, int swaps, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] a = new int[Math.max(0, n)];
+        for (int i = 0; i < n; i++) a[i] = i;
+        if (n < 2) return a;
+        for (int k = 0; k < swaps; k++) {
+            int i = rnd.nextInt(n), j = rnd.nextInt(n);
+            int t = a[i]; a[i] = a[j]; a[j] = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,29 @@
+package com.algorithmvisualizer.algorithm;
+
+/** Totals of a full-speed run of one of the {@link SortEngine}s. */
+public final class SortRunStats {
+
+    public final int elements;
+    public final long compares;
+    /** Element reads from the array or the auxiliary buffer. */
+    public final long reads;
+    /** Element writes to the array or the auxiliary buffer; a swap is two. */
+    public final long writes;
+    public final long nanos;
+
+    SortRunStats(int elements, long compares, long reads, long writes, long nanos) {
+        this.elements = elements;
+        this.compares = compares;
+        this.reads = reads;
+        this.writes = writes;
+        this.nanos = nanos;
+    }
+
+    public double elementsPerSecond() { return nanos == 0 ? 0 : elements * 1e9 / nanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f ms, %d compares, %d reads, %d writes (%.1f M elements/s)",
+                nanos / 1e6, compares, reads, writes, elementsPerSecond() / 1e6);
+    }
+}
@@ -0,0 +1,30 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Rough heap-size arithmetic for the solver State classes (64-bit JVM with
+ * compressed references). Only meant to be accurate enough for history budgeting.
+ */
+final class StateSizes {
+
+    static final long OBJECT = 16;
+    static final long ARRAY = 16;
+    static final long REF = 4;
+
+    private StateSizes() {}
+
+    static long align(long bytes) { return (bytes + 7) & ~7L; }
+
+    static long ints(int n) { return align(ARRAY + 4L * n); }
+    static long doubles(int n) { return align(ARRAY + 8L * n); }
+    static long booleans(int n) { return align(ARRAY + n); }
+
+    static long intGrid(int rows, int cols) { return align(ARRAY + REF * rows) + rows * ints(cols); }
+    static long doubleGrid(int rows, int cols) { return align(ARRAY + REF * rows) + rows * doubles(cols); }
+    static long booleanGrid(int rows, int cols) { return align(ARRAY + REF * rows) + rows * booleans(cols); }
+
+    /** A list or deque of {@code n} int[len] entries. */
+    static long intArrays(int n, int len) { return OBJECT + align(ARRAY + REF * n) + n * ints(len); }
+
+    /** A list or deque of {@code n} small objects of {@code each} bytes. */
+    static long objects(int n, long each) { return OBJECT + align(ARRAY + REF * n) + n * each; }
+}
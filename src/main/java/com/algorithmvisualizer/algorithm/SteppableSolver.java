@@ -0,0 +1,22 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Common contract for step-wise solvers with snapshot/restore support.
+ * Lets history helpers replay a run deterministically without driving the UI.
+ */
+public interface SteppableSolver<S> {
+
+    void step();
+
+    boolean isDone();
+
+    S snapshot();
+
+    void restore(S state);
+
+    /**
+     * Suppress step events while muted, so a run can be replayed silently
+     * (e.g. when seeking on the timeline).
+     */
+    void setMuted(boolean muted);
+}
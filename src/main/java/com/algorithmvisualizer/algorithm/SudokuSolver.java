@@ -2,7 +2,7 @@ package com.algorithmvisualizer.algorithm;
 
 import java.util.*;
 
-public class SudokuSolver {
+public class SudokuSolver implements SteppableSolver<SudokuSolver.State> {
     public enum StepType { INIT, PLACE, BACKTRACK, DONE }
     public interface StepListener { void onStep(StepType type, int r, int c, int val); }
 
@@ -18,6 +18,11 @@ public class SudokuSolver {
         public List<int[]> empties;
         public Deque<Frame> stack;
         public boolean done;
+
+        public long estimateBytes() {
+            return StateSizes.OBJECT + 24 + StateSizes.intGrid(9, 9) + StateSizes.booleanGrid(9, 9)
+                    + StateSizes.intArrays(empties.size(), 2) + StateSizes.objects(stack.size(), 24);
+        }
     }
 
     private int[][] grid = new int[9][9];
@@ -27,6 +32,7 @@ public class SudokuSolver {
     private boolean done = false;
 
     private StepListener listener;
+    private boolean muted;
 
     public SudokuSolver(int[][] startGrid) {
         setGrid(startGrid);
@@ -43,6 +49,7 @@ public class SudokuSolver {
     }
 
     public void setStepListener(StepListener l) { this.listener = l; }
+    @Override public void setMuted(boolean muted) { this.muted = muted; }
 
     public void reset() { resetInternal(true); }
 
@@ -62,6 +69,14 @@ public class SudokuSolver {
     public boolean isDone() { return done; }
     public int[][] getGrid() { int[][] out = new int[9][9]; for (int r=0;r<9;r++) System.arraycopy(grid[r],0,out[r],0,9); return out; }
     public boolean[][] getFixedMask() { boolean[][] out = new boolean[9][9]; for (int r=0;r<9;r++) System.arraycopy(fixed[r],0,out[r],0,9); return out; }
+    // Non-copying accessors for per-step callers
+    public int getCell(int r, int c) { return grid[r][c]; }
+    public boolean isFixed(int r, int c) { return fixed[r][c]; }
+    public int getFilledCount() {
+        int filled = 0;
+        for (int r = 0; r < 9; r++) for (int c = 0; c < 9; c++) if (grid[r][c] != 0) filled++;
+        return filled;
+    }
 
     public void step() {
         if (done) return;
@@ -137,5 +152,5 @@ public class SudokuSolver {
         done = s.done;
     }
 
-    private void emit(StepType type, int r, int c, int val) { if (listener != null) listener.onStep(type, r, c, val); }
+    private void emit(StepType type, int r, int c, int val) { if (listener != null && !muted) listener.onStep(type, r, c, val); }
 }
@@ -0,0 +1,230 @@
+package com.algorithmvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Step-wise Tarjan strongly connected components over a {@link CsrGraph}.
+ *
+ * The recursion is replaced by the same frame model as {@link DFSSolver}: a
+ * call stack of (node, next neighbour index), held here in two int arrays,
+ * plus Tarjan's component stack and primitive disc/low/comp arrays. Depth is
+ * bounded only by n, so million-node paths run without a StackOverflowError.
+ * A node is on the component stack exactly when it has a discovery time but
+ * no component yet, so no separate flag array is needed.
+ *
+ * Every write goes through an {@link IntJournal}, so snapshots are O(1) and
+ * restore() costs O(writes moved). A snapshot older than the journal's kept
+ * window is rebuilt by replaying its step count from the start, and each
+ * snapshot's size estimate includes the journal entries written since the
+ * previous one, so the step-back history budget covers the log. On an
+ * undirected graph the components are the connected components.
+ */
+public class TarjanSCCSolver implements SteppableSolver<TarjanSCCSolver.State> {
+
+    public enum StepType { INIT, DISCOVER, TREE_EDGE, BACK_EDGE, RETURN, COMPONENT, DONE }
+
+    public interface StepListener {
+        /**
+         * DISCOVER(u), TREE_EDGE(u, v), BACK_EDGE(u, v) when v lowers low[u],
+         * RETURN(child u, parent v), COMPONENT(root u, component id v).
+         */
+        void onStep(StepType type, int u, int v);
+    }
+
+    /** Journal position; valid for the solver run that produced it. */
+    public static class State {
+        public long position;
+        long steps;        // steps since reset, to replay to once the journal no longer reaches position
+        long journalBytes; // journal entries written since the previous snapshot
+
+        public long estimateBytes() { return StateSizes.OBJECT + 24 + journalBytes; }
+    }
+
+    // Scalar registers, journaled like the arrays
+    private static final int TOP = 0, SCC_TOP = 1, TIME = 2, COMPONENTS = 3, SCAN = 4, DONE = 5;
+
+    private CsrGraph graph = CsrGraph.empty();
+    private int n = 0;
+    private int[] reg, disc, low, comp, callU, callIdx, sccStack;
+    private int rReg, rDisc, rLow, rComp, rCallU, rCallIdx, rScc;
+    private IntJournal journal;
+
+    private StepListener listener;
+    private boolean muted;
+    private long steps;
+    private long lastSnapshot; // journal position of the newest snapshot
+
+    public TarjanSCCSolver(CsrGraph graph) { setGraph(graph); }
+
+    public void setGraph(CsrGraph graph) {
+        this.graph = graph == null ? CsrGraph.empty() : graph;
+        this.n = this.graph.nodeCount();
+        reset();
+    }
+
+    public void setStepListener(StepListener l) { this.listener = l; }
+
+    @Override
+    public void setMuted(boolean muted) { this.muted = muted; }
+
+    public void reset() {
+        reg = new int[6];
+        disc = new int[n]; // 0 = undiscovered, else discovery time starting at 1
+        low = new int[n];
+        comp = new int[n];
+        Arrays.fill(comp, -1);
+        callU = new int[n];
+        callIdx = new int[n];
+        sccStack = new int[n];
+        journal = new IntJournal();
+        steps = lastSnapshot = 0;
+        rReg = journal.register(reg);
+        rDisc = journal.register(disc);
+        rLow = journal.register(low);
+        rComp = journal.register(comp);
+        rCallU = journal.register(callU);
+        rCallIdx = journal.register(callIdx);
+        rScc = journal.register(sccStack);
+        if (n == 0) { reg[DONE] = 1; emit(StepType.DONE, -1, -1); return; }
+        emit(StepType.INIT, -1, -1);
+    }
+
+    @Override
+    public boolean isDone() { return reg[DONE] != 0; }
+    public CsrGraph getGraph() { return graph; }
+    public int getComponentCount() { return reg[COMPONENTS]; }
+    /** Component id of v, or -1 while v is unassigned. Ids are in completion order. */
+    public int getComponent(int v) { return comp[v]; }
+    public int getDiscoveryTime(int v) { return disc[v]; }
+    public int getLowLink(int v) { return low[v]; }
+    public int getStackDepth() { return reg[TOP]; }
+    /** Node of the DFS call frame at {@code depth} (0 = root), for depth below {@link #getStackDepth()}. */
+    public int getCallNode(int depth) { return callU[depth]; }
+
+    @Override
+    public void step() {
+        if (isDone()) return;
+        steps++;
+        int top = reg[TOP];
+        if (top == 0) {
+            // Next root: the lowest undiscovered node
+            int s = reg[SCAN];
+            while (s < n && disc[s] != 0) s++;
+            set(rReg, SCAN, s);
+            if (s == n) { set(rReg, DONE, 1); emit(StepType.DONE, -1, -1); return; }
+            push(s);
+            emit(StepType.DISCOVER, s, -1);
+            return;
+        }
+        int u = callU[top - 1];
+        int deg = graph.degree(u);
+        // Neighbours that change nothing (finished components, no lower disc) are skipped within this step
+        for (int i = callIdx[top - 1]; i < deg; i++) {
+            int v = graph.neighbor(u, i);
+            if (disc[v] == 0) {
+                set(rCallIdx, top - 1, i + 1);
+                push(v);
+                emit(StepType.TREE_EDGE, u, v);
+                return;
+            }
+            if (comp[v] < 0 && disc[v] < low[u]) {
+                set(rCallIdx, top - 1, i + 1);
+                set(rLow, u, disc[v]);
+                emit(StepType.BACK_EDGE, u, v);
+                return;
+            }
+        }
+        set(rCallIdx, top - 1, deg);
+        // u is finished
+        set(rReg, TOP, top - 1);
+        if (low[u] == disc[u]) {
+            int id = reg[COMPONENTS];
+            int st = reg[SCC_TOP], w;
+            do {
+                w = sccStack[--st];
+                set(rComp, w, id);
+            } while (w != u);
+            set(rReg, SCC_TOP, st);
+            set(rReg, COMPONENTS, id + 1);
+            emit(StepType.COMPONENT, u, id);
+        }
+        if (top > 1) {
+            int p = callU[top - 2];
+            if (low[u] < low[p]) set(rLow, p, low[u]);
+            emit(StepType.RETURN, u, p);
+        }
+    }
+
+    private void push(int v) {
+        int t = reg[TIME] + 1;
+        set(rReg, TIME, t);
+        set(rDisc, v, t);
+        set(rLow, v, t);
+        int top = reg[TOP];
+        set(rCallU, top, v);
+        set(rCallIdx, top, 0);
+        set(rReg, TOP, top + 1);
+        set(rScc, reg[SCC_TOP], v);
+        set(rReg, SCC_TOP, reg[SCC_TOP] + 1);
+    }
+
+    private void set(int array, int index, int value) { journal.set(array, index, value); }
+
+    /**
+     * Finish the run muted and without journaling, returning the elapsed
+     * nanoseconds. Snapshots taken earlier in the run are then
+     * restored by replaying from the start.
+     */
+    public long runToCompletion() {
+        boolean wasMuted = muted;
+        muted = true;
+        journal.clear(false);
+        long t0 = System.nanoTime();
+        while (!isDone()) step();
+        long nanos = System.nanoTime() - t0;
+        muted = wasMuted;
+        return nanos;
+    }
+
+    @Override
+    public State snapshot() {
+        State s = new State();
+        s.position = journal.position();
+        s.steps = steps;
+        s.journalBytes = IntJournal.bytesBetween(lastSnapshot, s.position);
+        lastSnapshot = s.position;
+        return s;
+    }
+
+    @Override
+    public void restore(State s) {
+        if (s == null) return;
+        if (journal.canMoveTo(s.position)) {
+            journal.moveTo(s.position);
+            steps = s.steps;
+        } else {
+            replay(s.steps);
+        }
+        lastSnapshot = s.position;
+    }
+
+    // The journal was trimmed past the target or cleared by runToCompletion: run again from the start, silently
+    private void replay(long target) {
+        boolean wasMuted = muted;
+        muted = true;
+        reset();
+        while (steps < target && !isDone()) step();
+        muted = wasMuted;
+    }
+
+    private void emit(StepType type, int u, int v) {
+        if (listener != null && !muted) listener.onStep(type, u, v);
+    }
+
+    public String getCurrentStepDescription() {
+        if (isDone()) return "Tarjan complete: " + reg[COMPONENTS] + " strongly connected components";
+        if (reg[TOP] == 0) return "Ready";
+        int u = callU[reg[TOP] - 1];
+        return "At node " + u + ", disc=" + disc[u] + ", low=" + low[u] + ", depth=" + reg[TOP];
+    }
+}
@@ -0,0 +1,13 @@
+package com.algorithmvisualizer.algorithm;
+
+/**
+ * Read-only live view of a maze's walls. Reads always reflect the owner's
+ * current state, so holders must not cache values across steps.
+ */
+public interface WallGridView {
+    int getRows();
+    int getCols();
+
+    /** @param dir 0=N, 1=E, 2=S, 3=W */
+    boolean hasWall(int r, int c, int dir);
+}
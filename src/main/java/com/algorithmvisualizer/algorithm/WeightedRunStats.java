@@ -0,0 +1,30 @@
+package com.algorithmvisualizer.algorithm;
+
+/** Totals of a full-speed run of one of the weighted graph engines. */
+public final class WeightedRunStats {
+
+    /** Edges checked against a tentative label (Kruskal: edges examined). */
+    public final long relaxations;
+    /** Checks that lowered a label or added a tree edge. */
+    public final long improvements;
+    /** Indexed-heap insert, decrease-key and extract-min calls. */
+    public final long heapOps;
+    public final long nanos;
+
+    WeightedRunStats(long relaxations, long improvements, long heapOps, long nanos) {
+        this.relaxations = relaxations;
+        this.improvements = improvements;
+        this.heapOps = heapOps;
+        this.nanos = nanos;
+    }
+
+    public double relaxationsPerSecond() { return nanos == 0 ? 0 : relaxations * 1e9 / nanos; }
+
+    public double heapOpsPerSecond() { return nanos == 0 ? 0 : heapOps * 1e9 / nanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f ms, %d relaxations (%.1f M/s, %d improved), %d heap ops (%.1f M/s)",
+                nanos / 1e6, relaxations, relaxationsPerSecond() / 1e6, improvements, heapOps, heapOpsPerSecond() / 1e6);
+    }
+}
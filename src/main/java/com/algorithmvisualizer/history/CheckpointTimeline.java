@@ -0,0 +1,122 @@
+package com.algorithmvisualizer.history;
+
+import com.algorithmvisualizer.algorithm.SteppableSolver;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sparse checkpoint index over a solver run, used to seek to any step number.
+ *
+ * A checkpoint is taken every {@link #BASE_INTERVAL} steps. Checkpoint level k
+ * holds steps that are odd multiples of BASE_INTERVAL * 2^k, and only the most
+ * recent {@link #PER_LEVEL} checkpoints of each level are kept. Recent history is
+ * therefore dense and older history progressively sparser, so memory grows with
+ * log(steps) while the replay distance for a seek stays proportional to how far
+ * back the target is. Seeking restores the nearest checkpoint at or before the
+ * target and re-executes forward with step events muted.
+ */
+public class CheckpointTimeline<S> {
+
+    public static final int BASE_INTERVAL = 64;
+    public static final int PER_LEVEL = 16;
+    private static final int MAX_LEVELS = 63;
+
+    private final SteppableSolver<S> solver;
+    private final TreeMap<Long, S> checkpoints = new TreeMap<>();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayDeque<Long>[] levels = new ArrayDeque[MAX_LEVELS];
+
+    private long position = 0;       // step index of the solver's current state
+    private long furthest = 0;       // furthest step reached so far
+    private long lastCheckpoint = 0; // newest checkpointed step
+    private long finalStep = -1;     // step at which the run finished, -1 if unknown
+
+    public CheckpointTimeline(SteppableSolver<S> solver) {
+        this.solver = solver;
+        for (int k = 0; k < MAX_LEVELS; k++) levels[k] = new ArrayDeque<>();
+        reset();
+    }
+
+    /** Forget all checkpoints and treat the solver's current state as step 0. */
+    public void reset() {
+        checkpoints.clear();
+        for (ArrayDeque<Long> level : levels) level.clear();
+        position = 0;
+        furthest = 0;
+        lastCheckpoint = 0;
+        finalStep = solver.isDone() ? 0 : -1;
+        checkpoints.put(0L, solver.snapshot());
+    }
+
+    /** Call after the solver has advanced one step through the normal UI path. */
+    public void recordStep() {
+        if (finalStep >= 0 && position >= finalStep) return; // stepping a finished solver is a no-op
+        position++;
+        afterAdvance();
+    }
+
+    /** Call after the caller restored the previous step's state itself. */
+    public void recordStepBack() {
+        if (position > 0) position--;
+    }
+
+    /**
+     * Move the solver to the given step, replaying silently from the nearest
+     * checkpoint. Seeking past the end of the run stops at the final step.
+     *
+     * @return the step actually reached
+     */
+    public long seek(long target) {
+        if (target < 0) target = 0;
+        if (finalStep >= 0 && target > finalStep) target = finalStep;
+        if (target == position) return position;
+
+        Map.Entry<Long, S> base = checkpoints.floorEntry(target);
+        // Replaying from the current state is cheaper when it lies between the checkpoint and the target
+        if (position > target || position < base.getKey()) {
+            solver.restore(base.getValue());
+            position = base.getKey();
+        }
+        solver.setMuted(true);
+        try {
+            while (position < target && !solver.isDone()) {
+                solver.step();
+                position++;
+                afterAdvance();
+            }
+        } finally {
+            solver.setMuted(false);
+        }
+        return position;
+    }
+
+    public long getPosition() { return position; }
+
+    /** Furthest step reached so far; the scrub range upper bound. */
+    public long getFurthest() { return furthest; }
+
+    public boolean isFinished() { return finalStep >= 0; }
+
+    public int getCheckpointCount() { return checkpoints.size(); }
+
+    private void afterAdvance() {
+        if (position > furthest) furthest = position;
+        if (solver.isDone() && (finalStep < 0 || position < finalStep)) finalStep = position;
+        if (position > lastCheckpoint && position % BASE_INTERVAL == 0) {
+            addCheckpoint(position, solver.snapshot());
+        }
+    }
+
+    private void addCheckpoint(long step, S state) {
+        lastCheckpoint = step;
+        checkpoints.put(step, state);
+        int level = Math.min(MAX_LEVELS - 1, Long.numberOfTrailingZeros(step / BASE_INTERVAL));
+        ArrayDeque<Long> bucket = levels[level];
+        bucket.addLast(step);
+        if (bucket.size() > PER_LEVEL) {
+            checkpoints.remove(bucket.removeFirst());
+        }
+    }
+}
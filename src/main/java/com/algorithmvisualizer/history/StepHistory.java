@@ -0,0 +1,152 @@
+package com.algorithmvisualizer.history;
+
+import com.algorithmvisualizer.algorithm.SteppableSolver;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Step-back history with a memory budget.
+ *
+ * Entries are pushed before every step and popped on step-back, like the
+ * plain deques it replaces. When the estimated size exceeds the budget, older
+ * entries are thinned so that only every k-th one survives (k doubling as
+ * needed); the most recent {@link #KEEP_RECENT} entries and the first entry are
+ * never dropped. Popping an evicted entry rebuilds it by replaying forward
+ * from the nearest surviving one, refilling the gap while the budget allows.
+ */
+public class StepHistory<E> {
+
+    /** Produces the entry reached by executing one step from the given entry. */
+    public interface Replayer<E> {
+        E next(E from);
+    }
+
+    public static final long DEFAULT_BUDGET_BYTES = Math.min(32L << 20, Runtime.getRuntime().maxMemory() / 16);
+    public static final int KEEP_RECENT = 32;
+
+    private final Replayer<E> replayer;
+    private final ToLongFunction<E> sizer;
+    private final long budgetBytes;
+
+    private final ArrayList<E> entries = new ArrayList<>(); // oldest first; null = evicted
+    private long bytesUsed = 0;
+    private int retained = 0;
+    private int stride = 2;        // entries at multiples of stride survive thinning
+    private int thinnedUpTo = 1;   // entries below this index are already thinned at the current stride
+
+    public StepHistory(Replayer<E> replayer, ToLongFunction<E> sizer, long budgetBytes) {
+        this.replayer = replayer;
+        this.sizer = sizer;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * History over a solver's own snapshots. Rebuilding an evicted entry moves
+     * the solver, so callers must restore the popped state (which they do anyway).
+     */
+    public static <S> StepHistory<S> forSolver(SteppableSolver<S> solver, ToLongFunction<S> sizer) {
+        return new StepHistory<>(from -> {
+            solver.restore(from);
+            solver.setMuted(true);
+            try {
+                solver.step();
+            } finally {
+                solver.setMuted(false);
+            }
+            return solver.snapshot();
+        }, sizer, DEFAULT_BUDGET_BYTES);
+    }
+
+    public void push(E entry) {
+        entries.add(entry);
+        bytesUsed += sizer.applyAsLong(entry);
+        retained++;
+        if (bytesUsed > budgetBytes) thin();
+    }
+
+    /** Remove and return the newest entry, rebuilding it if it was evicted. */
+    public E pop() {
+        if (entries.isEmpty()) throw new NoSuchElementException();
+        int last = entries.size() - 1;
+        E entry = entries.remove(last);
+        if (entry != null) {
+            bytesUsed -= sizer.applyAsLong(entry);
+            retained--;
+        } else {
+            entry = rebuild(last);
+        }
+        if (thinnedUpTo > entries.size()) thinnedUpTo = Math.max(1, entries.size());
+        return entry;
+    }
+
+    public boolean isEmpty() { return entries.isEmpty(); }
+
+    public int size() { return entries.size(); }
+
+    public void clear() {
+        entries.clear();
+        bytesUsed = 0;
+        retained = 0;
+        stride = 2;
+        thinnedUpTo = 1;
+    }
+
+    public long getBytesUsed() { return bytesUsed; }
+
+    public long getBudgetBytes() { return budgetBytes; }
+
+    /** Number of entries currently held in memory (the rest are rebuilt on demand). */
+    public int getRetainedCount() { return retained; }
+
+    /** One-line summary for the variables panel. */
+    public String describe() {
+        return "history: " + entries.size() + " steps, " + retained + " kept, "
+                + formatBytes(bytesUsed) + " / " + formatBytes(budgetBytes);
+    }
+
+    private void thin() {
+        int limit = entries.size() - KEEP_RECENT;
+        while (bytesUsed > budgetBytes && limit > 1) {
+            if (thinnedUpTo >= limit) {
+                if (stride >= limit) break; // nothing left to thin outside the recent window
+                stride *= 2;
+                thinnedUpTo = 1;
+            }
+            for (; thinnedUpTo < limit && bytesUsed > budgetBytes; thinnedUpTo++) {
+                if (thinnedUpTo % stride == 0) continue;
+                E e = entries.get(thinnedUpTo);
+                if (e == null) continue;
+                entries.set(thinnedUpTo, null);
+                bytesUsed -= sizer.applyAsLong(e);
+                retained--;
+            }
+        }
+    }
+
+    private E rebuild(int index) {
+        int base = index - 1;
+        while (entries.get(base) == null) base--; // index 0 is never evicted
+        E cur = entries.get(base);
+        for (int i = base + 1; i <= index; i++) {
+            cur = replayer.next(cur);
+            if (i < index) {
+                // Keep the replayed entries so the following step-backs are cheap
+                long size = sizer.applyAsLong(cur);
+                if (bytesUsed + size <= budgetBytes) {
+                    entries.set(i, cur);
+                    bytesUsed += size;
+                    retained++;
+                }
+            }
+        }
+        return cur;
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,21 @@
+package com.algorithmvisualizer.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Monotonic event counter; increments are dropped while metrics are disabled. */
+public final class Counter implements CounterMXBean {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) { this.name = name; }
+
+    public String getName() { return name; }
+
+    public void increment() { if (Metrics.isEnabled()) count.increment(); }
+
+    public void add(long n) { if (Metrics.isEnabled()) count.add(n); }
+
+    @Override public long getCount() { return count.sum(); }
+    @Override public void reset() { count.reset(); }
+}
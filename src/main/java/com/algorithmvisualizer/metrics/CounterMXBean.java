@@ -0,0 +1,7 @@
+package com.algorithmvisualizer.metrics;
+
+/** JMX view of a {@link Counter}. */
+public interface CounterMXBean {
+    long getCount();
+    void reset();
+}
@@ -0,0 +1,216 @@
+package com.algorithmvisualizer.metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.StackPane;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Frame-time monitor for a visualization container.
+ *
+ * An {@link AnimationTimer} records the interval between pulses into a histogram
+ * and counts pulses that overran the 60 Hz budget as dropped frames. Every
+ * parent in the container's subtree carries a child-list listener, so each node
+ * instance attached for the first time is counted as created the moment it is
+ * added, even if it is thrown away again before the next pulse; that churn is
+ * the figure renderer pooling should move. At the end of each one-second window
+ * the nodes still attached that existed before it are counted as reused. Each
+ * window is shown in an overlay and appended to a CSV file.
+ */
+public class FrameMonitor {
+
+    /** JavaFX pulses at 60 Hz by default. */
+    public static final long FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final String CSV_HEADER = "time,frames,fps,p50_ms,p90_ms,p99_ms,max_ms,dropped,nodes,created,reused,created_per_reused";
+
+    private final LatencyHistogram window = new LatencyHistogram();
+    private final StatsOverlay overlay = new StatsOverlay(Pos.TOP_RIGHT, this::describe);
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) { onPulse(now); }
+    };
+
+    private StackPane host;
+    private BufferedWriter csv;
+    private Path csvPath;
+
+    private long lastPulse;
+    private long windowStart;
+    private long windowDropped;
+    private long windowCreated;
+    // Node instances ever attached, parents carrying the listener, and nodes first attached in this window;
+    // weak so that discarded nodes can still be collected
+    private Set<Node> seen = newWeakNodeSet();
+    private Set<Parent> watched = Collections.newSetFromMap(new WeakHashMap<>());
+    private Set<Node> createdInWindow = newWeakNodeSet();
+    private final ListChangeListener<Node> childListener = c -> {
+        while (c.next()) {
+            if (c.wasAdded()) for (Node child : c.getAddedSubList()) attach(child, true);
+        }
+    };
+
+    // Figures of the last completed window, shown by the overlay
+    private String lastSummary = "frames: collecting…";
+
+    public void start(StackPane host) {
+        this.host = host;
+        lastPulse = 0;
+        windowStart = 0;
+        windowDropped = 0;
+        windowCreated = 0;
+        window.reset();
+        unwatchAll();
+        attach(host, false);
+        openCsv();
+        overlay.show(host);
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+        overlay.hide();
+        closeCsv();
+        unwatchAll();
+    }
+
+    /** CSV file of the current run, or null if it could not be created. */
+    public Path getCsvPath() { return csvPath; }
+
+    private void onPulse(long now) {
+        if (lastPulse != 0) {
+            long interval = now - lastPulse;
+            window.record(interval);
+            // A pulse that took k budgets means k-1 frames were never drawn
+            long frames = (interval + FRAME_BUDGET_NANOS / 2) / FRAME_BUDGET_NANOS;
+            if (frames > 1) windowDropped += frames - 1;
+        } else {
+            windowStart = now;
+        }
+        lastPulse = now;
+        if (now - windowStart >= WINDOW_NANOS) {
+            closeWindow(now);
+            windowStart = now;
+        }
+    }
+
+    private void closeWindow(long now) {
+        Set<Node> current = newNodeSet();
+        collect(host, current);
+        int reused = 0;
+        for (Node n : current) if (!createdInWindow.contains(n)) reused++;
+        long created = windowCreated;
+        windowCreated = 0;
+        createdInWindow = newWeakNodeSet();
+
+        long frames = window.getCount();
+        double seconds = (now - windowStart) / 1e9;
+        double fps = seconds > 0 ? frames / seconds : 0;
+        double ratio = reused == 0 ? created : (double) created / reused;
+        double p50 = ms(window.getPercentile(50)), p90 = ms(window.getPercentile(90));
+        double p99 = ms(window.getPercentile(99)), max = ms(window.getMax());
+
+        lastSummary = String.format("fps %5.1f  dropped %d%n"
+                        + "frame p50 %5.1f  p90 %5.1f ms%n"
+                        + "      p99 %5.1f  max %5.1f ms%n"
+                        + "nodes %d  +%d new / %d reused",
+                fps, windowDropped, p50, p90, p99, max, current.size(), created, reused);
+        writeCsv(String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d,%d,%d,%d,%.3f",
+                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_TIME), frames, fps,
+                p50, p90, p99, max, windowDropped, current.size(), created, reused, ratio));
+
+        window.reset();
+        windowDropped = 0;
+    }
+
+    private String describe() { return lastSummary; }
+
+    // Count node and its subtree as created or re-attached and make sure every parent in it is watched
+    private void attach(Node node, boolean count) {
+        if (node == null || node == overlay.getNode()) return;
+        if (seen.add(node) && count) {
+            windowCreated++;
+            createdInWindow.add(node);
+        }
+        if (node instanceof Parent) {
+            Parent parent = (Parent) node;
+            if (watched.add(parent)) parent.getChildrenUnmodifiable().addListener(childListener);
+            for (Node child : parent.getChildrenUnmodifiable()) attach(child, count);
+        }
+    }
+
+    private void unwatchAll() {
+        for (Parent parent : watched) parent.getChildrenUnmodifiable().removeListener(childListener);
+        watched = Collections.newSetFromMap(new WeakHashMap<>());
+        seen = newWeakNodeSet();
+        createdInWindow = newWeakNodeSet();
+    }
+
+    private void collect(Node node, Set<Node> into) {
+        if (node == null || node == overlay.getNode()) return;
+        into.add(node);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) collect(child, into);
+        }
+    }
+
+    private void openCsv() {
+        closeCsv();
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        csvPath = Paths.get(System.getProperty("user.dir"), "frame-monitor-" + stamp + ".csv");
+        try {
+            csv = Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8);
+            csv.write(CSV_HEADER);
+            csv.newLine();
+        } catch (IOException e) {
+            e.printStackTrace();
+            csv = null;
+            csvPath = null;
+        }
+    }
+
+    private void writeCsv(String row) {
+        if (csv == null) return;
+        try {
+            csv.write(row);
+            csv.newLine();
+            csv.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+            closeCsv();
+        }
+    }
+
+    private void closeCsv() {
+        if (csv == null) return;
+        try {
+            csv.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        csv = null;
+    }
+
+    private static double ms(long nanos) { return nanos / 1e6; }
+
+    private static Set<Node> newNodeSet() { return Collections.newSetFromMap(new IdentityHashMap<>()); }
+
+    // Node keeps Object's identity equals and hashCode, so a weak hash set is an identity set
+    private static Set<Node> newWeakNodeSet() { return Collections.newSetFromMap(new WeakHashMap<>()); }
+}
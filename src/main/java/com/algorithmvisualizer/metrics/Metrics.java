@@ -0,0 +1,89 @@
+package com.algorithmvisualizer.metrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Process-wide registry of timers and counters.
+ *
+ * Metrics are created once (typically into static final fields) and exported
+ * as JMX MXBeans under {@code com.algorithmvisualizer:type=Timer|Counter,name=...}.
+ * Collection is off by default and can be switched at runtime from the UI or
+ * through the {@code com.algorithmvisualizer:type=Metrics} control bean.
+ */
+public final class Metrics {
+
+    private static final String DOMAIN = "com.algorithmvisualizer";
+
+    private static volatile boolean enabled = false;
+
+    private static final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+    private static final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+
+    static {
+        register("type=Metrics", new MetricsControlMXBean() {
+            @Override public boolean isEnabled() { return Metrics.isEnabled(); }
+            @Override public void setEnabled(boolean on) { Metrics.setEnabled(on); }
+            @Override public void resetAll() { Metrics.resetAll(); }
+            @Override public String getSummary() { return Metrics.summary(); }
+        });
+    }
+
+    private Metrics() {}
+
+    public static boolean isEnabled() { return enabled; }
+
+    public static void setEnabled(boolean on) { enabled = on; }
+
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> {
+            Timer t = new Timer(n);
+            register("type=Timer,name=" + ObjectName.quote(n), t);
+            return t;
+        });
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> {
+            Counter c = new Counter(n);
+            register("type=Counter,name=" + ObjectName.quote(n), c);
+            return c;
+        });
+    }
+
+    public static void resetAll() {
+        timers.values().forEach(Timer::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    /** Human-readable table of every metric that has recorded something. */
+    public static String summary() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-28s %8s %9s %9s %9s", "timer (µs)", "count", "p50", "p99", "max"));
+        for (Timer t : timers.values()) {
+            if (t.getCount() == 0) continue;
+            lines.add(String.format("%-28s %8d %9.1f %9.1f %9.1f",
+                    t.getName(), t.getCount(), t.getP50Micros(), t.getP99Micros(), t.getMaxMicros()));
+        }
+        for (Counter c : counters.values()) {
+            if (c.getCount() == 0) continue;
+            lines.add(String.format("%-28s %8d", c.getName(), c.getCount()));
+        }
+        return String.join("\n", lines);
+    }
+
+    private static void register(String keys, Object bean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":" + keys);
+            if (!server.isRegistered(name)) server.registerMBean(bean, name);
+        } catch (Exception | LinkageError e) {
+            // JMX is optional; metrics keep working in-process without it
+        }
+    }
+}
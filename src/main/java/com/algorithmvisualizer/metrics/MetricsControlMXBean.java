@@ -0,0 +1,9 @@
+package com.algorithmvisualizer.metrics;
+
+/** JMX switch for the metrics registry, so collection can be toggled from JConsole/VisualVM. */
+public interface MetricsControlMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    void resetAll();
+    String getSummary();
+}
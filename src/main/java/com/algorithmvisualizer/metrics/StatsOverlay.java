@@ -0,0 +1,63 @@
+package com.algorithmvisualizer.metrics;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+import java.util.function.Supplier;
+
+/**
+ * Small text panel layered over a visualization container and refreshed twice a second.
+ * Controllers replace the container's children freely, so the overlay re-attaches
+ * itself on top at every refresh.
+ */
+public class StatsOverlay {
+
+    private final Label label = new Label();
+    private final Supplier<String> text;
+    private final Timeline refresh;
+    private StackPane host;
+
+    public StatsOverlay(Pos position, Supplier<String> text) {
+        this.text = text;
+        label.setStyle("-fx-font-family: 'Monospaced'; -fx-font-size: 10px; -fx-text-fill: white; "
+                + "-fx-background-color: rgba(0,0,0,0.7); -fx-padding: 4 6; -fx-background-radius: 4;");
+        label.setMouseTransparent(true);
+        label.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        StackPane.setAlignment(label, position);
+        refresh = new Timeline(new KeyFrame(Duration.millis(500), e -> update()));
+        refresh.setCycleCount(Animation.INDEFINITE);
+    }
+
+    public void show(StackPane host) {
+        this.host = host;
+        update();
+        refresh.play();
+    }
+
+    public void hide() {
+        refresh.stop();
+        if (host != null) host.getChildren().remove(label);
+    }
+
+    /** The overlay's own node, so callers walking the host can skip it. */
+    public Node getNode() { return label; }
+
+    public boolean isShowing() { return refresh.getStatus() == Animation.Status.RUNNING; }
+
+    private void update() {
+        if (host == null) return;
+        label.setText(text.get());
+        int n = host.getChildren().size();
+        if (n == 0 || host.getChildren().get(n - 1) != label) {
+            host.getChildren().remove(label);
+            host.getChildren().add(label);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.algorithmvisualizer.metrics;
+
+/**
+ * Latency timer around a code section:
+ * <pre>
+ *   long t = TIMER.start();
+ *   work();
+ *   TIMER.stop(t);
+ * </pre>
+ * While metrics are disabled {@code start()} returns 0 and {@code stop(0)} does
+ * nothing, so an idle timer costs one volatile read.
+ */
+public final class Timer implements TimerMXBean {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer(String name) { this.name = name; }
+
+    public String getName() { return name; }
+
+    public long start() { return Metrics.isEnabled() ? System.nanoTime() : 0L; }
+
+    public void stop(long startNanos) {
+        if (startNanos != 0L) histogram.record(System.nanoTime() - startNanos);
+    }
+
+    public LatencyHistogram getHistogram() { return histogram; }
+
+    @Override public long getCount() { return histogram.getCount(); }
+    @Override public double getMeanMicros() { return histogram.getMean() / 1000.0; }
+    @Override public double getP50Micros() { return histogram.getPercentile(50) / 1000.0; }
+    @Override public double getP90Micros() { return histogram.getPercentile(90) / 1000.0; }
+    @Override public double getP99Micros() { return histogram.getPercentile(99) / 1000.0; }
+    @Override public double getMaxMicros() { return histogram.getMax() / 1000.0; }
+    @Override public void reset() { histogram.reset(); }
+}
@@ -0,0 +1,12 @@
+package com.algorithmvisualizer.metrics;
+
+/** JMX view of a {@link Timer}; latencies are reported in microseconds. */
+public interface TimerMXBean {
+    long getCount();
+    double getMeanMicros();
+    double getP50Micros();
+    double getP90Micros();
+    double getP99Micros();
+    double getMaxMicros();
+    void reset();
+}
@@ -0,0 +1,23 @@
+package com.algorithmvisualizer.model;
+
+/**
+ * O(n log n) and parallel sort engines definition for the visualizer
+ */
+public class SortEnginesAlgorithm extends Algorithm {
+
+    public SortEnginesAlgorithm() {
+        super("O(n log n) Sorts",
+            "Merge, Quick, Heap, Shell and Radix sort plus fork/join parallel sorts step by step, live runs on up to 2M elements and full-speed benchmarks",
+            "Sorting");
+    }
+
+    @Override
+    public String getVisualizationFxml() {
+        return "/fxml/sortengines-view.fxml";
+    }
+
+    @Override
+    public Class<?> getControllerClass() {
+        return com.algorithmvisualizer.ui.SortEnginesController.class;
+    }
+}
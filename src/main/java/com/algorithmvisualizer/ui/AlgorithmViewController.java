@@ -1,6 +1,10 @@
 package com.algorithmvisualizer.ui;
 
+import com.algorithmvisualizer.metrics.FrameMonitor;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.StatsOverlay;
 import com.algorithmvisualizer.model.Algorithm;
+import javafx.geometry.Pos;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -63,6 +67,24 @@ public class AlgorithmViewController {
     
     @FXML
     protected Label speedLabel;
+
+    @FXML
+    protected ToggleButton metricsToggle;
+
+    @FXML
+    protected ToggleButton framesToggle;
+
+    @FXML
+    protected HBox scrubBox;
+
+    @FXML
+    protected Slider scrubSlider;
+
+    @FXML
+    protected Label scrubLabel;
+
+    @FXML
+    protected TextField seekField;
     
     @FXML
     protected ListView<String> variableList;
@@ -118,13 +140,33 @@ public class AlgorithmViewController {
     
     protected Algorithm currentAlgorithm;
     protected AlgorithmSpecificController algorithmController;
+
+    // Set while the scrubber is updated from code so that it does not trigger a seek
+    private boolean updatingScrubber = false;
+
+    private final StatsOverlay metricsOverlay = new StatsOverlay(Pos.TOP_LEFT, Metrics::summary);
+    private final FrameMonitor frameMonitor = new FrameMonitor();
     
     @FXML
     private void initialize() {
+        // Collection may have been switched on via JMX before this view opened
+        metricsToggle.setSelected(Metrics.isEnabled());
+        if (Metrics.isEnabled()) metricsOverlay.show(chessboardContainer);
+
         // Initialize speed slider
         speedSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
             speedLabel.setText(String.format("%.0fx", newVal.doubleValue()));
         });
+
+        // Timeline scrubber: seek once the thumb is released (or the track clicked)
+        scrubSlider.valueChangingProperty().addListener((obs, was, changing) -> {
+            if (!changing) seekToScrubber();
+        });
+        scrubSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
+            long step = Math.round(newVal.doubleValue());
+            scrubLabel.setText(step + " / " + Math.round(scrubSlider.getMax()));
+            if (!scrubSlider.isValueChanging()) seekToScrubber();
+        });
         
         // Initialize step description
         stepDescription.setText("Ready to start algorithm visualization. Click 'Play' or 'Step Forward' to begin.");
@@ -155,6 +197,9 @@ public class AlgorithmViewController {
             if (controller instanceof AlgorithmSpecificController) {
                 ((AlgorithmSpecificController) controller).setParentController(this);
                 this.algorithmController = (AlgorithmSpecificController) controller;
+                boolean seekable = algorithmController.supportsSeek();
+                scrubBox.setVisible(seekable);
+                scrubBox.setManaged(seekable);
             }
             
             // Store controller reference for later use
@@ -177,6 +222,8 @@ public class AlgorithmViewController {
             Scene mainScene = new Scene(loader.load(), 800, 600);
             
             Stage stage = (Stage) backButton.getScene().getWindow();
+            metricsOverlay.hide();
+            frameMonitor.stop();
             stage.setScene(mainScene);
             stage.setTitle("AlgoQuest");
             
@@ -220,6 +267,58 @@ public class AlgorithmViewController {
         }
     }
     
+    @FXML
+    protected void onToggleMetrics() {
+        boolean on = metricsToggle.isSelected();
+        Metrics.setEnabled(on);
+        if (on) {
+            Metrics.resetAll();
+            metricsOverlay.show(chessboardContainer);
+        } else {
+            metricsOverlay.hide();
+        }
+    }
+
+    @FXML
+    protected void onToggleFrames() {
+        if (framesToggle.isSelected()) {
+            frameMonitor.start(chessboardContainer);
+            if (frameMonitor.getCsvPath() != null) {
+                progressArea.appendText("🎞 Logging frame times to " + frameMonitor.getCsvPath() + "\n");
+            }
+        } else {
+            frameMonitor.stop();
+        }
+    }
+
+    @FXML
+    protected void onSeekField() {
+        if (algorithmController == null) return;
+        try {
+            long step = Long.parseLong(seekField.getText().trim());
+            algorithmController.onSeek(Math.max(0, step));
+        } catch (NumberFormatException ex) {
+            stepDescription.setText("Invalid step number: " + seekField.getText());
+        }
+    }
+
+    private void seekToScrubber() {
+        if (updatingScrubber || algorithmController == null) return;
+        algorithmController.onSeek(Math.round(scrubSlider.getValue()));
+    }
+
+    /** Update the scrubber to show the current step out of the furthest step reached. */
+    public void updateScrubber(long position, long max) {
+        updatingScrubber = true;
+        try {
+            scrubSlider.setMax(Math.max(1, max));
+            scrubSlider.setValue(position);
+            scrubLabel.setText(position + " / " + max);
+        } finally {
+            updatingScrubber = false;
+        }
+    }
+    
     // Interface for algorithm-specific controllers
     public interface AlgorithmSpecificController {
         void setParentController(AlgorithmViewController parent);
@@ -229,5 +328,8 @@ public class AlgorithmViewController {
         default void onPause() {}
         default void onStepForward() {}
         default void onReset() {}
+        // Timeline scrubbing; controllers that support it return true and jump to the given step
+        default boolean supportsSeek() { return false; }
+        default void onSeek(long step) {}
     }
 }
@@ -1,34 +1,60 @@
 package com.algorithmvisualizer.ui;
 
+import com.algorithmvisualizer.algorithm.BatchSearch;
 import com.algorithmvisualizer.algorithm.BinarySearchSolver;
+import com.algorithmvisualizer.algorithm.MappedRecordSearch;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
 import com.algorithmvisualizer.visualization.ArrayRenderer;
 import com.algorithmvisualizer.visualization.BarChartRenderer;
+import com.algorithmvisualizer.visualization.ProbeLocalityView;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
 import javafx.util.Duration;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
 
 /**
- * Controller for Binary Search visualization.
+ * Controller for Binary Search visualization. Optionally mirrors the search
+ * onto the array in Eytzinger order, and benchmarks the {@link BatchSearch}
+ * variants on millions of queries and a {@link MappedRecordSearch} over a
+ * sorted record file on disk.
  */
 public class BinarySearchController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer STEP_TIMER = Metrics.timer("binarySearch.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("binarySearch.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("binarySearch.appendProgress");
+
     // Parent reference and shared controls
     private AlgorithmViewController parent;
 
     // Visuals
     private BarChartRenderer barChart;
     private ArrayRenderer arrayView;
+    private final ArrayRenderer eytzingerView = new ArrayRenderer();
+    private final CheckBox eytzingerToggle = new CheckBox("Eytzinger layout");
+    private int[] eytzingerOrder = new int[1]; // sorted index at each Eytzinger position, from 1
+    private int[] eytzingerPosition = new int[0]; // the inverse, 0-based for the view
 
     // Solver
     private BinarySearchSolver solver;
@@ -135,6 +161,14 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
             parent.paramNumQueensSpinner.valueProperty().addListener((obs, o, n) -> onTargetChanged(n));
         }
         if (parent.paramApplyButton != null) parent.paramApplyButton.setOnAction(e -> onApplyArrayFromParent());
+        if (parent.paramApplyButton != null && parent.paramApplyButton.getParent() instanceof Pane) {
+            eytzingerToggle.selectedProperty().addListener((obs, o, n) -> refreshAllRenderOnly());
+            Button batchButton = new Button("⚡ Batch search…");
+            batchButton.setOnAction(e -> onBatchSearch());
+            Button fileButton = new Button("🗂 Search file…");
+            fileButton.setOnAction(e -> onFileSearch());
+            ((Pane) parent.paramApplyButton.getParent()).getChildren().addAll(eytzingerToggle, batchButton, fileButton);
+        }
         if (parent.paramRandomizeButton != null) parent.paramRandomizeButton.setOnAction(e -> onRandomizeFromParent());
 
         // Solutions side: show Array View
@@ -240,6 +274,17 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
     private void renderVisuals() {
         barChart.setData(currentArray);
         arrayView.setData(currentArray);
+        if (eytzingerToggle.isSelected()) {
+            eytzingerOrder = new BatchSearch(currentArray).eytzingerOrder();
+            eytzingerPosition = new int[currentArray.length];
+            int[] laidOut = new int[currentArray.length];
+            for (int k = 1; k < eytzingerOrder.length; k++) {
+                laidOut[k - 1] = currentArray[eytzingerOrder[k]];
+                eytzingerPosition[eytzingerOrder[k]] = k - 1;
+            }
+            eytzingerView.setData(laidOut);
+            if (solver != null) mirrorToEytzinger();
+        }
         if (parent != null && parent.chessboardContainer != null) {
             parent.chessboardContainer.getChildren().clear();
             parent.chessboardContainer.getChildren().add(barChart.getNode());
@@ -251,6 +296,26 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
         if (parent == null || parent.solutionsContent == null) return;
         parent.solutionsContent.getChildren().clear();
         parent.solutionsContent.getChildren().add(arrayView.getNode());
+        if (eytzingerToggle.isSelected()) {
+            Label caption = new Label("Eytzinger layout: b[k] has children b[2k] and b[2k+1], so the first probes of "
+                    + "every search share the front of the array.");
+            caption.setWrapText(true);
+            parent.solutionsContent.getChildren().addAll(new Separator(), caption, eytzingerView.getNode());
+        }
+    }
+
+    // Paint the solver's state onto the same elements in their Eytzinger positions
+    private void mirrorToEytzinger() {
+        int n = currentArray.length;
+        if (eytzingerPosition.length != n) return;
+        int low = solver.getLow(), mid = solver.getMid(), high = solver.getHigh(), found = solver.getFoundIndex();
+        eytzingerView.setRangeColor(0, n - 1, "#f7f7f7");
+        for (int i = 0; i < n; i++) {
+            int p = eytzingerPosition[i];
+            if (i == found) eytzingerView.markFound(p);
+            else if (i < low || i > high) eytzingerView.markEliminatedRange(p, p);
+            else if (i == mid && !solver.isDone()) eytzingerView.highlightMid(p);
+        }
     }
 
     // --- Playback controls ---
@@ -268,7 +333,7 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
         if (solver == null || solver.isDone()) return;
         if (pendingMidWait || pendingCompareBlink || pendingElimBlink) return;
         history.push(solver.snapshot());
-        solver.step();
+        stepSolver();
     }
 
     public void onStepBack() {
@@ -333,13 +398,25 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
             if (solver.isDone()) { stopTimeline(); return; }
             if (pendingMidWait || pendingCompareBlink || pendingElimBlink) return;
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
 
     // --- Step event handling and timing ---
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        solver.step();
+        STEP_TIMER.stop(t);
+    }
+
     private void onStepEvent(BinarySearchSolver.StepType type, int low, int mid, int high, int target) {
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, low, mid, high, target);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(BinarySearchSolver.StepType type, int low, int mid, int high, int target) {
         switch (type) {
             case INIT:
                 initProgressLog();
@@ -409,6 +486,7 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
                 }
                 break;
         }
+        if (eytzingerToggle.isSelected()) mirrorToEytzinger();
         updateVariablesPanel();
     }
 
@@ -479,6 +557,217 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
         elimBlinkTimeline.play();
     }
 
+    /**
+     * Time every {@link BatchSearch} variant for lower_bound and upper_bound on
+     * random queries against a random sorted array, off the UI thread, after a
+     * warm-up pass each, and log queries per second. Answers are checked
+     * against the classic search.
+     */
+    private void onBatchSearch() {
+        TextInputDialog dialog = new TextInputDialog("1000000, 4000000");
+        dialog.setTitle("Batch search");
+        dialog.setHeaderText("Array size, number of queries:");
+        String input = dialog.showAndWait().orElse(null);
+        if (input == null) return;
+        int n, queryCount;
+        try {
+            String[] parts = input.replace("_", "").split(",");
+            n = Integer.parseInt(parts[0].trim());
+            queryCount = Integer.parseInt(parts[1].trim());
+        } catch (RuntimeException ex) {
+            appendProgress("❌ Enter the array size and the number of queries, e.g. 1000000, 4000000");
+            return;
+        }
+        if (n < 1 || n > 100_000_000 || queryCount < 1 || queryCount > 100_000_000) {
+            appendProgress("❌ Sizes must be between 1 and 100,000,000");
+            return;
+        }
+        appendProgress("⚡ Batch search: " + queryCount + " queries on " + n + " sorted ints ...");
+        Task<String> task = new Task<String>() {
+            @Override protected String call() {
+                Random rnd = new Random(42);
+                int[] sorted = new int[n];
+                for (int i = 0; i < n; i++) sorted[i] = rnd.nextInt();
+                Arrays.sort(sorted);
+                int[] queries = new int[queryCount];
+                for (int q = 0; q < queryCount; q++) queries[q] = rnd.nextInt();
+                int[] out = new int[queryCount];
+                int[] warmUp = Arrays.copyOf(queries, Math.max(1, queryCount / 10));
+                BatchSearch search = new BatchSearch(sorted);
+                StringBuilder sb = new StringBuilder();
+                long[] expected = new long[BatchSearch.Bound.values().length];
+                for (BatchSearch.Variant v : BatchSearch.Variant.values()) {
+                    sb.append(String.format("%-14s", v.name().toLowerCase()));
+                    for (BatchSearch.Bound b : BatchSearch.Bound.values()) {
+                        search.searchAll(v, b, warmUp, out);
+                        long t0 = System.nanoTime();
+                        long sum = search.searchAll(v, b, queries, out);
+                        double seconds = (System.nanoTime() - t0) / 1e9;
+                        if (v == BatchSearch.Variant.CLASSIC) expected[b.ordinal()] = sum;
+                        sb.append(String.format(" %s_bound %7.2f M queries/s%s", b.name().toLowerCase(),
+                                queryCount / seconds / 1e6, sum == expected[b.ordinal()] ? "" : " ❌ MISMATCH"));
+                    }
+                    sb.append('\n');
+                }
+                return sb.toString().trim();
+            }
+        };
+        task.setOnSucceeded(e -> appendProgress(task.getValue()));
+        task.setOnFailed(e -> appendProgress("❌ Batch search failed: " + task.getException()));
+        Thread th = new Thread(task, "batch-search");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Window for binary-searching a sorted file of fixed-width records through
+     * memory mapping, with or without a fence index, on a background thread.
+     * Page touches per query and the probe path of the latest lookup are
+     * refreshed every frame. Closing the window aborts the run.
+     */
+    private void onFileSearch() {
+        TextField fileField = new TextField(Paths.get(System.getProperty("java.io.tmpdir"), "records-16.bin").toString());
+        fileField.setPrefWidth(320);
+        Button openButton = new Button("Open…");
+        TextField generateField = new TextField("10000000");
+        generateField.setPrefWidth(90);
+        Button generateButton = new Button("Generate");
+        TextField recordField = new TextField("16");
+        recordField.setPrefWidth(50);
+        TextField keyField = new TextField("0");
+        keyField.setPrefWidth(40);
+        TextField fenceField = new TextField("0");
+        fenceField.setPrefWidth(50);
+        TextField queriesField = new TextField("1000000");
+        queriesField.setPrefWidth(90);
+        Button runButton = new Button("▶ Run");
+        Label stats = new Label("Keys are big-endian ints in ascending order. Fence: pages per in-memory fence key, 0 for none.");
+        stats.setStyle("-fx-font-family: monospace;");
+        stats.setWrapText(true);
+        ProbeLocalityView view = new ProbeLocalityView();
+        VBox content = new VBox(8.0,
+                new HBox(8.0, new Label("File:"), fileField, openButton, new Label("or records:"), generateField, generateButton),
+                new HBox(8.0, new Label("Record bytes:"), recordField, new Label("Key offset:"), keyField,
+                        new Label("Fence pages:"), fenceField, new Label("Queries:"), queriesField, runButton),
+                stats, view.getNode());
+
+        Dialog<Void> window = new Dialog<>();
+        window.setTitle("Memory-mapped file search");
+        window.setResizable(true);
+        window.initModality(Modality.NONE);
+        window.getDialogPane().setContent(content);
+        window.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        openButton.setOnAction(e -> {
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Open sorted record file");
+            File file = chooser.showOpenDialog(window.getDialogPane().getScene().getWindow());
+            if (file != null) fileField.setText(file.getPath());
+        });
+        generateButton.setOnAction(e -> {
+            long records;
+            int recordBytes;
+            try {
+                records = Long.parseLong(generateField.getText().trim().replace(",", "").replace("_", ""));
+                recordBytes = Integer.parseInt(recordField.getText().trim());
+                if (records < 1 || records * recordBytes > (64L << 30)) throw new IllegalArgumentException("File must be between 1 record and 64 GiB");
+                if (recordBytes < 4) throw new IllegalArgumentException("Records must be at least 4 bytes");
+            } catch (IllegalArgumentException ex) {
+                stats.setText("❌ " + (ex instanceof NumberFormatException ? "Not a number" : ex.getMessage()));
+                return;
+            }
+            Path path = Paths.get(System.getProperty("java.io.tmpdir"), "records-" + recordBytes + ".bin");
+            stats.setText("Writing " + records + " records of " + recordBytes + " bytes to " + path + " ...");
+            generateButton.setDisable(true);
+            Task<Void> task = new Task<Void>() {
+                @Override protected Void call() throws Exception {
+                    MappedRecordSearch.writeSortedFile(path, records, recordBytes, 42);
+                    return null;
+                }
+            };
+            task.setOnSucceeded(ev -> {
+                generateButton.setDisable(false);
+                fileField.setText(path.toString());
+                keyField.setText("0");
+                stats.setText("Wrote " + path);
+            });
+            task.setOnFailed(ev -> {
+                generateButton.setDisable(false);
+                stats.setText("❌ Writing the file failed: " + task.getException());
+            });
+            Thread th = new Thread(task, "record-file-writer");
+            th.setDaemon(true);
+            th.start();
+        });
+
+        MappedRecordSearch[] running = new MappedRecordSearch[1];
+        AnimationTimer refresh = new AnimationTimer() {
+            @Override public void handle(long now) {
+                if (running[0] == null) return;
+                stats.setText(running[0].describe());
+                view.show(running[0]);
+            }
+        };
+        runButton.setOnAction(e -> {
+            if (running[0] != null) running[0].abort();
+            MappedRecordSearch search;
+            int fence, queryCount;
+            try {
+                int recordBytes = Integer.parseInt(recordField.getText().trim());
+                int keyOffset = Integer.parseInt(keyField.getText().trim());
+                fence = Integer.parseInt(fenceField.getText().trim());
+                queryCount = Integer.parseInt(queriesField.getText().trim().replace(",", "").replace("_", ""));
+                if (queryCount < 1 || queryCount > 100_000_000) throw new IllegalArgumentException("Queries must be between 1 and 100,000,000");
+                search = new MappedRecordSearch(Paths.get(fileField.getText().trim()), recordBytes, keyOffset, 256);
+            } catch (IllegalArgumentException ex) {
+                stats.setText("❌ " + (ex instanceof NumberFormatException ? "Not a number" : ex.getMessage()));
+                return;
+            } catch (Exception ex) {
+                stats.setText("❌ Cannot open the file: " + ex);
+                return;
+            }
+            running[0] = search;
+            refresh.start();
+            Task<String> task = new Task<String>() {
+                @Override protected String call() throws Exception {
+                    try {
+                        int[] queries = search.randomQueries(queryCount, 42);
+                        search.resetStats();
+                        search.buildFence(fence);
+                        long t0 = System.nanoTime();
+                        for (int x : queries) search.lowerBound(x);
+                        double seconds = (System.nanoTime() - t0) / 1e9;
+                        return String.format("%s%n%.0f ns per query", search.describe(), seconds * 1e9 / queryCount);
+                    } finally {
+                        search.close();
+                    }
+                }
+            };
+            task.setOnSucceeded(ev -> {
+                if (running[0] != search) return;
+                running[0] = null;
+                refresh.stop();
+                stats.setText(task.getValue());
+                view.show(search);
+                appendProgress("🗂 " + fileField.getText().trim() + "\n" + task.getValue());
+            });
+            task.setOnFailed(ev -> {
+                if (running[0] == search) { running[0] = null; refresh.stop(); }
+                if (!(task.getException() instanceof CancellationException)) {
+                    stats.setText("❌ File search failed: " + task.getException());
+                }
+            });
+            Thread th = new Thread(task, "file-search");
+            th.setDaemon(true);
+            th.start();
+        });
+        window.setOnHidden(e -> {
+            refresh.stop();
+            if (running[0] != null) running[0].abort();
+        });
+        window.show();
+    }
+
     // --- Logging & variables ---
     private void initProgressLog() {
         if (parent == null || parent.progressArea == null) return;
@@ -491,7 +780,9 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) currentStepLogLines++;
     }
 
@@ -671,6 +962,7 @@ public class BinarySearchController implements AlgorithmViewController.Algorithm
             barChart.highlightMid(mid);
             arrayView.highlightMid(mid);
         }
+        if (eytzingerToggle.isSelected() && solver != null) mirrorToEytzinger();
     }
 
     private void stopOngoingBlinks() {
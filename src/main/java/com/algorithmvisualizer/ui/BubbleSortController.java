@@ -1,6 +1,10 @@
 package com.algorithmvisualizer.ui;
 
 import com.algorithmvisualizer.algorithm.BubbleSortSolver;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
 import com.algorithmvisualizer.visualization.ArrayRenderer;
 import com.algorithmvisualizer.visualization.BarChartRenderer;
 import javafx.animation.Animation;
@@ -21,6 +25,10 @@ import java.util.Random;
 
 public class BubbleSortController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer STEP_TIMER = Metrics.timer("bubbleSort.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("bubbleSort.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("bubbleSort.appendProgress");
+
     @FXML private Spinner<Integer> arraySizeSpinner;
     @FXML private TextField arrayElementsField;
     @FXML private FlowPane arrayElementsBox;
@@ -36,7 +44,8 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
     private BubbleSortSolver solver;
     private Timeline timeline;
     private boolean isPlaying = false;
-    private final Deque<BubbleSortSolver.State> history = new ArrayDeque<>();
+    private StepHistory<BubbleSortSolver.State> history;
+    private CheckpointTimeline<BubbleSortSolver.State> steps;
     private final Deque<Integer> progressHistory = new ArrayDeque<>();
     private int currentStepLogLines = 0;
     private boolean countLogsForStep = false;
@@ -49,6 +58,8 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
 
     private boolean pendingBlinkDelay = false;
     private boolean pendingMarkedDelay = false;
+    private Timeline swapBlink;
+    private PauseTransition markPause;
 
     @FXML
     private void initialize() {
@@ -68,6 +79,8 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
 
         solver = new BubbleSortSolver(currentArray);
         solver.setStepListener(this::onStepEvent);
+        history = StepHistory.forSolver(solver, BubbleSortSolver.State::estimateBytes);
+        steps = new CheckpointTimeline<>(solver);
     }
 
     @Override
@@ -221,6 +234,9 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
     private void refreshAll() {
         stopTimeline();
         solver.setArray(currentArray);
+        history.clear();
+        steps.reset();
+        syncScrubber();
         completionShown = false;
         renderVisuals();
         renderCode();
@@ -245,8 +261,20 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
         parent.solutionsContent.getChildren().add(arrayView.getNode());
     }
 
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        solver.step();
+        STEP_TIMER.stop(t);
+    }
+
     private void onStepEvent(BubbleSortSolver.StepType type, int i, int j) {
-        int n = solver.getArray().length;
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, i, j);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(BubbleSortSolver.StepType type, int i, int j) {
+        int n = solver.getArrayView().length();
         switch (type) {
             case INIT_PASS:
                 countLogsForStep = true; currentStepLogLines = 0;
@@ -259,15 +287,15 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
                 restoreSortedSuffixHighlighting();
                 barChart.highlightCompare(j, j + 1);
                 arrayView.highlightCompare(j, j + 1);
-                appendProgress("🔍 Comparing indices " + j + " and " + (j + 1) + " (" + solver.getArray()[j] + ", " + solver.getArray()[j + 1] + ")");
+                appendProgress("🔍 Comparing indices " + j + " and " + (j + 1) + " (" + solver.getArrayView().get(j) + ", " + solver.getArrayView().get(j + 1) + ")");
                 if (parent != null) parent.stepDescription.setText("Comparing adjacent elements at j=" + j);
                 break;
             case SWAP:
                 pendingBlinkDelay = true;
                 if (isPlaying && timeline != null) { timeline.pause(); }
                 startBlinkingAnimation(j, j + 1, () -> {
-                    barChart.updateData(solver.getArray());
-                    arrayView.updateData(solver.getArray());
+                    barChart.updateIndices(solver.getArrayView(), j, j + 1);
+                    arrayView.updateIndices(solver.getArrayView(), j, j + 1);
                     restoreSortedSuffixHighlighting();
                     appendProgress("🔄 SWAPPED indices " + j + " and " + (j + 1));
                     appendProgress("");
@@ -290,9 +318,9 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
                 if (isPlaying) {
                     pendingMarkedDelay = true;
                     if (timeline != null) { timeline.pause(); }
-                    PauseTransition pauseMark = new PauseTransition(Duration.seconds(2));
-                    pauseMark.setOnFinished(ev -> { pendingMarkedDelay = false; if (isPlaying && timeline != null) { timeline.play(); } if (solver.isDone()) { showCompletion(); } });
-                    pauseMark.play();
+                    markPause = new PauseTransition(Duration.seconds(2));
+                    markPause.setOnFinished(ev -> { pendingMarkedDelay = false; if (isPlaying && timeline != null) { timeline.play(); } if (solver.isDone()) { showCompletion(); } });
+                    markPause.play();
                 }
                 break;
             case DONE:
@@ -308,7 +336,7 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
         if (completionShown) return;
         completionShown = true;
         updateVariablesPanel();
-        int lastIndex = solver.getArray().length - 1;
+        int lastIndex = solver.getArrayView().length() - 1;
         barChart.markSortedSuffix(0);
         arrayView.markSortedSuffix(0);
         PauseTransition completionDelay = new PauseTransition(Duration.seconds(0.5));
@@ -337,21 +365,73 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
         if (solver == null || solver.isDone()) return;
         if (pendingBlinkDelay || pendingMarkedDelay) return;
         history.push(solver.snapshot());
-        solver.step();
+        stepSolver();
+        steps.recordStep();
+        syncScrubber();
     }
 
     public void onStepBack() {
         if (isPlaying) { onPause(); }
-        if (history.isEmpty()) return;
+        if (history.isEmpty()) {
+            // History was dropped by a seek; replay from the nearest checkpoint instead
+            if (steps.getPosition() > 0) onSeek(steps.getPosition() - 1);
+            return;
+        }
         BubbleSortSolver.State s = history.pop();
         solver.restore(s);
+        steps.recordStepBack();
+        syncScrubber();
         pendingBlinkDelay = false; pendingMarkedDelay = false;
+        renderFromSolver();
+
+        if (parent != null && parent.progressArea != null) {
+            if (countLogsForStep && currentStepLogLines > 0) {
+                removeLastLogLines(currentStepLogLines);
+                currentStepLogLines = 0; countLogsForStep = false;
+            } else if (!progressHistory.isEmpty()) {
+                int toRemove = progressHistory.pop();
+                removeLastLogLines(toRemove);
+            }
+        }
+
+        updateVariablesPanel();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        stopTimeline();
+        // Drop pending swap/mark animations; they refer to the pre-jump state
+        if (swapBlink != null) { swapBlink.stop(); swapBlink = null; }
+        if (markPause != null) { markPause.stop(); markPause = null; }
+        pendingBlinkDelay = false; pendingMarkedDelay = false;
+        long reached = steps.seek(step);
+        // Snapshots taken before the jump no longer line up with the solver state
+        history.clear();
+        progressHistory.clear();
+        countLogsForStep = false; currentStepLogLines = 0;
+        completionShown = solver.isDone();
+        renderFromSolver();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateVariablesPanel();
+        syncScrubber();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    private void syncScrubber() {
+        if (parent != null) parent.updateScrubber(steps.getPosition(), steps.getFurthest());
+    }
+
+    private void renderFromSolver() {
         barChart.updateData(solver.getArray());
         arrayView.updateData(solver.getArray());
         barChart.clearHighlights();
         arrayView.clearHighlights();
 
-        int n = solver.getArray().length;
+        int n = solver.getArrayView().length();
         int i = solver.getI();
         int j = solver.getJ();
         if (solver.isDone()) passesCompleted = n; else passesCompleted = i;
@@ -371,19 +451,6 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
             barChart.highlightCompare(j, j + 1);
             arrayView.highlightCompare(j, j + 1);
         }
-
-        if (parent != null && parent.progressArea != null) {
-            if (countLogsForStep && currentStepLogLines > 0) {
-                removeLastLogLines(currentStepLogLines);
-                currentStepLogLines = 0; countLogsForStep = false;
-            } else if (!progressHistory.isEmpty()) {
-                int toRemove = progressHistory.pop();
-                removeLastLogLines(toRemove);
-            }
-        }
-
-        updateVariablesPanel();
-        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
     }
 
     public void onReset() {
@@ -392,6 +459,8 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
         progressHistory.clear();
         countLogsForStep = false; currentStepLogLines = 0; passesCompleted = 0; completionShown = false;
         solver.reset();
+        steps.reset();
+        syncScrubber();
         barChart.updateData(solver.getArray());
         arrayView.updateData(solver.getArray());
         barChart.clearHighlights(); arrayView.clearHighlights();
@@ -428,7 +497,9 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
             if (solver.isDone()) { stopTimeline(); return; }
             if (pendingBlinkDelay || pendingMarkedDelay) { return; }
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
+            steps.recordStep();
+            syncScrubber();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
@@ -437,6 +508,7 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
         barChart.forceHighlightSwap(i, j);
         arrayView.forceHighlightSwap(i, j);
         Timeline blinkTimeline = new Timeline();
+        swapBlink = blinkTimeline;
         blinkTimeline.getKeyFrames().addAll(
             new KeyFrame(Duration.seconds(0.0), e -> { barChart.forceHighlightSwap(i, j); arrayView.forceHighlightSwap(i, j); }),
             new KeyFrame(Duration.seconds(0.5), e -> { barChart.clearHighlights(); arrayView.clearHighlights(); }),
@@ -511,7 +583,9 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) currentStepLogLines++;
     }
 
@@ -538,12 +612,13 @@ public class BubbleSortController implements AlgorithmViewController.AlgorithmSp
                 "i (passes completed): " + passesCompleted,
                 "j (current index): " + solver.getJ(),
                 // "i (pass; sorted suffix length): " + solver.getI(),
-                "state: " + (solver.isDone() ? "DONE" : "RUNNING")
+                "state: " + (solver.isDone() ? "DONE" : "RUNNING"),
+                history.describe()
         );
     }
 
     private void restoreSortedSuffixHighlighting() {
-        int n = solver.getArray().length;
+        int n = solver.getArrayView().length();
         int sortedFrom = Math.max(0, n - passesCompleted);
         if (passesCompleted > 0) {
             barChart.markSortedSuffix(sortedFrom);
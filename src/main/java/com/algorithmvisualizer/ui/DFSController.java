@@ -1,30 +1,78 @@
 package com.algorithmvisualizer.ui;
 
+import com.algorithmvisualizer.algorithm.BiconnectivitySolver;
+import com.algorithmvisualizer.algorithm.CsrGraph;
 import com.algorithmvisualizer.algorithm.DFSSolver;
+import com.algorithmvisualizer.algorithm.EdgeWeights;
+import com.algorithmvisualizer.algorithm.GraphBFSSolver;
+import com.algorithmvisualizer.algorithm.GraphBellmanFordSolver;
+import com.algorithmvisualizer.algorithm.GraphDijkstraSolver;
+import com.algorithmvisualizer.algorithm.GraphGenerators;
+import com.algorithmvisualizer.algorithm.GraphLoader;
+import com.algorithmvisualizer.algorithm.GraphMSTSolver;
+import com.algorithmvisualizer.algorithm.SteppableSolver;
+import com.algorithmvisualizer.algorithm.TarjanSCCSolver;
+import com.algorithmvisualizer.algorithm.WeightedRunStats;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
+import com.algorithmvisualizer.visualization.GraphCanvasRenderer;
 import com.algorithmvisualizer.visualization.GraphRenderer;
+import com.algorithmvisualizer.visualization.GraphView;
 import com.algorithmvisualizer.visualization.ArrayRenderer;
 import com.algorithmvisualizer.visualization.VisitedMatrixRenderer;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
+import javafx.stage.FileChooser;
 import javafx.util.Duration;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToLongFunction;
 
 /**
  * Controller for Depth-First Search visualization.
  * Graph is shown in the main visual area, traversal order as an array on the right.
+ * The step controls drive DFS or the engine picked in the engine box, each with
+ * its own step-back history and checkpoint timeline. With "Directed" ticked an
+ * edge u-v in the edges field or a loaded file only goes from u to v.
  */
 public class DFSController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer STEP_TIMER = Metrics.timer("dfs.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("dfs.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("dfs.appendProgress");
+
+    // Graphs up to NODE_VIEW_LIMIT nodes use the node-per-element renderer, larger ones the canvas;
+    // past SIDE_VIEW_LIMIT the traversal and visited views are trimmed, past CANVAS_LIMIT nothing is drawn
+    private static final int NODE_VIEW_LIMIT = 50;
+    private static final int SIDE_VIEW_LIMIT = 400;
+    private static final int CANVAS_LIMIT = 50_000;
+    private static final int CANVAS_ENTRY_LIMIT = 1_000_000;
+    private static final int TRAVERSAL_TAIL = 64;
+
+    // Engines the step controls can drive, in engine box order
+    private static final int ENGINE_DFS = 0, ENGINE_BFS = 1, ENGINE_SCC = 2, ENGINE_BICON = 3,
+            ENGINE_DIJKSTRA = 4, ENGINE_BELLMAN_FORD = 5, ENGINE_PRIM = 6, ENGINE_KRUSKAL = 7;
+    private static final int ALERT_GROUP = 8; // red in GraphView.GROUP_PALETTE: articulation points, negative cycles
+
     // Parent reference and shared controls
     private AlgorithmViewController parent;
 
     // Visuals
-    private GraphRenderer graphView;
+    private GraphView graphView;
+    private GraphRenderer nodeGraphView;
+    private GraphCanvasRenderer canvasGraphView;
     private ArrayRenderer traversalView;
     private VisitedMatrixRenderer visitedMatrixView;
 
@@ -33,31 +81,49 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
     private Timeline timeline;
     private boolean isPlaying = false;
 
-    // History for step-back
-    private final Deque<DFSSolver.State> history = new ArrayDeque<>();
+    // Engine the step controls drive, with its history for step-back
+    private final ChoiceBox<String> engineChoice = new ChoiceBox<>(
+            javafx.collections.FXCollections.observableArrayList("DFS", "BFS levels", "Tarjan SCC", "Bridges / articulation points",
+                    "Dijkstra", "Bellman-Ford", "Prim MST", "Kruskal MST"));
+    private final Label headerLabel = new Label();
+    private Stepper<DFSSolver.State> dfsStepper;
+    private Stepper<?> active;
     private final Deque<Integer> progressHistory = new ArrayDeque<>();
     private int currentStepLogLines = 0;
     private boolean countLogsForStep = false;
 
-    // DFS active path (stack) and its history for step-back
+    // DFS active path (stack); rebuilt from the solver's stack on step-back
     private final Deque<Integer> pathStack = new ArrayDeque<>();
-    private final Deque<Deque<Integer>> pathHistory = new ArrayDeque<>();
 
     // Graph data
     private int nodeCount = 6;
-    private List<List<Integer>> adj = new ArrayList<>();
+    private List<List<Integer>> adj = new ArrayList<>(); // editable model behind the edges field
+    private CsrGraph graph = CsrGraph.empty();         // immutable form shared by solver and renderer
+    private EdgeWeights weights = EdgeWeights.unit(graph); // always rebased onto the current graph
     private int startNode = 0;
+    private String graphSource;                          // file or generator description; null while editing edges
+    private final CheckBox directedBox = new CheckBox("Directed");
+    private final Label largeGraphLabel = new Label();
 
     @FXML
     private void initialize() {
-        graphView = new GraphRenderer();
+        nodeGraphView = new GraphRenderer();
+        canvasGraphView = new GraphCanvasRenderer();
+        graphView = nodeGraphView;
         traversalView = new ArrayRenderer();
         visitedMatrixView = new VisitedMatrixRenderer();
         initDefaultGraph();
+        graph = CsrGraph.fromAdjacency(nodeCount, adj);
+        weights = EdgeWeights.unit(graph);
         renderVisuals();
 
-        solver = new DFSSolver(nodeCount, adj, startNode);
+        solver = new DFSSolver(graph, startNode);
         solver.setStepListener(this::onStepEvent);
+        dfsStepper = new DfsStepper(solver);
+        active = dfsStepper;
+        engineChoice.getSelectionModel().select(ENGINE_DFS);
+        engineChoice.getSelectionModel().selectedIndexProperty().addListener((obs, o, n) -> onEngineChanged());
+        directedBox.selectedProperty().addListener((obs, o, n) -> onDirectedChanged());
     }
 
     @Override
@@ -75,9 +141,9 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
             parent.chessboardHeaderBox.setVisible(true);
             parent.chessboardHeaderBox.setManaged(true);
             parent.chessboardHeaderBox.getChildren().clear();
-            Label hdr = new Label("Depth-First Search (DFS)");
-            hdr.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
-            parent.chessboardHeaderBox.getChildren().addAll(hdr, new Separator());
+            headerLabel.setText(active.title());
+            headerLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            parent.chessboardHeaderBox.getChildren().addAll(headerLabel, new Separator());
         }
         if (parent.chessboardLegendBox != null) {
             parent.chessboardLegendBox.setVisible(true);
@@ -113,7 +179,7 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
         if (parent.paramElementsLabel != null) {
             parent.paramElementsLabel.setVisible(true);
             parent.paramElementsLabel.setManaged(true);
-            parent.paramElementsLabel.setText("Edges (u-v, comma-separated):");
+            parent.paramElementsLabel.setText("Edges (u-v or u-v:weight, comma-separated):");
         }
         if (parent.paramElementsBox != null) {
             parent.paramElementsBox.setVisible(false);
@@ -122,11 +188,25 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
         if (parent.paramElementsField != null) {
             parent.paramElementsField.setVisible(true);
             parent.paramElementsField.setManaged(true);
-            parent.paramElementsField.setPromptText("e.g. 0-1, 1-2, 2-3, 0-4");
-            parent.paramElementsField.setText(edgesToString(adj));
+            parent.paramElementsField.setPromptText("e.g. 0-1, 1-2:3, 2-3, 0-4:2.5");
+            parent.paramElementsField.setText(edgesToString(adj, weights, isDirected()));
         }
         if (parent.paramRandomizeButton != null) parent.paramRandomizeButton.setOnAction(e -> onRandomizeGraph());
         if (parent.paramApplyButton != null) parent.paramApplyButton.setOnAction(e -> onApplyGraph());
+        if (parent.paramApplyButton != null && parent.paramApplyButton.getParent() instanceof Pane) {
+            Button loadButton = new Button("Load file…");
+            loadButton.setOnAction(e -> onLoadGraphFile());
+            Button compareButton = new Button("⚖ BFS vs DFS");
+            compareButton.setOnAction(e -> onCompareTraversals());
+            Button generateButton = new Button("🎲 Generate…");
+            generateButton.setOnAction(e -> onGenerateGraph());
+            Button componentsButton = new Button("🧩 Components");
+            componentsButton.setOnAction(e -> onAnalyzeComponents());
+            Button weightedButton = new Button("🛣 Weighted…");
+            weightedButton.setOnAction(e -> onWeightedAnalysis());
+            ((Pane) parent.paramApplyButton.getParent()).getChildren().addAll(directedBox, new Label("Engine:"), engineChoice,
+                    loadButton, generateButton, compareButton, componentsButton, weightedButton);
+        }
 
         // Solutions side: traversal array
         if (parent.solutionsHeaderBox != null) {
@@ -156,43 +236,350 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
 
     // --- Parameter handlers ---
     private void onNodeCountChanged(int n) {
+        graphSource = null;
         nodeCount = Math.max(1, n);
         ensureAdjSize();
         refreshAll();
     }
 
     private void onRandomizeGraph() {
-        adj = randomConnectedGraph(nodeCount);
-        if (parent != null && parent.paramElementsField != null) parent.paramElementsField.setText(edgesToString(adj));
+        graphSource = null;
+        long seed = new Random().nextLong();
+        CsrGraph g = GraphGenerators.randomConnected(nodeCount, nodeCount, seed);
+        if (isDirected()) g = GraphGenerators.randomOrientation(g, seed);
+        adj = g.toAdjacencyList();
+        weights = EdgeWeights.random(g, 1, 9, seed);
+        if (parent != null && parent.paramElementsField != null) parent.paramElementsField.setText(edgesToString(adj, weights, isDirected()));
         refreshAll();
     }
 
     private void onApplyGraph() {
         if (parent == null || parent.paramElementsField == null) { refreshAll(); return; }
-        List<List<Integer>> parsed = parseEdges(parent.paramElementsField.getText(), nodeCount);
-        if (parsed != null) { adj = parsed; }
+        EdgeWeights parsed = parseEdges(parent.paramElementsField.getText(), nodeCount, isDirected());
+        if (parsed != null) { adj = parsed.graph().toAdjacencyList(); weights = parsed; graphSource = null; }
+        refreshAll();
+    }
+
+    // Typed edges are re-read in the new mode; a loaded or generated graph keeps its own until the next load
+    private void onDirectedChanged() {
+        if (graphSource == null) { onApplyGraph(); return; }
+        appendProgress("↔ " + (isDirected() ? "Directed" : "Undirected") + " mode applies to the next file load or edge edit");
+    }
+
+    private boolean isDirected() { return directedBox.isSelected(); }
+
+    private void onLoadGraphFile() {
+        if (parent == null || parent.chessboardContainer == null) return;
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Load graph");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Edge list / Matrix Market", "*.txt", "*.edges", "*.el", "*.tsv", "*.csv", "*.mtx"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+        File file = chooser.showOpenDialog(parent.chessboardContainer.getScene().getWindow());
+        if (file == null) return;
+        stopTimeline();
+        Path path = file.toPath();
+        boolean undirected = !isDirected();
+        appendProgress("⏳ Loading " + path.getFileName() + " ...");
+        Task<EdgeWeights> task = new Task<EdgeWeights>() {
+            @Override protected EdgeWeights call() throws IOException { return GraphLoader.loadWeighted(path, undirected); }
+        };
+        long t0 = System.nanoTime();
+        task.setOnSucceeded(e -> {
+            showExternalGraph(task.getValue(), path.getFileName().toString());
+            appendProgress("📂 Loaded in " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+        });
+        task.setOnFailed(e -> appendProgress("❌ Could not load " + path.getFileName() + ": " + task.getException().getMessage()));
+        Thread th = new Thread(task, "graph-loader");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    private void onGenerateGraph() {
+        ChoiceBox<String> kind = new ChoiceBox<>(javafx.collections.FXCollections.observableArrayList(
+                "Erdős–Rényi G(n,p)", "Barabási–Albert", "Random geometric", "Grid", "Torus"));
+        kind.getSelectionModel().selectFirst();
+        TextField nodes = new TextField("100000");
+        TextField degree = new TextField("8");
+        TextField seed = new TextField("42");
+        javafx.scene.layout.GridPane form = new javafx.scene.layout.GridPane();
+        form.setHgap(8.0);
+        form.setVgap(8.0);
+        form.addRow(0, new Label("Model:"), kind);
+        form.addRow(1, new Label("Nodes:"), nodes);
+        form.addRow(2, new Label("Average degree (BA: links per node):"), degree);
+        form.addRow(3, new Label("Seed:"), seed);
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Generate graph");
+        dialog.getDialogPane().setContent(form);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
+        int n, model = kind.getSelectionModel().getSelectedIndex();
+        double deg;
+        long sd;
+        try {
+            n = Math.max(1, Integer.parseInt(nodes.getText().trim()));
+            deg = Math.max(0, Double.parseDouble(degree.getText().trim()));
+            sd = Long.parseLong(seed.getText().trim());
+        } catch (NumberFormatException ex) {
+            appendProgress("❌ Invalid generator parameters");
+            return;
+        }
+        stopTimeline();
+        String desc = kind.getValue() + " n=" + n + (model < 3 ? ", degree " + deg : "") + ", seed " + sd;
+        appendProgress("🎲 Generating " + desc + " ...");
+        Task<CsrGraph> task = new Task<CsrGraph>() {
+            @Override protected CsrGraph call() {
+                int side = (int) Math.max(1, Math.round(Math.sqrt(n)));
+                switch (model) {
+                    case 0: return GraphGenerators.erdosRenyi(n, Math.min(1.0, deg / Math.max(1, n - 1)), sd);
+                    case 1: return GraphGenerators.barabasiAlbert(n, (int) Math.max(1, Math.round(deg)), sd);
+                    case 2: return GraphGenerators.randomGeometric(n, Math.sqrt(deg / (Math.PI * n)), sd);
+                    case 3: return GraphGenerators.grid(side, side, false);
+                    default: return GraphGenerators.grid(side, side, true);
+                }
+            }
+        };
+        long t0 = System.nanoTime();
+        task.setOnSucceeded(e -> {
+            showExternalGraph(EdgeWeights.unit(task.getValue()), desc);
+            appendProgress("🎲 Generated in " + (System.nanoTime() - t0) / 1_000_000 + " ms");
+        });
+        task.setOnFailed(e -> appendProgress("❌ Generation failed: " + task.getException()));
+        Thread th = new Thread(task, "graph-generator");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    // Show a loaded or generated graph; the edges field stays free for typing a replacement
+    private void showExternalGraph(EdgeWeights w, String source) {
+        CsrGraph g = w.graph();
+        graph = g;
+        weights = w;
+        nodeCount = g.nodeCount();
+        startNode = 0;
+        graphSource = source;
+        if (parent != null && parent.paramElementsField != null) {
+            parent.paramElementsField.clear();
+            parent.paramElementsField.setPromptText(source + ": " + nodeCount + " nodes, "
+                    + edgeCount() + " edges (enter edges to replace)");
+        }
         refreshAll();
     }
 
+    /** Run full-speed DFS and direction-optimizing BFS from the start node off the UI thread and log both. */
+    private void onCompareTraversals() {
+        CsrGraph g = graph;
+        int s = startNode;
+        appendProgress("⚖ Comparing DFS and BFS from node " + s + " ...");
+        Task<String> task = new Task<String>() {
+            @Override protected String call() {
+                DFSSolver dfs = new DFSSolver(g, s);
+                dfs.setMuted(true);
+                long t0 = System.nanoTime();
+                while (!dfs.isDone()) dfs.step();
+                long dfsNanos = System.nanoTime() - t0;
+                GraphBFSSolver.RunStats bfs = new GraphBFSSolver(g, s).runToCompletion();
+                return String.format("DFS: %d nodes (all components) in %.1f ms%n"
+                                + "BFS: %d nodes in %d levels in %.1f ms, %.1f M edges/s (%d neighbour checks)",
+                        dfs.getTraversalSize(), dfsNanos / 1e6,
+                        bfs.reached, bfs.levels, bfs.nanos / 1e6, bfs.teps() / 1e6, bfs.edgesExamined);
+            }
+        };
+        task.setOnSucceeded(e -> appendProgress(task.getValue()));
+        task.setOnFailed(e -> appendProgress("❌ Comparison failed: " + task.getException()));
+        Thread th = new Thread(task, "traversal-compare");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Run Tarjan SCC and the bridge / articulation point engine at full speed, then colour
+     * nodes by component, bridges orange and articulation points gold. The engine box
+     * steps through the same two solvers.
+     */
+    private void onAnalyzeComponents() {
+        stopTimeline();
+        CsrGraph g = graph;
+        appendProgress("🧩 Computing components, bridges and articulation points ...");
+        TarjanSCCSolver scc = new TarjanSCCSolver(g);
+        BiconnectivitySolver bicon = new BiconnectivitySolver(g);
+        long[] nanos = new long[2];
+        Task<Void> task = new Task<Void>() {
+            @Override protected Void call() {
+                nanos[0] = scc.runToCompletion();
+                nanos[1] = bicon.runToCompletion();
+                return null;
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (graph != g) return; // graph changed meanwhile
+            appendProgress(String.format("Strongly connected components: %d (%.1f ms)", scc.getComponentCount(), nanos[0] / 1e6));
+            appendProgress(String.format("Bridges: %d, articulation points: %d (%.1f ms)",
+                    bicon.getBridgeCount(), bicon.getArticulationCount(), nanos[1] / 1e6));
+            if (!canDraw()) return;
+            graphView.clearHighlights();
+            for (int v = 0; v < g.nodeCount(); v++) graphView.setNodeGroup(v, scc.getComponent(v));
+            for (int i = 0; i < bicon.getBridgeCount(); i++) {
+                int[] b = bicon.getBridge(i);
+                graphView.highlightEdge(b[0], b[1]);
+            }
+            for (int v = 0; v < g.nodeCount(); v++) if (bicon.isArticulation(v)) graphView.highlightCurrent(v);
+        });
+        task.setOnFailed(e -> appendProgress("❌ Component analysis failed: " + task.getException()));
+        Thread th = new Thread(task, "component-analysis");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Run Dijkstra, Bellman-Ford, Prim or Kruskal at full speed off the UI thread, log the
+     * relaxation and heap-operation rates and highlight the shortest-path tree, negative
+     * cycle or spanning forest. The engine box steps through the same solvers.
+     */
+    private void onWeightedAnalysis() {
+        ChoiceDialog<String> dialog = new ChoiceDialog<>("Dijkstra", "Dijkstra", "Bellman-Ford", "Prim MST", "Kruskal MST");
+        dialog.setTitle("Weighted graph");
+        dialog.setHeaderText("Shortest paths start at node " + startNode + "; MSTs span every component.");
+        String algo = dialog.showAndWait().orElse(null);
+        if (algo == null) return;
+        EdgeWeights w = weights;
+        CsrGraph g = graph;
+        int s = startNode;
+        if (algo.equals("Dijkstra") && w.hasNegative()) {
+            appendProgress("❌ Dijkstra needs non-negative weights; use Bellman-Ford");
+            return;
+        }
+        stopTimeline();
+        appendProgress("🛣 Running " + algo + (algo.endsWith("MST") ? "" : " from node " + s) + " ...");
+        int[][] highlight = new int[1][]; // u0, v0, u1, v1, ... edges to highlight
+        Task<String> task = new Task<String>() {
+            @Override protected String call() {
+                int n = g.nodeCount();
+                WeightedRunStats stats;
+                if (algo.endsWith("MST")) {
+                    GraphMSTSolver mst = new GraphMSTSolver(w, algo.startsWith("Prim") ? GraphMSTSolver.Method.PRIM : GraphMSTSolver.Method.KRUSKAL);
+                    stats = mst.runToCompletion();
+                    int[] edges = new int[2 * mst.getTreeEdgeCount()];
+                    for (int i = 0; i < mst.getTreeEdgeCount(); i++) {
+                        int[] e = mst.getTreeEdge(i);
+                        edges[2 * i] = e[0];
+                        edges[2 * i + 1] = e[1];
+                    }
+                    highlight[0] = edges;
+                    return algo + ": " + mst.getTreeEdgeCount() + " tree edges, total weight "
+                            + EdgeWeights.format(mst.getTotalWeight()) + "\n" + stats;
+                }
+                double[] dist = new double[n];
+                int[] par = new int[n];
+                String passes = "";
+                if (algo.equals("Dijkstra")) {
+                    GraphDijkstraSolver dj = new GraphDijkstraSolver(w, s);
+                    stats = dj.runToCompletion();
+                    for (int v = 0; v < n; v++) { dist[v] = dj.getDistance(v); par[v] = dj.getParent(v); }
+                } else {
+                    GraphBellmanFordSolver bf = new GraphBellmanFordSolver(w, s);
+                    stats = bf.runToCompletion();
+                    if (bf.hasNegativeCycle()) {
+                        int[] c = bf.getNegativeCycle();
+                        highlight[0] = new int[2 * c.length];
+                        StringBuilder sb = new StringBuilder();
+                        for (int i = 0; i < c.length; i++) {
+                            highlight[0][2 * i] = c[i];
+                            highlight[0][2 * i + 1] = c[(i + 1) % c.length];
+                            sb.append(c[i]).append(" → ");
+                        }
+                        return algo + ": negative cycle " + sb.append(c[0]) + "\n" + stats;
+                    }
+                    for (int v = 0; v < n; v++) { dist[v] = bf.getDistance(v); par[v] = bf.getParent(v); }
+                    passes = bf.getPass() + " passes, ";
+                }
+                int reached = 0, tree = 0;
+                double far = 0;
+                int[] edges = new int[2 * Math.max(0, n - 1)];
+                StringBuilder sb = new StringBuilder();
+                for (int v = 0; v < n; v++) {
+                    if (dist[v] == Double.POSITIVE_INFINITY) continue;
+                    reached++;
+                    far = Math.max(far, dist[v]);
+                    if (par[v] >= 0) { edges[tree++] = par[v]; edges[tree++] = v; }
+                    if (n <= NODE_VIEW_LIMIT) sb.append(sb.length() == 0 ? "" : ", ").append(v).append('=').append(EdgeWeights.format(dist[v]));
+                }
+                highlight[0] = Arrays.copyOf(edges, tree);
+                return algo + ": " + passes + reached + " nodes reached, farthest at " + EdgeWeights.format(far)
+                        + (sb.length() > 0 ? "\ndist: " + sb : "") + "\n" + stats;
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (graph != g) return; // graph changed meanwhile
+            appendProgress(task.getValue());
+            if (!canDraw()) return;
+            graphView.clearHighlights();
+            int[] edges = highlight[0];
+            for (int i = 0; i + 1 < edges.length; i += 2) graphView.highlightEdge(edges[i], edges[i + 1]);
+        });
+        task.setOnFailed(e -> appendProgress("❌ " + algo + " failed: " + task.getException()));
+        Thread th = new Thread(task, "weighted-analysis");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    private boolean isLarge() { return graph.nodeCount() > SIDE_VIEW_LIMIT; }
+
+    // Each two-way pair counts once, a one-way entry once
+    private long edgeCount() {
+        if (graph.isSymmetric()) return graph.entryCount() / 2;
+        long twoWay = 0;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int i = 0; i < graph.degree(u); i++) if (graph.neighbor(u, i) > u && graph.hasEdge(graph.neighbor(u, i), u)) twoWay++;
+        }
+        return graph.entryCount() - twoWay;
+    }
+
+    private boolean canDraw() {
+        return graph.nodeCount() <= CANVAS_LIMIT && graph.entryCount() <= CANVAS_ENTRY_LIMIT;
+    }
+
     private void refreshAll() {
         stopTimeline();
-        solver.setGraph(nodeCount, adj);
+        if (graphSource == null) {
+            graph = CsrGraph.fromAdjacency(nodeCount, adj);
+            if (!isDirected()) graph = graph.symmetric();
+        }
+        weights = weights.rebase(graph);
+        solver.setGraph(graph);
         solver.setStart(startNode);
+        pathStack.clear();
+        active = createStepper();
+        active.clear();
+        syncScrubber();
         renderVisuals();
+        renderFromSolver();
         renderCode();
         initProgressLog();
         updateVariablesPanel();
     }
 
     private void renderVisuals() {
-        graphView.setGraph(nodeCount, adj);
+        // Graphs too large to draw get an empty renderer; its highlight calls then become no-ops
+        graphView = graph.nodeCount() <= NODE_VIEW_LIMIT ? nodeGraphView : canvasGraphView;
+        graphView.setGraph(canDraw() ? graph : CsrGraph.empty());
+        graphView.setEdgeWeights(canDraw() ? weights : null);
+        if (graphView != canvasGraphView) canvasGraphView.setGraph(CsrGraph.empty()); // stops any running layout
         updateTraversalView();
         // visited matrix sizing
         if (visitedMatrixView != null) visitedMatrixView.setSize(nodeCount);
         updateVisitedMatrix();
         if (parent != null && parent.chessboardContainer != null) {
             parent.chessboardContainer.getChildren().clear();
-            parent.chessboardContainer.getChildren().add(graphView.getNode());
+            if (!canDraw()) {
+                largeGraphLabel.setText(nodeCount + " nodes, " + edgeCount() + " edges\n"
+                        + "Too large to draw; progress is shown in the log, traversal tail and variables.");
+                largeGraphLabel.setStyle("-fx-font-size: 14px; -fx-text-alignment: center;");
+                parent.chessboardContainer.getChildren().add(largeGraphLabel);
+            } else {
+                parent.chessboardContainer.getChildren().add(graphView.getNode());
+            }
         }
         moveTraversalToSolutions();
     }
@@ -222,72 +609,153 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
     public void onPause() { stopTimeline(); }
 
     public void onStepForward() {
-        if (solver == null || solver.isDone()) return;
-        history.push(solver.snapshot());
-        pushPathHistory();
-        solver.step();
+        if (active.solver.isDone()) return;
+        active.forward();
+        syncScrubber();
     }
 
     public void onStepBack() {
         if (isPlaying) onPause();
-        if (history.isEmpty()) return;
-        DFSSolver.State s = history.pop();
-        solver.restore(s);
-        // Re-render graph and traversal from restored state
-        graphView.setGraph(s.n, s.adj);
-        // Mark visited nodes
-        if (s.visited != null) {
-            for (int i = 0; i < s.visited.length; i++) if (s.visited[i]) graphView.markVisited(i);
-        }
-        // Highlight current node on top of stack if present
-        if (!pathHistory.isEmpty()) {
-            pathStack.clear();
-            Deque<Integer> restored = pathHistory.pop();
-            pathStack.addAll(restored);
-            Integer prev = null;
-            for (Integer node : pathStack) {
-                if (prev != null) graphView.setActivePathEdge(prev, node, true);
-                prev = node;
-            }
-            if (prev != null) graphView.highlightCurrent(prev);
-        } else if (s.stack != null && !s.stack.isEmpty()) {
-            DFSSolver.Frame top = s.stack.peekLast();
-            if (top != null) graphView.highlightCurrent(top.u);
+        if (!active.back()) {
+            // History was dropped by a seek; replay from the nearest checkpoint instead
+            if (active.steps.getPosition() > 0) onSeek(active.steps.getPosition() - 1);
+            return;
         }
-        // Update traversal array view
-        updateTraversalView();
-        updateVisitedMatrix();
+        syncScrubber();
+        renderFromSolver();
 
         // Remove the logs of the last step
-        if (parent != null && parent.progressArea != null) {
-            if (countLogsForStep && currentStepLogLines > 0) {
-                removeLastLogLines(currentStepLogLines);
-                currentStepLogLines = 0;
-                countLogsForStep = false;
-            } else if (!progressHistory.isEmpty()) {
-                int toRemove = progressHistory.pop();
-                removeLastLogLines(toRemove);
-            }
-        }
+        if (!progressHistory.isEmpty()) removeLastLogLines(progressHistory.pop());
         updateVariablesPanel();
-        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+        if (parent != null) parent.stepDescription.setText(active.describe());
     }
 
     public void onReset() {
         stopTimeline();
-        history.clear();
         progressHistory.clear();
         currentStepLogLines = 0;
         countLogsForStep = false;
         pathStack.clear();
-        pathHistory.clear();
-        solver.reset();
+        active.clear();
+        syncScrubber();
         renderVisuals();
+        renderFromSolver();
         initProgressLog();
         updateVariablesPanel();
         if (parent != null) parent.stepDescription.setText("Ready.");
     }
 
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        stopTimeline();
+        long reached = active.seek(step);
+        progressHistory.clear();
+        currentStepLogLines = 0;
+        countLogsForStep = false;
+        renderFromSolver();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateVariablesPanel();
+        syncScrubber();
+        if (parent != null) parent.stepDescription.setText(active.describe());
+    }
+
+    private void onEngineChanged() {
+        stopTimeline();
+        pathStack.clear();
+        active = createStepper();
+        active.clear();
+        headerLabel.setText(active.title());
+        progressHistory.clear();
+        syncScrubber();
+        renderVisuals();
+        renderFromSolver();
+        initProgressLog();
+        updateVariablesPanel();
+        if (parent != null) parent.stepDescription.setText("Ready.");
+    }
+
+    // A fresh run of the selected engine on the current graph; DFS keeps its long-lived solver
+    private Stepper<?> createStepper() {
+        switch (engineChoice.getSelectionModel().getSelectedIndex()) {
+            case ENGINE_BFS: return new BfsStepper(new GraphBFSSolver(graph, startNode));
+            case ENGINE_SCC: return new SccStepper(new TarjanSCCSolver(graph));
+            case ENGINE_BICON: return new BiconStepper(new BiconnectivitySolver(graph));
+            case ENGINE_DIJKSTRA:
+                // Dijkstra rejects negative weights; Bellman-Ford handles them and says why in its title
+                if (weights.hasNegative()) return new BellmanFordStepper(new GraphBellmanFordSolver(weights, startNode), true);
+                return new DijkstraStepper(new GraphDijkstraSolver(weights, startNode));
+            case ENGINE_BELLMAN_FORD: return new BellmanFordStepper(new GraphBellmanFordSolver(weights, startNode), false);
+            case ENGINE_PRIM: return new MstStepper(new GraphMSTSolver(weights, GraphMSTSolver.Method.PRIM));
+            case ENGINE_KRUSKAL: return new MstStepper(new GraphMSTSolver(weights, GraphMSTSolver.Method.KRUSKAL));
+            default: return dfsStepper;
+        }
+    }
+
+    /** Rebuild graph highlights and side views from the active engine's current state. */
+    private void renderFromSolver() {
+        active.render();
+        updateTraversalView();
+        updateVisitedMatrix();
+    }
+
+    // Back to the plain graph with weight labels; highlights of the previous state are dropped
+    private void resetGraphView() {
+        graphView.setGraph(canDraw() ? graph : CsrGraph.empty());
+        graphView.setEdgeWeights(canDraw() ? weights : null);
+    }
+
+    private void renderDfsState() {
+        pathStack.clear();
+        pathStack.addAll(solver.getStackNodes());
+        resetGraphView();
+        if (canDraw()) {
+            for (int i = 0; i < solver.getN(); i++) if (solver.isVisited(i)) graphView.markVisited(i);
+        }
+        Integer prev = null;
+        for (Integer node : pathStack) {
+            if (prev != null) graphView.setActivePathEdge(prev, node, true);
+            prev = node;
+        }
+        if (prev != null) graphView.highlightCurrent(prev);
+    }
+
+    private void markDiscovered(int v) {
+        graphView.markVisited(v);
+        if (visitedMatrixView != null) visitedMatrixView.setVisited(v, true);
+    }
+
+    // Blue path along a stepper's DFS call stack, root first
+    private void renderCallPath(int depth, IntUnaryOperator nodeAt) {
+        for (int d = 1; d < depth; d++) graphView.setActivePathEdge(nodeAt.applyAsInt(d - 1), nodeAt.applyAsInt(d), true);
+    }
+
+    // The call stack for the traversal view, its deepest TRAVERSAL_TAIL frames on large graphs
+    private int[] callStack(int depth, IntUnaryOperator nodeAt) {
+        int from = isLarge() ? Math.max(0, depth - TRAVERSAL_TAIL) : 0;
+        int[] out = new int[depth - from];
+        for (int d = from; d < depth; d++) out[d - from] = nodeAt.applyAsInt(d);
+        return out;
+    }
+
+    // Source-to-v path along parent links for the traversal view, capped at n nodes in case the links cycle
+    private int[] parentPath(int v, IntUnaryOperator parentOf) {
+        if (v < 0 || v >= graph.nodeCount()) return new int[0];
+        int limit = isLarge() ? TRAVERSAL_TAIL : graph.nodeCount();
+        int[] path = new int[limit];
+        int len = 0;
+        for (int x = v; x >= 0 && len < limit; x = parentOf.applyAsInt(x)) path[len++] = x;
+        int[] out = new int[len];
+        for (int i = 0; i < len; i++) out[i] = path[len - 1 - i];
+        return out;
+    }
+
+    private void syncScrubber() {
+        if (parent != null) parent.updateScrubber(active.steps.getPosition(), active.steps.getFurthest());
+    }
+
     private void stopTimeline() {
         if (timeline != null) { timeline.stop(); timeline = null; }
         isPlaying = false;
@@ -306,19 +774,22 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
         double fps = Math.max(1.0, speed);
         Duration frame = Duration.millis(1000.0 / fps);
         timeline = new Timeline(new KeyFrame(frame, e -> {
-            if (solver.isDone()) { stopTimeline(); return; }
-            history.push(solver.snapshot());
-            pushPathHistory();
-            solver.step();
+            if (active.solver.isDone()) { stopTimeline(); return; }
+            active.forward();
+            syncScrubber();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
 
     // --- Step event handling ---
     private void onStepEvent(DFSSolver.StepType type, int u, int v) {
-        // Treat every event as a step for logging/step-back removal
-        countLogsForStep = true;
-        currentStepLogLines = 0;
+        if (active != dfsStepper) return; // a graph change resets the idle DFS solver too
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, u, v);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(DFSSolver.StepType type, int u, int v) {
         switch (type) {
             case INIT:
                 graphView.clearHighlights();
@@ -332,6 +803,7 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
             case DISCOVER:
                 graphView.markVisited(u);
                 graphView.highlightCurrent(u);
+                if (visitedMatrixView != null) visitedMatrixView.setVisited(u, true);
                 appendProgress("✅ Discovered node " + u);
                 if (parent != null) parent.stepDescription.setText("Discovered node " + u);
                 break;
@@ -363,21 +835,570 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
                 break;
         }
         updateTraversalView();
-        updateVisitedMatrix();
         updateVariablesPanel();
-        // finalize log group
-        if (countLogsForStep) {
+    }
+
+    private void updateTraversalView() {
+        traversalView.setData(active == null ? new int[0] : active.sideArray());
+    }
+
+    // --- Engines ---
+
+    /**
+     * A solver driven by the step controls, with its step-back history and
+     * checkpoint timeline. Each forward step groups the log lines its events
+     * write, so stepping back removes exactly that step's lines.
+     */
+    private abstract class Stepper<S> {
+        final SteppableSolver<S> solver;
+        final StepHistory<S> history;
+        final CheckpointTimeline<S> steps;
+
+        Stepper(SteppableSolver<S> solver, ToLongFunction<S> sizer) {
+            this.solver = solver;
+            this.history = StepHistory.forSolver(solver, sizer);
+            this.steps = new CheckpointTimeline<>(solver);
+        }
+
+        abstract String title();
+
+        /** Put the solver back at the start of its run. */
+        abstract void restart();
+
+        /** Redraw the graph from the solver's state after a reset, seek or step-back. */
+        abstract void render();
+
+        abstract String describe();
+
+        abstract void addVariables(List<String> into);
+
+        /** Shown in the traversal view. */
+        abstract int[] sideArray();
+
+        abstract boolean isVisited(int v);
+
+        void forward() {
+            history.push(solver.snapshot());
+            countLogsForStep = true;
+            currentStepLogLines = 0;
+            long t = STEP_TIMER.start();
+            solver.step();
+            STEP_TIMER.stop(t);
             progressHistory.push(currentStepLogLines);
             countLogsForStep = false;
             currentStepLogLines = 0;
+            steps.recordStep();
+        }
+
+        /** Undo the last step; false when the history holds none. */
+        boolean back() {
+            if (history.isEmpty()) return false;
+            solver.restore(history.pop());
+            steps.recordStepBack();
+            return true;
+        }
+
+        long seek(long step) {
+            long reached = steps.seek(step);
+            // Snapshots taken before the jump no longer line up with the solver state
+            history.clear();
+            return reached;
+        }
+
+        void clear() {
+            restart();
+            history.clear();
+            steps.reset();
         }
     }
 
-    private void updateTraversalView() {
-        List<Integer> list = solver != null ? solver.getTraversal() : Collections.emptyList();
-        int[] arr = new int[list.size()];
-        for (int i = 0; i < list.size(); i++) arr[i] = list.get(i);
-        traversalView.setData(arr);
+    private final class DfsStepper extends Stepper<DFSSolver.State> {
+        private final DFSSolver dfs;
+
+        DfsStepper(DFSSolver dfs) {
+            super(dfs, DFSSolver.State::estimateBytes);
+            this.dfs = dfs;
+        }
+
+        @Override String title() { return "Depth-First Search (DFS)"; }
+        @Override void restart() { dfs.reset(); }
+        @Override void render() { renderDfsState(); }
+        @Override String describe() { return dfs.getCurrentStepDescription(); }
+        @Override void addVariables(List<String> into) { into.add("visitedCount: " + dfs.getTraversalSize()); }
+        @Override int[] sideArray() { return isLarge() ? dfs.getTraversalTail(TRAVERSAL_TAIL) : dfs.getTraversalArray(); }
+        @Override boolean isVisited(int v) { return dfs.isVisited(v); }
+    }
+
+    /** One BFS level per step; each level's nodes take its palette colour and their tree edges are highlighted. */
+    private final class BfsStepper extends Stepper<GraphBFSSolver.State> {
+        private final GraphBFSSolver bfs;
+
+        BfsStepper(GraphBFSSolver bfs) {
+            super(bfs, GraphBFSSolver.State::estimateBytes);
+            this.bfs = bfs;
+            bfs.setStepListener(this::onStep);
+        }
+
+        @Override String title() { return "Breadth-First Search by level"; }
+        @Override void restart() { bfs.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int l = 0; l <= bfs.getLevel(); l++) colourLevel(l);
+        }
+
+        private void colourLevel(int l) {
+            for (int v : bfs.getLevelNodes(l)) {
+                graphView.setNodeGroup(v, l);
+                if (bfs.getParent(v) >= 0) graphView.highlightEdge(bfs.getParent(v), v);
+            }
+        }
+
+        private void onStep(GraphBFSSolver.StepType type, int level, int size, boolean bottomUp) {
+            if (type == GraphBFSSolver.StepType.LEVEL) {
+                if (canDraw()) colourLevel(level);
+                appendProgress("🌊 Level " + level + ": " + size + " nodes (" + (bottomUp ? "bottom-up" : "top-down") + ")");
+            } else if (type == GraphBFSSolver.StepType.DONE) {
+                appendProgress("🎉 BFS complete: " + bfs.getDiscoveredCount() + " nodes in " + (bfs.getLevel() + 1) + " levels");
+                stopTimeline();
+            }
+            if (parent != null) parent.stepDescription.setText(bfs.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return bfs.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("level: " + bfs.getLevel());
+            into.add("frontier: " + bfs.getFrontierSize());
+            into.add("discovered: " + bfs.getDiscoveredCount());
+            into.add("direction: " + (bfs.isBottomUp() ? "bottom-up" : "top-down"));
+            into.add("edgesExamined: " + bfs.getEdgesExamined());
+        }
+
+        @Override
+        int[] sideArray() {
+            int[] frontier = bfs.getLevelNodes(bfs.getLevel());
+            return isLarge() && frontier.length > TRAVERSAL_TAIL ? Arrays.copyOf(frontier, TRAVERSAL_TAIL) : frontier;
+        }
+
+        @Override boolean isVisited(int v) { return bfs.getDistance(v) >= 0; }
+    }
+
+    /**
+     * Tarjan SCC. Discovered nodes turn green and take their component's palette colour when
+     * its root finishes; the blue path is the DFS call stack and the traversal view shows it.
+     */
+    private final class SccStepper extends Stepper<TarjanSCCSolver.State> {
+        private final TarjanSCCSolver scc;
+
+        SccStepper(TarjanSCCSolver scc) {
+            super(scc, TarjanSCCSolver.State::estimateBytes);
+            this.scc = scc;
+            scc.setStepListener(this::onStep);
+        }
+
+        @Override String title() { return "Tarjan strongly connected components"; }
+        @Override void restart() { scc.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                if (scc.getComponent(v) >= 0) graphView.setNodeGroup(v, scc.getComponent(v));
+                else if (scc.getDiscoveryTime(v) > 0) graphView.markVisited(v);
+            }
+            renderCallPath(scc.getStackDepth(), scc::getCallNode);
+        }
+
+        private void onStep(TarjanSCCSolver.StepType type, int u, int v) {
+            switch (type) {
+                case DISCOVER:
+                    markDiscovered(u);
+                    appendProgress("🚀 New DFS root " + u);
+                    break;
+                case TREE_EDGE:
+                    markDiscovered(v);
+                    graphView.setActivePathEdge(u, v, true);
+                    appendProgress("➡ Tree edge " + u + "→" + v + ", disc = " + scc.getDiscoveryTime(v));
+                    break;
+                case BACK_EDGE:
+                    graphView.highlightEdge(u, v);
+                    appendProgress("↪ Edge " + u + "→" + v + " lowers low[" + u + "] to " + scc.getLowLink(u));
+                    break;
+                case RETURN:
+                    graphView.setActivePathEdge(v, u, false);
+                    appendProgress("↩ Return from " + u + " to " + v + ", low[" + v + "] = " + scc.getLowLink(v));
+                    break;
+                case COMPONENT:
+                    // O(n) scan per component; only worth it while the graph is drawn
+                    if (canDraw()) {
+                        for (int x = 0; x < graph.nodeCount(); x++) if (scc.getComponent(x) == v) graphView.setNodeGroup(x, v);
+                    }
+                    appendProgress("🧩 Component " + v + " closes at root " + u);
+                    break;
+                case DONE:
+                    appendProgress("🎉 Tarjan complete: " + scc.getComponentCount() + " strongly connected components");
+                    stopTimeline();
+                    break;
+                default:
+                    break;
+            }
+            if (parent != null) parent.stepDescription.setText(scc.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return scc.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("components: " + scc.getComponentCount());
+            into.add("depth: " + scc.getStackDepth());
+        }
+
+        @Override int[] sideArray() { return callStack(scc.getStackDepth(), scc::getCallNode); }
+        @Override boolean isVisited(int v) { return scc.getDiscoveryTime(v) > 0; }
+    }
+
+    /**
+     * Bridges and articulation points of the underlying undirected graph. Bridges turn orange
+     * and articulation points red as the DFS returns past them.
+     */
+    private final class BiconStepper extends Stepper<BiconnectivitySolver.State> {
+        private final BiconnectivitySolver bicon;
+
+        BiconStepper(BiconnectivitySolver bicon) {
+            super(bicon, BiconnectivitySolver.State::estimateBytes);
+            this.bicon = bicon;
+            bicon.setStepListener(this::onStep);
+        }
+
+        @Override String title() { return "Bridges and articulation points"; }
+        @Override void restart() { bicon.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                if (bicon.isArticulation(v)) graphView.setNodeGroup(v, ALERT_GROUP);
+                else if (bicon.getDiscoveryTime(v) > 0) graphView.markVisited(v);
+            }
+            for (int i = 0; i < bicon.getBridgeCount(); i++) {
+                int[] b = bicon.getBridge(i);
+                graphView.highlightEdge(b[0], b[1]);
+            }
+            renderCallPath(bicon.getStackDepth(), bicon::getCallNode);
+        }
+
+        private void onStep(BiconnectivitySolver.StepType type, int u, int v) {
+            switch (type) {
+                case DISCOVER:
+                    markDiscovered(u);
+                    appendProgress("🚀 New DFS root " + u);
+                    break;
+                case TREE_EDGE:
+                    markDiscovered(v);
+                    graphView.setActivePathEdge(u, v, true);
+                    appendProgress("➡ Tree edge " + u + "-" + v + ", disc = " + bicon.getDiscoveryTime(v));
+                    break;
+                case BACK_EDGE:
+                    appendProgress("↪ Back edge " + u + "-" + v + " lowers low[" + u + "] to " + bicon.getLowLink(u));
+                    break;
+                case RETURN:
+                    graphView.setActivePathEdge(v, u, false);
+                    appendProgress("↩ Return from " + u + " to " + v + ", low[" + v + "] = " + bicon.getLowLink(v));
+                    break;
+                case BRIDGE:
+                    graphView.highlightEdge(u, v);
+                    appendProgress("🌉 Bridge " + u + "-" + v);
+                    break;
+                case ARTICULATION:
+                    graphView.setNodeGroup(u, ALERT_GROUP);
+                    appendProgress("📍 Articulation point " + u);
+                    break;
+                case DONE:
+                    appendProgress("🎉 Done: " + bicon.getBridgeCount() + " bridges, " + bicon.getArticulationCount() + " articulation points");
+                    stopTimeline();
+                    break;
+                default:
+                    break;
+            }
+            if (parent != null) parent.stepDescription.setText(bicon.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return bicon.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("bridges: " + bicon.getBridgeCount());
+            into.add("articulation points: " + bicon.getArticulationCount());
+            into.add("depth: " + bicon.getStackDepth());
+        }
+
+        @Override int[] sideArray() { return callStack(bicon.getStackDepth(), bicon::getCallNode); }
+        @Override boolean isVisited(int v) { return bicon.getDiscoveryTime(v) > 0; }
+    }
+
+    /**
+     * Dijkstra from the start node. Settled nodes turn green with their shortest-path tree edge
+     * in blue; orange edges have lowered a tentative distance.
+     */
+    private final class DijkstraStepper extends Stepper<GraphDijkstraSolver.State> {
+        private final GraphDijkstraSolver dijkstra;
+
+        DijkstraStepper(GraphDijkstraSolver dijkstra) {
+            super(dijkstra, GraphDijkstraSolver.State::estimateBytes);
+            this.dijkstra = dijkstra;
+            dijkstra.setStepListener(this::onStep);
+        }
+
+        @Override String title() { return "Dijkstra shortest paths"; }
+        @Override void restart() { dijkstra.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                int p = dijkstra.getParent(v);
+                if (dijkstra.isSettled(v)) {
+                    graphView.markVisited(v);
+                    if (p >= 0) graphView.setActivePathEdge(p, v, true);
+                } else if (p >= 0) {
+                    graphView.highlightEdge(p, v);
+                }
+            }
+        }
+
+        private void onStep(GraphDijkstraSolver.StepType type, int u, int v) {
+            switch (type) {
+                case SETTLE:
+                    markDiscovered(u);
+                    if (v >= 0) graphView.setActivePathEdge(v, u, true);
+                    appendProgress("✅ Settle " + u + " at distance " + EdgeWeights.format(dijkstra.getDistance(u)));
+                    break;
+                case RELAX:
+                    graphView.highlightEdge(u, v);
+                    appendProgress("➡ Relax " + u + "→" + v + ": dist = " + EdgeWeights.format(dijkstra.getDistance(v)));
+                    break;
+                case DONE:
+                    appendProgress("🎉 Dijkstra complete: " + dijkstra.getSettledCount() + " nodes settled");
+                    stopTimeline();
+                    break;
+                default:
+                    break;
+            }
+            if (parent != null) parent.stepDescription.setText(dijkstra.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return dijkstra.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("settled: " + dijkstra.getSettledCount());
+            into.add("queue: " + dijkstra.getQueueSize());
+            int u = dijkstra.getCurrentNode();
+            if (u >= 0) into.add("dist[" + u + "]: " + EdgeWeights.format(dijkstra.getDistance(u)));
+        }
+
+        @Override int[] sideArray() { return parentPath(dijkstra.getCurrentNode(), dijkstra::getParent); }
+        @Override boolean isVisited(int v) { return dijkstra.isSettled(v); }
+    }
+
+    /**
+     * Bellman-Ford from the start node. Each relaxation turns its edge orange; at the end of
+     * a pass the parent tree is redrawn in blue. A negative cycle is drawn in red.
+     */
+    private final class BellmanFordStepper extends Stepper<GraphBellmanFordSolver.State> {
+        private final GraphBellmanFordSolver bf;
+        private final boolean insteadOfDijkstra;
+
+        BellmanFordStepper(GraphBellmanFordSolver bf, boolean insteadOfDijkstra) {
+            super(bf, GraphBellmanFordSolver.State::estimateBytes);
+            this.bf = bf;
+            this.insteadOfDijkstra = insteadOfDijkstra;
+            bf.setStepListener(this::onStep);
+        }
+
+        @Override
+        String title() {
+            return insteadOfDijkstra ? "Bellman-Ford (Dijkstra needs non-negative weights)" : "Bellman-Ford shortest paths";
+        }
+
+        @Override void restart() { bf.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                if (bf.getDistance(v) == Double.POSITIVE_INFINITY) continue;
+                graphView.markVisited(v);
+                if (bf.getParent(v) >= 0) graphView.setActivePathEdge(bf.getParent(v), v, true);
+            }
+            if (bf.hasNegativeCycle()) renderCycle(bf.getNegativeCycle());
+        }
+
+        private void renderCycle(int[] cycle) {
+            for (int i = 0; i < cycle.length; i++) {
+                graphView.setNodeGroup(cycle[i], ALERT_GROUP);
+                graphView.highlightEdge(cycle[i], cycle[(i + 1) % cycle.length]);
+            }
+        }
+
+        private void onStep(GraphBellmanFordSolver.StepType type, int u, int v) {
+            switch (type) {
+                case RELAX:
+                    markDiscovered(v);
+                    graphView.highlightEdge(u, v);
+                    appendProgress("➡ Relax " + u + "→" + v + ": dist = " + EdgeWeights.format(bf.getDistance(v)));
+                    break;
+                case PASS:
+                    if (canDraw()) render();
+                    appendProgress("🔁 Pass " + u + ": " + v + " distances lowered");
+                    break;
+                case NEGATIVE_CYCLE:
+                    int[] cycle = bf.getNegativeCycle();
+                    if (canDraw()) renderCycle(cycle);
+                    StringBuilder sb = new StringBuilder();
+                    for (int x : cycle) sb.append(x).append(" → ");
+                    appendProgress("⚠ Negative cycle " + sb.append(cycle[0]));
+                    break;
+                case DONE:
+                    appendProgress("🎉 " + bf.getCurrentStepDescription());
+                    stopTimeline();
+                    break;
+                default:
+                    break;
+            }
+            if (parent != null) parent.stepDescription.setText(bf.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return bf.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("pass: " + bf.getPass());
+            into.add("node: " + bf.getCurrentNode());
+            into.add("negative cycle: " + bf.hasNegativeCycle());
+        }
+
+        @Override
+        int[] sideArray() {
+            if (bf.hasNegativeCycle()) return bf.getNegativeCycle();
+            return parentPath(Math.min(bf.getCurrentNode(), graph.nodeCount() - 1), bf::getParent);
+        }
+
+        @Override boolean isVisited(int v) { return bf.getDistance(v) != Double.POSITIVE_INFINITY; }
+    }
+
+    /**
+     * Prim or Kruskal minimum spanning forest of the undirected graph. Tree edges are blue and
+     * their nodes green; Prim's orange edges are cheaper connections found for outside nodes.
+     */
+    private final class MstStepper extends Stepper<GraphMSTSolver.State> {
+        private final GraphMSTSolver mst;
+        private boolean[] joined = new boolean[0]; // endpoints of the first joinedEdges tree edges
+        private int joinedEdges = -1;
+
+        MstStepper(GraphMSTSolver mst) {
+            super(mst, GraphMSTSolver.State::estimateBytes);
+            this.mst = mst;
+            mst.setStepListener(this::onStep);
+        }
+
+        private boolean prim() { return mst.getMethod() == GraphMSTSolver.Method.PRIM; }
+
+        @Override String title() { return (prim() ? "Prim" : "Kruskal") + " minimum spanning forest"; }
+        @Override void restart() { mst.reset(); }
+
+        @Override
+        void render() {
+            resetGraphView();
+            if (!canDraw()) return;
+            for (int i = 0; i < mst.getTreeEdgeCount(); i++) {
+                int[] e = mst.getTreeEdge(i);
+                graphView.markVisited(e[0]);
+                graphView.markVisited(e[1]);
+                graphView.setActivePathEdge(e[0], e[1], true);
+            }
+        }
+
+        private void onStep(GraphMSTSolver.StepType type, int u, int v) {
+            switch (type) {
+                case ROOT:
+                    appendProgress("🌱 New tree at " + u);
+                    break;
+                case CANDIDATE:
+                    graphView.highlightEdge(u, v);
+                    appendProgress("➡ " + v + " reachable via " + u + " for " + EdgeWeights.format(mst.getWeights().weight(u, v)));
+                    break;
+                case ADD:
+                    markDiscovered(u);
+                    markDiscovered(v);
+                    graphView.setActivePathEdge(u, v, true);
+                    appendProgress("✅ Add " + u + "-" + v + " (" + EdgeWeights.format(mst.getWeights().weight(u, v)) + ")");
+                    break;
+                case REJECT:
+                    appendProgress("✖ Skip " + u + "-" + v + ": both ends already in one tree");
+                    break;
+                case DONE:
+                    appendProgress("🎉 " + mst.getCurrentStepDescription());
+                    stopTimeline();
+                    break;
+                default:
+                    break;
+            }
+            if (parent != null) parent.stepDescription.setText(mst.getCurrentStepDescription());
+            updateTraversalView();
+            updateVariablesPanel();
+        }
+
+        @Override String describe() { return mst.getCurrentStepDescription(); }
+
+        @Override
+        void addVariables(List<String> into) {
+            into.add("tree edges: " + mst.getTreeEdgeCount());
+            into.add("total weight: " + EdgeWeights.format(mst.getTotalWeight()));
+        }
+
+        /** The node each tree edge brought in, in the order the edges were added. */
+        @Override
+        int[] sideArray() {
+            int count = mst.getTreeEdgeCount();
+            int from = isLarge() ? Math.max(0, count - TRAVERSAL_TAIL) : 0;
+            int[] out = new int[count - from];
+            for (int i = from; i < count; i++) out[i - from] = mst.getTreeEdge(i)[1];
+            return out;
+        }
+
+        // Tree edges are only ever appended within a run, so their count identifies the set
+        @Override
+        boolean isVisited(int v) {
+            int count = mst.getTreeEdgeCount();
+            if (count != joinedEdges) {
+                joined = new boolean[graph.nodeCount()];
+                for (int i = 0; i < count; i++) {
+                    int[] e = mst.getTreeEdge(i);
+                    joined[e[0]] = joined[e[1]] = true;
+                }
+                joinedEdges = count;
+            }
+            return joined[v];
+        }
     }
 
     // --- Logging & variables ---
@@ -388,23 +1409,23 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
         progressHistory.clear();
         currentStepLogLines = 0;
         countLogsForStep = false;
-        appendProgress("DFS: n = " + nodeCount + ", start = " + startNode);
+        appendProgress(active.title() + ": n = " + nodeCount + ", start = " + startNode
+                + (graph.isSymmetric() ? "" : ", directed"));
+        if (graphSource != null) appendProgress("Graph: " + graphSource + " (" + edgeCount() + " edges)");
+        if (isLarge()) appendProgress("Traversal view is trimmed to " + TRAVERSAL_TAIL + " nodes");
     }
 
+    // Full re-sync after a reset, seek or step-back; forward steps update single cells in handleStepEvent
     private void updateVisitedMatrix() {
-        if (visitedMatrixView == null) return;
-        boolean[] vis = solver != null ? solver.getVisited() : new boolean[nodeCount];
-        visitedMatrixView.updateVisited(vis);
-    }
-
-    private void pushPathHistory() {
-        Deque<Integer> copy = new ArrayDeque<>(pathStack);
-        pathHistory.push(copy);
+        if (visitedMatrixView == null || active == null) return;
+        visitedMatrixView.updateVisited(active::isVisited);
     }
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) currentStepLogLines++;
     }
 
@@ -422,28 +1443,32 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
 
     private void updateVariablesPanel() {
         if (parent == null || parent.variableList == null) return;
-        parent.variableList.getItems().clear();
-        boolean[] vis = solver != null ? solver.getVisited() : new boolean[nodeCount];
-        int visitedCount = 0;
-        for (boolean b : vis) if (b) visitedCount++;
-        parent.variableList.getItems().addAll(
-            "nodes: " + nodeCount,
-            "start: " + startNode,
-            "visitedCount: " + visitedCount,
-            "done: " + (solver != null && solver.isDone())
-        );
+        List<String> items = new ArrayList<>();
+        items.add("nodes: " + nodeCount);
+        items.add("start: " + startNode);
+        active.addVariables(items);
+        items.add("done: " + active.solver.isDone());
+        items.add(active.history.describe());
+        parent.variableList.getItems().setAll(items);
     }
 
     private void renderCode() {
         if (parent == null || parent.codeArea == null) return;
-        // Build edges literal from current adjacency (unique undirected pairs i<j)
-        List<String> edgePairs = new ArrayList<>();
-        for (int i = 0; i < adj.size(); i++) {
-            for (int j : adj.get(i)) {
-                if (i < j) edgePairs.add("{" + i + ", " + j + "}");
+        // Build edges literal from current adjacency (unique undirected pairs i<j, or every arc when directed)
+        boolean directed = !graph.isSymmetric();
+        String edgesLiteral;
+        if (graphSource != null) {
+            edgesLiteral = "/* " + edgeCount() + " edges from " + graphSource + " */";
+        } else {
+            List<String> edgePairs = new ArrayList<>();
+            for (int i = 0; i < graph.nodeCount(); i++) {
+                for (int k = 0; k < graph.degree(i); k++) {
+                    int j = graph.neighbor(i, k);
+                    if (directed || i < j) edgePairs.add("{" + i + ", " + j + "}");
+                }
             }
+            edgesLiteral = edgePairs.isEmpty() ? "" : String.join(", ", edgePairs);
         }
-        String edgesLiteral = edgePairs.isEmpty() ? "" : String.join(", ", edgePairs);
         String[] lines = new String[] {
                 "import java.util.*;",
                 "",
@@ -455,7 +1480,9 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
                 "    public static void main(String[] args) {",
                 "        List<List<Integer>> adj = new ArrayList<>();",
                 "        for (int i = 0; i < N; i++) adj.add(new ArrayList<>());",
-                "        for (int[] e : EDGES) { int u = e[0], v = e[1]; adj.get(u).add(v); adj.get(v).add(u); }",
+                directed
+                        ? "        for (int[] e : EDGES) adj.get(e[0]).add(e[1]); // directed: u -> v only"
+                        : "        for (int[] e : EDGES) { int u = e[0], v = e[1]; adj.get(u).add(v); adj.get(v).add(u); }",
                 "        for (int i = 0; i < N; i++) Collections.sort(adj.get(i));",
                 "",
                 "        long startTime = System.currentTimeMillis();",
@@ -512,6 +1539,7 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
             List<Integer> row = adj.get(ii);
             row.removeIf(v -> v < 0 || v >= nodeCount || v == ii);
             // ensure symmetry for undirected
+            if (isDirected()) { Collections.sort(row); continue; }
             for (int v : new ArrayList<>(row)) {
                 if (!adj.get(v).contains(ii)) adj.get(v).add(ii);
             }
@@ -526,55 +1554,30 @@ public class DFSController implements AlgorithmViewController.AlgorithmSpecificC
         if (!adj.get(v).contains(u)) adj.get(v).add(u);
     }
 
-    private static List<List<Integer>> randomConnectedGraph(int n) {
-        Random rnd = new Random();
-        List<List<Integer>> g = new ArrayList<>();
-        for (int i = 0; i < n; i++) g.add(new ArrayList<>());
-        // create a random spanning tree
-        List<Integer> order = new ArrayList<>();
-        for (int i = 0; i < n; i++) order.add(i);
-        Collections.shuffle(order, rnd);
-        for (int i = 1; i < n; i++) {
-            int u = order.get(i);
-            int v = order.get(rnd.nextInt(i));
-            if (!g.get(u).contains(v)) { g.get(u).add(v); g.get(v).add(u); }
-        }
-        // add extra random edges
-        int extra = Math.max(0, n);
-        for (int k = 0; k < extra; k++) {
-            int u = rnd.nextInt(n), v = rnd.nextInt(n);
-            if (u != v && !g.get(u).contains(v)) { g.get(u).add(v); g.get(v).add(u); }
-        }
-        for (List<Integer> row : g) Collections.sort(row);
-        return g;
-    }
-
-    private static List<List<Integer>> parseEdges(String text, int n) {
+    // Rejects the whole text if any edge is malformed, out of range or a self-loop
+    private static EdgeWeights parseEdges(String text, int n, boolean directed) {
         if (text == null) return null;
-        List<List<Integer>> g = new ArrayList<>();
-        for (int i = 0; i < n; i++) g.add(new ArrayList<>());
-        String[] parts = text.split(",");
         try {
-            for (String p : parts) {
-                String s = p.trim();
-                if (s.isEmpty()) continue;
-                String[] uv = s.split("-");
-                if (uv.length != 2) return null;
-                int u = Integer.parseInt(uv[0].trim());
-                int v = Integer.parseInt(uv[1].trim());
-                if (u < 0 || v < 0 || u >= n || v >= n || u == v) return null;
-                if (!g.get(u).contains(v)) { g.get(u).add(v); g.get(v).add(u); }
+            GraphLoader.EdgeList edges = GraphLoader.parse(text);
+            for (GraphLoader.EdgeChunk c : edges.chunks) {
+                for (int i = 0; i < c.count; i++) {
+                    int u = c.from[i], v = c.to[i];
+                    if (u >= n || v >= n || u == v) return null;
+                }
             }
-            for (List<Integer> row : g) Collections.sort(row);
-            return g;
-        } catch (Exception ex) { return null; }
+            return EdgeWeights.fromEdges(GraphLoader.build(n, edges, !directed), edges, !directed);
+        } catch (IOException ex) { return null; }
     }
 
-    private static String edgesToString(List<List<Integer>> g) {
+    private static String edgesToString(List<List<Integer>> g, EdgeWeights w, boolean directed) {
         if (g == null) return "";
         Set<String> set = new LinkedHashSet<>();
         for (int i = 0; i < g.size(); i++) {
-            for (int j : g.get(i)) if (i < j) set.add(i + "-" + j);
+            for (int j : g.get(i)) {
+                if (!directed && i >= j) continue;
+                double x = w != null && i < w.graph().nodeCount() ? w.weight(i, j) : Double.NaN;
+                set.add(i + "-" + j + (Double.isNaN(x) || x == 1.0 ? "" : ":" + EdgeWeights.format(x)));
+            }
         }
         return String.join(", ", set);
     }
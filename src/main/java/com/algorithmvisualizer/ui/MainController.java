@@ -4,6 +4,7 @@ import com.algorithmvisualizer.model.Algorithm;
 import com.algorithmvisualizer.model.NQueensAlgorithm;
 import com.algorithmvisualizer.model.SelectionSortAlgorithm;
 import com.algorithmvisualizer.model.BubbleSortAlgorithm;
+import com.algorithmvisualizer.model.SortEnginesAlgorithm;
 import com.algorithmvisualizer.model.BinarySearchAlgorithm;
 import com.algorithmvisualizer.model.DepthFirstSearchAlgorithm;
 import com.algorithmvisualizer.model.SudokuAlgorithm;
@@ -47,6 +48,7 @@ public class MainController {
         algorithms.add(new NQueensAlgorithm());
         algorithms.add(new SelectionSortAlgorithm());
         algorithms.add(new BubbleSortAlgorithm());
+        algorithms.add(new SortEnginesAlgorithm());
         algorithms.add(new BinarySearchAlgorithm());
         algorithms.add(new DepthFirstSearchAlgorithm());
         algorithms.add(new SudokuAlgorithm());
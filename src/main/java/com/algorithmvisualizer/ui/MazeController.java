@@ -5,6 +5,10 @@ import com.algorithmvisualizer.algorithm.MazeGeneratorPrim;
 import com.algorithmvisualizer.algorithm.MazeGeneratorKruskal;
 import com.algorithmvisualizer.algorithm.PathSolverBFS;
 import com.algorithmvisualizer.algorithm.PathSolverDFS;
+import com.algorithmvisualizer.algorithm.SteppableSolver;
+import com.algorithmvisualizer.history.StepHistory;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
 import com.algorithmvisualizer.visualization.MazeGridRenderer;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
@@ -19,6 +23,12 @@ import java.util.*;
 
 public class MazeController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer GEN_STEP_TIMER = Metrics.timer("maze.generator.step");
+    private static final Timer SOLVE_STEP_TIMER = Metrics.timer("maze.solver.step");
+    private static final Timer GEN_EVENT_TIMER = Metrics.timer("maze.onGenStep");
+    private static final Timer SOLVE_EVENT_TIMER = Metrics.timer("maze.onSolveStep");
+    private static final Timer LOG_TIMER = Metrics.timer("maze.appendProgress");
+
     private AlgorithmViewController parent;
 
     // Visuals
@@ -39,9 +49,11 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
         Object genState;
         String solverType;
         Object solveState;
-        int logLines;
+        long bytes;
     }
-    private final Deque<Snapshot> history = new ArrayDeque<>();
+    // Bounded: evicted snapshots are rebuilt by replaying the (seeded) engines
+    private final StepHistory<Snapshot> history = new StepHistory<>(this::replayStep, s -> s.bytes, StepHistory.DEFAULT_BUDGET_BYTES);
+    private final Deque<Integer> progressHistory = new ArrayDeque<>();
 
     // Logging
     private int currentStepLogLines = 0;
@@ -75,6 +87,7 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
         gridView = new MazeGridRenderer();
         MazeGeneratorDFS g = new MazeGeneratorDFS(rows, cols);
         g.setStepListener(this::onGenStep);
+        g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
         generator = g;
         solver = null; // created after generation
     }
@@ -248,17 +261,22 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
             case "Prim": {
                 MazeGeneratorPrim g = new MazeGeneratorPrim(rows, cols);
                 g.setStepListener((t, r, c, nr, nc) -> onGenStep(mapPrimStep(t), r, c, nr, nc));
+                g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
                 generator = g; break; }
             case "Kruskal": {
                 MazeGeneratorKruskal g = new MazeGeneratorKruskal(rows, cols);
                 g.setStepListener((t, r, c, nr, nc) -> onGenStep(mapKruskalStep(t), r, c, nr, nc));
+                g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
                 generator = g; break; }
             default: {
                 MazeGeneratorDFS g = new MazeGeneratorDFS(rows, cols);
                 g.setStepListener(this::onGenStep);
+                g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
                 generator = g; break; }
         }
         solver = null;
+        history.clear();
+        progressHistory.clear();
         gridView.setMaze(rows, cols, getGeneratorWalls());
         gridView.clearOverlays();
         gridView.setStartGoal(startR, startC, goalR, goalC);
@@ -305,13 +323,14 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
             restoreSolverState(s.solverType, s.solveState);
         }
         // Remove last step logs
-        removeLastLogLines(s.logLines);
+        if (!progressHistory.isEmpty()) removeLastLogLines(progressHistory.pop());
         updateVariablesPanel();
     }
 
     public void onReset() {
         stopTimeline();
         history.clear();
+        progressHistory.clear();
         solvingPhase = false;
         resetGenerator();
         gridView.setMaze(rows, cols, getGeneratorWalls());
@@ -374,7 +393,7 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
     private void pushHistory() {
         Snapshot snap = new Snapshot();
         snap.solving = solvingPhase;
-        snap.logLines = finalizeLogGroupForSnapshot();
+        progressHistory.push(finalizeLogGroupForSnapshot());
         if (!solvingPhase) {
             snap.genType = genAlgo;
             snap.genState = snapshotGenerator();
@@ -382,11 +401,57 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
             snap.solverType = normalizePathAlgo(pathAlgo);
             snap.solveState = snapshotSolver();
         }
+        snap.bytes = estimateStateBytes(solvingPhase ? snap.solveState : snap.genState);
         history.push(snap);
     }
 
+    /** Rebuild the snapshot that follows {@code from} by re-running one engine step silently. */
+    private Snapshot replayStep(Snapshot from) {
+        Snapshot next = new Snapshot();
+        if (!from.solving) {
+            restoreGeneratorState(from.genType, from.genState);
+            setEngineMuted(generator, true);
+            stepGenerator();
+            setEngineMuted(generator, false);
+            if (!isGeneratorDone()) {
+                next.genType = from.genType;
+                next.genState = snapshotGenerator();
+            } else {
+                // Generation finished; the next recorded step is the pathfinder's initial state
+                next.solving = true;
+                next.solverType = normalizePathAlgo(pathAlgo);
+                boolean[][][] walls = getGeneratorWalls();
+                next.solveState = "DFS".equals(next.solverType)
+                        ? new PathSolverDFS(rows, cols, walls, startR, startC, goalR, goalC).snapshot()
+                        : new PathSolverBFS(rows, cols, walls, startR, startC, goalR, goalC).snapshot();
+            }
+        } else {
+            restoreSolverState(from.solverType, from.solveState);
+            setEngineMuted(solver, true);
+            stepSolver();
+            setEngineMuted(solver, false);
+            next.solving = true;
+            next.solverType = from.solverType;
+            next.solveState = snapshotSolver();
+        }
+        next.bytes = estimateStateBytes(next.solving ? next.solveState : next.genState);
+        return next;
+    }
+
     // --- Event handling ---
     private void onGenStep(MazeGeneratorDFS.StepType type, int r, int c, int nr, int nc) {
+        long t = GEN_EVENT_TIMER.start();
+        handleGenStep(type, r, c, nr, nc);
+        GEN_EVENT_TIMER.stop(t);
+    }
+
+    private void onSolveStep(PathSolverBFS.StepType type, int r, int c) {
+        long t = SOLVE_EVENT_TIMER.start();
+        handleSolveStep(type, r, c);
+        SOLVE_EVENT_TIMER.stop(t);
+    }
+
+    private void handleGenStep(MazeGeneratorDFS.StepType type, int r, int c, int nr, int nc) {
         beginLogGroup();
         switch (type) {
             case INIT:
@@ -396,7 +461,7 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
                 if (parent != null) parent.stepDescription.setText("Generating maze...");
                 break;
             case CARVE:
-                gridView.updateWalls(getGeneratorWalls());
+                // Walls were already updated cell by cell through the generator's CellChangeListener
                 gridView.markVisited(r, c);
                 gridView.highlightCurrent(nr, nc);
                 appendProgress("🪓 Carve wall between (" + r + "," + c + ") and (" + nr + "," + nc + ")");
@@ -417,7 +482,7 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
         endLogGroup();
     }
 
-    private void onSolveStep(PathSolverBFS.StepType type, int r, int c) {
+    private void handleSolveStep(PathSolverBFS.StepType type, int r, int c) {
         beginLogGroup();
         switch (type) {
             case INIT:
@@ -499,7 +564,9 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) currentStepLogLines++;
     }
 
@@ -523,7 +590,8 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
                 "cols: " + cols,
                 "phase: " + (solvingPhase ? "SOLVE" : "GENERATE"),
                 "start: (" + startR + "," + startC + ")",
-                "goal: (" + goalR + "," + goalC + ")"
+                "goal: (" + goalR + "," + goalC + ")",
+                history.describe()
         );
         // Add queue size etc. if solving
         if (solvingPhase && solver != null) {
@@ -580,21 +648,26 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
     private int getGeneratorRows() { try { return (int) generator.getClass().getMethod("getRows").invoke(generator); } catch (Exception e) { return rows; } }
     private int getGeneratorCols() { try { return (int) generator.getClass().getMethod("getCols").invoke(generator); } catch (Exception e) { return cols; } }
     private boolean isGeneratorDone() { try { return (boolean) generator.getClass().getMethod("isDone").invoke(generator); } catch (Exception e) { return true; } }
-    private void stepGenerator() { try { generator.getClass().getMethod("step").invoke(generator); } catch (Exception ignore) {} }
+    private void stepGenerator() { long t = GEN_STEP_TIMER.start(); try { generator.getClass().getMethod("step").invoke(generator); } catch (Exception ignore) {} GEN_STEP_TIMER.stop(t); }
     private void resetGenerator() { try { generator.getClass().getMethod("reset").invoke(generator); } catch (Exception ignore) {} }
     private Object snapshotGenerator() { try { return generator.getClass().getMethod("snapshot").invoke(generator); } catch (Exception e) { return null; } }
+    private void setEngineMuted(Object engine, boolean muted) { if (engine instanceof SteppableSolver) ((SteppableSolver<?>) engine).setMuted(muted); }
+    private long estimateStateBytes(Object state) { try { return (long) state.getClass().getMethod("estimateBytes").invoke(state); } catch (Exception e) { return 0; } }
     private void restoreGeneratorState(String type, Object state) {
         if ("Prim".equals(type) && !(generator instanceof MazeGeneratorPrim)) {
             MazeGeneratorPrim g = new MazeGeneratorPrim(rows, cols);
             g.setStepListener((t, r, c, nr, nc) -> onGenStep(mapPrimStep(t), r, c, nr, nc));
+            g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
             generator = g;
         } else if ("Kruskal".equals(type) && !(generator instanceof MazeGeneratorKruskal)) {
             MazeGeneratorKruskal g = new MazeGeneratorKruskal(rows, cols);
             g.setStepListener((t, r, c, nr, nc) -> onGenStep(mapKruskalStep(t), r, c, nr, nc));
+            g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
             generator = g;
         } else if ("DFS".equals(type) && !(generator instanceof MazeGeneratorDFS)) {
             MazeGeneratorDFS g = new MazeGeneratorDFS(rows, cols);
             g.setStepListener(this::onGenStep);
+            g.setCellChangeListener((r, c) -> gridView.updateCell(g.getWallView(), r, c));
             generator = g;
         }
         try { generator.getClass().getMethod("restore", state.getClass()).invoke(generator, state); } catch (Exception ignore) {}
@@ -618,7 +691,7 @@ public class MazeController implements AlgorithmViewController.AlgorithmSpecific
 
     // --- Helpers: solver reflection adapters ---
     private boolean isSolverDone() { try { return (boolean) solver.getClass().getMethod("isDone").invoke(solver); } catch (Exception e) { return true; } }
-    private void stepSolver() { try { solver.getClass().getMethod("step").invoke(solver); } catch (Exception ignore) {} }
+    private void stepSolver() { long t = SOLVE_STEP_TIMER.start(); try { solver.getClass().getMethod("step").invoke(solver); } catch (Exception ignore) {} SOLVE_STEP_TIMER.stop(t); }
     private Object snapshotSolver() { try { return solver.getClass().getMethod("snapshot").invoke(solver); } catch (Exception e) { return null; } }
     private void restoreSolverState(String type, Object state) {
         if ("DFS".equals(type) && !(solver instanceof PathSolverDFS)) {
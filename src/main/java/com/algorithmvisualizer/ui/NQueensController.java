@@ -1,25 +1,45 @@
 package com.algorithmvisualizer.ui;
 
+import com.algorithmvisualizer.algorithm.MinConflictsQueens;
 import com.algorithmvisualizer.algorithm.NQueensSolver;
+import com.algorithmvisualizer.algorithm.NQueensSymmetry;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
 import com.algorithmvisualizer.visualization.ChessboardRenderer;
+import com.algorithmvisualizer.visualization.MinConflictsView;
+import com.algorithmvisualizer.visualization.SolutionGallery;
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.layout.HBox;
+import javafx.stage.Modality;
 import javafx.util.Duration;
 import javafx.geometry.Pos;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.CancellationException;
 
 /**
  * Controller for the N-Queens algorithm visualization
  */
 public class NQueensController implements AlgorithmViewController.AlgorithmSpecificController {
+
+    private static final Timer STEP_TIMER = Metrics.timer("nQueens.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("nQueens.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("nQueens.appendProgress");
+    private static final int MAX_BOARD_SIZE = 14;
+    // Solutions printed in full to the progress log; the gallery holds the rest
+    private static final int LOGGED_SOLUTIONS = 20;
     
     @FXML
     private Spinner<Integer> boardSizeSpinner;
@@ -55,20 +75,29 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
     private double backtrackDelay = 1.0; // seconds
     private boolean isBacktrackingInProgress = false;
     private Timeline blinkTimeline;
+    private PauseTransition backtrackPause;
     private Label backtrackingIndicator;
+
+    // Paged thumbnails of the solutions; shows a background "find all" run until the next reset
+    private final SolutionGallery gallery = new SolutionGallery();
+    private boolean galleryShowsFindAll;
+    // Search canonical boards only and count the rest through orbit sizes
+    private final CheckBox symmetryToggle = new CheckBox("Symmetry-reduced");
     
     // Step-back history
-    private Deque<com.algorithmvisualizer.algorithm.NQueensSolver.State> history = new ArrayDeque<>();
+    private StepHistory<NQueensSolver.State> history;
+    // Sparse checkpoints for jumping anywhere on the timeline
+    private CheckpointTimeline<NQueensSolver.State> steps;
     
     @FXML
     private void initialize() {
         // Initialize spinner
         SpinnerValueFactory.IntegerSpinnerValueFactory factory = 
-            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, 4);
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_BOARD_SIZE, 4);
         boardSizeSpinner.setValueFactory(factory);
         
         SpinnerValueFactory.IntegerSpinnerValueFactory queensFactory =
-            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, 4);
+            new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_BOARD_SIZE, 4);
         numQueensSpinner.setValueFactory(queensFactory);
         // Hide internal queens spinner (UI handled in main layout)
         numQueensSpinner.setVisible(false);
@@ -77,7 +106,7 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         // Parent control panel spinners (if present)
         if (parentController != null) {
             if (parentController.paramBoardSizeSpinner != null) {
-                parentController.paramBoardSizeSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, 4));
+                parentController.paramBoardSizeSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_BOARD_SIZE, 4));
                 parentController.paramBoardSizeSpinner.valueProperty().addListener((obs, o, n) -> {
                     boardSizeSpinner.getValueFactory().setValue(n);
                     // Keep number of queens equal to N
@@ -119,13 +148,13 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         generateViews();
         // Wire parameter spinners to inner controls
         if (parentController.paramBoardSizeSpinner != null) {
-            parentController.paramBoardSizeSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, boardSizeSpinner.getValue()));
+            parentController.paramBoardSizeSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_BOARD_SIZE, boardSizeSpinner.getValue()));
             parentController.paramBoardSizeSpinner.valueProperty().addListener((obs, o, n) -> {
                 boardSizeSpinner.getValueFactory().setValue(n);
             });
         }
         if (parentController.paramNumQueensSpinner != null) {
-            parentController.paramNumQueensSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 10, numQueensSpinner.getValue()));
+            parentController.paramNumQueensSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_BOARD_SIZE, numQueensSpinner.getValue()));
             parentController.paramNumQueensSpinner.valueProperty().addListener((obs, o, n) -> {
                 int N = boardSizeSpinner.getValue();
                 numQueensSpinner.getValueFactory().setValue(Math.min(n, N));
@@ -133,6 +162,19 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         }
         if (parentController.paramApplyButton != null) {
             parentController.paramApplyButton.setOnAction(e -> onGenerateBoard());
+            if (parentController.paramApplyButton.getParent() instanceof Pane) {
+                Button findAllButton = new Button("⚡ Find all");
+                findAllButton.setOnAction(e -> onFindAll());
+                symmetryToggle.selectedProperty().addListener((obs, o, n) -> {
+                    solver.setSymmetryReduced(n);
+                    resetAlgorithm();
+                    updatePlayButtonStates();
+                });
+                Button minConflictsButton = new Button("🎯 Min-conflicts…");
+                minConflictsButton.setOnAction(e -> onMinConflicts());
+                ((Pane) parentController.paramApplyButton.getParent()).getChildren().addAll(symmetryToggle, findAllButton,
+                        minConflictsButton);
+            }
         }
         // Ensure live speed adjustment listener is attached (parent available here)
         if (parentController.speedSlider != null) {
@@ -186,18 +228,16 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
             }
         }
 
-        // Initialize solutions display
-        if (parentController != null && parentController.solutionsContent != null) {
-            parentController.solutionsContent.getChildren().clear();
-            parentController.solutionsContent.getChildren().add(new Label("No solutions found yet"));
-        }
-
         // Solver
         solver = new NQueensSolver(currentBoardSize);
+        solver.setSymmetryReduced(symmetryToggle.isSelected());
+        showGallery();
         solver.setVisualizationCallback(this::legacyPlaceBacktrack);
         solver.setStepListener(this::onStepEvent);
-        // Clear step-back history when creating a new solver/board
-        history.clear();
+        // Fresh step-back history for the new solver/board
+        history = StepHistory.forSolver(solver, NQueensSolver.State::estimateBytes);
+        steps = new CheckpointTimeline<>(solver);
+        syncScrubber();
 
         // Code view
         renderCode();
@@ -220,7 +260,19 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         updateVariableTracking();
     }
 
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        solver.step();
+        STEP_TIMER.stop(t);
+    }
+
     private void onStepEvent(NQueensSolver.StepType type, int row, int col) {
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, row, col);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(NQueensSolver.StepType type, int row, int col) {
         switch (type) {
             case CHECK:
                 if (chessboardRenderer != null) chessboardRenderer.highlightCurrentPosition(row, col);
@@ -246,15 +298,20 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
                 updateStatus("Solution found: " + solutionsFound);
                 highlightCode("SOLUTION");
                 appendProgress("");
-                appendProgress("🏆 Found a solution (#" + solutionsFound + ")");
+                appendProgress(solver.isSymmetryReduced()
+                        ? "🏆 Found a fundamental solution (#" + solutionsFound + ", " + symmetryLabel(solver, solutionsFound - 1) + ")"
+                        : "🏆 Found a solution (#" + solutionsFound + ")");
                 appendProgress("");
-                displaySolution(solver.getSolutions().get(solver.getSolutions().size() - 1), solutionsFound);
+                syncGallery();
                 break;
             case DONE:
                 updateStatus("Completed. Solutions: " + solver.getSolutionsFound());
                 stopTimeline();
                 highlightCode("DONE");
-                appendProgress("🎉 Search complete. Total solutions: " + solver.getSolutionsFound());
+                appendProgress(solver.isSymmetryReduced()
+                        ? "🎉 Search complete. Fundamental solutions: " + solver.getSolutionsFound()
+                                + " • all solutions from orbit sizes: " + solver.getTotalSolutions()
+                        : "🎉 Search complete. Total solutions: " + solver.getSolutionsFound());
                 finalizeProgressSummary();
                 break;
         }
@@ -275,11 +332,14 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
                 
                 parentController.variableList.getItems().addAll(
                     "Board size and No. of Queens, N: " + currentBoardSize,
-                    "solutionCount: " + solutionsFound,
+                    solver.isSymmetryReduced()
+                            ? "solutionCount: " + solutionsFound + " fundamental • " + solver.getTotalSolutions() + " with symmetries"
+                            : "solutionCount: " + solutionsFound,
                     "currentRow: " + rowIdx0,
                     "currentCol: " + (colExhausted ? (colIdx0 + " (exhausted)") : colIdx0),
                     "queens[]: " + queensFormatted,
-                    "algorithmState: " + (solver.isCompleted() ? "COMPLETED" : "SEARCHING")
+                    "algorithmState: " + (solver.isCompleted() ? "COMPLETED" : "SEARCHING"),
+                    history.describe()
                 );
                 
                 // Step description
@@ -332,11 +392,9 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         solver.reset();
         chessboardRenderer.clearBoard();
         history.clear();
-        // Clear solutions display
-        if (parentController != null && parentController.solutionsContent != null) {
-            parentController.solutionsContent.getChildren().clear();
-            parentController.solutionsContent.getChildren().add(new Label("No solutions found yet"));
-        }
+        steps.reset();
+        syncScrubber();
+        showGallery();
         // Clear progress area per request
         if (parentController != null && parentController.progressArea != null) {
             parentController.progressArea.clear();
@@ -353,15 +411,12 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         if (!history.isEmpty()) {
             com.algorithmvisualizer.algorithm.NQueensSolver.State prev = history.pop();
             solver.restore(prev);
-            // Re-render board from restored state
-            rerenderBoardFromSolver();
-            // Sync solutions UI with model to remove any solutions beyond restored point
-            syncSolutionsUIFromModel();
-            // Update solutions count label
-            solutionsFound = solver.getSolutionsFound();
-            solutionsLabel.setText(String.valueOf(solutionsFound));
-            updateVariableTracking();
+            steps.recordStepBack();
+            renderFromSolver();
             updateStatus("Stepped backward.");
+        } else if (steps.getPosition() > 0) {
+            // History was dropped by a seek; replay from the nearest checkpoint instead
+            onSeek(steps.getPosition() - 1);
         } else {
             updateStatus("No previous step to go back to.");
         }
@@ -392,7 +447,9 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         if (solver != null && !solver.isCompleted()) {
             // Snapshot before stepping for step-back support
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
+            steps.recordStep();
+            syncScrubber();
             updateVariableTracking();
         }
     }
@@ -402,6 +459,37 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         updatePlayButtonStates();
     }
 
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        if (solver == null) return;
+        stopTimeline();
+        cancelBacktrackingAnimation();
+        long reached = steps.seek(step);
+        // Snapshots taken before the jump no longer line up with the solver state
+        history.clear();
+        renderFromSolver();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateStatus("Jumped to step " + reached + ".");
+        updatePlayButtonStates();
+    }
+
+    private void renderFromSolver() {
+        rerenderBoardFromSolver();
+        // Sync solutions UI with model to drop any solutions beyond the restored point
+        syncSolutionsUIFromModel();
+        solutionsFound = solver.getSolutionsFound();
+        solutionsLabel.setText(String.valueOf(solutionsFound));
+        syncScrubber();
+        updateVariableTracking();
+    }
+
+    private void syncScrubber() {
+        if (parentController != null && steps != null) parentController.updateScrubber(steps.getPosition(), steps.getFurthest());
+    }
+
     private void stopTimeline() {
         if (timeline != null) {
             timeline.stop();
@@ -436,9 +524,16 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         blinkTimeline.play();
 
         // Pause before final removal
-        PauseTransition pause = new PauseTransition(Duration.seconds(backtrackDelay));
-        pause.setOnFinished(ev -> finishBacktrackingAnimation(row, col));
-        pause.play();
+        backtrackPause = new PauseTransition(Duration.seconds(backtrackDelay));
+        backtrackPause.setOnFinished(ev -> finishBacktrackingAnimation(row, col));
+        backtrackPause.play();
+    }
+
+    private void cancelBacktrackingAnimation() {
+        if (backtrackPause != null) { backtrackPause.stop(); backtrackPause = null; }
+        if (blinkTimeline != null) { blinkTimeline.stop(); blinkTimeline = null; }
+        if (backtrackingIndicator != null) backtrackingIndicator.setVisible(false);
+        isBacktrackingInProgress = false;
     }
 
     private void finishBacktrackingAnimation(int row, int col) {
@@ -466,16 +561,7 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
     }
     
     private void syncSolutionsUIFromModel() {
-        if (parentController == null || parentController.solutionsContent == null || solver == null) return;
-        parentController.solutionsContent.getChildren().clear();
-        java.util.List<int[]> sols = solver.getSolutions();
-        if (sols.isEmpty()) {
-            parentController.solutionsContent.getChildren().add(new Label("No solutions found yet"));
-            return;
-        }
-        for (int i = 0; i < sols.size(); i++) {
-            displaySolution(sols.get(i), i + 1);
-        }
+        if (solver != null) syncGallery();
     }
     
     // --- Playback speed helpers ---
@@ -501,7 +587,9 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
             }
             // Snapshot before stepping for step-back support
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
+            steps.recordStep();
+            syncScrubber();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
@@ -524,7 +612,7 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
         codeArea.setEditable(true); // Allow editing but we constrain it
         codeArea.textProperty().addListener((obs, oldVal, newVal) -> {
             int extracted = extractNFromCode(newVal);
-            if (extracted != -1 && extracted != currentBoardSize && extracted >= 1 && extracted <= 10) {
+            if (extracted != -1 && extracted != currentBoardSize && extracted >= 1 && extracted <= MAX_BOARD_SIZE) {
                 currentBoardSize = extracted;
                 boardSizeSpinner.getValueFactory().setValue(currentBoardSize);
                 // Keep number of queens equal to N
@@ -685,60 +773,255 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
 
     private void appendProgress(String line) {
         if (parentController != null && parentController.progressArea != null) {
+            long t = LOG_TIMER.start();
             parentController.progressArea.appendText(line + "\n");
+            LOG_TIMER.stop(t);
         }
     }
 
 
-    private void displaySolution(int[] solution, int solutionNumber) {
-        if (parentController == null || parentController.solutionsContent == null) return;
-        
-        // Remove the placeholder label if it's still present
-        if (!parentController.solutionsContent.getChildren().isEmpty()
-                && parentController.solutionsContent.getChildren().size() == 1
-                && parentController.solutionsContent.getChildren().get(0) instanceof Label) {
-            Label placeholder = (Label) parentController.solutionsContent.getChildren().get(0);
-            if ("No solutions found yet".equals(placeholder.getText())) {
-                parentController.solutionsContent.getChildren().clear();
-            }
+    // Point the gallery at the stepping solver's solutions, in the solutions panel
+    private void showGallery() {
+        if (parentController != null && parentController.solutionsContent != null
+                && !parentController.solutionsContent.getChildren().contains(gallery.getNode())) {
+            parentController.solutionsContent.getChildren().setAll(gallery.getNode());
         }
+        galleryShowsFindAll = false;
+        NQueensSolver source = solver;
+        gallery.setCaptions(i -> caption(source, i));
+        gallery.setSource(source::getSolution, source.getSolutionsFound(), currentBoardSize);
+    }
 
-        // Create a VBox for this solution
-        VBox solutionBox = new VBox(5);
-        solutionBox.setStyle("-fx-background-color: #f0f0f0; -fx-border-color: #ccc; -fx-border-width: 1; -fx-padding: 10;");
-        
-        // Add solution title
-        Label titleLabel = new Label("Solution " + solutionNumber + ":");
-        titleLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
-        solutionBox.getChildren().add(titleLabel);
-        
-        // Create grid representation
-        VBox gridBox = new VBox(2);
-        for (int row = 0; row < currentBoardSize; row++) {
-            HBox rowBox = new HBox(2);
-            for (int col = 0; col < currentBoardSize; col++) {
-                Label cellLabel = new Label(solution[row] == col ? "Q" : "0");
-                cellLabel.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 16px; -fx-min-width: 20; -fx-alignment: center;");
-                if (solution[row] == col) {
-                    cellLabel.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 16px; -fx-min-width: 20; -fx-alignment: center; -fx-text-fill: red; -fx-font-weight: bold;");
+    private static String caption(NQueensSolver source, int i) {
+        return source.isSymmetryReduced() ? "#" + (i + 1) + " ×" + source.getOrbitSize(i) : "#" + (i + 1);
+    }
+
+    private static String symmetryLabel(NQueensSolver source, int i) {
+        int orbit = source.getOrbitSize(i);
+        return NQueensSymmetry.className(orbit) + ", stands for " + orbit;
+    }
+
+    private void syncGallery() {
+        if (galleryShowsFindAll) showGallery();
+        else gallery.setCount(solver.getSolutionsFound());
+    }
+
+    /**
+     * Window for solving one large board by min-conflicts local search. A new
+     * board is placed on a background thread; it can then be stepped one move
+     * at a time, played at the speed slider's pace, or solved at full speed in
+     * the background with the view refreshed every frame. Closing the window
+     * stops the run.
+     */
+    private void onMinConflicts() {
+        TextField sizeField = new TextField("1000000");
+        sizeField.setPrefWidth(100);
+        Button newButton = new Button("New board");
+        Button stepButton = new Button("Step");
+        Button playButton = new Button("▶ Play");
+        Button solveButton = new Button("⚡ Solve");
+        Label stats = new Label("Enter N and press New board. Boards up to " + MinConflictsView.CHESSBOARD_LIMIT
+                + " are drawn as a chessboard.");
+        stats.setStyle("-fx-font-family: monospace;");
+        MinConflictsView view = new MinConflictsView();
+        VBox content = new VBox(8.0, new HBox(8.0, new Label("N:"), sizeField, newButton, stepButton, playButton, solveButton),
+                stats, view.getNode());
+        Dialog<Void> window = new Dialog<>();
+        window.setTitle("Min-conflicts N-Queens");
+        window.setResizable(true);
+        window.initModality(Modality.NONE);
+        window.getDialogPane().setContent(content);
+        window.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        MinConflictsQueens[] current = new MinConflictsQueens[1];
+        boolean[] solving = new boolean[1];
+        long[] solveStart = new long[1];
+        Runnable showStats = () -> {
+            MinConflictsQueens q = current[0];
+            if (q == null) return;
+            String rate = "";
+            if (solving[0]) {
+                double seconds = (System.nanoTime() - solveStart[0]) / 1e9;
+                rate = String.format(" • %.0f ms, %.2f M moves/s", seconds * 1e3, q.getTotalMoves() / Math.max(1e-9, seconds) / 1e6);
+            }
+            stats.setText(String.format("N = %,d • collisions %,d • moves %,d • restarts %d%s%s", q.size(), q.getCollisions(),
+                    q.getTotalMoves(), q.getRestarts(), rate, q.isSolved() ? " • solved ✅" : ""));
+        };
+        AnimationTimer refresh = new AnimationTimer() {
+            @Override public void handle(long now) {
+                view.refresh();
+                showStats.run();
+            }
+        };
+        Timeline[] playing = new Timeline[1];
+        Runnable stopPlaying = () -> {
+            if (playing[0] != null) { playing[0].stop(); playing[0] = null; }
+            playButton.setText("▶ Play");
+        };
+        Runnable setIdle = () -> {
+            boolean ready = current[0] != null && !solving[0];
+            stepButton.setDisable(!ready);
+            playButton.setDisable(!ready);
+            solveButton.setDisable(!ready);
+            newButton.setDisable(solving[0]);
+        };
+        setIdle.run();
+
+        newButton.setOnAction(e -> {
+            int n;
+            try {
+                n = Integer.parseInt(sizeField.getText().trim().replace(",", "").replace("_", ""));
+                if (n < 1 || n > 10_000_000) throw new IllegalArgumentException("N must be between 1 and 10,000,000");
+                if (n == 2 || n == 3) throw new IllegalArgumentException("No solution exists for N = " + n);
+            } catch (IllegalArgumentException ex) {
+                stats.setText("❌ " + (ex instanceof NumberFormatException ? "Not a number: " + sizeField.getText() : ex.getMessage()));
+                return;
+            }
+            stopPlaying.run();
+            current[0] = null;
+            solving[0] = true;
+            setIdle.run();
+            stats.setText("Placing " + n + " queens ...");
+            long t0 = System.nanoTime();
+            Task<MinConflictsQueens> task = new Task<MinConflictsQueens>() {
+                @Override protected MinConflictsQueens call() { return new MinConflictsQueens(n, System.nanoTime()); }
+            };
+            task.setOnSucceeded(ev -> {
+                solving[0] = false;
+                current[0] = task.getValue();
+                view.start(current[0]);
+                showStats.run();
+                appendProgress(String.format("🎯 Min-conflicts: %,d queens placed in %.0f ms with %,d collisions", n,
+                        (System.nanoTime() - t0) / 1e6, current[0].getCollisions()));
+                setIdle.run();
+            });
+            task.setOnFailed(ev -> {
+                solving[0] = false;
+                stats.setText("❌ " + task.getException());
+                setIdle.run();
+            });
+            Thread th = new Thread(task, "min-conflicts-start");
+            th.setDaemon(true);
+            th.start();
+        });
+        stepButton.setOnAction(e -> {
+            stopPlaying.run();
+            MinConflictsQueens q = current[0];
+            long before = q.getTotalMoves();
+            q.step();
+            view.refresh();
+            showStats.run();
+            if (q.getTotalMoves() > before) {
+                appendProgress("🎯 Move " + q.getTotalMoves() + ": row " + q.getLastRow() + " from col " + q.getLastFrom()
+                        + " to col " + q.getLastTo() + " • collisions " + q.getCollisions());
+            }
+        });
+        playButton.setOnAction(e -> {
+            if (playing[0] != null) { stopPlaying.run(); return; }
+            double speed = parentController != null ? parentController.speedSlider.getValue() : 5.0;
+            playing[0] = new Timeline(new KeyFrame(Duration.millis(1000.0 / Math.max(1.0, speed)), ev -> {
+                MinConflictsQueens q = current[0];
+                if (q == null || !q.step()) stopPlaying.run();
+                view.refresh();
+                showStats.run();
+            }));
+            playing[0].setCycleCount(Animation.INDEFINITE);
+            playing[0].play();
+            playButton.setText("⏸ Pause");
+        });
+        solveButton.setOnAction(e -> {
+            stopPlaying.run();
+            MinConflictsQueens q = current[0];
+            long startMoves = q.getTotalMoves();
+            solving[0] = true;
+            solveStart[0] = System.nanoTime();
+            setIdle.run();
+            refresh.start();
+            Task<Void> task = new Task<Void>() {
+                @Override protected Void call() {
+                    q.solve();
+                    return null;
                 }
-                rowBox.getChildren().add(cellLabel);
+            };
+            task.setOnSucceeded(ev -> {
+                double ms = (System.nanoTime() - solveStart[0]) / 1e6;
+                refresh.stop();
+                view.refresh();
+                showStats.run();
+                solving[0] = false;
+                setIdle.run();
+                long moves = q.getTotalMoves() - startMoves;
+                appendProgress(String.format("🎯 Solved N = %,d in %.0f ms: %,d moves (%.2f M moves/s), %d restarts, verified %b",
+                        q.size(), ms, moves, moves / Math.max(1e-9, ms / 1e3) / 1e6, q.getRestarts(), q.verify()));
+            });
+            task.setOnFailed(ev -> {
+                refresh.stop();
+                solving[0] = false;
+                setIdle.run();
+                if (!(task.getException() instanceof CancellationException)) stats.setText("❌ " + task.getException());
+            });
+            Thread th = new Thread(task, "min-conflicts");
+            th.setDaemon(true);
+            th.start();
+        });
+        window.setOnHidden(e -> {
+            stopPlaying.run();
+            refresh.stop();
+            if (current[0] != null) current[0].cancel();
+        });
+        window.show();
+    }
+
+    /**
+     * Enumerate every solution for the current N on a background thread with a
+     * separate solver and page through them in the gallery. The stepping
+     * solver is untouched; its solutions come back on the next reset or step.
+     */
+    private void onFindAll() {
+        int n = currentBoardSize;
+        boolean reduced = symmetryToggle.isSelected();
+        appendProgress("⚡ Finding all " + (reduced ? "fundamental " : "") + "solutions for N = " + n + " ...");
+        Task<NQueensSolver> task = new Task<NQueensSolver>() {
+            @Override protected NQueensSolver call() {
+                NQueensSolver all = new NQueensSolver(n);
+                all.setMuted(true);
+                all.setSymmetryReduced(reduced);
+                all.solveAll();
+                return all;
             }
-            gridBox.getChildren().add(rowBox);
-        }
-        solutionBox.getChildren().add(gridBox);
-        
-        // Add to solutions container
-        parentController.solutionsContent.getChildren().add(solutionBox);
+        };
+        long t0 = System.nanoTime();
+        task.setOnSucceeded(e -> {
+            NQueensSolver all = task.getValue();
+            if (n != currentBoardSize) return;
+            galleryShowsFindAll = true;
+            gallery.setCaptions(i -> caption(all, i));
+            gallery.setSource(all::getSolution, all.getSolutionsFound(), n);
+            double ms = (System.nanoTime() - t0) / 1e6;
+            if (reduced) {
+                int[] classes = new int[9];
+                for (int i = 0; i < all.getSolutionsFound(); i++) classes[all.getOrbitSize(i)]++;
+                appendProgress(String.format("⚡ %d fundamental solutions for N = %d in %.0f ms → %d in all"
+                                + " (%d with no symmetry ×8, %d half-turn ×4, %d quarter-turn ×2)",
+                        all.getSolutionsFound(), n, ms, all.getTotalSolutions(), classes[8], classes[4], classes[2]));
+            } else {
+                appendProgress(String.format("⚡ %d solutions for N = %d in %.0f ms", all.getSolutionsFound(), n, ms));
+            }
+        });
+        task.setOnFailed(e -> appendProgress("❌ Find all failed: " + task.getException()));
+        Thread th = new Thread(task, "queens-find-all");
+        th.setDaemon(true);
+        th.start();
     }
-    
+
     private void finalizeProgressSummary() {
         if (parentController == null || parentController.progressArea == null) return;
         appendProgress("--------------------------------------------------");
         appendProgress("Total solutions found: " + solver.getSolutionsFound());
-        int idx = 1;
-        for (int[] sol : solver.getSolutions()) {
-            appendProgress("\nSolution " + idx++ + ":");
+        int logged = Math.min(LOGGED_SOLUTIONS, solver.getSolutionsFound());
+        for (int idx = 1; idx <= logged; idx++) {
+            int[] sol = solver.getSolution(idx - 1);
+            appendProgress("\nSolution " + idx + ":");
             
             // Create grid representation
             for (int row = 0; row < currentBoardSize; row++) {
@@ -753,5 +1036,8 @@ public class NQueensController implements AlgorithmViewController.AlgorithmSpeci
                 appendProgress(rowBuilder.toString());
             }
         }
+        if (solver.getSolutionsFound() > logged) {
+            appendProgress("\n… " + (solver.getSolutionsFound() - logged) + " more in the solutions gallery");
+        }
     }
 }
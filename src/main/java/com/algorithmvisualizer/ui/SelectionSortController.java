@@ -1,6 +1,10 @@
 package com.algorithmvisualizer.ui;
 
 import com.algorithmvisualizer.algorithm.SelectionSortSolver;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
 import com.algorithmvisualizer.visualization.ArrayRenderer;
 import com.algorithmvisualizer.visualization.BarChartRenderer;
 import javafx.animation.Animation;
@@ -21,6 +25,10 @@ import java.util.Random;
 
 public class SelectionSortController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer STEP_TIMER = Metrics.timer("selectionSort.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("selectionSort.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("selectionSort.appendProgress");
+
     // Local controls (in selectionsort-view.fxml)
     @FXML private Spinner<Integer> arraySizeSpinner;
     @FXML private TextField arrayElementsField;
@@ -40,7 +48,9 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
     private SelectionSortSolver solver;
     private Timeline timeline;
     private boolean isPlaying = false;
-    private final Deque<SelectionSortSolver.State> history = new ArrayDeque<>();
+    private StepHistory<SelectionSortSolver.State> history;
+    // Sparse checkpoints for jumping anywhere on the timeline
+    private CheckpointTimeline<SelectionSortSolver.State> steps;
     // Track progress log lines per algorithm step to support step-back removal
     private final Deque<Integer> progressHistory = new ArrayDeque<>();
     private int currentStepLogLines = 0;
@@ -60,6 +70,8 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
     private boolean pendingEndScanDelay = false;
     private boolean pendingMarkedDelay = false;
     private boolean pendingBlinkDelay = false;
+    // Most recent delay/blink animation, cancelled when jumping on the timeline
+    private Animation pendingAnimation;
 
     @FXML
     private void initialize() {
@@ -83,6 +95,8 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         // Create solver
         solver = new SelectionSortSolver(currentArray);
         solver.setStepListener(this::onStepEvent);
+        history = StepHistory.forSolver(solver, SelectionSortSolver.State::estimateBytes);
+        steps = new CheckpointTimeline<>(solver);
 
         // Parent speed linkage if available later
     }
@@ -278,6 +292,9 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
     private void refreshAll() {
         stopTimeline();
         solver.setArray(currentArray);
+        history.clear();
+        steps.reset();
+        syncScrubber();
         completionShown = false; // Reset completion flag for new run
         renderVisuals();
         renderCode();
@@ -302,7 +319,19 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         parent.solutionsContent.getChildren().add(arrayView.getNode());
     }
 
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        solver.step();
+        STEP_TIMER.stop(t);
+    }
+
     private void onStepEvent(SelectionSortSolver.StepType type, int i, int j, int minIndex) {
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, i, j, minIndex);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(SelectionSortSolver.StepType type, int i, int j, int minIndex) {
         switch (type) {
             case INIT_OUTER:
             case INIT_MIN:
@@ -321,13 +350,13 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                 arrayView.highlightCompare(j, minIndex);
                 barChart.highlightMin(minIndex);
                 arrayView.highlightMin(minIndex);
-                appendProgress("🔍 Comparing element at index " + j + " (value: " + solver.getArray()[j] + ") with current minimum at index " + minIndex + " (value: " + solver.getArray()[minIndex] + ")");
+                appendProgress("🔍 Comparing element at index " + j + " (value: " + solver.getArrayView().get(j) + ") with current minimum at index " + minIndex + " (value: " + solver.getArrayView().get(minIndex) + ")");
                 if (parent != null) parent.stepDescription.setText("Comparing element at index " + j + " with current minimum at index " + minIndex);
                 break;
             case SET_MIN:
                 barChart.highlightMin(minIndex);
                 arrayView.highlightMin(minIndex);
-                appendProgress("🔄 Found new minimum! Element at index " + minIndex + " (value: " + solver.getArray()[minIndex] + ") is smaller than previous minimum");
+                appendProgress("🔄 Found new minimum! Element at index " + minIndex + " (value: " + solver.getArrayView().get(minIndex) + ") is smaller than previous minimum");
                 appendProgress("");
                 // Add 2-second delay after new min (only during Play)
                 if (isPlaying) {
@@ -339,12 +368,13 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                         if (isPlaying && timeline != null) { timeline.play(); }
                         if (solver.isDone()) { showCompletion(); }
                     });
+                    pendingAnimation = pauseMin;
                     pauseMin.play();
                 }
                 break;
             case END_SCAN:
                 appendProgress("✅ Finished scanning unsorted portion for position " + i);
-                appendProgress("   → Found minimum element at index " + minIndex + " (value: " + solver.getArray()[minIndex] + ")");
+                appendProgress("   → Found minimum element at index " + minIndex + " (value: " + solver.getArrayView().get(minIndex) + ")");
                 appendProgress("");
                 // Add 2-second delay after end scan (only during Play)
                 if (isPlaying) {
@@ -356,6 +386,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                         if (isPlaying && timeline != null) { timeline.play(); }
                         if (solver.isDone()) { showCompletion(); }
                     });
+                    pendingAnimation = pauseEnd;
                     pauseEnd.play();
                 }
                 break;
@@ -365,12 +396,12 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                 if (isPlaying && timeline != null) { timeline.pause(); }
                 startBlinkingAnimation(i, minIndex, () -> {
                     // Perform actual swap after blinking
-                    barChart.updateData(solver.getArray());
-                    arrayView.updateData(solver.getArray());
+                    barChart.updateIndices(solver.getArrayView(), i, minIndex);
+                    arrayView.updateIndices(solver.getArrayView(), i, minIndex);
                     // Restore green highlighting for completed passes
                     restoreSortedHighlighting();
                     appendProgress("🔄 SWAPPED! Moved element from position " + i + " to position " + minIndex);
-                    appendProgress("   → Element " + solver.getArray()[i] + " is now in its correct sorted position");
+                    appendProgress("   → Element " + solver.getArrayView().get(i) + " is now in its correct sorted position");
                     appendProgress("");
                     pendingBlinkDelay = false;
                     
@@ -414,6 +445,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                         if (isPlaying && timeline != null) { timeline.play(); }
                         if (solver.isDone()) { showCompletion(); }
                     });
+                    pendingAnimation = pauseMark;
                     pauseMark.play();
                 }
                 break;
@@ -444,7 +476,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         
         updateVariablesPanel(); // Update variables one last time
         // Mark all elements as sorted when algorithm is complete
-        int lastIndex = solver.getArray().length - 1;
+        int lastIndex = solver.getArrayView().length() - 1;
         barChart.markSortedPrefix(lastIndex);
         arrayView.markSortedPrefix(lastIndex);
         
@@ -479,23 +511,84 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         // Prevent stepping while any delay/animation is active (ensures manual mode respects waits)
         if (pendingSwapDelay || pendingMinDelay || pendingEndScanDelay || pendingMarkedDelay || pendingBlinkDelay) return;
         history.push(solver.snapshot());
-        solver.step();
+        stepSolver();
+        steps.recordStep();
+        syncScrubber();
     }
 
     public void onStepBack() {
         // Pause if playing
         if (isPlaying) { onPause(); }
-        if (history.isEmpty()) return;
+        if (history.isEmpty()) {
+            // History was dropped by a seek; replay from the nearest checkpoint instead
+            if (steps.getPosition() > 0) onSeek(steps.getPosition() - 1);
+            return;
+        }
         SelectionSortSolver.State s = history.pop();
         solver.restore(s);
+        steps.recordStepBack();
+        syncScrubber();
 
         // Reset any pending UI delays/flags
+        clearPendingDelays();
+        renderFromSolver();
+
+        // Remove the logs written during the step we just stepped back from
+        if (parent != null && parent.progressArea != null) {
+            if (countLogsForStep && currentStepLogLines > 0) {
+                // Step was in progress; remove what has been logged so far for this step
+                removeLastLogLines(currentStepLogLines);
+                currentStepLogLines = 0;
+                countLogsForStep = false;
+            } else if (!progressHistory.isEmpty()) {
+                int toRemove = progressHistory.pop();
+                removeLastLogLines(toRemove);
+            }
+        }
+
+        // Update variables and step description
+        updateVariablesPanel();
+        if (parent != null) {
+            parent.stepDescription.setText(solver.getCurrentStepDescription());
+        }
+    }
+
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        stopTimeline();
+        if (pendingAnimation != null) { pendingAnimation.stop(); pendingAnimation = null; }
+        clearPendingDelays();
+        long reached = steps.seek(step);
+        // Snapshots taken before the jump no longer line up with the solver state
+        history.clear();
+        progressHistory.clear();
+        countLogsForStep = false;
+        currentStepLogLines = 0;
+        completionShown = solver.isDone();
+        renderFromSolver();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateVariablesPanel();
+        syncScrubber();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    private void syncScrubber() {
+        if (parent != null) parent.updateScrubber(steps.getPosition(), steps.getFurthest());
+    }
+
+    private void clearPendingDelays() {
         pendingSwapDelay = false;
         pendingMinDelay = false;
         pendingEndScanDelay = false;
         pendingMarkedDelay = false;
         pendingBlinkDelay = false;
+    }
 
+    /** Redraw bars, array and highlights from the solver's current state. */
+    private void renderFromSolver() {
         // Update data views
         barChart.updateData(solver.getArray());
         arrayView.updateData(solver.getArray());
@@ -504,7 +597,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         barChart.clearHighlights();
         arrayView.clearHighlights();
 
-        int n = solver.getArray().length;
+        int n = solver.getArrayView().length();
         int i = solver.getI();
         int j = solver.getJ();
         int minIndex = solver.getMinIndex();
@@ -546,25 +639,6 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                 }
             }
         }
-
-        // Remove the logs written during the step we just stepped back from
-        if (parent != null && parent.progressArea != null) {
-            if (countLogsForStep && currentStepLogLines > 0) {
-                // Step was in progress; remove what has been logged so far for this step
-                removeLastLogLines(currentStepLogLines);
-                currentStepLogLines = 0;
-                countLogsForStep = false;
-            } else if (!progressHistory.isEmpty()) {
-                int toRemove = progressHistory.pop();
-                removeLastLogLines(toRemove);
-            }
-        }
-
-        // Update variables and step description
-        updateVariablesPanel();
-        if (parent != null) {
-            parent.stepDescription.setText(solver.getCurrentStepDescription());
-        }
     }
 
     public void onReset() {
@@ -576,6 +650,8 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         passesCompleted = 0;
         completionShown = false;
         solver.reset();
+        steps.reset();
+        syncScrubber();
         barChart.updateData(solver.getArray());
         arrayView.updateData(solver.getArray());
         barChart.clearHighlights();
@@ -614,7 +690,9 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
             if (solver.isDone()) { stopTimeline(); return; }
             if (pendingSwapDelay || pendingMinDelay || pendingEndScanDelay || pendingMarkedDelay || pendingBlinkDelay) { return; }
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
+            steps.recordStep();
+            syncScrubber();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
@@ -651,6 +729,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
             })
         );
         
+        pendingAnimation = blinkTimeline;
         blinkTimeline.play();
     }
 
@@ -726,7 +805,9 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) {
             currentStepLogLines++;
         }
@@ -756,7 +837,8 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
                 "j (current index): " + (solver.getJ() == currentArray.length ? (solver.getJ() - 1) : solver.getJ()),
                 "Minimum Index: " + solver.getMinIndex(),
                 "passes completed: " + passesCompleted,
-                "state: " + (solver.isDone() ? "DONE" : "RUNNING")
+                "state: " + (solver.isDone() ? "DONE" : "RUNNING"),
+                history.describe()
         );
     }
     
@@ -771,7 +853,7 @@ public class SelectionSortController implements AlgorithmViewController.Algorith
         // This handles the case where a swap occurs in the last pass and the last element
         // needs to be highlighted as sorted
         int currentI = solver.getI();
-        int arraySize = solver.getArray().length;
+        int arraySize = solver.getArrayView().length();
         if (currentI == arraySize - 1) {
             barChart.markSortedPrefix(arraySize - 1);
             arrayView.markSortedPrefix(arraySize - 1);
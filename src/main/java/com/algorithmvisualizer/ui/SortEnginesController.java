@@ -0,0 +1,1168 @@
+package com.algorithmvisualizer.ui;
+
+import com.algorithmvisualizer.algorithm.BubbleSortSolver;
+import com.algorithmvisualizer.algorithm.CacheSimulator;
+import com.algorithmvisualizer.algorithm.CacheWorkloads;
+import com.algorithmvisualizer.algorithm.ExternalSortEngine;
+import com.algorithmvisualizer.algorithm.ExternalSortStats;
+import com.algorithmvisualizer.algorithm.ParallelSortEngine;
+import com.algorithmvisualizer.algorithm.SelectionSortSolver;
+import com.algorithmvisualizer.algorithm.SortBenchmark;
+import com.algorithmvisualizer.algorithm.SortEngine;
+import com.algorithmvisualizer.algorithm.SortInputs;
+import com.algorithmvisualizer.algorithm.SortRunStats;
+import com.algorithmvisualizer.algorithm.SteppableSolver;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
+import com.algorithmvisualizer.visualization.ArrayChart;
+import com.algorithmvisualizer.visualization.ArrayRenderer;
+import com.algorithmvisualizer.visualization.BarChartRenderer;
+import com.algorithmvisualizer.visualization.CacheHeatStrip;
+import com.algorithmvisualizer.visualization.ExternalSortView;
+import com.algorithmvisualizer.visualization.PixelBarChartRenderer;
+import com.algorithmvisualizer.visualization.SortMatrixChart;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.concurrent.Task;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.util.Duration;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Step-wise view of the O(n log n) {@link SortEngine}s on a small array, plus a
+ * full-speed benchmark of all of them against Bubble and Selection Sort on
+ * arrays of millions of elements. The {@link ParallelSortEngine}s colour each
+ * bar by the worker lane that last touched it, and can be timed at increasing
+ * thread counts. Inputs come in the {@link SortInputs} shapes, and the
+ * benchmark matrix times every engine on every shape at growing sizes. An
+ * {@link ExternalSortEngine} run on an int file is shown pass by pass, and
+ * any of the sorts or a batch of binary searches can be traced through a
+ * {@link CacheSimulator}.
+ *
+ * Arrays above {@link #MAX_NODE_BARS} are drawn by a {@link PixelBarChartRenderer}
+ * and played several operations per frame with per-operation logging off.
+ * Beyond {@link SortEngine#MAX_STEP_ELEMENTS} there is no trace to step
+ * through: Play starts a live run that sorts on a background thread and hands
+ * each batch of written indices to the chart, one batch per frame.
+ */
+public class SortEnginesController implements AlgorithmViewController.AlgorithmSpecificController {
+
+    private static final Timer STEP_TIMER = Metrics.timer("sortEngines.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("sortEngines.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("sortEngines.appendProgress");
+
+    /** Largest array drawn with one node per bar and listed in the array view. */
+    private static final int MAX_NODE_BARS = 200;
+    private static final int MAX_ANIMATED_SIZE = 2_000_000;
+    /** Frame period when several operations are played per frame. */
+    private static final Duration FAST_FRAME = Duration.millis(16);
+    /** Largest n the quadratic sorts are actually run at in the benchmark; beyond it their time is extrapolated. */
+    private static final int QUADRATIC_LIMIT = 10_000;
+
+    private static final List<Function<int[], SortEngine>> ENGINES = SortBenchmark.ENGINES;
+
+    private AlgorithmViewController parent;
+
+    private final BarChartRenderer barChart = new BarChartRenderer();
+    private final PixelBarChartRenderer pixelChart = new PixelBarChartRenderer();
+    private ArrayChart chart = barChart;
+    private final ArrayRenderer arrayView = new ArrayRenderer();
+    private final ChoiceBox<String> engineChoice = new ChoiceBox<>();
+    private final ChoiceBox<SortInputs.Distribution> inputChoice = new ChoiceBox<>();
+    private final Spinner<Integer> workersSpinner = new Spinner<>(1, 16, 4);
+
+    private SortEngine solver;
+    private Timeline timeline;
+    private boolean isPlaying = false;
+    private StepHistory<SortEngine.State> history;
+    private CheckpointTimeline<SortEngine.State> steps;
+    private final Deque<Integer> progressHistory = new ArrayDeque<>();
+    private int currentStepLogLines = 0;
+
+    private Task<SortRunStats> liveRun;
+    private LiveFeed liveFeed;
+    private AnimationTimer liveTimer;
+    private int[] liveDrawn = new int[0];
+
+    private int[] currentArray = randomArray(SortInputs.Distribution.UNIFORM, 32);
+
+    @FXML
+    private void initialize() {
+        for (Function<int[], SortEngine> factory : ENGINES) engineChoice.getItems().add(factory.apply(new int[0]).getName());
+        engineChoice.getSelectionModel().select(0);
+        engineChoice.getSelectionModel().selectedIndexProperty().addListener((obs, o, n) -> refreshAll());
+        inputChoice.getItems().setAll(SortInputs.Distribution.values());
+        inputChoice.getSelectionModel().select(SortInputs.Distribution.UNIFORM);
+        inputChoice.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> onRandomize());
+        workersSpinner.setPrefWidth(70);
+        workersSpinner.valueProperty().addListener((obs, o, n) -> { if (solver instanceof ParallelSortEngine) refreshAll(); });
+        createSolver();
+        renderVisuals();
+    }
+
+    private void createSolver() {
+        int idx = Math.max(0, engineChoice.getSelectionModel().getSelectedIndex());
+        solver = ENGINES.get(idx).apply(currentArray);
+        if (solver instanceof ParallelSortEngine) ((ParallelSortEngine) solver).setParallelism(workersSpinner.getValue());
+        solver.setStepListener(this::onStepEvent);
+        history = StepHistory.forSolver(solver, SortEngine.State::estimateBytes);
+        steps = new CheckpointTimeline<>(solver);
+    }
+
+    @Override
+    public void setParentController(AlgorithmViewController parent) {
+        this.parent = parent;
+        if (parent.speedSlider != null) parent.speedSlider.valueProperty().addListener((obs, o, n) -> updatePlaybackSpeed());
+
+        if (parent.paramSizeLabel != null) parent.paramSizeLabel.setText("Array size (step mode):");
+        if (parent.paramBoardSizeSpinner != null) {
+            parent.paramBoardSizeSpinner.setVisible(true);
+            parent.paramBoardSizeSpinner.setManaged(true);
+            parent.paramBoardSizeSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, MAX_ANIMATED_SIZE, currentArray.length));
+            parent.paramBoardSizeSpinner.setEditable(true);
+            parent.paramBoardSizeSpinner.valueProperty().addListener((obs, o, n) -> onRandomize());
+        }
+        if (parent.paramNumQueensSpinner != null) { parent.paramNumQueensSpinner.setVisible(false); parent.paramNumQueensSpinner.setManaged(false); }
+        if (parent.paramElementsLabel != null) {
+            parent.paramElementsLabel.setVisible(true);
+            parent.paramElementsLabel.setManaged(true);
+            parent.paramElementsLabel.setText("Elements (comma-separated):");
+        }
+        if (parent.paramElementsBox != null) { parent.paramElementsBox.setVisible(false); parent.paramElementsBox.setManaged(false); }
+        if (parent.paramElementsField != null) {
+            parent.paramElementsField.setVisible(true);
+            parent.paramElementsField.setManaged(true);
+            syncElementsField();
+        }
+        if (parent.paramRandomizeButton != null) {
+            parent.paramRandomizeButton.setVisible(true);
+            parent.paramRandomizeButton.setManaged(true);
+            parent.paramRandomizeButton.setOnAction(e -> onRandomize());
+        }
+        if (parent.paramApplyButton != null) parent.paramApplyButton.setOnAction(e -> onApplyArray());
+        if (parent.paramApplyButton != null && parent.paramApplyButton.getParent() instanceof Pane) {
+            Button benchmarkButton = new Button("⏱ Benchmark…");
+            benchmarkButton.setOnAction(e -> onBenchmark());
+            Button scalingButton = new Button("⚡ Parallel scaling…");
+            scalingButton.setOnAction(e -> onParallelScaling());
+            Button matrixButton = new Button("📊 Benchmark matrix…");
+            matrixButton.setOnAction(e -> onBenchmarkMatrix());
+            Button externalButton = new Button("💾 External sort…");
+            externalButton.setOnAction(e -> onExternalSort());
+            Button cacheButton = new Button("🧠 Cache simulation…");
+            cacheButton.setOnAction(e -> onCacheSimulation());
+            ((Pane) parent.paramApplyButton.getParent()).getChildren().addAll(new Label("Input:"), inputChoice,
+                    new Label("Engine:"), engineChoice, new Label("Workers:"), workersSpinner,
+                    benchmarkButton, scalingButton, matrixButton, externalButton, cacheButton);
+        }
+        if (parent.pauseButton != null) { parent.pauseButton.setVisible(false); parent.pauseButton.setManaged(false); }
+
+        if (parent.chessboardHeaderBox != null) {
+            parent.chessboardHeaderBox.setVisible(true);
+            parent.chessboardHeaderBox.setManaged(true);
+            parent.chessboardHeaderBox.getChildren().clear();
+            Label chartHeader = new Label("O(n log n) Sort Visualization");
+            chartHeader.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            parent.chessboardHeaderBox.getChildren().addAll(chartHeader, new Separator());
+        }
+        renderLegend();
+        if (parent.solutionsHeaderBox != null) {
+            parent.solutionsHeaderBox.setVisible(true);
+            parent.solutionsHeaderBox.setManaged(true);
+            parent.solutionsHeaderBox.getChildren().clear();
+            Label solHeader = new Label("Array View");
+            solHeader.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            parent.solutionsHeaderBox.getChildren().addAll(solHeader, new Separator());
+        }
+        if (parent.solutionsSubHeaderBox != null) { parent.solutionsSubHeaderBox.setVisible(false); parent.solutionsSubHeaderBox.setManaged(false); }
+
+        renderVisuals();
+        renderCode();
+        initProgressLog();
+        updateVariablesPanel();
+    }
+
+    private void renderLegend() {
+        if (parent == null || parent.chessboardLegendBox == null) return;
+        parent.chessboardLegendBox.setVisible(true);
+        parent.chessboardLegendBox.setManaged(true);
+        parent.chessboardLegendBox.getChildren().clear();
+        Label legendTitle = new Label("Legend:");
+        legendTitle.setStyle("-fx-font-weight: bold;");
+        HBox legendRow = new HBox(15.0);
+        if (solver instanceof ParallelSortEngine) {
+            int workers = ((ParallelSortEngine) solver).getParallelism();
+            for (int w = 0; w < workers; w++) legendRow.getChildren().add(legendItem(BarChartRenderer.laneColor(w), "Worker " + w));
+        } else {
+            legendRow.getChildren().addAll(legendItem(Color.GOLD, "Compare"), legendItem(Color.RED, "Swap"),
+                    legendItem(Color.MEDIUMPURPLE, "Write"));
+        }
+        legendRow.getChildren().add(legendItem(Color.FORESTGREEN, "Sorted"));
+        parent.chessboardLegendBox.getChildren().addAll(legendTitle, legendRow);
+    }
+
+    private static HBox legendItem(Color color, String text) {
+        Rectangle r = new Rectangle(12, 12);
+        r.setFill(color);
+        r.setStroke(Color.BLACK);
+        HBox item = new HBox(5.0);
+        item.getChildren().addAll(r, new Label(text));
+        return item;
+    }
+
+    private void onRandomize() {
+        int size = parent != null && parent.paramBoardSizeSpinner != null ? parent.paramBoardSizeSpinner.getValue() : currentArray.length;
+        currentArray = randomArray(inputChoice.getValue(), size);
+        refreshAll();
+    }
+
+    private void onApplyArray() {
+        int[] parsed = parseArray(parent != null && parent.paramElementsField != null ? parent.paramElementsField.getText() : null);
+        if (parsed == null || parsed.length > MAX_NODE_BARS) {
+            appendProgress("❌ Enter up to " + MAX_NODE_BARS + " comma-separated integers; use the size spinner for large arrays.");
+            return;
+        }
+        currentArray = parsed;
+        refreshAll();
+    }
+
+    private void refreshAll() {
+        stopTimeline();
+        cancelLiveRun();
+        createSolver();
+        syncElementsField();
+        progressHistory.clear();
+        syncScrubber();
+        renderVisuals();
+        renderLegend();
+        renderCode();
+        initProgressLog();
+        updateVariablesPanel();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    private void renderVisuals() {
+        boolean small = currentArray.length <= MAX_NODE_BARS;
+        ArrayChart wanted = small ? barChart : pixelChart;
+        if (parent != null && parent.chessboardContainer != null
+                && !parent.chessboardContainer.getChildren().contains(wanted.getNode())) {
+            parent.chessboardContainer.getChildren().setAll(wanted.getNode());
+        }
+        if (parent != null && parent.solutionsContent != null) {
+            if (small) {
+                if (!parent.solutionsContent.getChildren().contains(arrayView.getNode())) {
+                    parent.solutionsContent.getChildren().setAll(arrayView.getNode());
+                }
+            } else {
+                parent.solutionsContent.getChildren().setAll(new Label(
+                        "Array view is shown for up to " + MAX_NODE_BARS + " elements (n = " + currentArray.length + ")."));
+            }
+        }
+        chart = wanted;
+        chart.setData(solver.getArray());
+        if (small) arrayView.setData(solver.getArray());
+        if (solver.isDone()) { chart.markSortedSuffix(0); if (small) arrayView.markSortedSuffix(0); }
+    }
+
+    private void syncElementsField() {
+        if (parent == null || parent.paramElementsField == null) return;
+        boolean small = currentArray.length <= MAX_NODE_BARS;
+        parent.paramElementsField.setText(small ? join(currentArray) : "");
+        parent.paramElementsField.setPromptText(small ? "e.g. 5, 3, 8, 4, 2" : currentArray.length + " random values");
+    }
+
+    /** Above {@link #MAX_NODE_BARS} operations are played in bulk and not logged one by one. */
+    private boolean quiet() { return currentArray.length > MAX_NODE_BARS; }
+
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        currentStepLogLines = 0;
+        solver.step();
+        progressHistory.push(currentStepLogLines);
+        STEP_TIMER.stop(t);
+    }
+
+    private void onStepEvent(SortEngine.StepType type, int i, int j, int worker) {
+        long t = EVENT_TIMER.start();
+        if (solver instanceof ParallelSortEngine) {
+            showLaneEvent(type, i, j, worker);
+        } else {
+            showEvent(type, i, j);
+        }
+        if (!quiet()) {
+            if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+            updateVariablesPanel();
+        }
+        EVENT_TIMER.stop(t);
+    }
+
+    private void showEvent(SortEngine.StepType type, int i, int j) {
+        boolean small = !quiet();
+        chart.clearHighlights();
+        if (small) arrayView.clearHighlights();
+        switch (type) {
+            case COMPARE:
+                chart.highlightCompare(i, j);
+                if (small) {
+                    arrayView.highlightCompare(i, j);
+                    appendProgress("🔍 Compare a[" + i + "] and a[" + j + "]");
+                }
+                break;
+            case SWAP:
+                chart.updateIndices(solver.getArrayView(), i, j);
+                chart.highlightSwap(i, j);
+                if (small) {
+                    arrayView.updateIndices(solver.getArrayView(), i, j);
+                    arrayView.highlightSwap(i, j);
+                    appendProgress("🔄 Swap a[" + i + "] and a[" + j + "]");
+                }
+                break;
+            case WRITE:
+                chart.updateIndices(solver.getArrayView(), i);
+                chart.setIndexColor(i, Color.MEDIUMPURPLE);
+                if (small) {
+                    arrayView.updateIndices(solver.getArrayView(), i);
+                    arrayView.setIndexColor(i, "mediumpurple");
+                    appendProgress("✏ a[" + i + "] = " + j);
+                }
+                break;
+            case DONE:
+                chart.markSortedSuffix(0);
+                if (small) arrayView.markSortedSuffix(0);
+                stopTimeline();
+                appendProgress("🎉 " + solver.getCurrentStepDescription());
+                break;
+        }
+    }
+
+    // Parallel engines: keep every bar in the colour of the worker that last touched it
+    private void showLaneEvent(SortEngine.StepType type, int i, int j, int worker) {
+        boolean small = !quiet();
+        switch (type) {
+            case COMPARE:
+                if (small) appendProgress("[" + worker + "] 🔍 Compare a[" + i + "] and a[" + j + "]");
+                break;
+            case SWAP:
+                chart.updateIndices(solver.getArrayView(), i, j);
+                if (small) {
+                    arrayView.updateIndices(solver.getArrayView(), i, j);
+                    appendProgress("[" + worker + "] 🔄 Swap a[" + i + "] and a[" + j + "]");
+                }
+                break;
+            case WRITE:
+                chart.updateIndices(solver.getArrayView(), i);
+                if (small) {
+                    arrayView.updateIndices(solver.getArrayView(), i);
+                    appendProgress("[" + worker + "] ✏ a[" + i + "] = " + j);
+                }
+                break;
+            case DONE:
+                chart.markSortedSuffix(0);
+                if (small) arrayView.markSortedSuffix(0);
+                stopTimeline();
+                appendProgress("🎉 " + solver.getCurrentStepDescription());
+                return;
+        }
+        for (int k : new int[]{i, j}) {
+            if (type == SortEngine.StepType.WRITE && k == j) continue;
+            chart.highlightLane(k, worker);
+            if (small) arrayView.highlightLane(k, worker);
+        }
+    }
+
+    public void onPlay() {
+        if (isPlaying) { onPause(); return; }
+        if (solver.isDone()) return;
+        isPlaying = true;
+        if (parent != null) parent.playButton.setText("⏸ Pause");
+        if (currentArray.length > SortEngine.MAX_STEP_ELEMENTS) { playLive(); return; }
+        rebuildTimelineWithCurrentSpeed();
+        if (timeline != null) timeline.play();
+    }
+
+    public void onPause() { stopTimeline(); }
+
+    public void onStepForward() {
+        if (solver == null || solver.isDone()) return;
+        if (!steppable()) return;
+        history.push(solver.snapshot());
+        stepSolver();
+        steps.recordStep();
+        syncScrubber();
+        if (quiet()) showProgressSummary();
+    }
+
+    public void onStepBack() {
+        if (isPlaying) onPause();
+        if (!steppable()) return;
+        if (history.isEmpty()) {
+            if (steps.getPosition() > 0) onSeek(steps.getPosition() - 1);
+            return;
+        }
+        solver.restore(history.pop());
+        steps.recordStepBack();
+        syncScrubber();
+        if (!progressHistory.isEmpty()) removeLastLogLines(progressHistory.pop());
+        renderVisuals();
+        updateVariablesPanel();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        stopTimeline();
+        if (!steppable()) return;
+        long reached = steps.seek(step);
+        // Snapshots taken before the jump no longer line up with the solver state
+        history.clear();
+        progressHistory.clear();
+        renderVisuals();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateVariablesPanel();
+        syncScrubber();
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+    }
+
+    public void onReset() {
+        stopTimeline();
+        history.clear();
+        progressHistory.clear();
+        if (liveRun != null) {
+            // The abandoned run may still touch the old engine until it notices
+            cancelLiveRun();
+            createSolver();
+        } else {
+            solver.reset();
+        }
+        steps.reset();
+        syncScrubber();
+        renderVisuals();
+        initProgressLog();
+        updateVariablesPanel();
+        if (parent != null) parent.stepDescription.setText("Ready.");
+    }
+
+    private void syncScrubber() {
+        if (parent != null) parent.updateScrubber(steps.getPosition(), steps.getFurthest());
+    }
+
+    private void stopTimeline() {
+        if (timeline != null) { timeline.stop(); timeline = null; }
+        if (liveTimer != null) liveTimer.stop();
+        isPlaying = false;
+        if (parent != null) parent.playButton.setText("▶ Play");
+    }
+
+    private void updatePlaybackSpeed() {
+        if (!isPlaying || liveRun != null) return;
+        rebuildTimelineWithCurrentSpeed();
+        if (timeline != null) timeline.play();
+    }
+
+    private void rebuildTimelineWithCurrentSpeed() {
+        if (timeline != null) { timeline.stop(); timeline = null; }
+        double speed = parent != null ? parent.speedSlider.getValue() : 5.0;
+        boolean bulk = quiet();
+        Duration frame = bulk ? FAST_FRAME : Duration.millis(1000.0 / Math.max(1.0, speed));
+        int perFrame = bulk ? opsPerFrame(speed) : 1;
+        timeline = new Timeline(new KeyFrame(frame, e -> {
+            for (int k = 0; k < perFrame && !solver.isDone(); k++) {
+                history.push(solver.snapshot());
+                stepSolver();
+                steps.recordStep();
+            }
+            syncScrubber();
+            if (bulk) showProgressSummary();
+            if (solver.isDone()) stopTimeline();
+        }));
+        timeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Operations (or live-run writes) per 60 Hz frame, scaled so that a sort of
+     * about 2 n log2 n operations plays for 100 s at speed 1 and 10 s at speed 10.
+     */
+    private int opsPerFrame(double speed) {
+        int n = currentArray.length;
+        double ops = 2.0 * n * (32 - Integer.numberOfLeadingZeros(Math.max(1, n)));
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, ops * speed / 6000.0));
+    }
+
+    private boolean steppable() {
+        if (currentArray.length <= SortEngine.MAX_STEP_ELEMENTS) return true;
+        appendProgress("⚠ Stepping and seeking are limited to " + SortEngine.MAX_STEP_ELEMENTS
+                + " elements; press Play to watch a live run.");
+        return false;
+    }
+
+    private void showProgressSummary() {
+        if (parent != null) parent.stepDescription.setText(solver.getCurrentStepDescription());
+        updateVariablesPanel();
+    }
+
+    /**
+     * Sort the whole array on a background thread, drawing each batch of written
+     * indices in the next frame. Pause stops the frame timer, which stalls the
+     * sort at its next batch; Play resumes it.
+     */
+    private void playLive() {
+        if (liveTimer == null) {
+            liveTimer = new AnimationTimer() {
+                @Override public void handle(long now) { drawLiveBatch(); }
+            };
+        }
+        liveTimer.start();
+        if (liveRun != null) return;
+        SortEngine engine = solver;
+        int batch = opsPerFrame(parent != null ? parent.speedSlider.getValue() : 5.0);
+        LiveFeed feed = new LiveFeed();
+        liveDrawn = new int[Math.max(1, batch)];
+        appendProgress("▶ Live run of " + engine.getName() + " on " + currentArray.length + " elements, "
+                + batch + " writes per frame");
+        Task<SortRunStats> task = new Task<SortRunStats>() {
+            @Override protected SortRunStats call() {
+                return engine.runLive(feed, batch);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (liveRun != task) return;
+            liveRun = null;
+            liveFeed = null;
+            stopTimeline();
+            SortRunStats stats = task.getValue();
+            if (stats == null) return;
+            renderVisuals();
+            showProgressSummary();
+            appendProgress("🎉 " + engine.getName() + ": " + stats);
+        });
+        task.setOnFailed(e -> {
+            if (liveRun == task) { liveRun = null; liveFeed = null; }
+            stopTimeline();
+            appendProgress("❌ Live run failed: " + task.getException());
+        });
+        liveRun = task;
+        liveFeed = feed;
+        Thread th = new Thread(task, "sort-live");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    private void drawLiveBatch() {
+        if (liveFeed == null) return;
+        int count = liveFeed.take(liveDrawn);
+        if (count == 0) return;
+        pixelChart.updateIndices(solver.getArrayView(), liveDrawn, count);
+        pixelChart.flush();
+    }
+
+    private void cancelLiveRun() {
+        if (liveRun == null) return;
+        liveFeed.cancel();
+        liveRun = null;
+        liveFeed = null;
+    }
+
+    /**
+     * Hands one batch at a time from the sorting thread to the frame timer: the
+     * sort parks its batch here and blocks until a frame has taken it.
+     */
+    private static final class LiveFeed implements SortEngine.LiveSink {
+        private final Semaphore taken = new Semaphore(0);
+        private int[] pending = new int[0];
+        private int count = 0;
+        private volatile boolean cancelled = false;
+
+        @Override
+        public boolean written(int[] indices, int n) {
+            synchronized (this) {
+                if (cancelled) return false;
+                if (pending.length < n) pending = Arrays.copyOf(indices, n);
+                else System.arraycopy(indices, 0, pending, 0, n);
+                count = n;
+            }
+            taken.acquireUninterruptibly();
+            return !cancelled;
+        }
+
+        /** Copy the parked batch into {@code into}, at least one batch long, and release the sort. */
+        synchronized int take(int[] into) {
+            int n = count;
+            if (n == 0) return 0;
+            System.arraycopy(pending, 0, into, 0, n);
+            count = 0;
+            taken.release();
+            return n;
+        }
+
+        void cancel() {
+            cancelled = true;
+            taken.release();
+        }
+    }
+
+    /**
+     * Run every engine at full speed on the same random array of a chosen size off
+     * the UI thread, next to Bubble and Selection Sort (run at up to
+     * {@link #QUADRATIC_LIMIT} elements and extrapolated as n²) and Arrays.sort.
+     */
+    private void onBenchmark() {
+        Integer size = askSize("Sort benchmark", "1000000");
+        if (size == null) return;
+        int n = size;
+        appendProgress("⏱ Benchmarking on " + n + " random ints ...");
+        Task<String> task = new Task<String>() {
+            @Override protected String call() {
+                int[] data = benchmarkInput(n);
+                int[] expected = data.clone();
+                long t0 = System.nanoTime();
+                Arrays.sort(expected);
+                long jdkNanos = System.nanoTime() - t0;
+                StringBuilder sb = new StringBuilder();
+                for (Function<int[], SortEngine> factory : ENGINES) {
+                    SortEngine engine = factory.apply(data);
+                    SortRunStats stats = engine.runToCompletion();
+                    sb.append(String.format("%-22s %s%s%n", engine.getName() + ":", stats,
+                            Arrays.equals(engine.getArray(), expected) ? "" : "  ❌ NOT SORTED"));
+                }
+                sb.append(String.format("%-22s %.1f ms%n", "Arrays.sort:", jdkNanos / 1e6));
+                int m = Math.min(n, QUADRATIC_LIMIT);
+                int[] small = Arrays.copyOf(data, m);
+                sb.append(quadratic("Bubble Sort:", new BubbleSortSolver(small), n, m));
+                sb.append(quadratic("Selection Sort:", new SelectionSortSolver(small), n, m));
+                return sb.toString().trim();
+            }
+        };
+        task.setOnSucceeded(e -> appendProgress(task.getValue()));
+        task.setOnFailed(e -> appendProgress("❌ Benchmark failed: " + task.getException()));
+        Thread th = new Thread(task, "sort-benchmark");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Time each parallel engine at 1, 2, 4, ... threads up to the number of cores on
+     * the same random array, after one warm-up run, and log the speed-up over one thread.
+     */
+    private void onParallelScaling() {
+        Integer size = askSize("Parallel scaling", "4000000");
+        if (size == null) return;
+        int n = size;
+        int cores = Runtime.getRuntime().availableProcessors();
+        appendProgress("⚡ Parallel scaling on " + n + " random ints, " + cores + " cores ...");
+        Task<String> task = new Task<String>() {
+            @Override protected String call() {
+                int[] data = benchmarkInput(n);
+                List<Integer> threads = new ArrayList<>();
+                for (int p = 1; p < cores; p <<= 1) threads.add(p);
+                threads.add(cores);
+                StringBuilder sb = new StringBuilder();
+                for (Function<int[], SortEngine> factory : ENGINES) {
+                    if (!(factory.apply(new int[0]) instanceof ParallelSortEngine)) continue;
+                    factory.apply(data).runToCompletion(); // warm-up
+                    double base = 0;
+                    for (int p : threads) {
+                        ParallelSortEngine engine = (ParallelSortEngine) factory.apply(data);
+                        engine.setParallelism(p);
+                        double ms = engine.runToCompletion().nanos / 1e6;
+                        if (p == 1) base = ms;
+                        sb.append(String.format("%-22s %2d thread%s %8.1f ms  speed-up %.2fx%n",
+                                engine.getName() + ":", p, p == 1 ? " " : "s", ms, base / ms));
+                    }
+                }
+                return sb.toString().trim();
+            }
+        };
+        task.setOnSucceeded(e -> appendProgress(task.getValue()));
+        task.setOnFailed(e -> appendProgress("❌ Scaling run failed: " + task.getException()));
+        Thread th = new Thread(task, "sort-scaling");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Run {@link SortBenchmark} over every input shape at 10^3 up to a chosen
+     * size off the UI thread. Rows go to a chart window as they come in and to
+     * sort-matrix-&lt;timestamp&gt;.csv in the working directory; closing the
+     * window stops the run after the current measurement.
+     */
+    private void onBenchmarkMatrix() {
+        ChoiceDialog<String> sizeDialog = new ChoiceDialog<>("1000000", "1000", "10000", "100000", "1000000", "10000000");
+        sizeDialog.setTitle("Sort benchmark matrix");
+        sizeDialog.setHeaderText("Largest array size (from 1000, by factors of 10):");
+        String picked = sizeDialog.showAndWait().orElse(null);
+        if (picked == null) return;
+        int[] sizes = SortBenchmark.decadeSizes(Integer.parseInt(picked));
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path csvPath = Paths.get(System.getProperty("user.dir"), "sort-matrix-" + stamp + ".csv");
+
+        SortMatrixChart matrixChart = new SortMatrixChart();
+        Dialog<Void> window = new Dialog<>();
+        window.setTitle("Sort benchmark matrix");
+        window.setResizable(true);
+        window.initModality(Modality.NONE);
+        window.getDialogPane().setContent(matrixChart.getNode());
+        window.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        appendProgress("📊 Benchmark matrix up to n = " + picked + " → " + csvPath);
+        Task<Integer> task = new Task<Integer>() {
+            @Override protected Integer call() throws IOException {
+                try (BufferedWriter csv = Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8)) {
+                    csv.write(SortBenchmark.CSV_HEADER);
+                    csv.newLine();
+                    return SortBenchmark.run(sizes, List.of(SortInputs.Distribution.values()), row -> {
+                        try {
+                            csv.write(row.toCsv());
+                            csv.newLine();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        Platform.runLater(() -> matrixChart.add(row));
+                    }, this::isCancelled).size();
+                }
+            }
+        };
+        task.setOnSucceeded(e -> appendProgress("📊 Benchmark matrix done: " + task.getValue() + " rows in " + csvPath));
+        task.setOnCancelled(e -> appendProgress("📊 Benchmark matrix stopped; partial results in " + csvPath));
+        task.setOnFailed(e -> appendProgress("❌ Benchmark matrix failed: " + task.getException()));
+        window.setOnHidden(e -> task.cancel(false));
+        window.show();
+        Thread th = new Thread(task, "sort-matrix");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Sort a file of big-endian ints with the {@link ExternalSortEngine}, using
+     * the Workers spinner as its parallelism, into &lt;file&gt;.sorted next to it.
+     * The file is either picked or generated as random ints in the temp
+     * directory. Runs and merge passes are drawn in a separate window as they
+     * complete; closing it cancels the sort.
+     */
+    private void onExternalSort() {
+        ChoiceDialog<String> source = new ChoiceDialog<>("Generate random file", "Generate random file", "Open int file…");
+        source.setTitle("External sort");
+        source.setHeaderText("Input: a file of big-endian 32-bit ints");
+        String choice = source.showAndWait().orElse(null);
+        if (choice == null) return;
+        Path input;
+        long generate;
+        if (choice.startsWith("Open")) {
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Open int file");
+            File file = chooser.showOpenDialog(parent != null ? parent.chessboardContainer.getScene().getWindow() : null);
+            if (file == null) return;
+            input = file.toPath();
+            generate = 0;
+        } else {
+            Integer size = askSize("External sort", "50000000");
+            if (size == null) return;
+            input = Paths.get(System.getProperty("java.io.tmpdir"), "extsort-input-" + size + ".bin");
+            generate = size;
+        }
+        Path output = input.resolveSibling(input.getFileName() + ".sorted");
+        ExternalSortEngine engine = new ExternalSortEngine();
+        engine.setParallelism(workersSpinner.getValue());
+        ExternalSortView view = new ExternalSortView();
+        engine.setProgressListener((type, pass, run, elements, read, written) -> Platform.runLater(() -> {
+            switch (type) {
+                case RUN_CREATED:
+                case RUN_MERGED:
+                    view.runWritten(pass, run);
+                    break;
+                case PASS_STARTED:
+                    view.passStarted(pass);
+                    appendProgress("💾 Merge pass " + pass + ": " + run + " runs, " + engine.getFanIn() + " at a time");
+                    break;
+                default:
+                    break;
+            }
+            view.io(read, written);
+        }));
+        Dialog<Void> window = new Dialog<>();
+        window.setTitle("External merge sort");
+        window.setResizable(true);
+        window.initModality(Modality.NONE);
+        window.getDialogPane().setContent(view.getNode());
+        window.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        Task<ExternalSortStats> task = new Task<ExternalSortStats>() {
+            @Override protected ExternalSortStats call() throws IOException {
+                if (generate > 0) {
+                    Platform.runLater(() -> appendProgress("💾 Writing " + generate + " random ints to " + input + " ..."));
+                    ExternalSortEngine.writeRandomFile(input, generate, 42);
+                }
+                long elements = Files.size(input) / 4;
+                Platform.runLater(() -> {
+                    view.start(elements, engine.getRunElements(), engine.getFanIn());
+                    appendProgress("💾 External sort of " + elements + " ints in runs of " + engine.getRunElements()
+                            + " with " + engine.getParallelism() + " workers → " + output);
+                });
+                if (isCancelled()) return null;
+                return engine.sort(input, output, input.toAbsolutePath().getParent());
+            }
+        };
+        task.setOnSucceeded(e -> {
+            view.done(task.getValue());
+            appendProgress("💾 " + task.getValue());
+        });
+        task.setOnFailed(e -> appendProgress("❌ External sort failed: " + task.getException()));
+        task.setOnCancelled(e -> appendProgress("💾 External sort cancelled"));
+        window.setOnHidden(e -> { engine.cancel(); task.cancel(false); });
+        window.show();
+        Thread th = new Thread(task, "external-sort");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Window for tracing one {@link CacheWorkloads} workload at a time through a
+     * {@link CacheSimulator} on a background thread, with hit rates and the
+     * miss heat strip refreshed every frame while it runs. Closing the window
+     * aborts the run.
+     */
+    private void onCacheSimulation() {
+        List<CacheWorkloads.Workload> workloads = CacheWorkloads.all();
+        ChoiceBox<String> workloadChoice = new ChoiceBox<>();
+        for (CacheWorkloads.Workload w : workloads) workloadChoice.getItems().add(w.name());
+        workloadChoice.getSelectionModel().select(Math.max(0, engineChoice.getSelectionModel().getSelectedIndex()));
+        TextField sizeField = new TextField("1000000");
+        sizeField.setPrefWidth(90);
+        TextField specField = new TextField(CacheSimulator.DEFAULT_SPEC);
+        specField.setPrefWidth(240);
+        Button runButton = new Button("▶ Run");
+        Label stats = new Label("Pick a workload and press Run.");
+        stats.setStyle("-fx-font-family: monospace;");
+        CacheHeatStrip strip = new CacheHeatStrip();
+        VBox content = new VBox(8.0, new HBox(8.0, workloadChoice, new Label("n:"), sizeField,
+                new Label("Caches:"), specField, runButton), stats, strip.getNode());
+
+        Dialog<Void> window = new Dialog<>();
+        window.setTitle("Cache simulation");
+        window.setResizable(true);
+        window.initModality(Modality.NONE);
+        window.getDialogPane().setContent(content);
+        window.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        CacheSimulator[] running = new CacheSimulator[1];
+        AnimationTimer refresh = new AnimationTimer() {
+            @Override public void handle(long now) {
+                if (running[0] == null) return;
+                stats.setText(running[0].describe());
+                strip.show(running[0]);
+            }
+        };
+        runButton.setOnAction(e -> {
+            if (running[0] != null) running[0].abort();
+            CacheWorkloads.Workload workload = workloads.get(workloadChoice.getSelectionModel().getSelectedIndex());
+            int n;
+            CacheSimulator sim;
+            try {
+                n = Integer.parseInt(sizeField.getText().trim().replace(",", "").replace("_", ""));
+                if (n < 1 || n > 10_000_000) throw new IllegalArgumentException("n must be between 1 and 10,000,000");
+                sim = CacheSimulator.parse(specField.getText(), workload.tracedLength(n), 256);
+            } catch (IllegalArgumentException ex) {
+                stats.setText("❌ " + (ex instanceof NumberFormatException ? "Not a number: " + sizeField.getText() : ex.getMessage()));
+                return;
+            }
+            running[0] = sim;
+            strip.show(sim);
+            refresh.start();
+            Task<Double> task = new Task<Double>() {
+                @Override protected Double call() {
+                    int[] input = CacheWorkloads.input(n);
+                    long t0 = System.nanoTime();
+                    workload.run(input, sim);
+                    return (System.nanoTime() - t0) / 1e6;
+                }
+            };
+            task.setOnSucceeded(ev -> {
+                if (running[0] != sim) return;
+                running[0] = null;
+                refresh.stop();
+                stats.setText(sim.describe());
+                strip.show(sim);
+                appendProgress(String.format("🧠 %s, n = %d, traced in %.0f ms%n%s",
+                        workload.name(), workload.tracedLength(n), task.getValue(), sim.describe()));
+            });
+            task.setOnFailed(ev -> {
+                if (running[0] == sim) { running[0] = null; refresh.stop(); }
+                if (!(task.getException() instanceof CancellationException)) {
+                    stats.setText("❌ Cache simulation failed: " + task.getException());
+                }
+            });
+            Thread th = new Thread(task, "cache-simulation");
+            th.setDaemon(true);
+            th.start();
+        });
+        window.setOnHidden(e -> {
+            refresh.stop();
+            if (running[0] != null) running[0].abort();
+        });
+        window.show();
+    }
+
+    /** Ask for an array size for a full-speed run; null if cancelled or invalid (reported in the log). */
+    private Integer askSize(String title, String initial) {
+        TextInputDialog dialog = new TextInputDialog(initial);
+        dialog.setTitle(title);
+        dialog.setHeaderText("Array size for the full-speed run (random ints):");
+        String input = dialog.showAndWait().orElse(null);
+        if (input == null) return null;
+        int n;
+        try {
+            n = Integer.parseInt(input.trim().replace(",", "").replace("_", ""));
+        } catch (NumberFormatException ex) {
+            appendProgress("❌ Not a number: " + input);
+            return null;
+        }
+        if (n < 1 || n > 50_000_000) { appendProgress("❌ Size must be between 1 and 50,000,000"); return null; }
+        return n;
+    }
+
+    private static int[] benchmarkInput(int n) {
+        Random rnd = new Random(42);
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = rnd.nextInt();
+        return data;
+    }
+
+    private static String quadratic(String label, SteppableSolver<?> solver, int n, int m) {
+        solver.setMuted(true);
+        long t0 = System.nanoTime();
+        while (!solver.isDone()) solver.step();
+        double ms = (System.nanoTime() - t0) / 1e6;
+        if (m == n) return String.format("%-22s %.1f ms%n", label, ms);
+        double scale = (double) n / m;
+        return String.format("%-22s %.1f ms at n=%d, ~%.1f s estimated at n=%d%n", label, ms, m, ms * scale * scale / 1000.0, n);
+    }
+
+    private void renderCode() {
+        if (parent == null || parent.codeArea == null) return;
+        String[] lines;
+        switch (engineChoice.getSelectionModel().getSelectedIndex()) {
+            case 0:
+                lines = new String[] {
+                        "// Bottom-up merge sort; only the left run is buffered",
+                        "for (int width = 1; width < n; width <<= 1)",
+                        "    for (int lo = 0; lo < n - width; lo += 2 * width) {",
+                        "        int mid = lo + width, hi = Math.min(mid + width, n);",
+                        "        if (a[mid] < a[mid - 1]) merge(a, aux, lo, mid, hi);",
+                        "    }",
+                        "",
+                        "static void merge(int[] a, int[] aux, int lo, int mid, int hi) {",
+                        "    System.arraycopy(a, lo, aux, lo, mid - lo);",
+                        "    int i = lo, j = mid, k = lo;",
+                        "    while (i < mid && j < hi) a[k++] = a[j] < aux[i] ? a[j++] : aux[i++];",
+                        "    while (i < mid) a[k++] = aux[i++];",
+                        "}"
+                };
+                break;
+            case 1:
+                lines = new String[] {
+                        "// Median-of-three quicksort with an explicit stack",
+                        "push(0, n - 1);",
+                        "while (!stackEmpty()) {",
+                        "    int hi = pop(), lo = pop();",
+                        "    if (hi - lo < 3) { sortSmall(a, lo, hi); continue; }",
+                        "    orderThree(a, lo, (lo + hi) >>> 1, hi);",
+                        "    swap(a, (lo + hi) >>> 1, hi - 1);",
+                        "    int pivot = a[hi - 1], i = lo, j = hi - 1;",
+                        "    while (true) {",
+                        "        while (a[++i] < pivot) { }",
+                        "        while (pivot < a[--j]) { }",
+                        "        if (i >= j) break;",
+                        "        swap(a, i, j);",
+                        "    }",
+                        "    swap(a, i, hi - 1);",
+                        "    pushLargerThenSmaller(lo, i - 1, i + 1, hi);",
+                        "}"
+                };
+                break;
+            case 2:
+                lines = new String[] {
+                        "for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, i, n);",
+                        "for (int end = n - 1; end > 0; end--) {",
+                        "    swap(a, 0, end);",
+                        "    siftDown(a, 0, end);",
+                        "}",
+                        "",
+                        "static void siftDown(int[] a, int i, int n) {",
+                        "    int v = a[i];",
+                        "    for (int c; (c = 2 * i + 1) < n; i = c) {",
+                        "        if (c + 1 < n && a[c] < a[c + 1]) c++;",
+                        "        if (!(v < a[c])) break;",
+                        "        a[i] = a[c];",
+                        "    }",
+                        "    a[i] = v;",
+                        "}"
+                };
+                break;
+            case 3:
+                lines = new String[] {
+                        "// Ciura gaps 1, 4, 10, 23, 57, 132, 301, 701, 1750, then x2.25",
+                        "for (int gap : gapsDescending(n))",
+                        "    for (int i = gap; i < n; i++) {",
+                        "        int v = a[i], j = i;",
+                        "        for (; j >= gap && v < a[j - gap]; j -= gap) a[j] = a[j - gap];",
+                        "        a[j] = v;",
+                        "    }"
+                };
+                break;
+            case 5:
+                lines = new String[] {
+                        "// Fork/join merge sort with a parallel merge",
+                        "void sort(int lo, int hi) {",
+                        "    if (hi - lo <= grain) { bottomUpMergeSort(a, lo, hi); return; }",
+                        "    int mid = (lo + hi) >>> 1;",
+                        "    invokeAll(() -> sort(lo, mid), () -> sort(mid, hi));",
+                        "    System.arraycopy(a, lo, aux, lo, hi - lo);",
+                        "    merge(lo, mid, mid, hi, lo);",
+                        "}",
+                        "",
+                        "void merge(int lo1, int hi1, int lo2, int hi2, int out) {",
+                        "    // run 1 is the longer one",
+                        "    if (total <= grain) { sequentialMerge(...); return; }",
+                        "    int m1 = (lo1 + hi1) >>> 1, m2 = lowerBound(aux, lo2, hi2, aux[m1]);",
+                        "    int at = out + (m1 - lo1) + (m2 - lo2);",
+                        "    a[at] = aux[m1];",
+                        "    invokeAll(() -> merge(lo1, m1, lo2, m2, out),",
+                        "              () -> merge(m1 + 1, hi1, m2, hi2, at + 1));",
+                        "}"
+                };
+                break;
+            case 6:
+                lines = new String[] {
+                        "// Fork/join quicksort",
+                        "void sort(int lo, int hi, int depth) {",
+                        "    if (hi - lo < grain || depth == 0) { quickSort(a, lo, hi); return; }",
+                        "    int p = partition(a, lo, hi);   // median of three",
+                        "    invokeAll(() -> sort(lo, p - 1, depth - 1), () -> sort(p + 1, hi, depth - 1));",
+                        "}"
+                };
+                break;
+            case 7:
+                lines = new String[] {
+                        "// Bitonic network; N = next power of two, indices >= n act as +infinity",
+                        "for (int k = 2; k <= N; k <<= 1)",
+                        "    for (int j = k >> 1; j > 0; j >>= 1)",
+                        "        // one layer: all comparators independent, split between workers",
+                        "        parallelFor(0, N, i -> {",
+                        "            int l = j == k >> 1 ? i ^ (k - 1) : i ^ j;",
+                        "            if (l > i && l < n && a[l] < a[i]) swap(a, i, l);",
+                        "        });"
+                };
+                break;
+            default:
+                lines = new String[] {
+                        "// LSD radix sort, 8-bit digits, sign bit flipped",
+                        "int[][] count = histograms(a);   // one read pass for all 4 digits",
+                        "for (int d = 0; d < 4; d++) {",
+                        "    if (allSameDigit(count[d], n)) continue;",
+                        "    prefixSums(count[d]);",
+                        "    for (int v : a) aux[count[d][digit(v ^ MIN_VALUE, d)]++] = v;",
+                        "    System.arraycopy(aux, 0, a, 0, n);",
+                        "}"
+                };
+        }
+        parent.codeArea.setText(String.join("\n", lines));
+    }
+
+    private void initProgressLog() {
+        if (parent == null || parent.progressArea == null) return;
+        parent.progressArea.clear();
+        appendProgress(solver.getName() + ": n = " + currentArray.length);
+        appendProgress("Starting...");
+        progressHistory.clear();
+        currentStepLogLines = 0;
+    }
+
+    private void appendProgress(String line) {
+        if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
+        parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
+        currentStepLogLines++;
+    }
+
+    private void removeLastLogLines(int count) {
+        if (parent == null || parent.progressArea == null || count <= 0) return;
+        String text = parent.progressArea.getText();
+        if (text == null || text.isEmpty()) return;
+        String[] lines = text.split("\n", -1);
+        // The log always ends with a newline, so the last element is empty
+        int newLen = Math.max(0, lines.length - 1 - count);
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx < newLen; idx++) sb.append(lines[idx]).append('\n');
+        parent.progressArea.setText(sb.toString());
+    }
+
+    private void updateVariablesPanel() {
+        if (parent == null || parent.variableList == null) return;
+        parent.variableList.getItems().setAll(
+                "engine: " + solver.getName()
+                        + (solver instanceof ParallelSortEngine ? " (" + ((ParallelSortEngine) solver).getParallelism() + " workers)" : ""),
+                "n: " + currentArray.length,
+                "operation: " + solver.getPosition() + (solver.getOperationCount() >= 0 ? " / " + solver.getOperationCount() : ""),
+                "compares: " + solver.getCompares(),
+                "reads: " + solver.getReads(),
+                "writes: " + solver.getWrites(),
+                "state: " + (solver.isDone() ? "DONE" : "RUNNING"),
+                history.describe()
+        );
+    }
+
+    private static int[] parseArray(String text) {
+        if (text == null || text.trim().isEmpty()) return new int[0];
+        String[] parts = text.split(",");
+        int[] arr = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) arr[i] = Integer.parseInt(parts[i].trim());
+            return arr;
+        } catch (NumberFormatException ex) { return null; }
+    }
+
+    private static String join(int[] arr) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < arr.length; i++) { if (i > 0) sb.append(", "); sb.append(arr[i]); }
+        return sb.toString();
+    }
+
+    private static int[] randomArray(SortInputs.Distribution d, int n) {
+        return SortInputs.generate(d, n, new Random().nextLong());
+    }
+}
@@ -1,8 +1,12 @@
 package com.algorithmvisualizer.ui;
 
 import com.algorithmvisualizer.algorithm.SudokuSolver;
+import com.algorithmvisualizer.metrics.Metrics;
+import com.algorithmvisualizer.metrics.Timer;
 import com.algorithmvisualizer.visualization.SudokuGridRenderer;
 import com.algorithmvisualizer.algorithm.SudokuGenerator;
+import com.algorithmvisualizer.history.CheckpointTimeline;
+import com.algorithmvisualizer.history.StepHistory;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -14,6 +18,10 @@ import java.util.*;
 
 public class SudokuController implements AlgorithmViewController.AlgorithmSpecificController {
 
+    private static final Timer STEP_TIMER = Metrics.timer("sudoku.step");
+    private static final Timer EVENT_TIMER = Metrics.timer("sudoku.onStepEvent");
+    private static final Timer LOG_TIMER = Metrics.timer("sudoku.appendProgress");
+
     private AlgorithmViewController parent;
 
     private SudokuGridRenderer gridView;
@@ -21,7 +29,8 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
     private Timeline timeline;
     private boolean isPlaying = false;
 
-    private final Deque<SudokuSolver.State> history = new ArrayDeque<>();
+    private StepHistory<SudokuSolver.State> history;
+    private CheckpointTimeline<SudokuSolver.State> steps;
     private final Deque<Integer> progressHistory = new ArrayDeque<>();
     private int currentStepLogLines = 0;
     private boolean countLogsForStep = false;
@@ -37,6 +46,8 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
 
         solver = new SudokuSolver(currentGrid);
         solver.setStepListener(this::onStepEvent);
+        history = StepHistory.forSolver(solver, SudokuSolver.State::estimateBytes);
+        steps = new CheckpointTimeline<>(solver);
     }
 
     @Override
@@ -127,6 +138,7 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
         renderCode();
         initProgressLog();
         updateVariablesPanel();
+        syncScrubber();
         if (parent.stepDescription != null) parent.stepDescription.setText("Ready.");
     }
 
@@ -157,10 +169,13 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
     private void refreshAll() {
         stopTimeline();
         solver.setGrid(currentGrid);
+        history.clear();
+        steps.reset();
         gridView.setGrid(currentGrid, fixedMask);
         renderCode();
         initProgressLog();
         updateVariablesPanel();
+        syncScrubber();
     }
 
     private void renderCode() {
@@ -247,14 +262,22 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
     public void onStepForward() {
         if (solver == null || solver.isDone()) return;
         history.push(solver.snapshot());
-        solver.step();
+        stepSolver();
+        steps.recordStep();
+        syncScrubber();
     }
 
     public void onStepBack() {
         if (isPlaying) onPause();
-        if (history.isEmpty()) return;
+        if (history.isEmpty()) {
+            // History was dropped by a seek; fall back to replaying from the nearest checkpoint
+            if (steps.getPosition() > 0) onSeek(steps.getPosition() - 1);
+            return;
+        }
         SudokuSolver.State s = history.pop();
         solver.restore(s);
+        steps.recordStepBack();
+        syncScrubber();
         gridView.setGrid(s.grid, s.fixed);
         // Remove logs of last step
         if (parent != null && parent.progressArea != null) {
@@ -278,12 +301,38 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
         currentStepLogLines = 0;
         countLogsForStep = false;
         solver.reset();
+        steps.reset();
         gridView.setGrid(solver.getGrid(), solver.getFixedMask());
         initProgressLog();
         updateVariablesPanel();
+        syncScrubber();
         if (parent != null) parent.stepDescription.setText("Ready.");
     }
 
+    @Override
+    public boolean supportsSeek() { return true; }
+
+    @Override
+    public void onSeek(long step) {
+        stopTimeline();
+        long reached = steps.seek(step);
+        // Snapshots taken before the jump no longer line up with the solver state
+        history.clear();
+        progressHistory.clear();
+        currentStepLogLines = 0;
+        countLogsForStep = false;
+        gridView.setGrid(solver.getGrid(), solver.getFixedMask());
+        gridView.clearHighlights();
+        appendProgress("⏩ Jumped to step " + reached);
+        updateVariablesPanel();
+        syncScrubber();
+        if (parent != null) parent.stepDescription.setText("Jumped to step " + reached + (solver.isDone() ? " (solved)" : ""));
+    }
+
+    private void syncScrubber() {
+        if (parent != null) parent.updateScrubber(steps.getPosition(), steps.getFurthest());
+    }
+
     private void stopTimeline() {
         if (timeline != null) { timeline.stop(); timeline = null; }
         isPlaying = false;
@@ -304,12 +353,26 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
         timeline = new Timeline(new KeyFrame(frame, e -> {
             if (solver.isDone()) { stopTimeline(); return; }
             history.push(solver.snapshot());
-            solver.step();
+            stepSolver();
+            steps.recordStep();
+            syncScrubber();
         }));
         timeline.setCycleCount(Animation.INDEFINITE);
     }
 
+    private void stepSolver() {
+        long t = STEP_TIMER.start();
+        solver.step();
+        STEP_TIMER.stop(t);
+    }
+
     private void onStepEvent(SudokuSolver.StepType type, int r, int c, int val) {
+        long t = EVENT_TIMER.start();
+        handleStepEvent(type, r, c, val);
+        EVENT_TIMER.stop(t);
+    }
+
+    private void handleStepEvent(SudokuSolver.StepType type, int r, int c, int val) {
         // group logs for step-back removal
         countLogsForStep = true;
         currentStepLogLines = 0;
@@ -359,7 +422,9 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
 
     private void appendProgress(String line) {
         if (parent == null || parent.progressArea == null) return;
+        long t = LOG_TIMER.start();
         parent.progressArea.appendText(line + "\n");
+        LOG_TIMER.stop(t);
         if (countLogsForStep) currentStepLogLines++;
     }
 
@@ -378,12 +443,11 @@ public class SudokuController implements AlgorithmViewController.AlgorithmSpecif
     private void updateVariablesPanel() {
         if (parent == null || parent.variableList == null) return;
         parent.variableList.getItems().clear();
-        int filled = 0;
-        int[][] g = solver.getGrid();
-        for (int i=0;i<9;i++) for (int j=0;j<9;j++) if (g[i][j] != 0) filled++;
+        int filled = solver.getFilledCount();
         parent.variableList.getItems().addAll(
                 "filled: " + filled + "/81",
-                "done: " + solver.isDone()
+                "done: " + solver.isDone(),
+                history.describe()
         );
     }
 
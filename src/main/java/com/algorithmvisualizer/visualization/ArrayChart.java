@@ -0,0 +1,34 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.IntArrayView;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+
+/**
+ * Operations the sorting views use on a value chart, shared by the node-based
+ * {@link BarChartRenderer} and the pixel-buffer {@link PixelBarChartRenderer}.
+ */
+public interface ArrayChart {
+
+    /** Show new data, resetting all highlights. */
+    void setData(int[] data);
+
+    /** Refresh only the given indices from a live view, resetting their highlight. */
+    void updateIndices(IntArrayView data, int... indices);
+
+    void clearHighlights();
+
+    void highlightCompare(int i, int j);
+
+    void highlightSwap(int i, int j);
+
+    void setIndexColor(int idx, Color color);
+
+    /** Colour idx by the worker lane that last touched it. */
+    void highlightLane(int idx, int worker);
+
+    /** Mark all elements from {@code fromIndex} to the end as sorted. */
+    void markSortedSuffix(int fromIndex);
+
+    Node getNode();
+}
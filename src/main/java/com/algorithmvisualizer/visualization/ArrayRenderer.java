@@ -1,17 +1,28 @@
 package com.algorithmvisualizer.visualization;
 
+import com.algorithmvisualizer.algorithm.IntArrayView;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
 
 /**
  * Renders an array as boxes with index and value.
+ *
+ * Cells are pooled and updated in place; see {@link #updateIndices} for swaps.
  */
 public class ArrayRenderer {
 
+    private static final String DEFAULT_STYLE = "-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;";
+
     private final FlowPane container;
+    private VBox[] pool = new VBox[0];
+    private Label[] labelPool = new Label[0];
     private VBox[] cells;
+    private Label[] values;
     private int[] data;
 
     private int previousMinIndex = -1;
@@ -22,18 +33,36 @@ public class ArrayRenderer {
         container.setPrefWrapLength(400.0); // Set preferred wrap length
     }
 
+    /** Show new data, resetting all highlights. */
     public void setData(int[] data) {
-        this.data = data == null ? new int[0] : data.clone();
-        rebuild();
+        int[] next = data == null ? new int[0] : data.clone();
+        boolean sizeChanged = this.data == null || this.data.length != next.length;
+        this.data = next;
+        previousMinIndex = -1;
+        if (sizeChanged) attach(next.length);
+        for (int i = 0; i < next.length; i++) refresh(i);
     }
 
     public void updateData(int[] data) { setData(data); }
 
+    /** Refresh only the given indices from a live {@code data} view, resetting their highlight. */
+    public void updateIndices(IntArrayView data, int... indices) {
+        if (this.data == null || data == null || data.length() != this.data.length) {
+            setData(toArray(data));
+            return;
+        }
+        for (int k : indices) {
+            if (!valid(k)) continue;
+            this.data[k] = data.get(k);
+            refresh(k);
+        }
+    }
+
     public void clearHighlights() {
         if (cells == null) return;
         for (int i = 0; i < cells.length; i++) {
             if (!cells[i].getStyle().contains("FORESTGREEN")) {
-                cells[i].setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
+                cells[i].setStyle(DEFAULT_STYLE);
             }
         }
     }
@@ -50,7 +79,7 @@ public class ArrayRenderer {
     public void highlightMin(int minIndex) {
         if (valid(previousMinIndex) && previousMinIndex != minIndex) {
             if (!cells[previousMinIndex].getStyle().contains("FORESTGREEN")) {
-                cells[previousMinIndex].setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
+                cells[previousMinIndex].setStyle(DEFAULT_STYLE);
             }
         }
         if (!valid(minIndex)) return;
@@ -111,6 +140,13 @@ public class ArrayRenderer {
         }
     }
 
+    /** Colour cell idx by parallel worker lane, as {@link BarChartRenderer#laneColor}. */
+    public void highlightLane(int idx, int worker) {
+        Color c = BarChartRenderer.laneColor(worker);
+        setIndexColor(idx, String.format("#%02x%02x%02x",
+                Math.round(c.getRed() * 255), Math.round(c.getGreen() * 255), Math.round(c.getBlue() * 255)));
+    }
+
     public void setIndexColor(int idx, String cssColorName) {
         if (!valid(idx)) return;
         cells[idx].setStyle("-fx-background-color: " + cssColorName + "; -fx-border-color: #333; -fx-padding: 6;");
@@ -126,22 +162,38 @@ public class ArrayRenderer {
         }
     }
 
-    private void rebuild() {
-        container.getChildren().clear();
-        if (data == null) return;
-        int n = data.length;
-        cells = new VBox[n];
-        previousMinIndex = -1;
-        for (int i = 0; i < n; i++) {
-            VBox cell = new VBox(4.0);
-            cell.setAlignment(Pos.CENTER);
-            cell.setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
-            Label value = new Label(String.valueOf(data[i]));
-            value.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px;");
-            cell.getChildren().addAll(value);
-            cells[i] = cell;
-            container.getChildren().add(cell);
+    // Size the pools to n and put exactly n cells in the container
+    private void attach(int n) {
+        if (pool.length < n) {
+            int old = pool.length;
+            pool = Arrays.copyOf(pool, n);
+            labelPool = Arrays.copyOf(labelPool, n);
+            for (int i = old; i < n; i++) {
+                VBox cell = new VBox(4.0);
+                cell.setAlignment(Pos.CENTER);
+                Label value = new Label();
+                value.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px;");
+                cell.getChildren().add(value);
+                pool[i] = cell;
+                labelPool[i] = value;
+            }
         }
+        cells = Arrays.copyOf(pool, n);
+        values = Arrays.copyOf(labelPool, n);
+        container.getChildren().setAll(cells);
+    }
+
+    private void refresh(int i) {
+        String text = String.valueOf(data[i]);
+        if (!text.equals(values[i].getText())) values[i].setText(text);
+        if (!DEFAULT_STYLE.equals(cells[i].getStyle())) cells[i].setStyle(DEFAULT_STYLE);
+    }
+
+    private static int[] toArray(IntArrayView view) {
+        if (view == null) return null;
+        int[] out = new int[view.length()];
+        for (int i = 0; i < out.length; i++) out[i] = view.get(i);
+        return out;
     }
 
     private boolean valid(int idx) { return cells != null && idx >= 0 && idx < cells.length; }
@@ -1,69 +1,102 @@
 package com.algorithmvisualizer.visualization;
 
-import javafx.scene.layout.GridPane;
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Renders a matrix showing tried cells and backtracking steps.
+ *
+ * Cell states are a byte grid and the board is drawn on one Canvas no larger
+ * than a VIEW_CELLS x VIEW_CELLS window, with scroll bars for bigger boards.
+ * A state change repaints only that cell, and only if it is in view.
  */
 public class BacktrackMatrixRenderer {
 
     public enum CellState { UNVISITED, CHECKED, PLACED, BACKTRACKED }
 
-    private final int boardSize;
-    private final GridPane grid;
-    private final Rectangle[][] cells;
-    private final CellState[][] state;
-
+    private static final CellState[] STATES = CellState.values();
+    private static final Color[] FILL = { Color.WHITE, Color.LIGHTBLUE, Color.LIGHTGREEN, Color.PINK };
     private static final int CELL_SIZE = 22;
+    private static final int VIEW_CELLS = 20;
 
-    public BacktrackMatrixRenderer(int boardSize) {
-        this.boardSize = boardSize;
-        this.grid = new GridPane();
-        this.cells = new Rectangle[boardSize][boardSize];
-        this.state = new CellState[boardSize][boardSize];
-        init();
-    }
+    private final int boardSize;
+    private final byte[] state;
+    private final int view;
+    private final Canvas canvas;
+    private final BorderPane container = new BorderPane();
+    private final ScrollBar hBar = new ScrollBar(), vBar = new ScrollBar();
+    private int firstRow = 0, firstCol = 0;
 
-    private void init() {
-        for (int r = 0; r < boardSize; r++) {
-            for (int c = 0; c < boardSize; c++) {
-                Rectangle rect = new Rectangle(CELL_SIZE, CELL_SIZE);
-                rect.setStroke(Color.GRAY);
-                rect.setFill(Color.WHITE);
-                cells[r][c] = rect;
-                state[r][c] = CellState.UNVISITED;
-                grid.add(rect, c, r);
+    public BacktrackMatrixRenderer(int boardSize) {
+        this.boardSize = Math.max(0, boardSize);
+        this.state = new byte[this.boardSize * this.boardSize];
+        this.view = Math.min(this.boardSize, VIEW_CELLS);
+        this.canvas = new Canvas(view * CELL_SIZE + 1, view * CELL_SIZE + 1);
+        container.setCenter(canvas);
+        if (this.boardSize > view) {
+            vBar.setOrientation(Orientation.VERTICAL);
+            for (ScrollBar bar : new ScrollBar[]{hBar, vBar}) {
+                bar.setMin(0);
+                bar.setMax(this.boardSize - view);
+                bar.setVisibleAmount(view);
             }
+            hBar.valueProperty().addListener((obs, o, v) -> scrollTo(firstRow, (int) Math.round(v.doubleValue())));
+            vBar.valueProperty().addListener((obs, o, v) -> scrollTo((int) Math.round(v.doubleValue()), firstCol));
+            container.setRight(vBar);
+            container.setBottom(hBar);
         }
+        redraw();
     }
 
     public void markChecked(int row, int col) { setState(row, col, CellState.CHECKED); }
     public void markPlaced(int row, int col) { setState(row, col, CellState.PLACED); }
     public void markBacktracked(int row, int col) { setState(row, col, CellState.BACKTRACKED); }
 
+    public CellState getState(int row, int col) { return STATES[state[row * boardSize + col]]; }
+
     public void clear() {
-        for (int r = 0; r < boardSize; r++) {
-            for (int c = 0; c < boardSize; c++) {
-                state[r][c] = CellState.UNVISITED;
-                cells[r][c].setFill(Color.WHITE);
-            }
-        }
+        java.util.Arrays.fill(state, (byte) 0);
+        redraw();
     }
 
     private void setState(int row, int col, CellState newState) {
         if (row < 0 || col < 0 || row >= boardSize || col >= boardSize) return;
-        state[row][col] = newState;
-        switch (newState) {
-            case UNVISITED: cells[row][col].setFill(Color.WHITE); break;
-            case CHECKED: cells[row][col].setFill(Color.LIGHTBLUE); break;
-            case PLACED: cells[row][col].setFill(Color.LIGHTGREEN); break;
-            case BACKTRACKED: cells[row][col].setFill(Color.PINK); break;
+        int k = row * boardSize + col;
+        if (state[k] == newState.ordinal()) return;
+        state[k] = (byte) newState.ordinal();
+        if (row >= firstRow && row < firstRow + view && col >= firstCol && col < firstCol + view) {
+            drawCell(canvas.getGraphicsContext2D(), row, col);
         }
     }
 
-    public GridPane getGrid() { return grid; }
-}
+    private void scrollTo(int row, int col) {
+        if (row == firstRow && col == firstCol) return;
+        firstRow = row;
+        firstCol = col;
+        redraw();
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int r = firstRow; r < firstRow + view; r++) {
+            for (int c = firstCol; c < firstCol + view; c++) drawCell(gc, r, c);
+        }
+    }
 
+    private void drawCell(GraphicsContext gc, int row, int col) {
+        double x = (col - firstCol) * CELL_SIZE + 0.5, y = (row - firstRow) * CELL_SIZE + 0.5;
+        gc.setFill(FILL[state[row * boardSize + col]]);
+        gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+        gc.setStroke(Color.GRAY);
+        gc.setLineWidth(1.0);
+        gc.strokeRect(x, y, CELL_SIZE, CELL_SIZE);
+    }
 
+    public Region getNode() { return container; }
+}
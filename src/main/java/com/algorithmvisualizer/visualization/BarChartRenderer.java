@@ -1,5 +1,6 @@
 package com.algorithmvisualizer.visualization;
 
+import com.algorithmvisualizer.algorithm.IntArrayView;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -8,21 +9,38 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Line;
 
+import java.util.Arrays;
+
 /**
  * Lightweight bar chart for visualizing array values, including negative values.
+ *
+ * Bars, labels and the axis are pooled: new data updates the existing nodes in
+ * place and nodes are only created when the array grows. Swaps go through
+ * {@link #updateIndices} so that only the touched bars change.
  */
-public class BarChartRenderer {
+public class BarChartRenderer implements ArrayChart {
 
     private static final double MIN_BAR_WIDTH = 6.0;
     private static final double MAX_BAR_WIDTH = 30.0;
     private static final double PADDING = 20.0;
+    private static final Color[] LANE_COLORS = {
+            Color.ROYALBLUE, Color.DARKORANGE, Color.MEDIUMSEAGREEN, Color.ORCHID,
+            Color.GOLDENROD, Color.TOMATO, Color.TEAL, Color.SLATEBLUE};
 
     private final Pane container;
+    private final Line axis = new Line();
+    private Rectangle[] pool = new Rectangle[0];
+    private Label[] labelPool = new Label[0];
     private Rectangle[] bars;
     private Label[] valueLabels;
     private int[] data;
     private int previousMinIndex = -1;
 
+    // Geometry of the last layout pass
+    private double laidOutWidth = -1, laidOutHeight = -1;
+    private double barWidth, spacing, axisY, maxBarHeight;
+    private int maxAbs = 1;
+
     public BarChartRenderer() {
         container = new Pane();
         // Make container expand to fill available space
@@ -33,23 +51,51 @@ public class BarChartRenderer {
         container.setPrefWidth(600.0);
         container.setMaxWidth(Double.MAX_VALUE);
         
-        // Add listener to rebuild when container size changes
+        axis.setStroke(Color.BLACK);
+        axis.setStrokeWidth(2.0);
+
+        // Re-layout the existing nodes when the container size changes
         container.layoutBoundsProperty().addListener((obs, oldBounds, newBounds) -> {
             if (newBounds.getWidth() > 0 && newBounds.getHeight() > 0) {
-                rebuild();
+                layout(false);
             }
         });
     }
 
+    /** Show new data, resetting all highlights. */
     public void setData(int[] data) {
-        this.data = data == null ? new int[0] : data.clone();
-        rebuild();
+        int[] next = data == null ? new int[0] : data.clone();
+        boolean sizeChanged = this.data == null || this.data.length != next.length;
+        this.data = next;
+        previousMinIndex = -1;
+        if (sizeChanged) attach(next.length);
+        layout(true); // values changed even when length and scale did not
+        for (Rectangle r : bars) resetColor(r);
     }
 
     public void updateData(int[] data) {
         setData(data);
     }
 
+    /**
+     * Refresh only the given indices from a live {@code data} view (e.g. the two sides of a
+     * swap), resetting their highlight. Falls back to a full update when the
+     * array length or the value scale changed.
+     */
+    public void updateIndices(IntArrayView data, int... indices) {
+        if (this.data == null || data == null || data.length() != this.data.length) {
+            setData(toArray(data));
+            return;
+        }
+        for (int k : indices) if (k >= 0 && k < this.data.length) this.data[k] = data.get(k);
+        if (scaleOf(this.data) != maxAbs) {
+            layout(true);
+        } else {
+            for (int k : indices) if (valid(k)) place(k);
+        }
+        for (int k : indices) if (valid(k)) resetColor(bars[k]);
+    }
+
     public void clearHighlights() {
         if (bars == null) return;
         for (Rectangle r : bars) {
@@ -153,73 +199,128 @@ public class BarChartRenderer {
         }
     }
 
-    private void rebuild() {
-        container.getChildren().clear();
-        if (data == null || data.length == 0) return;
-        
+    /** Colour of parallel worker {@code worker}; the palette repeats after eight workers. */
+    public static Color laneColor(int worker) { return LANE_COLORS[Math.floorMod(worker, LANE_COLORS.length)]; }
+
+    /** Colour bar idx by the worker lane that last touched it. */
+    public void highlightLane(int idx, int worker) {
+        if (!valid(idx)) return;
+        bars[idx].setFill(laneColor(worker));
+    }
+
+    // Size the pools to n and put exactly n bars/labels (plus the axis) in the container
+    private void attach(int n) {
+        if (pool.length < n) {
+            int old = pool.length;
+            pool = Arrays.copyOf(pool, n);
+            labelPool = Arrays.copyOf(labelPool, n);
+            for (int i = old; i < n; i++) {
+                Rectangle r = new Rectangle();
+                r.setStroke(Color.BLACK);
+                pool[i] = r;
+                Label lbl = new Label();
+                lbl.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 12px;");
+                lbl.setAlignment(Pos.CENTER);
+                labelPool[i] = lbl;
+            }
+        }
+        bars = Arrays.copyOf(pool, n);
+        valueLabels = Arrays.copyOf(labelPool, n);
+        if (n == 0) {
+            container.getChildren().clear();
+            return;
+        }
+        Node[] children = new Node[1 + 2 * n];
+        children[0] = axis;
+        for (int i = 0; i < n; i++) {
+            children[1 + 2 * i] = bars[i];
+            children[2 + 2 * i] = valueLabels[i];
+        }
+        container.getChildren().setAll(children);
+    }
+
+    // Recompute the shared geometry; bars are re-placed only if it changed or force is set
+    private void layout(boolean force) {
+        if (data == null || bars == null) return;
+
         // Get current container dimensions
         double containerWidth = container.getWidth();
         double containerHeight = container.getHeight();
-        
+
         // Use minimum dimensions if container hasn't been sized yet
         if (containerWidth <= 0) containerWidth = 600.0;
         if (containerHeight <= 0) containerHeight = 400.0;
-        
+
+        int scale = scaleOf(data);
+        if (!force && containerWidth == laidOutWidth && containerHeight == laidOutHeight && scale == maxAbs) return;
+        laidOutWidth = containerWidth;
+        laidOutHeight = containerHeight;
+        maxAbs = scale;
+
         int n = data.length;
-        bars = new Rectangle[n];
-        valueLabels = new Label[n];
-        previousMinIndex = -1;
 
         // Calculate available space for bars
         double chartWidth = containerWidth - 2 * PADDING;
         double chartHeight = containerHeight - 2 * PADDING;
-        double axisYPosition = containerHeight / 2;
-        double maxBarHeight = chartHeight / 2 - 10; // Leave some margin
-
-        // Find maximum absolute value for scaling
-        int maxAbs = 1;
-        for (int v : data) maxAbs = Math.max(maxAbs, Math.abs(v));
+        axisY = containerHeight / 2;
+        maxBarHeight = chartHeight / 2 - 10; // Leave some margin
 
         // Calculate bar width and spacing
-        double barWidth = Math.max(MIN_BAR_WIDTH, Math.min(MAX_BAR_WIDTH, chartWidth / Math.max(1, n)));
-        double spacing = (chartWidth - n * barWidth) / (n + 1);
+        barWidth = Math.max(MIN_BAR_WIDTH, Math.min(MAX_BAR_WIDTH, chartWidth / Math.max(1, n)));
+        spacing = (chartWidth - n * barWidth) / (n + 1);
 
-        // Draw horizontal axis
-        Line axis = new Line(PADDING, axisYPosition, PADDING + chartWidth, axisYPosition);
-        axis.setStroke(Color.BLACK);
-        axis.setStrokeWidth(2.0);
-        container.getChildren().add(axis);
+        axis.setStartX(PADDING);
+        axis.setStartY(axisY);
+        axis.setEndX(PADDING + chartWidth);
+        axis.setEndY(axisY);
 
-        // Create bars and labels
-        for (int i = 0; i < n; i++) {
-            double h = (Math.abs(data[i]) / (double) maxAbs) * maxBarHeight;
-            Rectangle r = new Rectangle(barWidth, Math.max(2.0, h));
-            r.setFill(Color.STEELBLUE);
-            r.setStroke(Color.BLACK);
-            bars[i] = r;
-
-            Label lbl = new Label(String.valueOf(data[i]));
-            lbl.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 12px;");
-            lbl.setPrefWidth(barWidth);
-            lbl.setAlignment(Pos.CENTER);
-            valueLabels[i] = lbl;
-
-            // Calculate x position
-            double x = PADDING + spacing + i * (barWidth + spacing);
-            r.setX(x);
-            lbl.setLayoutX(x);
-
-            // Position bars relative to axis (vertically centered)
-            if (data[i] >= 0) {
-                r.setY(axisYPosition - h);
-                lbl.setLayoutY(axisYPosition + 5);
-            } else {
-                r.setY(axisYPosition);
-                lbl.setLayoutY(axisYPosition - 15);
-            }
-            container.getChildren().addAll(r, lbl);
+        for (int i = 0; i < n; i++) place(i);
+    }
+
+    // Size and position bar i and its label from data[i] and the current geometry
+    private void place(int i) {
+        int v = data[i];
+        double h = (Math.abs(v) / (double) maxAbs) * maxBarHeight;
+        double x = PADDING + spacing + i * (barWidth + spacing);
+        Rectangle r = bars[i];
+        r.setWidth(barWidth);
+        r.setHeight(Math.max(2.0, h));
+        r.setX(x);
+
+        Label lbl = valueLabels[i];
+        String text = String.valueOf(v);
+        if (!text.equals(lbl.getText())) lbl.setText(text);
+        lbl.setPrefWidth(barWidth);
+        lbl.setLayoutX(x);
+
+        // Position bars relative to axis (vertically centered)
+        if (v >= 0) {
+            r.setY(axisY - h);
+            lbl.setLayoutY(axisY + 5);
+        } else {
+            r.setY(axisY);
+            lbl.setLayoutY(axisY - 15);
         }
     }
 
+    private static void resetColor(Rectangle r) {
+        r.setFill(Color.STEELBLUE);
+        r.setStroke(Color.BLACK);
+    }
+
+    // Maximum absolute value, used for scaling
+    private static int scaleOf(int[] data) {
+        int m = 1;
+        for (int v : data) m = Math.max(m, Math.abs(v));
+        return m;
+    }
+
+    private static int[] toArray(IntArrayView view) {
+        if (view == null) return null;
+        int[] out = new int[view.length()];
+        for (int i = 0; i < out.length; i++) out[i] = view.get(i);
+        return out;
+    }
+
     private boolean valid(int idx) { return bars != null && idx >= 0 && idx < bars.length; }
 }
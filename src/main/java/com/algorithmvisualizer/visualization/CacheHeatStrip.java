@@ -0,0 +1,66 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.CacheSimulator;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/**
+ * One strip per level of a {@link CacheSimulator}, laid over the traced array
+ * left to right: each bucket shades from white to red with its share of the
+ * level's misses. The hit rate is printed at the end of each strip.
+ */
+public class CacheHeatStrip {
+
+    private static final double LABEL_WIDTH = 50.0;
+    private static final double RATE_WIDTH = 90.0;
+    private static final double ROW_HEIGHT = 26.0;
+
+    private final Pane container = new Pane();
+    private final Canvas canvas = new Canvas(720, 3 * ROW_HEIGHT + 10);
+    private CacheSimulator sim;
+
+    public CacheHeatStrip() {
+        container.setPrefSize(720, 3 * ROW_HEIGHT + 10);
+        container.getChildren().add(canvas);
+        canvas.widthProperty().bind(container.widthProperty());
+        canvas.heightProperty().bind(container.heightProperty());
+        canvas.widthProperty().addListener((obs, o, n) -> draw());
+    }
+
+    public Node getNode() { return container; }
+
+    /** Show {@code sim}'s current counters; call again to refresh while it runs. */
+    public void show(CacheSimulator sim) {
+        this.sim = sim;
+        container.setPrefHeight(sim.levelCount() * ROW_HEIGHT + 10);
+        draw();
+    }
+
+    private void draw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, w, canvas.getHeight());
+        if (sim == null) return;
+        double stripWidth = Math.max(10.0, w - LABEL_WIDTH - RATE_WIDTH);
+        for (int l = 0; l < sim.levelCount(); l++) {
+            double y = 5.0 + l * ROW_HEIGHT;
+            int[] heat = sim.heat(l);
+            int max = 1;
+            for (int h : heat) max = Math.max(max, h);
+            double cell = stripWidth / heat.length;
+            for (int b = 0; b < heat.length; b++) {
+                g.setFill(Color.WHITE.interpolate(Color.RED, (double) heat[b] / max));
+                g.fillRect(LABEL_WIDTH + b * cell, y, Math.ceil(cell), ROW_HEIGHT - 6.0);
+            }
+            g.setStroke(Color.GRAY);
+            g.strokeRect(LABEL_WIDTH, y, stripWidth, ROW_HEIGHT - 6.0);
+            g.setFill(Color.BLACK);
+            g.fillText(sim.level(l).name, 5.0, y + ROW_HEIGHT * 0.55);
+            g.fillText(String.format("%.2f%% hits", 100.0 * sim.hitRate(l)), LABEL_WIDTH + stripWidth + 8.0, y + ROW_HEIGHT * 0.55);
+        }
+    }
+}
@@ -114,6 +114,20 @@ public class ChessboardRenderer {
         }
     }
     
+    /**
+     * Show a full placement, queenColumnByRow[row] = column, with the squares
+     * of the queens flagged in conflicted[row] in the conflict colour.
+     */
+    public void showQueens(int[] queenColumnByRow, boolean[] conflicted) {
+        clearBoard();
+        for (int row = 0; row < boardSize && row < queenColumnByRow.length; row++) {
+            int col = queenColumnByRow[row];
+            if (!isValidPosition(row, col)) continue;
+            queens[row][col].setVisible(true);
+            if (conflicted[row]) squares[row][col].setFill(CONFLICT_COLOR);
+        }
+    }
+
     public void highlightCurrentPosition(int row, int col) {
         // Reset all squares to original colors first
         clearConflicts();
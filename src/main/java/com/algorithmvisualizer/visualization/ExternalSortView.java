@@ -0,0 +1,128 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.ExternalSortStats;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/**
+ * Picture of an external merge sort: one row per pass, the runs of that pass
+ * laid out over the input in proportion to their length. A run is outlined
+ * while planned and filled once it has been written. The I/O totals and
+ * throughput are printed underneath.
+ */
+public class ExternalSortView {
+
+    private static final double LABEL_WIDTH = 70.0;
+    private static final double ROW_HEIGHT = 28.0;
+    private static final Color PLANNED = Color.LIGHTGRAY;
+    private static final Color CREATED = Color.STEELBLUE;
+    private static final Color MERGED = Color.MEDIUMSEAGREEN;
+
+    private final Pane container = new Pane();
+    private final Canvas canvas = new Canvas(720, 300);
+
+    private long elements;
+    private long[][] offsets = new long[0][];
+    private long[][] lengths = new long[0][];
+    private boolean[][] written = new boolean[0][];
+    private int activePass = -1;
+    private long bytesRead, bytesWritten;
+    private long startNanos;
+    private String status = "";
+
+    public ExternalSortView() {
+        container.setPrefSize(720, 300);
+        container.getChildren().add(canvas);
+        canvas.widthProperty().bind(container.widthProperty());
+        canvas.heightProperty().bind(container.heightProperty());
+        canvas.widthProperty().addListener((obs, o, n) -> draw());
+        canvas.heightProperty().addListener((obs, o, n) -> draw());
+    }
+
+    public Node getNode() { return container; }
+
+    /** Plan the passes for {@code elements} ints in runs of {@code runElements}, merged {@code fanIn} at a time. */
+    public void start(long elements, int runElements, int fanIn) {
+        this.elements = elements;
+        int runs = (int) ((elements + runElements - 1) / runElements);
+        int passes = 1;
+        for (int c = runs; c > 1; c = (c + fanIn - 1) / fanIn) passes++;
+        offsets = new long[passes][];
+        lengths = new long[passes][];
+        written = new boolean[passes][];
+        offsets[0] = new long[runs];
+        lengths[0] = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            offsets[0][i] = (long) i * runElements;
+            lengths[0][i] = Math.min(runElements, elements - offsets[0][i]);
+        }
+        for (int p = 1; p < passes; p++) {
+            int prev = offsets[p - 1].length, count = (prev + fanIn - 1) / fanIn;
+            offsets[p] = new long[count];
+            lengths[p] = new long[count];
+            for (int g = 0; g < count; g++) {
+                offsets[p][g] = offsets[p - 1][g * fanIn];
+                for (int i = g * fanIn; i < Math.min(prev, (g + 1) * fanIn); i++) lengths[p][g] += lengths[p - 1][i];
+            }
+        }
+        for (int p = 0; p < passes; p++) written[p] = new boolean[offsets[p].length];
+        activePass = 0;
+        bytesRead = bytesWritten = 0;
+        startNanos = System.nanoTime();
+        status = "Creating runs ...";
+        draw();
+    }
+
+    public void runWritten(int pass, int run) {
+        if (pass < written.length && run < written[pass].length) written[pass][run] = true;
+        draw();
+    }
+
+    public void passStarted(int pass) {
+        activePass = pass;
+        status = "Merge pass " + pass + " ...";
+        draw();
+    }
+
+    public void io(long bytesRead, long bytesWritten) {
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        draw();
+    }
+
+    public void done(ExternalSortStats stats) {
+        activePass = -1;
+        bytesRead = stats.bytesRead;
+        bytesWritten = stats.bytesWritten;
+        status = "Done: " + stats;
+        draw();
+    }
+
+    private void draw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        double barWidth = Math.max(10.0, w - LABEL_WIDTH - 10.0);
+        for (int p = 0; p < offsets.length; p++) {
+            double y = 10.0 + p * ROW_HEIGHT;
+            g.setFill(p == activePass ? Color.DARKORANGE : Color.BLACK);
+            g.fillText(p == 0 ? "Runs" : "Pass " + p, 5.0, y + ROW_HEIGHT * 0.55);
+            for (int i = 0; i < offsets[p].length; i++) {
+                double x0 = LABEL_WIDTH + barWidth * offsets[p][i] / Math.max(1, elements);
+                double x1 = LABEL_WIDTH + barWidth * (offsets[p][i] + lengths[p][i]) / Math.max(1, elements);
+                g.setFill(written[p][i] ? (p == 0 ? CREATED : MERGED) : PLANNED);
+                g.fillRect(x0, y, Math.max(1.0, x1 - x0 - 1.0), ROW_HEIGHT - 6.0);
+            }
+        }
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        double y = 20.0 + offsets.length * ROW_HEIGHT;
+        g.setFill(Color.BLACK);
+        g.fillText(String.format("Read %.1f MB, written %.1f MB, %.1f MB/s",
+                bytesRead / 1e6, bytesWritten / 1e6, (bytesRead + bytesWritten) / 1e6 / seconds), 5.0, y);
+        g.fillText(status, 5.0, y + 18.0);
+    }
+}
@@ -0,0 +1,274 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.CsrGraph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Fruchterman-Reingold force-directed layout with Barnes-Hut approximated
+ * repulsion, computed in the background so it converges while the graph is
+ * already on screen.
+ *
+ * Each iteration builds a quadtree over the current positions, then computes
+ * the forces on all nodes in parallel on a shared worker pool; nodes only write
+ * their own displacement, so no locking is needed. After every iteration a fresh
+ * position array is published for the renderer to pick up. Converged layouts
+ * are cached by graph content, so showing the same graph again is immediate.
+ */
+public final class ForceLayout {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService DRIVER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "graph-layout");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final int CACHE_SIZE = 8;
+    private static final Map<Long, double[]> CACHE = new LinkedHashMap<Long, double[]>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Long, double[]> e) { return size() > CACHE_SIZE; }
+    };
+
+    private static final int MAX_ITERATIONS = 300;
+    private static final double THETA = 0.8;
+    private static final double COOLING = 0.97;
+    private static final double GRAVITY = 0.02;
+    private static final int PARALLEL_MIN_NODES = 512;
+
+    private final CsrGraph graph;
+    private final int n;
+    private final long cacheKey;
+    private final double[] x, y, fx, fy;
+    private volatile double[] published; // x0, y0, x1, y1, ...
+    private volatile boolean converged;
+    private volatile boolean stopped;
+    private final QuadTree tree;
+
+    public ForceLayout(CsrGraph graph) {
+        this.graph = graph;
+        this.n = graph.nodeCount();
+        this.cacheKey = graph.contentHash();
+        x = new double[n];
+        y = new double[n];
+        fx = new double[n];
+        fy = new double[n];
+        tree = new QuadTree(n);
+        double[] cached;
+        synchronized (CACHE) { cached = CACHE.get(cacheKey); }
+        if (cached != null && cached.length == 2 * n) {
+            published = cached;
+            converged = true;
+            return;
+        }
+        // Sunflower spiral: deterministic, evenly spread start with unit spacing
+        double golden = Math.PI * (3 - Math.sqrt(5));
+        for (int i = 0; i < n; i++) {
+            double r = Math.sqrt(i + 0.5);
+            x[i] = r * Math.cos(i * golden);
+            y[i] = r * Math.sin(i * golden);
+        }
+        publish();
+    }
+
+    /** Run iterations on the background driver until converged or {@link #stop()}. */
+    public void start() {
+        if (converged || n == 0) return;
+        DRIVER.submit(this::run);
+    }
+
+    public void stop() { stopped = true; }
+
+    public boolean isConverged() { return converged; }
+
+    /** Latest positions as interleaved x/y pairs; a new array is published per iteration. */
+    public double[] positions() { return published; }
+
+    private void run() {
+        double temperature = Math.max(1.0, Math.sqrt(n)) / 10.0;
+        for (int it = 0; it < MAX_ITERATIONS && !stopped; it++) {
+            iterate(temperature);
+            publish();
+            temperature *= COOLING;
+        }
+        if (stopped) return;
+        converged = true;
+        synchronized (CACHE) { CACHE.put(cacheKey, published); }
+    }
+
+    private void iterate(double temperature) {
+        tree.build(x, y);
+        if (n >= PARALLEL_MIN_NODES) {
+            POOL.submit(() -> IntStream.range(0, n).parallel().forEach(this::computeForce)).join();
+            POOL.submit(() -> IntStream.range(0, n).parallel().forEach(i -> move(i, temperature))).join();
+        } else {
+            for (int i = 0; i < n; i++) computeForce(i);
+            for (int i = 0; i < n; i++) move(i, temperature);
+        }
+    }
+
+    // Spring constant k = 1: repulsion k^2/d, attraction d^2/k, plus a weak pull to the origin
+    private void computeForce(int i) {
+        double[] f = tree.repulsion(i, x[i], y[i]);
+        double sx = f[0], sy = f[1];
+        int deg = graph.degree(i);
+        for (int k = 0; k < deg; k++) {
+            int v = graph.neighbor(i, k);
+            double dx = x[i] - x[v], dy = y[i] - y[v];
+            double d = Math.sqrt(dx * dx + dy * dy);
+            sx -= dx * d;
+            sy -= dy * d;
+        }
+        sx -= GRAVITY * x[i];
+        sy -= GRAVITY * y[i];
+        fx[i] = sx;
+        fy[i] = sy;
+    }
+
+    private void move(int i, double temperature) {
+        double d = Math.sqrt(fx[i] * fx[i] + fy[i] * fy[i]);
+        if (d < 1e-12) return;
+        double step = Math.min(d, temperature) / d;
+        x[i] += fx[i] * step;
+        y[i] += fy[i] * step;
+    }
+
+    private void publish() {
+        double[] p = new double[2 * n];
+        for (int i = 0; i < n; i++) { p[2 * i] = x[i]; p[2 * i + 1] = y[i]; }
+        published = p;
+    }
+
+    /**
+     * Array-backed quadtree. Cells hold their square bounds, total mass and
+     * mass-weighted position sum; leaves hold one body, or several once
+     * MAX_DEPTH is reached (coincident points).
+     */
+    private static final class QuadTree {
+        private static final int EMPTY = -1, INTERNAL = -2, MULTI = -3;
+        private static final int MAX_DEPTH = 40;
+        private static final ThreadLocal<int[]> STACK = ThreadLocal.withInitial(() -> new int[4 * MAX_DEPTH + 8]);
+        private static final ThreadLocal<double[]> OUT = ThreadLocal.withInitial(() -> new double[2]);
+
+        private double[] cx, cy, half, mass, sx, sy;
+        private int[] child, body;
+        private int size;
+
+        QuadTree(int n) { ensure(Math.max(16, 2 * n + 1)); }
+
+        void build(double[] x, double[] y) {
+            int n = x.length;
+            double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                minX = Math.min(minX, x[i]); maxX = Math.max(maxX, x[i]);
+                minY = Math.min(minY, y[i]); maxY = Math.max(maxY, y[i]);
+            }
+            size = 0;
+            if (n == 0) return;
+            newCell((minX + maxX) / 2, (minY + maxY) / 2, Math.max(maxX - minX, maxY - minY) / 2 + 1e-6);
+            for (int i = 0; i < n; i++) insert(i, x[i], y[i]);
+        }
+
+        private void insert(int i, double px, double py) {
+            int cell = 0, depth = 0;
+            while (true) {
+                if (body[cell] != INTERNAL) {
+                    if (body[cell] == EMPTY) { body[cell] = i; addMass(cell, px, py); return; }
+                    if (body[cell] == MULTI || depth >= MAX_DEPTH) { body[cell] = MULTI; addMass(cell, px, py); return; }
+                    // Split the leaf: push its body one level down, then continue as an internal cell
+                    int b = body[cell];
+                    double bx = sx[cell], by = sy[cell];
+                    body[cell] = INTERNAL;
+                    int q = quadrant(cell, bx, by);
+                    int c = newChild(cell, q);
+                    body[c] = b;
+                    addMass(c, bx, by);
+                }
+                addMass(cell, px, py);
+                int q = quadrant(cell, px, py);
+                int c = child[4 * cell + q];
+                if (c < 0) {
+                    c = newChild(cell, q);
+                    body[c] = i;
+                    addMass(c, px, py);
+                    return;
+                }
+                cell = c;
+                depth++;
+            }
+        }
+
+        /** Approximate repulsive force on body i; the returned array is reused per thread. */
+        double[] repulsion(int i, double px, double py) {
+            double[] out = OUT.get();
+            double fx = 0, fy = 0;
+            if (size > 0) {
+                int[] stack = STACK.get();
+                int top = 0;
+                stack[top++] = 0;
+                while (top > 0) {
+                    int c = stack[--top];
+                    if (body[c] == i) continue;
+                    double m = mass[c];
+                    double dx = px - sx[c] / m, dy = py - sy[c] / m;
+                    double d2 = dx * dx + dy * dy;
+                    double w = 2 * half[c];
+                    if (body[c] != INTERNAL || w * w < THETA * THETA * d2) {
+                        if (d2 < 1e-9) continue;
+                        fx += dx * m / d2;
+                        fy += dy * m / d2;
+                        continue;
+                    }
+                    for (int q = 0; q < 4; q++) {
+                        int ch = child[4 * c + q];
+                        if (ch >= 0) stack[top++] = ch;
+                    }
+                }
+            }
+            out[0] = fx;
+            out[1] = fy;
+            return out;
+        }
+
+        private int quadrant(int cell, double px, double py) {
+            return (px >= cx[cell] ? 1 : 0) | (py >= cy[cell] ? 2 : 0);
+        }
+
+        private int newChild(int cell, int q) {
+            double h = half[cell] / 2;
+            int c = newCell(cx[cell] + ((q & 1) != 0 ? h : -h), cy[cell] + ((q & 2) != 0 ? h : -h), h);
+            child[4 * cell + q] = c;
+            return c;
+        }
+
+        private int newCell(double x, double y, double h) {
+            if (size == cx.length) ensure(size * 2);
+            int c = size++;
+            cx[c] = x; cy[c] = y; half[c] = h;
+            mass[c] = 0; sx[c] = 0; sy[c] = 0;
+            body[c] = EMPTY;
+            child[4 * c] = child[4 * c + 1] = child[4 * c + 2] = child[4 * c + 3] = -1;
+            return c;
+        }
+
+        private void addMass(int c, double px, double py) {
+            mass[c] += 1;
+            sx[c] += px;
+            sy[c] += py;
+        }
+
+        private void ensure(int cap) {
+            cx = grow(cx, cap); cy = grow(cy, cap); half = grow(half, cap);
+            mass = grow(mass, cap); sx = grow(sx, cap); sy = grow(sy, cap);
+            body = body == null ? new int[cap] : java.util.Arrays.copyOf(body, cap);
+            child = child == null ? new int[4 * cap] : java.util.Arrays.copyOf(child, 4 * cap);
+        }
+
+        private static double[] grow(double[] a, int cap) {
+            return a == null ? new double[cap] : java.util.Arrays.copyOf(a, cap);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.CsrGraph;
+import com.algorithmvisualizer.algorithm.EdgeWeights;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+
+/**
+ * Draws a graph on a single {@link Canvas}, placed by a {@link ForceLayout}
+ * that keeps converging in the background while the traversal animates.
+ *
+ * Node and edge highlight state is kept in byte arrays indexed by node id and
+ * by CSR entry index ({@link CsrGraph#entryIndex}), so lookups use no boxing or
+ * hashing. A redraw is scheduled on the next pulse whenever state or positions
+ * change. Edges are stroked as one path per colour and nodes filled per colour
+ * in one loop, so the cost per frame is a handful of draw calls, not one per
+ * node. In a directed graph a one-way entry is drawn as its own edge with an
+ * arrowhead at the target, stroked in the same path as the line.
+ */
+public class GraphCanvasRenderer implements GraphView {
+
+    private static final byte PLAIN = 0, CURRENT = 1, VISITED = 2;   // node states
+    private static final byte HIGHLIGHT = 1, ACTIVE = 2;             // edge states (PLAIN = 0)
+    private static final Color[] NODE_FILL = { Color.STEELBLUE, Color.GOLD, Color.FORESTGREEN };
+    private static final Color[] EDGE_STROKE = { Color.GRAY, Color.DARKORANGE, Color.CORNFLOWERBLUE };
+    private static final double[] EDGE_WIDTH = { 1.0, 2.0, 3.0 };
+    private static final long FLASH_NANOS = 250_000_000L;
+    private static final int MAX_FLASHES = 32;
+    private static final int WEIGHT_LABEL_LIMIT = 400; // undirected edges; beyond this labels are clutter
+
+    private final Pane container;
+    private final Canvas canvas;
+    private CsrGraph graph = CsrGraph.empty();
+    private EdgeWeights weights;
+    private ForceLayout layout;
+    private double[] drawn; // positions used for the last frame
+    private byte[] nodeState = new byte[0];
+    private int[] nodeGroup = new int[0];   // -1 = no group colour
+    private byte[] edgeState = new byte[0]; // per CSR entry, only the u < v entry is used for a two-way pair
+    private boolean directed = false;
+    private final int[] flashNode = new int[MAX_FLASHES];
+    private final long[] flashStart = new long[MAX_FLASHES];
+    private int flashCount = 0;
+    private boolean dirty = true;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override public void handle(long now) { onPulse(now); }
+    };
+
+    public GraphCanvasRenderer() {
+        container = new Pane();
+        container.setMinSize(300, 300);
+        container.setPrefSize(600, 500);
+        container.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        canvas = new Canvas();
+        canvas.widthProperty().bind(container.widthProperty());
+        canvas.heightProperty().bind(container.heightProperty());
+        canvas.widthProperty().addListener((obs, o, n) -> dirty = true);
+        canvas.heightProperty().addListener((obs, o, n) -> dirty = true);
+        container.getChildren().add(canvas);
+        // Only tick while on screen
+        container.sceneProperty().addListener((obs, o, s) -> {
+            if (s != null) { dirty = true; pulse.start(); } else pulse.stop();
+        });
+    }
+
+    @Override
+    public Node getNode() { return container; }
+
+    @Override
+    public void setGraph(CsrGraph g) {
+        CsrGraph next = g == null ? CsrGraph.empty() : g;
+        if (next != graph) {
+            if (layout != null) layout.stop();
+            graph = next;
+            directed = !graph.isSymmetric();
+            layout = new ForceLayout(graph);
+            layout.start();
+            nodeState = new byte[graph.nodeCount()];
+            edgeState = new byte[graph.entryCount()];
+            nodeGroup = new int[graph.nodeCount()];
+            weights = null;
+        } else {
+            // Same graph (e.g. re-render after a seek): keep the layout, reset highlights
+            Arrays.fill(nodeState, PLAIN);
+            Arrays.fill(edgeState, PLAIN);
+        }
+        Arrays.fill(nodeGroup, -1);
+        flashCount = 0;
+        dirty = true;
+    }
+
+    @Override
+    public void setEdgeWeights(EdgeWeights w) {
+        weights = w == null || w.isUnit() || w.graph() != graph || graph.entryCount() > 2 * WEIGHT_LABEL_LIMIT ? null : w;
+        dirty = true;
+    }
+
+    @Override
+    public void clearHighlights() {
+        for (int i = 0; i < nodeState.length; i++) if (nodeState[i] != VISITED) nodeState[i] = PLAIN;
+        Arrays.fill(edgeState, PLAIN);
+        dirty = true;
+    }
+
+    @Override
+    public void highlightCurrent(int v) {
+        if (v >= 0 && v < nodeState.length && nodeState[v] != VISITED) { nodeState[v] = CURRENT; dirty = true; }
+    }
+
+    @Override
+    public void markVisited(int v) {
+        if (v >= 0 && v < nodeState.length) { nodeState[v] = VISITED; dirty = true; }
+    }
+
+    @Override
+    public void highlightEdge(int u, int v) { setEdge(u, v, HIGHLIGHT); }
+
+    @Override
+    public void setActivePathEdge(int u, int v, boolean active) { setEdge(u, v, active ? ACTIVE : PLAIN); }
+
+    @Override
+    public void animateBacktrackEdge(int u, int v) { setEdge(u, v, PLAIN); }
+
+    @Override
+    public void flashBacktrackNode(int v) {
+        if (v < 0 || v >= nodeState.length) return;
+        if (flashCount == MAX_FLASHES) dropFlash(0);
+        flashNode[flashCount] = v;
+        flashStart[flashCount++] = System.nanoTime();
+    }
+
+    @Override
+    public void setNodeGroup(int v, int group) {
+        if (v >= 0 && v < nodeGroup.length && nodeGroup[v] != group) { nodeGroup[v] = group; dirty = true; }
+    }
+
+    private void setEdge(int u, int v, byte state) {
+        int k = graph.entryIndex(Math.min(u, v), Math.max(u, v));
+        if (k < 0 && directed) k = graph.entryIndex(Math.max(u, v), Math.min(u, v));
+        if (k >= 0 && edgeState[k] != state) { edgeState[k] = state; dirty = true; }
+    }
+
+    private void dropFlash(int i) {
+        System.arraycopy(flashNode, i + 1, flashNode, i, flashCount - i - 1);
+        System.arraycopy(flashStart, i + 1, flashStart, i, flashCount - i - 1);
+        flashCount--;
+    }
+
+    private void onPulse(long now) {
+        double[] pos = layout != null ? layout.positions() : null;
+        if (pos != drawn) dirty = true;
+        if (!dirty && flashCount == 0) return;
+        drawn = pos;
+        dirty = false;
+        draw(pos, now);
+    }
+
+    // The entry u -> v carries the edge's look: always for v > u, otherwise only when v -> u does not exist
+    private boolean drawsEntry(int u, int v) {
+        return v > u || (directed && !graph.hasEdge(v, u));
+    }
+
+    private int fillIndex(int i) {
+        if (nodeState[i] == CURRENT || nodeGroup[i] < 0) return nodeState[i];
+        return NODE_FILL.length + nodeGroup[i] % GraphView.GROUP_PALETTE.length;
+    }
+
+    // Two strokes from the rim of the target node back along the edge
+    private static void arrowHead(GraphicsContext gc, double x0, double y0, double x1, double y1, double radius) {
+        double len = Math.hypot(x1 - x0, y1 - y0);
+        if (len <= radius) return;
+        double dx = (x1 - x0) / len, dy = (y1 - y0) / len;
+        double size = Math.max(4, radius * 0.7);
+        double tx = x1 - dx * radius, ty = y1 - dy * radius;
+        double bx = tx - dx * size, by = ty - dy * size;
+        gc.moveTo(bx - dy * size / 2, by + dx * size / 2);
+        gc.lineTo(tx, ty);
+        gc.lineTo(bx + dy * size / 2, by - dx * size / 2);
+    }
+
+    private void draw(double[] pos, long now) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        gc.clearRect(0, 0, w, h);
+        int n = graph.nodeCount();
+        if (pos == null || n == 0 || w <= 0 || h <= 0) return;
+
+        // Fit the layout's bounding box into the canvas
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, pos[2 * i]); maxX = Math.max(maxX, pos[2 * i]);
+            minY = Math.min(minY, pos[2 * i + 1]); maxY = Math.max(maxY, pos[2 * i + 1]);
+        }
+        double radius = Math.max(1.5, Math.min(16.0, Math.sqrt(w * h / Math.max(1, n)) / 4));
+        double margin = radius + 4;
+        double scale = Math.min((w - 2 * margin) / Math.max(1e-9, maxX - minX), (h - 2 * margin) / Math.max(1e-9, maxY - minY));
+        if (maxX - minX < 1e-9 && maxY - minY < 1e-9) scale = 1;
+        double ox = (w - (maxX - minX) * scale) / 2 - minX * scale;
+        double oy = (h - (maxY - minY) * scale) / 2 - minY * scale;
+
+        // Edges: one path per state, plain edges underneath
+        for (byte s = PLAIN; s <= ACTIVE; s++) {
+            gc.beginPath();
+            boolean any = false;
+            for (int u = 0; u < n; u++) {
+                int deg = graph.degree(u), base = graph.rowStart(u);
+                for (int k = 0; k < deg; k++) {
+                    int v = graph.neighbor(u, k);
+                    if (edgeState[base + k] != s || !drawsEntry(u, v)) continue;
+                    double x0 = ox + pos[2 * u] * scale, y0 = oy + pos[2 * u + 1] * scale;
+                    double x1 = ox + pos[2 * v] * scale, y1 = oy + pos[2 * v + 1] * scale;
+                    gc.moveTo(x0, y0);
+                    gc.lineTo(x1, y1);
+                    if (directed && !graph.hasEdge(v, u)) arrowHead(gc, x0, y0, x1, y1, radius);
+                    any = true;
+                }
+            }
+            if (any) {
+                gc.setStroke(EDGE_STROKE[s]);
+                gc.setLineWidth(EDGE_WIDTH[s]);
+                gc.stroke();
+            }
+        }
+
+        if (weights != null) {
+            gc.setFill(Color.DARKSLATEGRAY);
+            gc.setFont(Font.font(10));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.BOTTOM);
+            for (int u = 0; u < n; u++) {
+                int deg = graph.degree(u), base = graph.rowStart(u);
+                for (int k = 0; k < deg; k++) {
+                    int v = graph.neighbor(u, k);
+                    if (!drawsEntry(u, v)) continue;
+                    gc.fillText(EdgeWeights.format(weights.weight(base + k)),
+                            ox + (pos[2 * u] + pos[2 * v]) / 2 * scale, oy + (pos[2 * u + 1] + pos[2 * v + 1]) / 2 * scale - 2);
+                }
+            }
+        }
+
+        // Nodes: one fill colour per pass; the current node's gold wins over a group colour
+        double d = 2 * radius;
+        int colours = NODE_FILL.length + GraphView.GROUP_PALETTE.length;
+        for (int c = 0; c < colours; c++) {
+            gc.setFill(c < NODE_FILL.length ? NODE_FILL[c] : GraphView.GROUP_PALETTE[c - NODE_FILL.length]);
+            for (int i = 0; i < n; i++) {
+                if (fillIndex(i) == c) gc.fillOval(ox + pos[2 * i] * scale - radius, oy + pos[2 * i + 1] * scale - radius, d, d);
+            }
+        }
+        if (radius >= 6) {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(1.0);
+            for (int i = 0; i < n; i++) gc.strokeOval(ox + pos[2 * i] * scale - radius, oy + pos[2 * i + 1] * scale - radius, d, d);
+        }
+        if (radius >= 10) {
+            gc.setFill(Color.WHITE);
+            gc.setFont(Font.font(null, FontWeight.BOLD, Math.min(12, radius * 0.8)));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            for (int i = 0; i < n; i++) gc.fillText(String.valueOf(i), ox + pos[2 * i] * scale, oy + pos[2 * i + 1] * scale);
+        }
+
+        // Backtrack flashes: an expanding, fading ring
+        gc.setLineWidth(3.0);
+        for (int f = 0; f < flashCount; f++) {
+            double t = (now - flashStart[f]) / (double) FLASH_NANOS;
+            if (t >= 1) { dropFlash(f--); continue; }
+            int v = flashNode[f];
+            double r = radius + 16 * t;
+            gc.setStroke(Color.CRIMSON.deriveColor(0, 1, 1, 1 - t));
+            gc.strokeOval(ox + pos[2 * v] * scale - r, oy + pos[2 * v + 1] * scale - r, 2 * r, 2 * r);
+        }
+        if (flashCount > 0) dirty = true;
+    }
+}
@@ -10,22 +10,31 @@ import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
 
+import com.algorithmvisualizer.algorithm.CsrGraph;
+import com.algorithmvisualizer.algorithm.EdgeWeights;
+
 import java.util.*;
 
 /**
- * Renders an undirected graph with nodes arranged on a circle.
+ * Renders a graph with nodes arranged on a circle, one line per connected pair.
+ * A pair joined in one direction only gets an arrowhead at its target.
  * Provides helpers to highlight current node, visited nodes, and edges.
  */
-public class GraphRenderer {
+public class GraphRenderer implements GraphView {
 
     private final Pane container;
-    private final Map<Integer, Circle> nodeCircles = new HashMap<>();
-    private final Map<Integer, Text> nodeLabels = new HashMap<>();
-    private final Map<String, Line> edgeLines = new HashMap<>();
-    private final Map<String, Boolean> activePath = new HashMap<>();
+    private Circle[] nodeCircles = new Circle[0];
+    private Text[] nodeLabels = new Text[0];
+    private final Map<Long, Line> edgeLines = new HashMap<>(); // key: edgeKey(u, v)
+    private int[] edgeEnds = new int[0]; // u0, v0, u1, v1, ... in the order of edgeLineList
+    private final List<Line> edgeLineList = new ArrayList<>();
+    private Polygon[] arrowHeads = new Polygon[0]; // parallel to edgeLineList, null for two-way pairs
+    private int arrowCount = 0;
+    private final List<Text> weightLabels = new ArrayList<>(); // parallel to edgeLineList while weights are shown
     private int nodeCount = 0;
 
     public GraphRenderer() {
@@ -39,69 +48,98 @@ public class GraphRenderer {
     public Node getNode() { return container; }
 
     public void setGraph(int n, List<List<Integer>> adj) {
-        nodeCount = Math.max(0, n);
+        setGraph(CsrGraph.fromAdjacency(n, adj));
+    }
+
+    public void setGraph(CsrGraph graph) {
+        nodeCount = graph.nodeCount();
         container.getChildren().clear();
-        nodeCircles.clear();
-        nodeLabels.clear();
         edgeLines.clear();
-        activePath.clear();
+        edgeLineList.clear();
+        weightLabels.clear();
+        nodeCircles = new Circle[nodeCount];
+        nodeLabels = new Text[nodeCount];
+
+        // Create edges (one line per connected pair, oriented u -> v as first met), added first so they draw behind nodes
+        edgeEnds = new int[2 * graph.entryCount()];
+        arrowHeads = new Polygon[graph.entryCount()];
+        arrowCount = 0;
+        for (int u = 0; u < nodeCount; u++) {
+            for (int i = 0; i < graph.degree(u); i++) {
+                int v = graph.neighbor(u, i);
+                if (edgeLines.containsKey(edgeKey(u, v))) continue;
+                Line line = new Line();
+                line.setStroke(Color.GRAY);
+                line.setStrokeWidth(2.0);
+                int k = edgeLineList.size();
+                edgeEnds[2 * k] = u;
+                edgeEnds[2 * k + 1] = v;
+                edgeLines.put(edgeKey(u, v), line);
+                edgeLineList.add(line);
+                container.getChildren().add(line);
+            }
+        }
+        for (int k = 0; k < edgeLineList.size(); k++) {
+            if (graph.hasEdge(edgeEnds[2 * k + 1], edgeEnds[2 * k])) continue;
+            Polygon head = new Polygon();
+            head.fillProperty().bind(edgeLineList.get(k).strokeProperty());
+            arrowHeads[k] = head;
+            arrowCount++;
+            container.getChildren().add(head);
+        }
 
-        // Pre-create nodes
         for (int i = 0; i < nodeCount; i++) {
             Circle c = new Circle(16.0, Color.STEELBLUE);
             c.setStroke(Color.BLACK);
-            nodeCircles.put(i, c);
+            nodeCircles[i] = c;
             Text t = new Text(String.valueOf(i));
             t.setFill(Color.WHITE);
             t.setStyle("-fx-font-weight: bold;");
-            nodeLabels.put(i, t);
+            nodeLabels[i] = t;
             container.getChildren().addAll(c, t);
         }
+        rebuildPositions();
+    }
 
-        // Create edges (undirected, avoid duplicates by i<j)
-        if (adj != null) {
-            for (int i = 0; i < adj.size(); i++) {
-                for (int j : adj.get(i)) {
-                    if (i < j) {
-                        String key = edgeKey(i, j);
-                        if (!edgeLines.containsKey(key)) {
-                            Line line = new Line();
-                            line.setStroke(Color.GRAY);
-                            line.setStrokeWidth(2.0);
-                            edgeLines.put(key, line);
-                            container.getChildren().add(0, line); // draw edges behind nodes
-                        }
-                    }
-                }
-            }
+    public void setEdgeWeights(EdgeWeights weights) {
+        container.getChildren().removeAll(weightLabels);
+        weightLabels.clear();
+        if (weights == null || weights.isUnit()) return;
+        for (int k = 0; k < edgeLineList.size(); k++) {
+            int u = edgeEnds[2 * k], v = edgeEnds[2 * k + 1];
+            double w = weights.weight(u, v);
+            Text t = new Text(EdgeWeights.format(Double.isNaN(w) ? weights.weight(v, u) : w));
+            t.setFill(Color.DARKSLATEGRAY);
+            t.setStyle("-fx-font-size: 11px;");
+            weightLabels.add(t);
         }
+        // Above the edges, below the nodes
+        container.getChildren().addAll(edgeLineList.size() + arrowCount, weightLabels);
         rebuildPositions();
     }
 
     public void clearHighlights() {
-        for (Map.Entry<Integer, Circle> e : nodeCircles.entrySet()) {
-            Circle c = e.getValue();
+        for (Circle c : nodeCircles) {
             // Do not override visited (FORESTGREEN)
             if (c.getFill() != Color.FORESTGREEN) {
                 c.setFill(Color.STEELBLUE);
             }
         }
-        for (Line l : edgeLines.values()) {
+        for (Line l : edgeLineList) {
             l.setStroke(Color.GRAY);
             l.setStrokeWidth(2.0);
         }
-        // keep activePath state but visual reset to baseline until setActivePathEdge called again
     }
 
     public void highlightCurrent(int v) {
-        Circle c = nodeCircles.get(v);
+        Circle c = circle(v);
         if (c != null && c.getFill() != Color.FORESTGREEN) {
             c.setFill(Color.GOLD);
         }
     }
 
     public void markVisited(int v) {
-        Circle c = nodeCircles.get(v);
+        Circle c = circle(v);
         if (c != null) {
             c.setFill(Color.FORESTGREEN);
         }
@@ -109,7 +147,6 @@ public class GraphRenderer {
 
     public void highlightEdge(int u, int v) {
         Line l = edgeLines.get(edgeKey(u, v));
-        if (l == null) l = edgeLines.get(edgeKey(v, u));
         if (l != null) {
             l.setStroke(Color.DARKORANGE);
         }
@@ -119,11 +156,8 @@ public class GraphRenderer {
      * Mark or unmark an edge as part of the active DFS path (stack). Active edges are thicker and blue.
      */
     public void setActivePathEdge(int u, int v, boolean active) {
-        String key = edgeKey(u, v);
-        Line l = edgeLines.get(key);
-        if (l == null) l = edgeLines.get(edgeKey(v, u));
+        Line l = edgeLines.get(edgeKey(u, v));
         if (l == null) return;
-        activePath.put(edgeKey(Math.min(u, v), Math.max(u, v)), active);
         if (active) {
             l.setStroke(Color.CORNFLOWERBLUE);
             l.setStrokeWidth(4.0);
@@ -138,7 +172,6 @@ public class GraphRenderer {
      */
     public void animateBacktrackEdge(int u, int v) {
         Line l = edgeLines.get(edgeKey(u, v));
-        if (l == null) l = edgeLines.get(edgeKey(v, u));
         if (l == null) return;
         Color from = (l.getStroke() instanceof Color) ? (Color) l.getStroke() : Color.CORNFLOWERBLUE;
         StrokeTransition color = new StrokeTransition(Duration.millis(220), l, from, Color.GRAY);
@@ -154,7 +187,7 @@ public class GraphRenderer {
      * Brief pulse on the node to indicate backtracking from it.
      */
     public void flashBacktrackNode(int v) {
-        Circle c = nodeCircles.get(v);
+        Circle c = circle(v);
         if (c == null) return;
         Circle ring = new Circle(c.getCenterX(), c.getCenterY(), c.getRadius());
         ring.setFill(Color.TRANSPARENT);
@@ -175,49 +208,62 @@ public class GraphRenderer {
         tl.play();
     }
 
+    public void setNodeGroup(int v, int group) {
+        Circle c = circle(v);
+        if (c != null) c.setFill(group >= 0 ? GraphView.groupColor(group) : Color.STEELBLUE);
+    }
+
     private void rebuildPositions() {
         double w = Math.max(300, container.getWidth());
         double h = Math.max(300, container.getHeight());
         double cx = w / 2.0;
         double cy = h / 2.0;
         double radius = Math.max(100, Math.min(w, h) / 2.5);
-        // Positions
-        Map<Integer, double[]> pos = new HashMap<>();
+        double[] xs = new double[nodeCount], ys = new double[nodeCount];
         for (int i = 0; i < nodeCount; i++) {
             double angle = 2 * Math.PI * i / Math.max(1, nodeCount);
             double x = cx + radius * Math.cos(angle);
             double y = cy + radius * Math.sin(angle);
-            pos.put(i, new double[]{x, y});
-            Circle c = nodeCircles.get(i);
-            Text t = nodeLabels.get(i);
-            if (c != null) {
-                c.setCenterX(x);
-                c.setCenterY(y);
-            }
-            if (t != null) {
-                t.setX(x - 4);
-                t.setY(y + 4);
-            }
+            xs[i] = x;
+            ys[i] = y;
+            Circle c = nodeCircles[i];
+            Text t = nodeLabels[i];
+            c.setCenterX(x);
+            c.setCenterY(y);
+            t.setX(x - 4);
+            t.setY(y + 4);
         }
         // Update edges
-        for (Map.Entry<String, Line> e : edgeLines.entrySet()) {
-            String[] uv = e.getKey().split("-");
-            int u = Integer.parseInt(uv[0]);
-            int v = Integer.parseInt(uv[1]);
-            double[] pu = pos.get(u);
-            double[] pv = pos.get(v);
-            if (pu != null && pv != null) {
-                Line l = e.getValue();
-                l.setStartX(pu[0]);
-                l.setStartY(pu[1]);
-                l.setEndX(pv[0]);
-                l.setEndY(pv[1]);
+        for (int k = 0; k < edgeLineList.size(); k++) {
+            int u = edgeEnds[2 * k], v = edgeEnds[2 * k + 1];
+            Line l = edgeLineList.get(k);
+            l.setStartX(xs[u]);
+            l.setStartY(ys[u]);
+            l.setEndX(xs[v]);
+            l.setEndY(ys[v]);
+            if (arrowHeads[k] != null) placeArrowHead(arrowHeads[k], xs[u], ys[u], xs[v], ys[v]);
+            if (k < weightLabels.size()) {
+                Text t = weightLabels.get(k);
+                t.setX((xs[u] + xs[v]) / 2 + 3);
+                t.setY((ys[u] + ys[v]) / 2 - 3);
             }
         }
     }
 
-    private String edgeKey(int u, int v) {
+    // Tip on the target circle's rim, 10px long and 10px wide
+    private static void placeArrowHead(Polygon head, double x0, double y0, double x1, double y1) {
+        double len = Math.hypot(x1 - x0, y1 - y0);
+        if (len == 0) { head.getPoints().clear(); return; }
+        double dx = (x1 - x0) / len, dy = (y1 - y0) / len;
+        double tx = x1 - dx * 16, ty = y1 - dy * 16;
+        double bx = tx - dx * 10, by = ty - dy * 10;
+        head.getPoints().setAll(tx, ty, bx - dy * 5, by + dx * 5, bx + dy * 5, by - dx * 5);
+    }
+
+    private Circle circle(int v) { return v >= 0 && v < nodeCount ? nodeCircles[v] : null; }
+
+    private static long edgeKey(int u, int v) {
         if (u > v) { int tmp = u; u = v; v = tmp; }
-        return u + "-" + v;
+        return ((long) u << 32) | v;
     }
 }
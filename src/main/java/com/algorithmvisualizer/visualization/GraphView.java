@@ -0,0 +1,46 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.CsrGraph;
+import com.algorithmvisualizer.algorithm.EdgeWeights;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+
+/**
+ * Highlighting operations the graph controllers drive, shared by the node-based
+ * {@link GraphRenderer} for small graphs and the {@link GraphCanvasRenderer}.
+ */
+public interface GraphView {
+
+    Node getNode();
+
+    void setGraph(CsrGraph graph);
+
+    /** Label edges with these weights (for the current graph); null or unit weights show no labels. */
+    void setEdgeWeights(EdgeWeights weights);
+
+    /** Reset non-visited nodes and all edges to their default look. */
+    void clearHighlights();
+
+    void highlightCurrent(int v);
+
+    void markVisited(int v);
+
+    void highlightEdge(int u, int v);
+
+    void setActivePathEdge(int u, int v, boolean active);
+
+    void animateBacktrackEdge(int u, int v);
+
+    void flashBacktrackNode(int v);
+
+    /** Colour v by a component or group id (palette colours repeat); -1 clears it. Current-node gold still wins. */
+    void setNodeGroup(int v, int group);
+
+    Color[] GROUP_PALETTE = {
+            Color.web("#1f77b4"), Color.web("#2ca02c"), Color.web("#9467bd"), Color.web("#8c564b"),
+            Color.web("#e377c2"), Color.web("#17becf"), Color.web("#bcbd22"), Color.web("#7f7f7f"),
+            Color.web("#d62728"), Color.web("#aec7e8"), Color.web("#98df8a"), Color.web("#c5b0d5")
+    };
+
+    static Color groupColor(int group) { return GROUP_PALETTE[group % GROUP_PALETTE.length]; }
+}
@@ -8,12 +8,15 @@ import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.algorithmvisualizer.algorithm.WallGridView;
 
 /**
  * Renders a grid maze with cell walls. Provides helpers to color cells
  * as visited/frontier/path and to highlight the current cell.
+ *
+ * Every cell edge has one pooled {@link Line} whose visibility follows the
+ * walls on either side, so carving a wall only toggles a node
+ * ({@link #updateCell}) and nodes are only created when the grid size changes.
  */
 public class MazeGridRenderer {
     private final Pane container;
@@ -22,10 +25,13 @@ public class MazeGridRenderer {
     private boolean[][][] walls;
 
     private final Rectangle[][] cells;
-    private final Map<String, Line> wallLines; // key: r-c-dir
+    private Line[][] hLines = new Line[0][0]; // [rows+1][cols], hLines[r] is the top edge of row r
+    private Line[][] vLines = new Line[0][0]; // [rows][cols+1], vLines[r][c] is the left edge of column c
+    private boolean built = false;
 
     // start/goal overlay via stroke
     private int startR = 0, startC = 0, goalR = 0, goalC = 0;
+    private Rectangle strokedStart, strokedGoal;
     private boolean showStartGoal = false;
 
     public interface CellClickListener { void onClick(int r, int c); }
@@ -38,23 +44,42 @@ public class MazeGridRenderer {
         container.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
         container.layoutBoundsProperty().addListener((obs, o, n) -> layout());
         cells = new Rectangle[100][100]; // max placeholder; actual sized on setMaze
-        wallLines = new HashMap<>();
         setMaze(15, 15, createFullWalls(15, 15));
     }
 
     public Node getNode() { return container; }
 
     public void setMaze(int r, int c, boolean[][][] walls) {
-        this.rows = Math.max(1, r);
-        this.cols = Math.max(1, c);
-        this.walls = copyWalls(walls);
-        rebuild();
-        layout();
+        int nr = Math.max(1, r), nc = Math.max(1, c);
+        boolean resized = !built || nr != rows || nc != cols;
+        this.rows = nr;
+        this.cols = nc;
+        copyWallsInto(walls);
+        if (resized) {
+            rebuild();
+            layout();
+        } else {
+            // Same size: reuse the nodes, resetting them to what a rebuild would give
+            clearOverlays();
+            strokedStart = strokedGoal = null;
+            refreshAllWalls();
+            reapplyStartGoalStrokes();
+        }
     }
 
     public void updateWalls(boolean[][][] walls) {
-        this.walls = copyWalls(walls);
-        drawWalls();
+        copyWallsInto(walls);
+        refreshAllWalls();
+    }
+
+    /** Re-read one cell's walls from a live view and update only its four edges. */
+    public void updateCell(WallGridView view, int r, int c) {
+        if (r < 0 || c < 0 || r >= rows || c >= cols) return;
+        for (int d = 0; d < 4; d++) walls[r][c][d] = view.hasWall(r, c, d);
+        refreshHEdge(hLines[r][c], r, c);
+        refreshHEdge(hLines[r + 1][c], r + 1, c);
+        refreshVEdge(vLines[r][c], r, c);
+        refreshVEdge(vLines[r][c + 1], r, c + 1);
     }
 
     public void clearOverlays() {
@@ -128,7 +153,6 @@ public class MazeGridRenderer {
 
     private void rebuild() {
         container.getChildren().clear();
-        wallLines.clear();
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
                 Rectangle rect = new Rectangle();
@@ -142,36 +166,39 @@ public class MazeGridRenderer {
                 container.getChildren().add(rect);
             }
         }
-        drawWalls();
+        strokedStart = strokedGoal = null;
+        // Wall lines go after the cells so they are drawn on top
+        hLines = new Line[rows + 1][cols];
+        vLines = new Line[rows][cols + 1];
+        for (int r = 0; r <= rows; r++) for (int c = 0; c < cols; c++) hLines[r][c] = newWallLine();
+        for (int r = 0; r < rows; r++) for (int c = 0; c <= cols; c++) vLines[r][c] = newWallLine();
+        built = true;
+        refreshAllWalls();
     }
 
-    private void drawWalls() {
-        // remove old wall lines
-        container.getChildren().removeIf(n -> n instanceof Line);
-        wallLines.clear();
-        double w = Math.max(360, container.getWidth());
-        double h = Math.max(360, container.getHeight());
-        double size = Math.min(w, h);
-        double cell = size / Math.max(rows, cols);
-        double x0 = (w - cols * cell) / 2.0;
-        double y0 = (h - rows * cell) / 2.0;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                double x = x0 + c * cell;
-                double y = y0 + r * cell;
-                if (walls[r][c][0]) addLine(x, y, x + cell, y); // N
-                if (walls[r][c][1]) addLine(x + cell, y, x + cell, y + cell); // E
-                if (walls[r][c][2]) addLine(x, y + cell, x + cell, y + cell); // S
-                if (walls[r][c][3]) addLine(x, y, x, y + cell); // W
-            }
-        }
-    }
-
-    private void addLine(double x1, double y1, double x2, double y2) {
-        Line l = new Line(x1, y1, x2, y2);
+    private Line newWallLine() {
+        Line l = new Line();
         l.setStroke(Color.BLACK);
         l.setStrokeWidth(2.0);
         container.getChildren().add(l);
+        return l;
+    }
+
+    private void refreshAllWalls() {
+        for (int r = 0; r <= rows; r++) for (int c = 0; c < cols; c++) refreshHEdge(hLines[r][c], r, c);
+        for (int r = 0; r < rows; r++) for (int c = 0; c <= cols; c++) refreshVEdge(vLines[r][c], r, c);
+    }
+
+    // Horizontal edge above row r: drawn if either neighbouring cell has a wall there
+    private void refreshHEdge(Line l, int r, int c) {
+        boolean wall = (r > 0 && walls[r - 1][c][2]) || (r < rows && walls[r][c][0]);
+        if (l.isVisible() != wall) l.setVisible(wall);
+    }
+
+    // Vertical edge left of column c
+    private void refreshVEdge(Line l, int r, int c) {
+        boolean wall = (c > 0 && walls[r][c - 1][1]) || (c < cols && walls[r][c][3]);
+        if (l.isVisible() != wall) l.setVisible(wall);
     }
 
     private void layout() {
@@ -194,10 +221,28 @@ public class MazeGridRenderer {
                 rect.setHeight(cell - 2);
             }
         }
-        drawWalls();
+        for (int r = 0; r < hLines.length; r++) {
+            for (int c = 0; c < hLines[r].length; c++) {
+                double x = x0 + c * cell, y = y0 + r * cell;
+                place(hLines[r][c], x, y, x + cell, y);
+            }
+        }
+        for (int r = 0; r < vLines.length; r++) {
+            for (int c = 0; c < vLines[r].length; c++) {
+                double x = x0 + c * cell, y = y0 + r * cell;
+                place(vLines[r][c], x, y, x, y + cell);
+            }
+        }
         reapplyStartGoalStrokes();
     }
 
+    private static void place(Line l, double x1, double y1, double x2, double y2) {
+        l.setStartX(x1);
+        l.setStartY(y1);
+        l.setEndX(x2);
+        l.setEndY(y2);
+    }
+
     private static boolean[][][] createFullWalls(int rows, int cols) {
         boolean[][][] w = new boolean[rows][cols][4];
         for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
@@ -205,31 +250,32 @@ public class MazeGridRenderer {
         return w;
     }
 
-    private static boolean[][][] copyWalls(boolean[][][] src) {
-        int r = src.length, c = src[0].length;
-        boolean[][][] w = new boolean[r][c][4];
-        for (int i = 0; i < r; i++) for (int j = 0; j < c; j++)
-            System.arraycopy(src[i][j], 0, w[i][j], 0, 4);
-        return w;
+    // Copy into the existing array when the size matches to avoid reallocating per update
+    private void copyWallsInto(boolean[][][] src) {
+        if (walls == null || walls.length != rows || walls[0].length != cols) walls = new boolean[rows][cols][4];
+        for (int i = 0; i < rows; i++) for (int j = 0; j < cols; j++)
+            System.arraycopy(src[i][j], 0, walls[i][j], 0, 4);
     }
 
+    // Only the previously stroked start/goal cells need resetting, so this stays O(1) per call
     private void reapplyStartGoalStrokes() {
         if (!showStartGoal) return;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Rectangle rect = cells[r][c];
-                if (rect == null) continue;
-                rect.setStroke(Color.TRANSPARENT);
-                rect.setStrokeWidth(1.0);
-            }
-        }
+        clearStroke(strokedStart);
+        clearStroke(strokedGoal);
+        strokedStart = strokedGoal = null;
         if (startR >= 0 && startR < rows && startC >= 0 && startC < cols) {
             Rectangle rs = cells[startR][startC];
-            if (rs != null) { rs.setStroke(Color.CORNFLOWERBLUE); rs.setStrokeWidth(3.0); }
+            if (rs != null) { rs.setStroke(Color.CORNFLOWERBLUE); rs.setStrokeWidth(3.0); strokedStart = rs; }
         }
         if (goalR >= 0 && goalR < rows && goalC >= 0 && goalC < cols) {
             Rectangle rg = cells[goalR][goalC];
-            if (rg != null) { rg.setStroke(Color.CRIMSON); rg.setStrokeWidth(3.0); }
+            if (rg != null) { rg.setStroke(Color.CRIMSON); rg.setStrokeWidth(3.0); strokedGoal = rg; }
         }
     }
+
+    private static void clearStroke(Rectangle rect) {
+        if (rect == null) return;
+        rect.setStroke(Color.TRANSPARENT);
+        rect.setStrokeWidth(1.0);
+    }
 }
@@ -0,0 +1,132 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.MinConflictsQueens;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Board and progress of a {@link MinConflictsQueens} search. Boards up to
+ * {@link #CHESSBOARD_LIMIT} use a {@link ChessboardRenderer} with conflicted
+ * queens' squares in red; larger ones are drawn into a fixed-size pixel
+ * buffer, one dot per queen (rows and columns scaled down) and conflicted
+ * queens as red blocks. Beside it the collision count is plotted against
+ * moves on a log scale, so it can be seen shrinking.
+ */
+public class MinConflictsView {
+
+    public static final int CHESSBOARD_LIMIT = 20;
+    private static final int SIDE = 360;
+    private static final int BACKGROUND = 0xFFFFFFFF;
+    private static final int QUEEN = 0xFF303030;
+    private static final int CONFLICT = 0xFFE02020;
+
+    private final HBox container = new HBox(10.0);
+    private final Canvas chart = new Canvas(360, SIDE);
+    private final WritableImage image = new WritableImage(SIDE, SIDE);
+    private final int[] pixels = new int[SIDE * SIDE];
+    private ChessboardRenderer chessboard;
+    private MinConflictsQueens search;
+    private long[] historyMoves = new long[256];
+    private long[] historyCollisions = new long[256];
+    private int historySize;
+
+    public Node getNode() { return container; }
+
+    /** Show a new search from its start. */
+    public void start(MinConflictsQueens search) {
+        this.search = search;
+        historySize = 0;
+        if (search.size() <= CHESSBOARD_LIMIT) {
+            chessboard = new ChessboardRenderer(search.size());
+            container.getChildren().setAll(chessboard.getChessboard(), chart);
+        } else {
+            chessboard = null;
+            container.getChildren().setAll(new ImageView(image), chart);
+        }
+        refresh();
+    }
+
+    /** Redraw the board and add the current collision count to the plot; call each frame while it runs. */
+    public void refresh() {
+        if (search == null) return;
+        long moves = search.getTotalMoves(), collisions = search.getCollisions();
+        if (historySize == 0 || historyMoves[historySize - 1] != moves) {
+            if (historySize == historyMoves.length) {
+                historyMoves = Arrays.copyOf(historyMoves, historySize * 2);
+                historyCollisions = Arrays.copyOf(historyCollisions, historySize * 2);
+            }
+            historyMoves[historySize] = moves;
+            historyCollisions[historySize++] = collisions;
+        }
+        if (chessboard != null) drawChessboard();
+        else drawPixels();
+        drawChart();
+    }
+
+    private void drawChessboard() {
+        int[] queens = search.queens();
+        boolean[] conflicted = new boolean[queens.length];
+        for (int r = 0; r < queens.length; r++) conflicted[r] = search.conflicts(r) > 0;
+        chessboard.showQueens(queens, conflicted);
+    }
+
+    private void drawPixels() {
+        int n = search.size();
+        int[] queens = search.queens();
+        Arrays.fill(pixels, BACKGROUND);
+        int cell = Math.max(1, SIDE / n);
+        for (int r = 0; r < n; r++) {
+            int y = (int) ((long) r * SIDE / n), x = (int) ((long) queens[r] * SIDE / n);
+            boolean conflict = search.conflicts(r) > 0;
+            // Conflicted queens are few once the search settles; make them stand out
+            int size = conflict ? Math.max(cell, 5) : cell;
+            fill(x - (size - cell) / 2, y - (size - cell) / 2, size, conflict ? CONFLICT : QUEEN);
+        }
+        image.getPixelWriter().setPixels(0, 0, SIDE, SIDE, PixelFormat.getIntArgbInstance(), pixels, 0, SIDE);
+    }
+
+    private void fill(int x0, int y0, int size, int argb) {
+        for (int y = Math.max(0, y0); y < Math.min(SIDE, y0 + size); y++) {
+            for (int x = Math.max(0, x0); x < Math.min(SIDE, x0 + size); x++) {
+                if (argb == CONFLICT || pixels[y * SIDE + x] != CONFLICT) pixels[y * SIDE + x] = argb;
+            }
+        }
+    }
+
+    private void drawChart() {
+        GraphicsContext g = chart.getGraphicsContext2D();
+        double w = chart.getWidth(), h = chart.getHeight(), left = 40.0, bottom = h - 20.0, top = 10.0;
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        g.setStroke(Color.GRAY);
+        g.strokeLine(left, top, left, bottom);
+        g.strokeLine(left, bottom, w - 5.0, bottom);
+        long maxMoves = Math.max(1, historyMoves[Math.max(0, historySize - 1)]);
+        long maxCollisions = 1;
+        for (int i = 0; i < historySize; i++) maxCollisions = Math.max(maxCollisions, historyCollisions[i]);
+        double logMax = Math.log10(maxCollisions + 1.0);
+        g.setFill(Color.BLACK);
+        g.fillText(String.valueOf(maxCollisions), 2.0, top + 10.0);
+        g.fillText("0", 2.0, bottom);
+        g.fillText(maxMoves + " moves", w - 90.0, h - 4.0);
+        g.setStroke(Color.ROYALBLUE);
+        g.setLineWidth(1.5);
+        g.beginPath();
+        for (int i = 0; i < historySize; i++) {
+            double x = left + (w - 5.0 - left) * historyMoves[i] / maxMoves;
+            double y = bottom - (bottom - top) * Math.log10(historyCollisions[i] + 1.0) / logMax;
+            if (i == 0) g.moveTo(x, y);
+            else g.lineTo(x, y);
+        }
+        g.stroke();
+        g.setLineWidth(1.0);
+    }
+}
@@ -0,0 +1,250 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.IntArrayView;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Bar chart drawn straight into a {@link WritableImage}, for arrays far larger
+ * than {@link BarChartRenderer}'s one-node-per-bar design can show.
+ *
+ * With at most as many elements as pixel columns every element gets an equal
+ * run of columns; beyond that each pixel column is a bucket of elements, drawn
+ * as a bar to the bucket's mean over a pale band spanning its smallest to
+ * largest value. Updates only mark the touched columns dirty. At the next
+ * pulse those columns are redrawn into an ARGB buffer and the band between
+ * the first and last dirty column is written to the image in one call, so a
+ * batch of thousands of writes costs one partial upload.
+ */
+public class PixelBarChartRenderer implements ArrayChart {
+
+    private static final int BACKGROUND = 0xFFFFFFFF;
+    private static final int AXIS = 0xFF000000;
+    private static final int DEFAULT = argb(Color.STEELBLUE);
+    private static final int SORTED = argb(Color.FORESTGREEN);
+
+    private final Pane container = new Pane();
+    private final ImageView view = new ImageView();
+    private WritableImage image;
+    private int[] pixels = new int[0];
+    private int width, height;
+
+    private int[] data = new int[0];
+    private int low = 0, high = 1; // value range shown, always including 0
+    private int[] colors = new int[0]; // per element ARGB, 0 = no highlight
+    private int[] highlighted = new int[16]; // indices that may have a colour, each listed once
+    private boolean[] listed = new boolean[0];
+    private int highlightCount = 0;
+    private int sortedFrom = 0;
+
+    private boolean[] dirty = new boolean[0];
+    private int dirtyMin = Integer.MAX_VALUE, dirtyMax = -1;
+    private boolean flushScheduled = false;
+
+    public PixelBarChartRenderer() {
+        container.setMinHeight(100.0);
+        container.setPrefHeight(400.0);
+        container.setMaxHeight(Double.MAX_VALUE);
+        container.setMinWidth(200.0);
+        container.setPrefWidth(600.0);
+        container.setMaxWidth(Double.MAX_VALUE);
+        view.setManaged(false);
+        container.getChildren().add(view);
+        container.layoutBoundsProperty().addListener((obs, o, b) -> {
+            if (b.getWidth() > 0 && b.getHeight() > 0) resize((int) b.getWidth(), (int) b.getHeight());
+        });
+        resize(600, 400);
+    }
+
+    @Override
+    public void setData(int[] data) {
+        this.data = data == null ? new int[0] : data.clone();
+        colors = new int[this.data.length];
+        listed = new boolean[this.data.length];
+        highlightCount = 0;
+        sortedFrom = this.data.length;
+        rescale();
+        redrawAll();
+    }
+
+    @Override
+    public void updateIndices(IntArrayView data, int... indices) { updateIndices(data, indices, indices.length); }
+
+    /** As {@link #updateIndices(IntArrayView, int...)} for the first {@code count} entries of a reused batch buffer. */
+    public void updateIndices(IntArrayView data, int[] indices, int count) {
+        if (data == null || data.length() != this.data.length) {
+            int[] copy = new int[data == null ? 0 : data.length()];
+            for (int i = 0; i < copy.length; i++) copy[i] = data.get(i);
+            setData(copy);
+            return;
+        }
+        boolean outOfRange = false;
+        for (int k = 0; k < count; k++) {
+            int i = indices[k];
+            if (i < 0 || i >= this.data.length) continue;
+            int v = data.get(i);
+            this.data[i] = v;
+            colors[i] = 0;
+            if (v < low || v > high) outOfRange = true;
+            touch(i);
+        }
+        if (outOfRange) { rescale(); redrawAll(); }
+    }
+
+    @Override
+    public void clearHighlights() {
+        for (int k = 0; k < highlightCount; k++) {
+            int i = highlighted[k];
+            listed[i] = false;
+            if (colors[i] != 0) { colors[i] = 0; touch(i); }
+        }
+        highlightCount = 0;
+    }
+
+    @Override
+    public void highlightCompare(int i, int j) { color(i, Color.GOLD); color(j, Color.GOLD); }
+
+    @Override
+    public void highlightSwap(int i, int j) { color(i, Color.RED); color(j, Color.RED); }
+
+    @Override
+    public void setIndexColor(int idx, Color color) { color(idx, color); }
+
+    @Override
+    public void highlightLane(int idx, int worker) { color(idx, BarChartRenderer.laneColor(worker)); }
+
+    @Override
+    public void markSortedSuffix(int fromIndex) {
+        int from = Math.max(0, fromIndex);
+        if (from >= sortedFrom) return;
+        for (int i = from; i < sortedFrom; i++) colors[i] = 0;
+        markColumns(from, sortedFrom - 1);
+        sortedFrom = from;
+    }
+
+    @Override
+    public Node getNode() { return container; }
+
+    /** Redraw the dirty columns now instead of at the next pulse. */
+    public void flush() {
+        flushScheduled = false;
+        if (dirtyMax < 0) return;
+        for (int x = dirtyMin; x <= dirtyMax; x++) {
+            if (dirty[x]) { dirty[x] = false; drawColumn(x); }
+        }
+        image.getPixelWriter().setPixels(dirtyMin, 0, dirtyMax - dirtyMin + 1, height,
+                PixelFormat.getIntArgbInstance(), pixels, dirtyMin, width);
+        dirtyMin = Integer.MAX_VALUE;
+        dirtyMax = -1;
+    }
+
+    private void color(int i, Color c) {
+        if (i < 0 || i >= data.length) return;
+        if (!listed[i]) {
+            if (highlightCount == highlighted.length) highlighted = Arrays.copyOf(highlighted, highlightCount * 2);
+            highlighted[highlightCount++] = i;
+            listed[i] = true;
+        }
+        colors[i] = argb(c);
+        touch(i);
+    }
+
+    private void touch(int i) { markColumns(i, i); }
+
+    // Mark the pixel columns showing elements from..to dirty and schedule a flush
+    private void markColumns(int from, int to) {
+        int n = data.length;
+        if (n == 0 || from > to) return;
+        int x0 = (int) ((long) from * width / n);
+        int x1 = (int) Math.min(width - 1, ((long) (to + 1) * width + n - 1) / n);
+        for (int x = x0; x <= x1; x++) dirty[x] = true;
+        dirtyMin = Math.min(dirtyMin, x0);
+        dirtyMax = Math.max(dirtyMax, x1);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    private void resize(int w, int h) {
+        if (w == width && h == height) return;
+        width = Math.max(1, w);
+        height = Math.max(1, h);
+        image = new WritableImage(width, height);
+        view.setImage(image);
+        pixels = new int[width * height];
+        dirty = new boolean[width];
+        redrawAll();
+    }
+
+    private void rescale() {
+        low = 0;
+        high = 1;
+        for (int v : data) { if (v < low) low = v; if (v > high) high = v; }
+    }
+
+    private void redrawAll() {
+        Arrays.fill(dirty, true);
+        dirtyMin = 0;
+        dirtyMax = width - 1;
+        flush();
+    }
+
+    private void drawColumn(int x) {
+        int n = data.length;
+        int axisY = y(0);
+        if (n == 0) {
+            for (int y = 0; y < height; y++) pixels[y * width + x] = y == axisY ? AXIS : BACKGROUND;
+            return;
+        }
+        int s = (int) ((long) x * n / width);
+        int e = Math.max(s + 1, (int) ((long) (x + 1) * n / width));
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, c = 0;
+        long sum = 0;
+        for (int i = s; i < e; i++) {
+            int v = data[i];
+            if (v < min) min = v;
+            if (v > max) max = v;
+            sum += v;
+            if (c == 0) c = colors[i];
+        }
+        if (c == 0) c = s >= sortedFrom ? SORTED : DEFAULT;
+        int pale = blend(c);
+        int mean = y((int) Math.round((double) sum / (e - s)));
+        int barTop = Math.min(mean, axisY), barBottom = Math.max(mean, axisY);
+        int spanTop = Math.min(y(max), axisY), spanBottom = Math.max(y(min), axisY);
+        for (int y = 0; y < height; y++) {
+            int p;
+            if (y == axisY) p = AXIS;
+            else if (y >= barTop && y <= barBottom) p = c;
+            else if (y >= spanTop && y <= spanBottom) p = pale;
+            else p = BACKGROUND;
+            pixels[y * width + x] = p;
+        }
+    }
+
+    private int y(int v) {
+        return (int) Math.round((double) (high - v) * (height - 1) / Math.max(1L, (long) high - low));
+    }
+
+    // The colour mixed 70% towards white, for the min-max band behind a bucket's bar
+    private static int blend(int argb) {
+        int r = (argb >> 16) & 0xFF, g = (argb >> 8) & 0xFF, b = argb & 0xFF;
+        r += (255 - r) * 7 / 10;
+        g += (255 - g) * 7 / 10;
+        b += (255 - b) * 7 / 10;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    private static int argb(Color c) {
+        return 0xFF000000 | ((int) Math.round(c.getRed() * 255) << 16)
+                | ((int) Math.round(c.getGreen() * 255) << 8) | (int) Math.round(c.getBlue() * 255);
+    }
+}
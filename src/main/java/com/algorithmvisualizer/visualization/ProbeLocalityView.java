@@ -0,0 +1,80 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.MappedRecordSearch;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/**
+ * Probe locality of a {@link MappedRecordSearch}, with the file laid out left
+ * to right: a strip shading each bucket of pages from white to blue with its
+ * share of page touches, and below it the last lookup's probes, one row per
+ * probe, joined in probe order. Probes that land on the same page stack up in
+ * one column.
+ */
+public class ProbeLocalityView {
+
+    private static final double MARGIN = 10.0;
+    private static final double STRIP_HEIGHT = 24.0;
+    private static final double ROW_HEIGHT = 9.0;
+
+    private final Pane container = new Pane();
+    private final Canvas canvas = new Canvas(720, 300);
+    private MappedRecordSearch search;
+
+    public ProbeLocalityView() {
+        container.setPrefSize(720, 300);
+        container.getChildren().add(canvas);
+        canvas.widthProperty().bind(container.widthProperty());
+        canvas.heightProperty().bind(container.heightProperty());
+        canvas.widthProperty().addListener((obs, o, n) -> draw());
+        canvas.heightProperty().addListener((obs, o, n) -> draw());
+    }
+
+    public Node getNode() { return container; }
+
+    /** Show {@code search}'s current counters; call again to refresh while it runs. */
+    public void show(MappedRecordSearch search) {
+        this.search = search;
+        draw();
+    }
+
+    private void draw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        g.setFill(Color.WHITE);
+        g.fillRect(0, 0, w, h);
+        if (search == null || search.records() == 0) return;
+        double stripWidth = Math.max(10.0, w - 2 * MARGIN);
+
+        int[] heat = search.heat();
+        int max = 1;
+        for (int v : heat) max = Math.max(max, v);
+        double cell = stripWidth / heat.length;
+        for (int b = 0; b < heat.length; b++) {
+            g.setFill(Color.WHITE.interpolate(Color.ROYALBLUE, (double) heat[b] / max));
+            g.fillRect(MARGIN + b * cell, MARGIN, Math.ceil(cell), STRIP_HEIGHT);
+        }
+        g.setStroke(Color.GRAY);
+        g.strokeRect(MARGIN, MARGIN, stripWidth, STRIP_HEIGHT);
+
+        long[] probes = search.lastProbes();
+        double top = 2 * MARGIN + STRIP_HEIGHT + 14.0;
+        g.setFill(Color.BLACK);
+        g.fillText("Last lookup: " + probes.length + " probes", MARGIN, top - 4.0);
+        double row = Math.min(ROW_HEIGHT, (h - top - MARGIN) / Math.max(1, probes.length));
+        double prevX = 0, prevY = 0;
+        for (int i = 0; i < probes.length; i++) {
+            double x = MARGIN + stripWidth * probes[i] / search.records();
+            double y = top + (i + 0.5) * row;
+            g.setStroke(Color.DARKORANGE);
+            if (i > 0) g.strokeLine(prevX, prevY, x, y);
+            g.setFill(i == probes.length - 1 ? Color.FORESTGREEN : Color.DARKORANGE);
+            g.fillOval(x - 3.0, y - 3.0, 6.0, 6.0);
+            prevX = x;
+            prevY = y;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.algorithmvisualizer.visualization;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.TilePane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Paged gallery of N-Queens boards. Only the current page has nodes; its
+ * thumbnails are rendered into {@link Image}s on a background thread and
+ * kept in an LRU cache, so paging back and forth over hundreds of thousands
+ * of solutions stays cheap. Boards are fetched on the FX thread through the
+ * source function, one page at a time, when that page is shown.
+ */
+public class SolutionGallery {
+
+    public static final int PAGE_SIZE = 24;
+    private static final int THUMB = 84;
+    private static final int CACHE_IMAGES = 512;
+    private static final Color LIGHT = Color.WHITE;
+    private static final Color DARK = Color.LIGHTGRAY;
+    private static final Color QUEEN = Color.DARKRED;
+
+    private final VBox container = new VBox(6.0);
+    private final TilePane tiles = new TilePane(6.0, 6.0);
+    private final Label pageLabel = new Label();
+    private final Button prevButton = new Button("◀");
+    private final Button nextButton = new Button("▶");
+    private final Map<Integer, Image> cache = new LinkedHashMap<Integer, Image>(64, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Integer, Image> e) { return size() > CACHE_IMAGES; }
+    };
+
+    private IntFunction<int[]> source;
+    private IntFunction<String> captions = i -> "#" + (i + 1);
+    private int count;
+    private int boardSize;
+    private int page;
+    private long generation; // bumps when the source changes, so stale renders are dropped
+    private Task<Image[]> pending;
+
+    public SolutionGallery() {
+        tiles.setPrefColumns(4);
+        tiles.setPadding(new Insets(4.0));
+        prevButton.setOnAction(e -> showPage(page - 1));
+        nextButton.setOnAction(e -> showPage(page + 1));
+        HBox pager = new HBox(8.0, prevButton, pageLabel, nextButton);
+        pager.setAlignment(Pos.CENTER_LEFT);
+        container.getChildren().addAll(pager, tiles);
+        setSource(null, 0, 1);
+    }
+
+    public Node getNode() { return container; }
+
+    /** Caption under board i (0-based); defaults to its number. Applies from the next page shown. */
+    public void setCaptions(IntFunction<String> captions) { this.captions = captions; }
+
+    /** Show {@code count} boards of {@code boardSize}, board i (0-based) given by {@code source}; starts at page 0. */
+    public void setSource(IntFunction<int[]> source, int count, int boardSize) {
+        this.source = source;
+        this.boardSize = boardSize;
+        generation++;
+        cache.clear();
+        this.count = Math.max(0, count);
+        showPage(0);
+    }
+
+    /**
+     * The source now holds {@code count} boards. Boards past the new count
+     * are dropped (e.g. after stepping back); the current page is redrawn
+     * only if its contents changed.
+     */
+    public void setCount(int count) {
+        int old = this.count;
+        this.count = Math.max(0, count);
+        if (this.count < old) cache.keySet().removeIf(i -> i >= this.count);
+        int first = page * PAGE_SIZE, end = first + PAGE_SIZE;
+        int lastPage = pages() - 1;
+        if (page > lastPage) showPage(lastPage);
+        else if (Math.min(old, end) != Math.min(this.count, end)) showPage(page);
+        else updatePager();
+    }
+
+    public int getCount() { return count; }
+
+    private int pages() { return Math.max(1, (count + PAGE_SIZE - 1) / PAGE_SIZE); }
+
+    private void updatePager() {
+        pageLabel.setText(count == 0 ? "No solutions found yet"
+                : "Page " + (page + 1) + " of " + pages() + " • " + count + " solutions");
+        prevButton.setDisable(page == 0);
+        nextButton.setDisable(page >= pages() - 1);
+    }
+
+    private void showPage(int p) {
+        page = Math.max(0, Math.min(p, pages() - 1));
+        updatePager();
+        tiles.getChildren().clear();
+        if (pending != null) { pending.cancel(false); pending = null; }
+        int first = page * PAGE_SIZE, end = Math.min(count, first + PAGE_SIZE);
+        if (first >= end) return;
+        ImageView[] views = new ImageView[end - first];
+        int[][] missing = new int[end - first][];
+        boolean anyMissing = false;
+        for (int i = first; i < end; i++) {
+            ImageView view = new ImageView(cache.get(i));
+            view.setFitWidth(THUMB);
+            view.setFitHeight(THUMB);
+            views[i - first] = view;
+            Label caption = new Label(captions.apply(i));
+            VBox tile = new VBox(2.0, view, caption);
+            tile.setAlignment(Pos.CENTER);
+            tile.setStyle("-fx-background-color: #f0f0f0; -fx-border-color: #ccc; -fx-padding: 4;");
+            tiles.getChildren().add(tile);
+            if (view.getImage() == null) { missing[i - first] = source.apply(i); anyMissing = true; }
+        }
+        if (!anyMissing) return;
+        int size = boardSize;
+        long gen = generation;
+        Task<Image[]> task = new Task<Image[]>() {
+            @Override protected Image[] call() {
+                Image[] images = new Image[missing.length];
+                for (int k = 0; k < missing.length && !isCancelled(); k++) {
+                    if (missing[k] != null) images[k] = thumbnail(missing[k], size);
+                }
+                return images;
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (gen != generation) return;
+            Image[] images = task.getValue();
+            for (int k = 0; k < images.length; k++) {
+                if (images[k] == null || first + k >= count) continue;
+                cache.put(first + k, images[k]);
+                views[k].setImage(images[k]);
+            }
+        });
+        pending = task;
+        Thread th = new Thread(task, "queens-thumbnails");
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /** A mini board with one square block per cell and a round queen; safe off the FX thread. */
+    static Image thumbnail(int[] queens, int n) {
+        int cell = Math.max(1, THUMB / n);
+        int side = cell * n;
+        WritableImage image = new WritableImage(side, side);
+        PixelWriter w = image.getPixelWriter();
+        double r = cell * 0.35, r2 = r * r;
+        for (int y = 0; y < side; y++) {
+            int row = y / cell;
+            double dy = y - row * cell - (cell - 1) / 2.0;
+            for (int x = 0; x < side; x++) {
+                int col = x / cell;
+                Color c = (row + col) % 2 == 0 ? LIGHT : DARK;
+                if (queens[row] == col) {
+                    double dx = x - col * cell - (cell - 1) / 2.0;
+                    if (dx * dx + dy * dy <= r2 || cell < 4) c = QUEEN;
+                }
+                w.setColor(x, y, c);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,95 @@
+package com.algorithmvisualizer.visualization;
+
+import com.algorithmvisualizer.algorithm.SortBenchmark;
+import com.algorithmvisualizer.algorithm.SortInputs;
+import javafx.scene.Node;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Line chart of {@link SortBenchmark} rows: one series per engine over
+ * log10 n, for the distribution and per-element metric picked above it.
+ * Rows can be added while the matrix is still running.
+ */
+public class SortMatrixChart {
+
+    private enum Metric {
+        NANOS("ns / element", r -> r.nanosPerElement),
+        COMPARES("compares / element", r -> (double) r.compares / Math.max(1, r.n)),
+        WRITES("writes / element", r -> (double) r.writes / Math.max(1, r.n));
+
+        final String label;
+        final ToDoubleFunction<SortBenchmark.Row> value;
+
+        Metric(String label, ToDoubleFunction<SortBenchmark.Row> value) {
+            this.label = label;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() { return label; }
+    }
+
+    private final List<SortBenchmark.Row> rows = new ArrayList<>();
+    private final ChoiceBox<SortInputs.Distribution> distributionChoice = new ChoiceBox<>();
+    private final ChoiceBox<Metric> metricChoice = new ChoiceBox<>();
+    private final NumberAxis xAxis = new NumberAxis();
+    private final NumberAxis yAxis = new NumberAxis();
+    private final LineChart<Number, Number> chart = new LineChart<>(xAxis, yAxis);
+    private final VBox root = new VBox(8.0);
+
+    public SortMatrixChart() {
+        distributionChoice.getItems().setAll(SortInputs.Distribution.values());
+        distributionChoice.getSelectionModel().select(0);
+        metricChoice.getItems().setAll(Metric.values());
+        metricChoice.getSelectionModel().select(0);
+        distributionChoice.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> redraw());
+        metricChoice.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> redraw());
+        xAxis.setLabel("log10 n");
+        xAxis.setForceZeroInRange(false);
+        chart.setAnimated(false);
+        chart.setCreateSymbols(true);
+        chart.setPrefSize(720, 440);
+        VBox.setVgrow(chart, Priority.ALWAYS);
+        HBox controls = new HBox(8.0, new Label("Input:"), distributionChoice, new Label("Metric:"), metricChoice);
+        root.getChildren().addAll(controls, chart);
+        redraw();
+    }
+
+    public void add(SortBenchmark.Row row) {
+        rows.add(row);
+        if (row.distribution == distributionChoice.getValue()) redraw();
+    }
+
+    public Node getNode() { return root; }
+
+    private void redraw() {
+        SortInputs.Distribution d = distributionChoice.getValue();
+        Metric m = metricChoice.getValue();
+        yAxis.setLabel(m.label);
+        chart.setTitle(d + " input");
+        Map<String, XYChart.Series<Number, Number>> series = new LinkedHashMap<>();
+        for (SortBenchmark.Row r : rows) {
+            if (r.distribution != d) continue;
+            XYChart.Series<Number, Number> s = series.computeIfAbsent(r.engine, name -> {
+                XYChart.Series<Number, Number> created = new XYChart.Series<>();
+                created.setName(name);
+                return created;
+            });
+            s.getData().add(new XYChart.Data<>(Math.log10(r.n), m.value.applyAsDouble(r)));
+        }
+        chart.getData().setAll(series.values());
+    }
+}
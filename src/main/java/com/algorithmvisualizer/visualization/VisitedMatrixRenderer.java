@@ -1,81 +1,135 @@
 package com.algorithmvisualizer.visualization;
 
-import javafx.geometry.Pos;
-import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.VBox;
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.function.IntPredicate;
 
 /**
- * Renders a 2-row matrix for visited state:
- * Row 1: node indices 0..n-1
- * Row 2: T/F for visited
+ * Renders a 2-row matrix for visited state: each node is a column with its
+ * index on top and T/F below, wrapped into rows.
+ *
+ * The matrix is virtualized: one Canvas sized to the visible window, with a
+ * scroll bar over the wrapped rows, and state kept as one byte per node. A
+ * state change repaints just that cell, and only if it is visible, so a step
+ * costs O(1) whatever the node count.
  */
 public class VisitedMatrixRenderer {
 
-    private final VBox container;
-    private final FlowPane headerRow;
-    private final FlowPane valueRow;
-    private VBox[] headerCells;
-    private VBox[] valueCells;
+    private static final double CELL_H = 26.0, GAP = 6.0, MAX_VISIBLE_ROWS = 8;
+    private static final Color BORDER = Color.web("#333333"), IDLE = Color.web("#f7f7f7");
+    private static final Font FONT = Font.font("Courier New", 14);
+
+    private final BorderPane container = new BorderPane();
+    private final Pane canvasHolder = new Pane();
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar scrollBar = new ScrollBar();
+    private byte[] visited = new byte[0];
     private int n = 0;
+    private double cellW = 34.0;
+    private int perRow = 1;
+    private int firstRow = 0;
 
     public VisitedMatrixRenderer() {
-        container = new VBox(6.0);
-        headerRow = new FlowPane(6.0, 6.0);
-        headerRow.setAlignment(Pos.CENTER);
-        headerRow.setPrefWrapLength(400.0);
-        valueRow = new FlowPane(6.0, 6.0);
-        valueRow.setAlignment(Pos.CENTER);
-        valueRow.setPrefWrapLength(400.0);
-        container.getChildren().addAll(headerRow, valueRow);
+        canvasHolder.getChildren().add(canvas);
+        canvasHolder.setPrefWidth(400.0);
+        canvasHolder.setMinWidth(0);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.widthProperty().addListener((obs, o, w) -> relayout());
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setMin(0);
+        scrollBar.valueProperty().addListener((obs, o, v) -> {
+            int row = (int) Math.round(v.doubleValue());
+            if (row != firstRow) { firstRow = row; redraw(); }
+        });
+        canvasHolder.setOnScroll(e -> scrollBar.setValue(Math.max(0, Math.min(scrollBar.getMax(), firstRow - Math.signum(e.getDeltaY())))));
+        container.setCenter(canvasHolder);
+        container.setRight(scrollBar);
     }
 
-    public VBox getNode() { return container; }
+    public Region getNode() { return container; }
 
     public void setSize(int n) {
         this.n = Math.max(0, n);
-        rebuild();
+        visited = new byte[this.n];
+        int digits = String.valueOf(Math.max(0, this.n - 1)).length();
+        cellW = Math.max(34.0, 9.0 * digits + 14.0);
+        firstRow = 0;
+        scrollBar.setValue(0);
+        relayout();
+    }
+
+    /** Diff against the current state and repaint only cells that changed. */
+    public void updateVisited(boolean[] vis) {
+        for (int i = 0; i < n; i++) setVisited(i, vis != null && i < vis.length && vis[i]);
+    }
+
+    /** Re-sync every cell from a predicate (e.g. after a seek), repainting only changes. */
+    public void updateVisited(IntPredicate isVisited) {
+        for (int i = 0; i < n; i++) setVisited(i, isVisited.test(i));
+    }
+
+    public void setVisited(int i, boolean v) {
+        if (i < 0 || i >= n || (visited[i] != 0) == v) return;
+        visited[i] = (byte) (v ? 1 : 0);
+        int row = i / perRow;
+        if (row >= firstRow && row < firstRow + visibleRows()) drawCell(canvas.getGraphicsContext2D(), i);
+    }
+
+    private int totalRows() { return (n + perRow - 1) / perRow; }
+
+    private int visibleRows() { return (int) Math.min(MAX_VISIBLE_ROWS, totalRows()); }
+
+    private void relayout() {
+        double w = Math.max(cellW + GAP, canvas.getWidth());
+        perRow = Math.max(1, (int) ((w + GAP) / (cellW + GAP)));
+        int rows = visibleRows();
+        double h = rows == 0 ? 0 : rows * (2 * CELL_H + GAP) - GAP;
+        canvas.setHeight(h);
+        canvasHolder.setPrefHeight(h);
+        int hidden = Math.max(0, totalRows() - rows);
+        scrollBar.setMax(hidden);
+        scrollBar.setVisibleAmount(hidden == 0 ? 1 : Math.max(1, (double) rows * hidden / totalRows()));
+        scrollBar.setVisible(hidden > 0);
+        scrollBar.setManaged(hidden > 0);
+        if (firstRow > hidden) { firstRow = hidden; scrollBar.setValue(hidden); }
+        redraw();
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        int from = firstRow * perRow, to = Math.min(n, (firstRow + visibleRows()) * perRow);
+        for (int i = from; i < to; i++) drawCell(gc, i);
     }
 
-    public void updateVisited(boolean[] visited) {
-        if (valueCells == null) return;
-        for (int i = 0; i < n; i++) {
-            boolean v = visited != null && i < visited.length && visited[i];
-            Label lab = (Label) valueCells[i].getChildren().get(0);
-            lab.setText(v ? "T" : "F");
-            if (v) {
-                valueCells[i].setStyle("-fx-background-color: FORESTGREEN; -fx-border-color: #333; -fx-padding: 6;");
-                lab.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px; -fx-text-fill: white;");
-            } else {
-                valueCells[i].setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
-                lab.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px; -fx-text-fill: black;");
-            }
-        }
+    private void drawCell(GraphicsContext gc, int i) {
+        int row = i / perRow - firstRow, col = i % perRow;
+        double x = col * (cellW + GAP), y = row * (2 * CELL_H + GAP);
+        boolean v = visited[i] != 0;
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        box(gc, x, y, IDLE, String.valueOf(i), Color.BLACK);
+        box(gc, x, y + CELL_H, v ? Color.FORESTGREEN : IDLE, v ? "T" : "F", v ? Color.WHITE : Color.BLACK);
     }
 
-    private void rebuild() {
-        headerRow.getChildren().clear();
-        valueRow.getChildren().clear();
-        headerCells = new VBox[n];
-        valueCells = new VBox[n];
-        for (int i = 0; i < n; i++) {
-            VBox hc = new VBox(4.0);
-            hc.setAlignment(Pos.CENTER);
-            hc.setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
-            Label h = new Label(String.valueOf(i));
-            h.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px;");
-            hc.getChildren().add(h);
-            headerCells[i] = hc;
-            headerRow.getChildren().add(hc);
-
-            VBox vc = new VBox(4.0);
-            vc.setAlignment(Pos.CENTER);
-            vc.setStyle("-fx-background-color: #f7f7f7; -fx-border-color: #333; -fx-padding: 6;");
-            Label v = new Label("F");
-            v.setStyle("-fx-font-family: 'Courier New'; -fx-font-size: 14px;");
-            vc.getChildren().add(v);
-            valueCells[i] = vc;
-            valueRow.getChildren().add(vc);
-        }
+    private void box(GraphicsContext gc, double x, double y, Color fill, String text, Color textColor) {
+        gc.setFill(fill);
+        gc.fillRect(x, y, cellW, CELL_H);
+        gc.setStroke(BORDER);
+        gc.setLineWidth(1.0);
+        gc.strokeRect(x + 0.5, y + 0.5, cellW - 1, CELL_H - 1);
+        gc.setFill(textColor);
+        gc.fillText(text, x + cellW / 2, y + CELL_H / 2);
     }
 }